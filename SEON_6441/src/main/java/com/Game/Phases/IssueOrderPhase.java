@@ -10,6 +10,7 @@ import com.Game.model.Map;
 import com.Game.model.Player;
 import com.Game.observer.GameLogger;
 import com.Game.view.CommandPromptView;
+import com.Game.view.GameOutput;
 
 /**
  * Represents the Issue Order phase of the game. In this phase, players assign
@@ -64,7 +65,7 @@ public class IssueOrderPhase extends Phase {
 				// Check if player has reinforcement armies
 				if (l_player.getNbrOfReinforcementArmies() <= 0) {
 					// If no reinforcement armies, ask if they want to issue more orders or finish
-					System.out.println(
+					GameOutput.get().println(
 							"You have used all your reinforcement armies. Do you want to issue other types of orders?");
 					String l_response = p_commandPromptView.getString("Enter 'yes' to continue or 'no' to finish");
 					if (!l_response.equalsIgnoreCase("yes")) {
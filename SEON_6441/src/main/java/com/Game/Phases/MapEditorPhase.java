@@ -23,7 +23,7 @@ public class MapEditorPhase extends Phase {
 	 */
 	private static final Set<String> VALID_COMMANDS = new HashSet<>(Arrays.asList(
 	    "editcontinent", "editcountry", "editneighbor", "showmap", 
-	    "savemap", "editmap", "validatemap", "loadmap", "gameplayer", "selectmode"
+	    "savemap", "convertmap", "editmap", "validatemap", "loadmap", "gameplayer", "selectmode"
 	));
 
     /**
@@ -2,7 +2,7 @@ package com.Game.Phases;
 
 import com.Game.model.Player;
 import com.Game.controller.GameController;
-import com.Game.model.order.Order;
+import com.Game.model.order.OrderScheduler;
 import com.Game.view.CommandPromptView;
 import com.Game.model.Map;
 import com.Game.observer.GameLogger;
@@ -42,29 +42,17 @@ public class OrderExecutionPhase extends Phase {
             d_gameLogger.logAction("Starting Order Execution Phase");
         }
         
-        // Loop until all orders are executed
-        boolean l_ordersRemaining = true;
-
-        while (l_ordersRemaining) {
-            l_ordersRemaining = false;
-
-            // Each player executes one order in round-robin fashion
-            for (Player l_player : p_players) {
-                Order l_nextOrder = l_player.nextOrder();
-
-                if (l_nextOrder != null) {
-                    p_gameController.getView().displayExecutingOrder(l_player.getName());
-                    if (d_gameLogger != null) {
-                        d_gameLogger.logAction("Executing order from player " + l_player.getName());
-                    }
-                    
-                    // Execute the order (Command)
-                    l_nextOrder.execute();
-                    
-                    l_ordersRemaining = true;
-                }
-            }
+        // Execute orders until none is left, in the order chosen by the game's scheduler
+        OrderScheduler l_scheduler = p_gameController.getOrderScheduler();
+        if (l_scheduler == null) {
+            l_scheduler = new OrderScheduler();
         }
+        l_scheduler.executeAll(p_players, (l_player, l_order) -> {
+            p_gameController.getView().displayExecutingOrder(l_player.getName());
+            if (d_gameLogger != null) {
+                d_gameLogger.logAction("Executing order from player " + l_player.getName());
+            }
+        });
         
         if (d_gameLogger != null) {
             d_gameLogger.logAction("Order Execution Phase completed");
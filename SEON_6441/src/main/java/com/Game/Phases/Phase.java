@@ -3,6 +3,7 @@ package com.Game.Phases;
 import com.Game.model.Player;
 import com.Game.controller.GameController;
 import com.Game.view.CommandPromptView;
+import com.Game.view.GameOutput;
 import com.Game.model.Map;
 import com.Game.observer.GameLogger;
 
@@ -53,16 +54,16 @@ public abstract class Phase {
         
         switch (p_nextPhaseType) {
             case ISSUE_ORDER:
-                System.out.println("Game phase changed to: IssueOrderPhase");
+                GameOutput.get().println("Game phase changed to: IssueOrderPhase");
                 return new IssueOrderPhase();
             case ORDER_EXECUTION:
-                System.out.println("Game phase changed to: OrderExecutionPhase");
+                GameOutput.get().println("Game phase changed to: OrderExecutionPhase");
                 return new OrderExecutionPhase();
             case STARTUP:
-                System.out.println("Game phase changed to: StartupPhase");
+                GameOutput.get().println("Game phase changed to: StartupPhase");
                 return new StartupPhase();
             case MAP_EDITOR:
-                System.out.println("Game phase changed to: MapEditorPhase");
+                GameOutput.get().println("Game phase changed to: MapEditorPhase");
                 return new MapEditorPhase();
             default:
                 throw new IllegalArgumentException("Invalid Phase Type!");
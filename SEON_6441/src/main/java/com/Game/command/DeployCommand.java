@@ -3,6 +3,7 @@ package com.Game.command;
 import com.Game.model.Player;
 import com.Game.model.Territory;
 import com.Game.model.order.DeployOrder;
+import com.Game.view.GameOutput;
 
 /**
  * Represents a deploy command in the Command pattern.
@@ -49,10 +50,10 @@ public class DeployCommand implements Command {
             DeployOrder l_deployOrder = new DeployOrder(d_player, d_targetTerritory, d_numberOfArmies);
             d_player.getOrders().add(l_deployOrder);
             d_player.setNbrOfReinforcementArmies(d_player.getNbrOfReinforcementArmies() - d_numberOfArmies);
-            System.out.println(d_player.getName() + " issued deploy order: " + d_numberOfArmies + 
+            GameOutput.get().println(d_player.getName() + " issued deploy order: " + d_numberOfArmies + 
                                " armies to " + d_targetTerritory.getName());
         } else {
-            System.out.println("Deploy command failed validation.");
+            GameOutput.get().println("Deploy command failed validation.");
         }
     }
     
@@ -65,7 +66,7 @@ public class DeployCommand implements Command {
         // This would restore the armies to the player's reinforcement pool
         // and remove the order from the player's order list
         // For now, this is just a placeholder for Build 2
-        System.out.println("Undo not implemented for deploy command yet.");
+        GameOutput.get().println("Undo not implemented for deploy command yet.");
     }
     
     /**
@@ -90,13 +91,13 @@ public class DeployCommand implements Command {
     public boolean validate() {
         // Check if player owns the territory
         if (!d_player.getOwnedTerritories().contains(d_targetTerritory)) {
-            System.out.println("Error: " + d_player.getName() + " does not own " + d_targetTerritory.getName());
+            GameOutput.get().println("Error: " + d_player.getName() + " does not own " + d_targetTerritory.getName());
             return false;
         }
         
         // Check if player has enough reinforcement armies
         if (d_player.getNbrOfReinforcementArmies() < d_numberOfArmies) {
-            System.out.println("Error: " + d_player.getName() + " only has " + 
+            GameOutput.get().println("Error: " + d_player.getName() + " only has " + 
                               d_player.getNbrOfReinforcementArmies() + " armies available.");
             return false;
         }
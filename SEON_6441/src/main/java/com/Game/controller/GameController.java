@@ -1,6 +1,7 @@
 package com.Game.controller;
 
 import java.io.File;
+import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
@@ -12,15 +13,25 @@ import com.Game.Phases.OrderExecutionPhase;
 import com.Game.Phases.Phase;
 import com.Game.Phases.PhaseType;
 import com.Game.Phases.StartupPhase;
+import com.Game.model.ContinentOwnershipIndex;
 import com.Game.model.Map;
 import com.Game.model.Player;
 import com.Game.model.RandomPlayer;
+import com.Game.model.StalemateDetector;
 import com.Game.model.AggressivePlayer;
 import com.Game.model.BenevolentPlayer;
 import com.Game.model.CheaterPlayer;
 import com.Game.model.HumanPlayer;
+import com.Game.model.order.OrderScheduler;
 import com.Game.observer.GameLogger;
+import com.Game.observer.LogLevel;
 import com.Game.utils.MapLoader;
+import com.Game.utils.MapPreloader;
+import com.Game.utils.RecentMaps;
+import com.Game.utils.TournamentResultsFile;
+import com.Game.view.GameOutput;
+import com.Game.view.HeadlessOutputSink;
+import com.Game.view.OutputSink;
 import com.Game.view.CommandPromptView;
 import com.Game.view.GameView;
 
@@ -121,6 +132,26 @@ public class GameController {
 	 */
 	private Phase d_currentState;
 
+	/**
+	 * Loads maps in the background as soon as their names are known.
+	 */
+	private MapPreloader d_mapPreloader;
+
+	/**
+	 * Maps loaded most recently, preloaded at startup.
+	 */
+	private RecentMaps d_recentMaps;
+
+	/**
+	 * Executes the orders of each turn.
+	 */
+	private OrderScheduler d_orderScheduler = new OrderScheduler();
+
+	/**
+	 * Sink automated single games and tournament games write their output to; headless by default.
+	 */
+	private OutputSink d_automatedGameOutput = HeadlessOutputSink.INSTANCE;
+
 	/**
 	 * Default constructor that initializes the game controller.
 	 */
@@ -152,6 +183,9 @@ public class GameController {
 
 		// Initialize with the MapEditor state
 		this.d_currentState = new MapEditorPhase();
+
+		this.d_mapPreloader = new MapPreloader();
+		this.d_recentMaps = new RecentMaps();
 	}
 	
 	/**
@@ -171,6 +205,10 @@ public class GameController {
 	    List<String> playerStrategies = new ArrayList<>();
 	    int numberOfGames = 0;
 	    int maxTurns = 0;
+	    int threads = 1;
+	    Long seed = null;
+	    LogLevel logLevel = null;
+	    String resultsFile = null;
 	    
 	    // Parse command parameters
 	    int i = 1;
@@ -184,6 +222,8 @@ public class GameController {
 	                mapFiles.add(p_commandParts[i]);
 	                i++;
 	            }
+	            // Start loading the maps while the rest of the command is checked
+	            d_mapPreloader.preloadAll(mapFiles);
 	        } else if ("-P".equals(param)) {
 	            // Parse player strategies until reaching another parameter or end
 	            while (i < p_commandParts.length && !p_commandParts[i].startsWith("-")) {
@@ -212,6 +252,45 @@ public class GameController {
 	                    return false;
 	                }
 	            }
+	        } else if ("-T".equals(param)) {
+	            // Parse optional number of worker threads
+	            if (i < p_commandParts.length) {
+	                try {
+	                    threads = Integer.parseInt(p_commandParts[i]);
+	                    i++;
+	                } catch (NumberFormatException e) {
+	                    getView().displayError("Invalid number of threads: " + p_commandParts[i]);
+	                    return false;
+	                }
+	            }
+	        } else if ("-S".equals(param)) {
+	            // Parse optional tournament seed
+	            if (i < p_commandParts.length) {
+	                try {
+	                    seed = Long.parseLong(p_commandParts[i]);
+	                    i++;
+	                } catch (NumberFormatException e) {
+	                    getView().displayError("Invalid seed: " + p_commandParts[i]);
+	                    return false;
+	                }
+	            }
+	        } else if ("-L".equals(param)) {
+	            // Parse optional log level of the games
+	            if (i < p_commandParts.length) {
+	                try {
+	                    logLevel = LogLevel.valueOf(p_commandParts[i].toUpperCase());
+	                    i++;
+	                } catch (IllegalArgumentException e) {
+	                    getView().displayError("Invalid log level: " + p_commandParts[i]);
+	                    return false;
+	                }
+	            }
+	        } else if ("-R".equals(param)) {
+	            // Parse optional file the results are streamed to
+	            if (i < p_commandParts.length) {
+	                resultsFile = p_commandParts[i];
+	                i++;
+	            }
 	        }
 	    }
 	    
@@ -260,6 +339,12 @@ public class GameController {
 	        return false;
 	    }
 	    
+	    // Validate worker threads (optional, defaults to 1)
+	    if (threads < 1) {
+	        getView().displayError("Number of threads must be positive");
+	        return false;
+	    }
+	    
 	    // Validate player strategies
 	    for (String strategy : playerStrategies) {
 	        if (!isValidPlayerStrategy(strategy)) {
@@ -282,8 +367,43 @@ public class GameController {
 	    // Create and run tournament
 	    com.Game.model.TournamentMode tournament = new com.Game.model.TournamentMode(
 	        mapFiles, playerStrategies, numberOfGames, maxTurns, this);
-	    tournament.runTournament();
-	    tournament.displayResults();
+	    tournament.setParallelism(threads);
+	    tournament.setMapPreloader(d_mapPreloader);
+	    tournament.setOrderScheduler(d_orderScheduler);
+	    if (seed != null) {
+	        tournament.setSeed(seed);
+	    }
+	    tournament.setGameLogLevel(logLevel);
+	    tournament.setGameOutput(d_automatedGameOutput);
+	    // Without a results file, the tournament streams its results to a temporary one
+	    if (resultsFile != null) {
+	        try {
+	            tournament.setResultsFile(new TournamentResultsFile(new File(resultsFile)));
+	        } catch (IOException e) {
+	            getView().displayError("Cannot open results file " + resultsFile + ": " + e.getMessage());
+	            return false;
+	        }
+	    }
+	    // Tournament games log heavily, so write the log on a background thread while they run
+	    if (d_gameLogger != null) {
+	        d_gameLogger.setAsyncFileWriting(true);
+	    }
+	    try {
+	        tournament.runTournament();
+	        tournament.displayResults();
+	    } finally {
+	        if (d_gameLogger != null) {
+	            d_gameLogger.shutdown();
+	        }
+	        try {
+	            tournament.closeResultsFile();
+	        } catch (IOException e) {
+	            getView().displayError("Error closing results file: " + e.getMessage());
+	        }
+	        if (resultsFile != null) {
+	            getView().displayMessage("Game results written to " + resultsFile);
+	        }
+	    }
 	    
 	    return true;
 	}
@@ -381,6 +501,9 @@ public class GameController {
 	 * Provides a command prompt that's available throughout the game.
 	 */
 	public void startGame() {
+	    // Start loading the recently used maps while the user picks a mode and types commands
+	    d_mapPreloader.preloadAll(d_recentMaps.getMaps());
+
 	    // Display game mode selection menu at startup
 	    d_view.displayWelcomeMessage();
 	    int l_gameMode = selectGameModeAtStartup();
@@ -454,7 +577,8 @@ public class GameController {
 	                continue;
 	            }
 
-	            if (!l_isMapLoaded && !l_command.equals("editmap") && !l_command.equals("loadmap")) {
+	            if (!l_isMapLoaded && !l_command.equals("editmap") && !l_command.equals("loadmap")
+	                    && !l_command.equals("convertmap")) {
 	                d_view.displayError("You must load/edit a map first using the 'editmap' or 'loadmap' command.");
 	                if (d_gameLogger != null) {
 	                    d_gameLogger.logAction("Error: Attempt to use command without loading a map first");
@@ -784,6 +908,61 @@ public class GameController {
 	    }
 	}
 
+	/**
+	 * Gets the map preloader that loads maps in the background.
+	 *
+	 * @return The map preloader
+	 */
+	public MapPreloader getMapPreloader() {
+		return d_mapPreloader;
+	}
+
+	/**
+	 * Gets the list of recently loaded maps.
+	 *
+	 * @return The recently loaded maps
+	 */
+	public RecentMaps getRecentMaps() {
+		return d_recentMaps;
+	}
+
+	/**
+	 * Gets the scheduler that executes the orders of each turn.
+	 *
+	 * @return The order scheduler
+	 */
+	public OrderScheduler getOrderScheduler() {
+		return d_orderScheduler;
+	}
+
+	/**
+	 * Sets the scheduler that executes the orders of each turn, in games and tournaments.
+	 *
+	 * @param p_orderScheduler The order scheduler
+	 */
+	public void setOrderScheduler(OrderScheduler p_orderScheduler) {
+		this.d_orderScheduler = p_orderScheduler;
+	}
+
+	/**
+	 * Gets the sink automated single games and tournament games write their output to.
+	 *
+	 * @return The output sink
+	 */
+	public OutputSink getAutomatedGameOutput() {
+		return d_automatedGameOutput;
+	}
+
+	/**
+	 * Sets the sink automated single games and tournament games write their output to,
+	 * for example the console sink to watch them.
+	 *
+	 * @param p_output The output sink, or null to run them headless
+	 */
+	public void setAutomatedGameOutput(OutputSink p_output) {
+		this.d_automatedGameOutput = p_output != null ? p_output : HeadlessOutputSink.INSTANCE;
+	}
+
 	/**
 	 * Gets the game view.
 	 *
@@ -920,32 +1099,46 @@ public class GameController {
 	 * Automates a single game in which all players take turns until a winner is determined.
 	 *
 	 * <p>The game loop continues through reinforcement, issuing orders, and executing orders
-	 * until one player owns all the territories or is the only one left with territories.</p>
+	 * until one player owns all the territories or is the only one left with territories,
+	 * or until a {@link StalemateDetector} finds that the game can no longer be won.</p>
 	 *
 	 * @return the name of the winning player, or "Draw" if no player wins.
 	 */
 	private String AutomateSingleGameMode()
 	{
 		Player winner = null;
+		StalemateDetector stalemateDetector = new StalemateDetector(d_gameMap, d_players);
 
-		while (winner == null) {
-			// Reinforcement phase
-			calculateReinforcements(d_players);
+		// Nobody watches the turns of an automated game, so only its result is shown
+		GameOutput.bindToCurrentThread(d_automatedGameOutput);
+		try {
+			while (winner == null) {
+				// Reinforcement phase
+				calculateReinforcements(d_players, d_gameMap);
 
-			// Issue orders phase
-			issueOrders(d_players, d_gameMap);
+				// Issue orders phase
+				issueOrders(d_players, d_gameMap);
 
-			// Execute orders phase
-			executeOrders(d_players);
+				// Execute orders phase
+				executeOrders(d_players);
 
-			// Check for a winner
-			winner = checkForWinner(d_gameMap, d_players);
+				// Check for a winner
+				winner = checkForWinner(d_gameMap, d_players);
 
-			// Reset players' status for next turn
-			for (Player player : d_players) {
-				player.setHasConqueredThisTurn(false);
-				player.setNegociatedPlayersPerTurn(new ArrayList<>());
+				// Reset players' status for next turn
+				for (Player player : d_players) {
+					player.setHasConqueredThisTurn(false);
+					player.setNegociatedPlayersPerTurn(new ArrayList<>());
+				}
+
+				// Stop once the game is in a stalemate
+				if (winner == null && stalemateDetector.endTurn()) {
+					break;
+				}
 			}
+		} finally {
+			GameOutput.unbindFromCurrentThread();
+			stalemateDetector.detach();
 		}
 
 		if (winner != null) {
@@ -962,14 +1155,16 @@ public class GameController {
 
 	/**
 	 * Calculates and assigns reinforcement armies to each player based on the number
-	 * of territories they currently own. The minimum reinforcement is 3 armies.
+	 * of territories they currently own and the continents they control. The minimum
+	 * reinforcement before continent bonuses is 3 armies.
 	 *
 	 * @param p_players the list of players participating in the game
+	 * @param p_gameMap the current state of the game map
 	 */
-	private void calculateReinforcements(List<Player> p_players) {
+	private void calculateReinforcements(List<Player> p_players, com.Game.model.Map p_gameMap) {
+		ContinentOwnershipIndex ownershipIndex = p_gameMap.getOwnershipIndex();
 		for (Player player : p_players) {
-			// Basic calculation: number of territories divided by 3, minimum 3
-			int reinforcements = Math.max(3, player.getOwnedTerritories().size() / 3);
+			int reinforcements = ownershipIndex.calculateReinforcements(player);
 			player.setNbrOfReinforcementArmies(reinforcements);
 		}
 	}
@@ -994,20 +1189,7 @@ public class GameController {
 	 * @param p_players the list of players in the game
 	 */
 	private void executeOrders(List<Player> p_players) {
-		boolean ordersRemaining = true;
-
-		while (ordersRemaining) {
-			ordersRemaining = false;
-
-			for (Player player : p_players) {
-				com.Game.model.order.Order nextOrder = player.nextOrder();
-
-				if (nextOrder != null) {
-					nextOrder.execute();
-					ordersRemaining = true;
-				}
-			}
-		}
+		d_orderScheduler.executeAll(p_players);
 	}
 
 	/**
@@ -1,21 +1,22 @@
 package com.Game.controller;
 
 import java.io.*;
-import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 import com.Game.Phases.IssueOrderPhase;
 import com.Game.Phases.Phase;
 import com.Game.Phases.PhaseType;
 import com.Game.model.*;
+import com.Game.utils.MapLoadResult;
 import com.Game.utils.MapLoader;
+import com.Game.utils.MapPreloader;
 import com.Game.model.CardType;
 import com.Game.observer.GameLogger;
 
 import java.io.File;
-import java.io.FileReader;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -58,22 +59,10 @@ public class GamePlayController {
 	private boolean d_ordersExecutedThisTurn = false;
 
 	/**
-	 * A cryptographically secure pseudo-random number generator (CSPRNG) used for
-	 * generating random values.
-	 * <p>
-	 * This instance of {@link SecureRandom} is designed for use in
-	 * security-sensitive applications where strong randomness is required, such as
-	 * for generating secure tokens, cryptographic keys, or salt values. It ensures
-	 * that the generated random numbers are difficult to predict, even if an
-	 * attacker knows part of the state.
-	 * </p>
-	 * <p>
-	 * Note: This {@link SecureRandom} instance should only be used for secure
-	 * applications. For non-cryptographic purposes, consider using
-	 * {@link java.util.Random}.
-	 * </p>
+	 * Random generator used for card rewards and territory assignment.
+	 * It can be replaced with a seeded generator to make a game reproducible.
 	 */
-	private Random d_random = new Random();
+	private RandomGenerator d_random = new SplittableRandom();
 
 	/**
 	 * Constructor initializing the controller with necessary references.
@@ -119,6 +108,16 @@ public class GamePlayController {
 		this.d_players = p_players;
 	}
 
+	/**
+	 * Replaces the random generator used for card rewards and territory assignment,
+	 * for example with a seeded one to replay a game.
+	 *
+	 * @param p_random The random generator to use
+	 */
+	public void setRandom(RandomGenerator p_random) {
+		this.d_random = p_random;
+	}
+
 	/**
 	 * Represents the current phase of the game.
 	 */
@@ -219,23 +218,28 @@ public class GamePlayController {
 		d_gameController.setMapFilePath(l_mapFilePath);
 		d_mapLoader.resetLoadedMap();
 
-		BufferedReader l_reader = null;
-		boolean l_isMapExist = false;
-		l_reader = d_mapLoader.isMapExist(l_mapFilePath);
-		if (l_reader != null) {
-			l_isMapExist = true;
+		// A save loaded in the background is used as it is; otherwise the file is loaded once,
+		// and that single load answers the existence check, the format check and the validation
+		MapPreloader l_preloader = d_gameController.getMapPreloader();
+		MapLoadResult l_result = l_preloader == null ? null : l_preloader.take(l_mapFilePath);
+		if (l_result == null) {
+			l_result = d_mapLoader.loadMap(l_mapFilePath);
 		}
 
-		if(l_isMapExist) {
-			boolean l_isMapInitiallyValid = d_mapLoader.isValid(l_mapFilePath);
-			if (l_isMapInitiallyValid) {
-				d_mapLoader.read(l_mapFilePath);
+		if (l_result.isFound()) {
+			if (l_result.hasRequiredSections()) {
+				d_mapLoader.read(l_result);
 				d_gameMap = d_mapLoader.getLoadedMap();
 				d_gameController.setGameMap(d_gameMap);
 
-				if(d_mapLoader.validateMap()) {
+				// Prints the report built by the load; the map is not validated again
+				d_mapLoader.validateMap();
+				if (l_result.isValid()) {
 					d_gameController.getView().displayMessage(l_mapFilePath + " is loaded successfully.");
 					d_gameController.setCurrentPhase(GameController.MAIN_GAME_PHASE);
+					if (d_gameController.getRecentMaps() != null) {
+						d_gameController.getRecentMaps().add(l_mapFilePath);
+					}
 
 					List<Player> l_loadedPlayers = loadPlayersFromFile(l_mapFilePath);
 					d_gameController.setPlayers(l_loadedPlayers);
@@ -267,22 +271,11 @@ public class GamePlayController {
 		BufferedReader l_reader = null;
 
 		try {
-			File l_file = new File(p_filePath);
-			if (l_file.exists()) {
-				l_reader = new BufferedReader(new FileReader(l_file));
-			} else {
-				String l_resourcePath = p_filePath;
-				if (!l_resourcePath.contains("LoadingMaps/") && !l_resourcePath.contains("LoadingMaps\\")) {
-					l_resourcePath = "LoadingMaps/" + l_resourcePath;
-				}
-
-				InputStream l_inputStream = getClass().getClassLoader().getResourceAsStream(l_resourcePath);
-				if (l_inputStream == null) {
-					d_gameController.getView().displayError("Map file not found in resources: " + l_resourcePath);
-					return;
-				}
-
-				l_reader = new BufferedReader(new InputStreamReader(l_inputStream));
+			// Local files and resources, compressed or not, are opened the same way as the map itself
+			l_reader = new MapLoader().isMapExist(p_filePath);
+			if (l_reader == null) {
+				d_gameController.getView().displayError("Map file not found: " + p_filePath);
+				return;
 			}
 
 			String l_line;
@@ -357,24 +350,10 @@ public class GamePlayController {
 		BufferedReader l_reader = null;
 
 		try {
-			File l_file = new File(p_filePath);
-			if (l_file.exists()) {
-				// File exists locally, open it for reading
-				l_reader = new BufferedReader(new FileReader(l_file));
-			} else {
-				// Try with LoadingMaps prefix
-				String l_resourcePath = p_filePath;
-				if (!l_resourcePath.contains("LoadingMaps/") && !l_resourcePath.contains("LoadingMaps\\")) {
-					l_resourcePath = "LoadingMaps/" + l_resourcePath;
-				}
-
-				InputStream l_inputStream = getClass().getClassLoader().getResourceAsStream(l_resourcePath);
-				if (l_inputStream == null) {
-					return null;
-				}
-
-				// Resource found, create a reader
-				l_reader = new BufferedReader(new InputStreamReader(l_inputStream));
+			// Local files and resources, compressed or not, are opened the same way as the map itself
+			l_reader = new MapLoader().isMapExist(p_filePath);
+			if (l_reader == null) {
+				return null;
 			}
 
 			String l_line;
@@ -444,17 +423,17 @@ public class GamePlayController {
 	        return false;
 	    }
 
-	    // Validate map connectivity
-	    boolean isMapConnected = d_gameMap.mapValidation();
-	    if (!isMapConnected) {
+	    // Validate map and continent connectivity in one pass
+	    MapValidationReport report = d_gameMap.validate();
+	    if (!report.isMapConnected()) {
 	        d_gameController.getView().displayError("Map validation failed: Map is not connected.");
+	        d_gameController.getView().displayMessage(report.toString());
 	        return false;
 	    }
 
-	    // Validate continent connectivity
-	    boolean areContinentsConnected = d_gameMap.continentValidation();
-	    if (!areContinentsConnected) {
+	    if (!report.areContinentsConnected()) {
 	        d_gameController.getView().displayError("Map validation failed: One or more continents are not connected.");
+	        d_gameController.getView().displayMessage(report.toString());
 	        return false;
 	    }
 
@@ -475,10 +454,10 @@ public class GamePlayController {
 		d_gameController.getView().displayReinforcementPhase();
 		d_gameLogger.logPhaseChange("REINFORCEMENT");
 
-		// Calculate reinforcements for each player
+		// Calculate reinforcements for each player: territories divided by 3, minimum 3, plus continent bonuses
+		ContinentOwnershipIndex l_ownershipIndex = d_gameMap.getOwnershipIndex();
 		for (Player l_player : d_players) {
-			// Basic calculation: number of territories divided by 3, minimum 3
-			int l_reinforcements = Math.max(3, l_player.getOwnedTerritories().size() / 3);
+			int l_reinforcements = l_ownershipIndex.calculateReinforcements(l_player);
 
 			l_player.setNbrOfReinforcementArmies(l_reinforcements);
 			d_gameController.getView().displayReinforcementAllocation(l_player.getName(), l_reinforcements);
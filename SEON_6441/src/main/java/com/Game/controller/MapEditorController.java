@@ -1,12 +1,14 @@
 package com.Game.controller;
 
-import java.io.BufferedReader;
 import java.util.Scanner;
 
 import com.Game.Phases.PhaseType;
 import com.Game.model.Map;
 import com.Game.observer.GameLogger;
+import com.Game.utils.MapLoadResult;
 import com.Game.utils.MapLoader;
+import com.Game.utils.MapPreloader;
+import com.Game.utils.RecentMaps;
 
 /**
  * Controller class responsible for handling map editing operations. This class
@@ -75,6 +77,9 @@ public class MapEditorController {
 		case "savemap":
 			handleSaveMap(p_commandParts);
 			break;
+		case "convertmap":
+			handleConvertMap(p_commandParts);
+			break;
 		case "editmap":
 			l_isMapLoaded = true;
 			handleEditMap(p_commandParts);
@@ -261,6 +266,44 @@ public class MapEditorController {
 		}
 	}
 
+	/**
+	 * Handles the convertmap command to write a map file in the binary format.
+	 * Without a target, the binary file is written next to the source with the .mapb extension.
+	 *
+	 * @param p_commandParts Array of command components
+	 */
+	private void handleConvertMap(String[] p_commandParts) {
+		if (p_commandParts.length < 2) {
+			d_gameController.getView().displayError("Usage: convertmap sourcefile [targetfile]");
+			return;
+		}
+
+		String l_source = p_commandParts[1];
+		String l_target;
+		if (p_commandParts.length >= 3) {
+			l_target = p_commandParts[2];
+		} else {
+			int l_dot = l_source.lastIndexOf('.');
+			int l_separator = Math.max(l_source.lastIndexOf('/'), l_source.lastIndexOf('\\'));
+			l_target = (l_dot > l_separator ? l_source.substring(0, l_dot) : l_source) + Map.BINARY_EXTENSION;
+		}
+
+		MapLoadResult l_result = d_mapLoader.convertToBinary(l_source, l_target);
+		if (l_result.getMap() == null || !l_result.hasRequiredSections()) {
+			for (String l_diagnostic : l_result.getDiagnostics()) {
+				d_gameController.getView().displayError(l_diagnostic);
+			}
+			d_gameController.getView().displayError("Could not convert " + l_source + ".");
+			return;
+		}
+		if (!l_result.isValid()) {
+			d_gameController.getView().displayMessage("Warning: " + l_result.getValidationReport());
+		}
+		d_gameController.getView().displayMessage("Converted " + l_source + " to " + l_target + " ("
+				+ l_result.getMap().getTerritoryList().size() + " territories, "
+				+ l_result.getMap().getAdjacencyGraph().getEdgeCount() + " borders).");
+	}
+
 	/**
 	 * Prompts the user to choose between two formats for saving the map:
 	 * Domination format or Conquest format.
@@ -306,24 +349,24 @@ public class MapEditorController {
 		d_gameController.setMapFilePath(l_mapFilePath);
 		d_mapLoader.resetLoadedMap();
 
-		// Check if map exists
-		BufferedReader l_reader = null;
-		boolean l_isMapExist = false;
-		l_reader = d_mapLoader.isMapExist(l_mapFilePath);
-		if (l_reader != null) {
-			l_isMapExist = true;
+		// A map loaded in the background is used as it is; otherwise the file is loaded once,
+		// and that single load answers the existence check, the format check and the validation
+		MapLoadResult l_result = takePreloadedMap(l_mapFilePath);
+		if (l_result == null) {
+			l_result = d_mapLoader.loadMap(l_mapFilePath);
 		}
 
-		if (l_isMapExist) {
-			boolean l_isMapInitiallyValid = d_mapLoader.isValid(l_mapFilePath);
-
-			if (l_isMapInitiallyValid) {
-				d_mapLoader.read(l_mapFilePath);
+		if (l_result.isFound()) {
+			if (l_result.hasRequiredSections()) {
+				d_mapLoader.read(l_result);
 				d_gameMap = d_mapLoader.getLoadedMap();
 				d_gameController.setGameMap(d_gameMap);
 
-				if (d_mapLoader.validateMap()) {
+				// Prints the report built by the load; the map is not validated again
+				d_mapLoader.validateMap();
+				if (l_result.isValid()) {
 					d_gameController.getView().displayMessage(l_mapFilePath + " is loaded successfully.");
+					rememberMap(l_mapFilePath);
 				}
 			}
 		} else {
@@ -365,23 +408,25 @@ public class MapEditorController {
 		d_gameController.setMapFilePath(l_mapFilePath);
 		d_mapLoader.resetLoadedMap();
 
-		BufferedReader l_reader = null;
-		boolean l_isMapExist = false;
-		l_reader = d_mapLoader.isMapExist(l_mapFilePath);
-		if (l_reader != null) {
-			l_isMapExist = true;
+		// A map loaded in the background is used as it is; otherwise the file is loaded once,
+		// and that single load answers the existence check, the format check and the validation
+		MapLoadResult l_result = takePreloadedMap(l_mapFilePath);
+		if (l_result == null) {
+			l_result = d_mapLoader.loadMap(l_mapFilePath);
 		}
 
-		if (l_isMapExist) {
-			boolean l_isMapInitiallyValid = d_mapLoader.isValid(l_mapFilePath);
-			if (l_isMapInitiallyValid) {
-				d_mapLoader.read(l_mapFilePath);
+		if (l_result.isFound()) {
+			if (l_result.hasRequiredSections()) {
+				d_mapLoader.read(l_result);
 				d_gameMap = d_mapLoader.getLoadedMap();
 				d_gameController.setGameMap(d_gameMap);
 
-				if (d_mapLoader.validateMap()) {
+				// Prints the report built by the load; the map is not validated again
+				d_mapLoader.validateMap();
+				if (l_result.isValid()) {
 					d_gameController.getView().displayMessage(l_mapFilePath + " is loaded successfully.");
 					d_gameController.setCurrentPhase(GameController.STARTUP_PHASE);
+					rememberMap(l_mapFilePath);
 				}
 			}
 		} else {
@@ -390,4 +435,27 @@ public class MapEditorController {
 			d_gameController.setGameMap(d_gameMap);
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Takes the map loaded in the background for a map file, if the preloader has one.
+	 *
+	 * @param p_mapFilePath The map file path
+	 * @return The outcome of the background load, or null if the map has to be loaded now
+	 */
+	private MapLoadResult takePreloadedMap(String p_mapFilePath) {
+		MapPreloader l_preloader = d_gameController.getMapPreloader();
+		return l_preloader == null ? null : l_preloader.take(p_mapFilePath);
+	}
+
+	/**
+	 * Records a successfully loaded map in the recently used list.
+	 *
+	 * @param p_mapFilePath The map file path
+	 */
+	private void rememberMap(String p_mapFilePath) {
+		RecentMaps l_recentMaps = d_gameController.getRecentMaps();
+		if (l_recentMaps != null) {
+			l_recentMaps.add(p_mapFilePath);
+		}
+	}
+}
@@ -0,0 +1,261 @@
+package com.Game.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Read-only adjacency view of a map in compressed sparse row form.
+ * Every territory gets an integer id equal to its position in the map's territory list, and the
+ * neighbours of territory {@code i} are the ids stored in {@code neighborAt(k)} for
+ * {@code neighborStart(i) <= k < neighborEnd(i)}. Territories also get an integer continent id.
+ * Once built, walking the graph needs no allocation and no list searches, so traversals are O(V+E).
+ *
+ * <p>Neighbours are resolved the way {@link List#indexOf(Object)} would resolve them: by equality,
+ * to the first matching territory of the list. Neighbours that are not in the list are left out
+ * and only counted. The graph does not follow later changes to the map; {@link Map#getAdjacencyGraph()}
+ * takes care of rebuilding it when needed.</p>
+ */
+public final class AdjacencyGraph {
+
+    /**
+     * Territories, indexed by id.
+     */
+    private final Territory[] d_territories;
+
+    /**
+     * Ids of the territories, keyed by territory (first occurrence of equal territories only).
+     */
+    private final HashMap<Territory, Integer> d_ids;
+
+    /**
+     * Start index in d_neighbors of each territory's neighbours. Has one extra trailing entry.
+     */
+    private final int[] d_offsets;
+
+    /**
+     * Neighbour ids, grouped by territory in id order.
+     */
+    private final int[] d_neighbors;
+
+    /**
+     * Continent id of each territory.
+     */
+    private final int[] d_continentOf;
+
+    /**
+     * Continent names, indexed by continent id.
+     */
+    private final String[] d_continentNames;
+
+    /**
+     * Number of neighbour links pointing to territories outside the map.
+     */
+    private final int d_unresolvedNeighborCount;
+
+    /**
+     * Builds the adjacency view of a map.
+     * Continents declared on the map get the first continent ids, in the map's iteration order;
+     * continents that only appear on territories come after them.
+     *
+     * @param p_map The map to build the view of
+     */
+    public AdjacencyGraph(Map p_map) {
+        List<Territory> l_territories = p_map.getTerritoryList();
+        int l_count = l_territories.size();
+
+        d_territories = l_territories.toArray(new Territory[0]);
+        d_ids = new HashMap<>(Math.max(16, l_count * 2));
+        for (int i = 0; i < l_count; i++) {
+            d_ids.putIfAbsent(d_territories[i], i);
+        }
+
+        HashMap<String, Integer> l_continentIds = new HashMap<>();
+        for (String l_continent : p_map.getContinents().keySet()) {
+            l_continentIds.putIfAbsent(l_continent, l_continentIds.size());
+        }
+        d_continentOf = new int[l_count];
+        for (int i = 0; i < l_count; i++) {
+            String l_continent = d_territories[i].getContinent();
+            Integer l_id = l_continentIds.get(l_continent);
+            if (l_id == null) {
+                l_id = l_continentIds.size();
+                l_continentIds.put(l_continent, l_id);
+            }
+            d_continentOf[i] = l_id;
+        }
+        d_continentNames = new String[l_continentIds.size()];
+        for (java.util.Map.Entry<String, Integer> l_entry : l_continentIds.entrySet()) {
+            d_continentNames[l_entry.getValue()] = l_entry.getKey();
+        }
+
+        int l_edgeCount = 0;
+        for (Territory l_territory : d_territories) {
+            l_edgeCount += l_territory.getNeighborList().size();
+        }
+        d_offsets = new int[l_count + 1];
+        int[] l_neighbors = new int[l_edgeCount];
+        int l_next = 0;
+        int l_unresolved = 0;
+        for (int i = 0; i < l_count; i++) {
+            d_offsets[i] = l_next;
+            List<Territory> l_neighborList = d_territories[i].getNeighborList();
+            for (int j = 0; j < l_neighborList.size(); j++) {
+                Integer l_id = d_ids.get(l_neighborList.get(j));
+                if (l_id == null) {
+                    l_unresolved++;
+                } else {
+                    l_neighbors[l_next++] = l_id;
+                }
+            }
+        }
+        d_offsets[l_count] = l_next;
+        d_neighbors = l_next == l_edgeCount ? l_neighbors : Arrays.copyOf(l_neighbors, l_next);
+        d_unresolvedNeighborCount = l_unresolved;
+    }
+
+    /**
+     * Gets the number of territories.
+     *
+     * @return The territory count
+     */
+    public int size() {
+        return d_territories.length;
+    }
+
+    /**
+     * Gets the number of directed neighbour links between territories of the map.
+     *
+     * @return The edge count
+     */
+    public int getEdgeCount() {
+        return d_neighbors.length;
+    }
+
+    /**
+     * Gets the number of neighbour links that point to territories which are not in the map.
+     *
+     * @return The number of unresolved neighbour links
+     */
+    public int getUnresolvedNeighborCount() {
+        return d_unresolvedNeighborCount;
+    }
+
+    /**
+     * Gets the territory with the given id.
+     *
+     * @param p_id The territory id
+     * @return The territory
+     */
+    public Territory getTerritory(int p_id) {
+        return d_territories[p_id];
+    }
+
+    /**
+     * Gets the id of a territory, resolved by equality like {@link List#indexOf(Object)}.
+     *
+     * @param p_territory The territory
+     * @return Its id, or -1 if it is not in the map
+     */
+    public int getId(Territory p_territory) {
+        Integer l_id = d_ids.get(p_territory);
+        return l_id == null ? -1 : l_id;
+    }
+
+    /**
+     * Gets the position in the neighbour array of the first neighbour of a territory.
+     *
+     * @param p_id The territory id
+     * @return The first neighbour position
+     */
+    public int neighborStart(int p_id) {
+        return d_offsets[p_id];
+    }
+
+    /**
+     * Gets the position in the neighbour array just after the last neighbour of a territory.
+     *
+     * @param p_id The territory id
+     * @return The end neighbour position, exclusive
+     */
+    public int neighborEnd(int p_id) {
+        return d_offsets[p_id + 1];
+    }
+
+    /**
+     * Gets the territory id stored at a position of the neighbour array.
+     *
+     * @param p_position A position between neighborStart and neighborEnd of some territory
+     * @return The neighbour's territory id
+     */
+    public int neighborAt(int p_position) {
+        return d_neighbors[p_position];
+    }
+
+    /**
+     * Gets the number of neighbours of a territory that are in the map.
+     *
+     * @param p_id The territory id
+     * @return The degree of the territory
+     */
+    public int degree(int p_id) {
+        return d_offsets[p_id + 1] - d_offsets[p_id];
+    }
+
+    /**
+     * Gets the continent id of a territory.
+     *
+     * @param p_id The territory id
+     * @return The continent id
+     */
+    public int getContinentId(int p_id) {
+        return d_continentOf[p_id];
+    }
+
+    /**
+     * Gets the number of distinct continents, declared or used by a territory.
+     *
+     * @return The continent count
+     */
+    public int getContinentCount() {
+        return d_continentNames.length;
+    }
+
+    /**
+     * Gets the name of a continent.
+     *
+     * @param p_continentId The continent id
+     * @return The continent name
+     */
+    public String getContinentName(int p_continentId) {
+        return d_continentNames[p_continentId];
+    }
+
+    /**
+     * Checks whether a territory borders at least one territory owned by someone else.
+     * Territories that belong to the map are checked through the graph; any other territory
+     * is checked through its own neighbour list.
+     *
+     * @param p_territory The territory to check
+     * @return true if an adjacent territory has a different owner
+     */
+    public boolean hasEnemyNeighbor(Territory p_territory) {
+        Player l_owner = p_territory.getOwner();
+        int l_id = getId(p_territory);
+        if (l_id < 0 || d_territories[l_id] != p_territory) {
+            List<Territory> l_neighborList = p_territory.getNeighborList();
+            for (int i = 0; i < l_neighborList.size(); i++) {
+                if (l_neighborList.get(i).getOwner() != l_owner) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        for (int k = d_offsets[l_id]; k < d_offsets[l_id + 1]; k++) {
+            if (d_territories[d_neighbors[k]].getOwner() != l_owner) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
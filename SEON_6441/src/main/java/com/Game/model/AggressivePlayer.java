@@ -53,13 +53,15 @@ public class AggressivePlayer extends Player {
 
 	    // p_command is passed as empty. We ignore its value and decide orders based on an aggressive strategy.
 	    boolean orderIssued = false;
+	    FrontierIndex frontier = p_map.getFrontierIndex();
 
 	    // ===== Aggressive Deployment =====
 	    // Find the strongest territory that has at least one enemy neighbor.
 	    Territory bestDeployTarget = null;
 	    int maxArmies = -1;
-	    for (Territory territory : d_ownedTerritories) {
-	        if (!territory.getEnemyNeighbors().isEmpty() && territory.getNumOfArmies() > maxArmies) {
+	    for (int i = 0; i < frontier.getFrontierSize(this); i++) {
+	        Territory territory = frontier.getFrontierTerritory(this, i);
+	        if (territory.getNumOfArmies() > maxArmies) {
 	            bestDeployTarget = territory;
 	            maxArmies = territory.getNumOfArmies();
 	        }
@@ -77,8 +79,9 @@ public class AggressivePlayer extends Player {
 	    // Choose the strongest territory (with enemy neighbors) as the attacking source.
 	    Territory attackingTerritory = null;
 	    maxArmies = -1;
-	    for (Territory territory : d_ownedTerritories) {
-	        if (!territory.getEnemyNeighbors().isEmpty() && territory.getNumOfArmies() > maxArmies) {
+	    for (int i = 0; i < frontier.getFrontierSize(this); i++) {
+	        Territory territory = frontier.getFrontierTerritory(this, i);
+	        if (territory.getNumOfArmies() > maxArmies) {
 	            attackingTerritory = territory;
 	            maxArmies = territory.getNumOfArmies();
 	        }
@@ -87,8 +90,10 @@ public class AggressivePlayer extends Player {
 	        // Select an enemy target: here we pick the enemy neighbor with the fewest armies.
 	        Territory targetTerritory = null;
 	        int minEnemyArmies = Integer.MAX_VALUE;
-	        for (Territory enemy : attackingTerritory.getEnemyNeighbors()) {
-	            if (enemy.getNumOfArmies() < minEnemyArmies) {
+	        List<Territory> neighbors = attackingTerritory.getNeighborList();
+	        for (int i = 0; i < neighbors.size(); i++) {
+	            Territory enemy = neighbors.get(i);
+	            if (enemy.getOwner() != attackingTerritory.getOwner() && enemy.getNumOfArmies() < minEnemyArmies) {
 	                targetTerritory = enemy;
 	                minEnemyArmies = enemy.getNumOfArmies();
 	            }
@@ -96,7 +101,8 @@ public class AggressivePlayer extends Player {
 	        if (targetTerritory != null) {
 	            // 2.1: If a bomb card is available and the bomb order is valid, issue a Bomb order.
 	            if (this.hasCard(CardType.BOMB) &&
-	                validateBomb(new String[] { "bomb", targetTerritory.getName() }, p_map)) {
+	                checkBomb(targetTerritory).isValid()) {
+	                removeCard(CardType.BOMB);
 	                BombOrder bombOrder = new BombOrder(this, targetTerritory);
 	                d_orders.add(bombOrder);
 	                orderIssued = true;
@@ -111,9 +117,9 @@ public class AggressivePlayer extends Player {
 	            }
 	            // 2.3: Otherwise, if an airlift card is available, issue an AirliftAttack order.
 	            else if (this.hasCard(CardType.AIRLIFT) &&
-	                     validateAirlift(new String[] { "airlift", attackingTerritory.getName(), targetTerritory.getName(),
-	                         String.valueOf(attackingTerritory.getNumOfArmies()) }, p_map)) {
+	                     checkAirlift(attackingTerritory, targetTerritory, attackingTerritory.getNumOfArmies()).isValid()) {
 	                int armiesToAttack = attackingTerritory.getNumOfArmies();
+	                removeCard(CardType.AIRLIFT);
 	                AirliftAttack airliftAttack = new AirliftAttack(this, attackingTerritory, targetTerritory, armiesToAttack);
 	                d_orders.add(airliftAttack);
 	                orderIssued = true;
@@ -80,7 +80,7 @@ public class BenevolentPlayer extends Player {
                         int armiesToMove = (source.getNumOfArmies() - neighbor.getNumOfArmies()) / 2;
                         if (armiesToMove > 0) {
                             // Validate the move order using the parent's validation method.
-                            if (validateAdvance(new String[]{"advance", source.getName(), neighbor.getName(), String.valueOf(armiesToMove)}, p_map)) {
+                            if (checkAdvance(source, neighbor, armiesToMove).isValid()) {
                                 AdvanceMove moveOrder = new AdvanceMove(this, source, neighbor, armiesToMove);
                                 d_orders.add(moveOrder);
                                 // Deduct the moved armies from the source territory.
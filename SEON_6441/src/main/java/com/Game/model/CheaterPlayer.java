@@ -1,9 +1,9 @@
 package com.Game.model;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import com.Game.observer.GameLogger;
+import com.Game.observer.LogLevel;
 
 /**
  * Represents a Cheater player in the game who owns territories and can issue orders.
@@ -47,25 +47,25 @@ public class CheaterPlayer extends Player {
             return false;
         }
 
-        // Create a copy of owned territories to avoid concurrent modification issues.
-        List<Territory> ownedCopy = new ArrayList<>(d_ownedTerritories);
         GameLogger logger = GameLogger.getInstance();
+        FrontierIndex frontier = p_map.getFrontierIndex();
+        // Captures change the frontier, so walk a copy of it taken before the first capture.
+        Territory[] frontierCopy = frontier.copyFrontier(this);
         
-        // Iterate over each territory owned by the cheater.
-        for (Territory t : ownedCopy) {
-            // Get enemy neighbors of territory t.
-            List<Territory> enemyNeighbors = t.getEnemyNeighbors();
-            
-            if (!enemyNeighbors.isEmpty()) {
+        // Iterate over each border territory owned by the cheater.
+        for (Territory t : frontierCopy) {
+            if (frontier.isFrontier(t)) {
                 // Double the armies on territory t.
                 int currentArmies = t.getNumOfArmies();
                 t.setNumOfArmies(currentArmies * 2);
                 if (logger != null) {
-                    logger.logAction("CheaterPlayer " + this.d_name + " doubled armies on " + t.getName());
+                    logger.log(LogLevel.INFO, "CheaterPlayer {} doubled armies on {}", this.d_name, t.getName());
                 }
                 
                 // Capture all adjacent enemy territories.
-                for (Territory enemy : enemyNeighbors) {
+                List<Territory> neighbors = t.getNeighborList();
+                for (int i = 0; i < neighbors.size(); i++) {
+                    Territory enemy = neighbors.get(i);
                     if (enemy.getOwner() != this) {
                         Player enemyOwner = enemy.getOwner();
                         if (enemyOwner != null) {
@@ -76,7 +76,7 @@ public class CheaterPlayer extends Player {
                             d_ownedTerritories.add(enemy);
                         }
                         if (logger != null) {
-                            logger.logAction("CheaterPlayer " + this.d_name + " captured " + enemy.getName());
+                            logger.log(LogLevel.INFO, "CheaterPlayer {} captured {}", this.d_name, enemy.getName());
                         }
                     }
                 }
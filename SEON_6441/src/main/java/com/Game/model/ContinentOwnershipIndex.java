@@ -0,0 +1,215 @@
+package com.Game.model;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Keeps, for every player, how many territories they own in each continent of a map.
+ * The index listens to the territories of the map and updates one counter per change of owner,
+ * so captures, blockades and any other {@link Territory#setOwner(Player)} call cost O(1), and
+ * finding the continents a player controls costs O(continents) instead of a scan of the map.
+ *
+ * <p>The index covers the territories and continents the map had when it was built;
+ * {@link Map#getOwnershipIndex()} takes care of rebuilding it when they change.</p>
+ */
+public final class ContinentOwnershipIndex implements TerritoryListener {
+
+    /**
+     * Minimum number of reinforcement armies a player receives each turn.
+     */
+    public static final int MIN_REINFORCEMENTS = 3;
+
+    /**
+     * The map being indexed.
+     */
+    private final Map d_map;
+
+    /**
+     * Continent id of each indexed territory.
+     */
+    private final IdentityHashMap<Territory, Integer> d_continentOf;
+
+    /**
+     * Continent names, indexed by continent id.
+     */
+    private final String[] d_continentNames;
+
+    /**
+     * Bonus used for continents that are not declared on the map, taken from their territories.
+     */
+    private final int[] d_fallbackBonuses;
+
+    /**
+     * Number of territories in each continent.
+     */
+    private final int[] d_continentSizes;
+
+    /**
+     * Number of territories each player owns in each continent.
+     */
+    private final IdentityHashMap<Player, int[]> d_ownedCounts;
+
+    /**
+     * Builds the index from the current owners of the map's territories and starts following
+     * their changes of owner.
+     *
+     * @param p_map The map to index
+     */
+    public ContinentOwnershipIndex(Map p_map) {
+        d_map = p_map;
+        List<Territory> l_territories = p_map.getTerritoryList();
+
+        HashMap<String, Integer> l_continentIds = new HashMap<>();
+        for (String l_continent : p_map.getContinents().keySet()) {
+            l_continentIds.putIfAbsent(l_continent, l_continentIds.size());
+        }
+        d_continentOf = new IdentityHashMap<>(Math.max(16, l_territories.size()));
+        HashMap<String, Integer> l_fallbackBonuses = new HashMap<>();
+        for (Territory l_territory : l_territories) {
+            Integer l_id = l_continentIds.get(l_territory.getContinent());
+            if (l_id == null) {
+                l_id = l_continentIds.size();
+                l_continentIds.put(l_territory.getContinent(), l_id);
+                l_fallbackBonuses.put(l_territory.getContinent(), l_territory.getBonus());
+            }
+            d_continentOf.put(l_territory, l_id);
+        }
+
+        d_continentNames = new String[l_continentIds.size()];
+        d_fallbackBonuses = new int[l_continentIds.size()];
+        for (java.util.Map.Entry<String, Integer> l_entry : l_continentIds.entrySet()) {
+            d_continentNames[l_entry.getValue()] = l_entry.getKey();
+            d_fallbackBonuses[l_entry.getValue()] = l_fallbackBonuses.getOrDefault(l_entry.getKey(), 0);
+        }
+
+        d_continentSizes = new int[d_continentNames.length];
+        d_ownedCounts = new IdentityHashMap<>();
+        for (java.util.Map.Entry<Territory, Integer> l_entry : d_continentOf.entrySet()) {
+            Territory l_territory = l_entry.getKey();
+            d_continentSizes[l_entry.getValue()]++;
+            if (l_territory.getOwner() != null) {
+                countsOf(l_territory.getOwner())[l_entry.getValue()]++;
+            }
+            l_territory.addListener(this);
+        }
+    }
+
+    /**
+     * Moves the territory from the old owner's counts to the new owner's.
+     *
+     * @param p_territory The territory that changed hands
+     * @param p_oldOwner The previous owner, or null
+     * @param p_newOwner The new owner, or null
+     */
+    @Override
+    public void onOwnerChanged(Territory p_territory, Player p_oldOwner, Player p_newOwner) {
+        Integer l_continent = d_continentOf.get(p_territory);
+        if (l_continent == null) {
+            return;
+        }
+        if (p_oldOwner != null) {
+            countsOf(p_oldOwner)[l_continent]--;
+        }
+        if (p_newOwner != null) {
+            countsOf(p_newOwner)[l_continent]++;
+        }
+    }
+
+    /**
+     * Stops following the territories. Called when the index is replaced by a newer one.
+     */
+    public void detach() {
+        for (Territory l_territory : d_continentOf.keySet()) {
+            l_territory.removeListener(this);
+        }
+    }
+
+    /**
+     * Gets the number of territories a player owns in a continent.
+     *
+     * @param p_player The player
+     * @param p_continent The continent name
+     * @return The number of territories, 0 if the continent is unknown
+     */
+    public int getOwnedCount(Player p_player, String p_continent) {
+        int l_continent = continentId(p_continent);
+        int[] l_counts = d_ownedCounts.get(p_player);
+        return l_continent < 0 || l_counts == null ? 0 : l_counts[l_continent];
+    }
+
+    /**
+     * Checks whether a player owns every territory of a continent.
+     * A continent without territories is not owned by anyone.
+     *
+     * @param p_player The player
+     * @param p_continent The continent name
+     * @return true if the player controls the continent
+     */
+    public boolean ownsContinent(Player p_player, String p_continent) {
+        int l_continent = continentId(p_continent);
+        return l_continent >= 0 && d_continentSizes[l_continent] > 0
+                && getOwnedCount(p_player, p_continent) == d_continentSizes[l_continent];
+    }
+
+    /**
+     * Gets the sum of the bonuses of the continents a player controls.
+     * Declared continents use the bonus currently set on the map, other continents the bonus
+     * carried by their territories.
+     *
+     * @param p_player The player
+     * @return The continent bonus armies
+     */
+    public int getContinentBonus(Player p_player) {
+        int[] l_counts = d_ownedCounts.get(p_player);
+        if (l_counts == null) {
+            return 0;
+        }
+        int l_bonus = 0;
+        for (int i = 0; i < l_counts.length; i++) {
+            if (d_continentSizes[i] > 0 && l_counts[i] == d_continentSizes[i]) {
+                Integer l_declared = d_map.getContinents().get(d_continentNames[i]);
+                l_bonus += l_declared != null ? l_declared : d_fallbackBonuses[i];
+            }
+        }
+        return l_bonus;
+    }
+
+    /**
+     * Calculates the reinforcement armies of a player: the number of territories they own
+     * divided by 3, with a minimum of {@link #MIN_REINFORCEMENTS}, plus the bonus of every
+     * continent they control.
+     *
+     * @param p_player The player
+     * @return The reinforcement armies for this turn
+     */
+    public int calculateReinforcements(Player p_player) {
+        return Math.max(MIN_REINFORCEMENTS, p_player.getOwnedTerritories().size() / 3)
+                + getContinentBonus(p_player);
+    }
+
+    /**
+     * Gets the counters of a player, creating them on first use.
+     *
+     * @param p_player The player
+     * @return The number of territories owned per continent id
+     */
+    private int[] countsOf(Player p_player) {
+        return d_ownedCounts.computeIfAbsent(p_player, l_player -> new int[d_continentNames.length]);
+    }
+
+    /**
+     * Gets the id of a continent.
+     *
+     * @param p_continent The continent name
+     * @return The continent id, or -1 if the map has no such continent
+     */
+    private int continentId(String p_continent) {
+        for (int i = 0; i < d_continentNames.length; i++) {
+            if (d_continentNames[i].equals(p_continent)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,333 @@
+package com.Game.model;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Keeps track of the frontier of every player: the territories they own that border at least one
+ * territory owned by someone else, and how many such enemy links each territory has.
+ * The index listens to the territories of the map, so a change of owner only updates the territory
+ * and the territories that list it as a neighbour, in O(degree). Strategies can then find their
+ * border territories and walk their enemy neighbours without building any list.
+ *
+ * <p>The index is built on an {@link AdjacencyGraph} and covers the territories of that graph;
+ * {@link Map#getFrontierIndex()} takes care of rebuilding it when the graph is rebuilt.
+ * Territories that are not part of the graph are answered from their own neighbour list.</p>
+ */
+public final class FrontierIndex implements TerritoryListener {
+
+    /**
+     * Border territories of one player, kept in an array with the position of each territory
+     * stored in {@link FrontierIndex#d_frontierPosition} so that it can be removed in O(1).
+     */
+    private static final class Frontier {
+
+        /**
+         * Ids of the border territories; only the first d_size entries are used.
+         */
+        private int[] d_ids = new int[8];
+
+        /**
+         * Number of border territories.
+         */
+        private int d_size;
+    }
+
+    /**
+     * The adjacency view the index is built on.
+     */
+    private final AdjacencyGraph d_graph;
+
+    /**
+     * Start index in d_reverseNeighbors of the territories that list each territory as a neighbour.
+     * Has one extra trailing entry.
+     */
+    private final int[] d_reverseOffsets;
+
+    /**
+     * Ids of the territories listing each territory as a neighbour, grouped by territory in id order.
+     */
+    private final int[] d_reverseNeighbors;
+
+    /**
+     * Number of neighbours of each territory that have a different owner.
+     */
+    private final int[] d_enemyDegree;
+
+    /**
+     * Position of each territory in its owner's frontier, or -1 if it is not on a frontier.
+     */
+    private final int[] d_frontierPosition;
+
+    /**
+     * Frontier of each player.
+     */
+    private final IdentityHashMap<Player, Frontier> d_frontiers;
+
+    /**
+     * Builds the index from the current owners of the graph's territories and starts following
+     * their changes of owner.
+     *
+     * @param p_graph The adjacency view of the map
+     */
+    public FrontierIndex(AdjacencyGraph p_graph) {
+        d_graph = p_graph;
+        int l_count = p_graph.size();
+
+        d_reverseOffsets = new int[l_count + 1];
+        for (int k = 0; k < p_graph.getEdgeCount(); k++) {
+            d_reverseOffsets[p_graph.neighborAt(k) + 1]++;
+        }
+        for (int i = 0; i < l_count; i++) {
+            d_reverseOffsets[i + 1] += d_reverseOffsets[i];
+        }
+        d_reverseNeighbors = new int[p_graph.getEdgeCount()];
+        int[] l_next = new int[l_count];
+        for (int i = 0; i < l_count; i++) {
+            for (int k = p_graph.neighborStart(i); k < p_graph.neighborEnd(i); k++) {
+                int l_target = p_graph.neighborAt(k);
+                d_reverseNeighbors[d_reverseOffsets[l_target] + l_next[l_target]++] = i;
+            }
+        }
+
+        d_enemyDegree = new int[l_count];
+        d_frontierPosition = new int[l_count];
+        d_frontiers = new IdentityHashMap<>();
+        for (int i = 0; i < l_count; i++) {
+            d_frontierPosition[i] = -1;
+            d_enemyDegree[i] = countEnemyNeighbors(i);
+            if (d_enemyDegree[i] > 0) {
+                addToFrontier(i);
+            }
+            p_graph.getTerritory(i).addListener(this);
+        }
+    }
+
+    /**
+     * Gets the adjacency view the index is built on.
+     *
+     * @return The adjacency graph
+     */
+    public AdjacencyGraph getGraph() {
+        return d_graph;
+    }
+
+    /**
+     * Updates the frontier of the old and new owners and of the territories bordering the
+     * territory that changed hands.
+     *
+     * @param p_territory The territory that changed hands
+     * @param p_oldOwner The previous owner, or null
+     * @param p_newOwner The new owner, or null
+     */
+    @Override
+    public void onOwnerChanged(Territory p_territory, Player p_oldOwner, Player p_newOwner) {
+        int l_id = indexedId(p_territory);
+        if (l_id < 0) {
+            return;
+        }
+        removeFromFrontier(l_id, p_oldOwner);
+        d_enemyDegree[l_id] = countEnemyNeighbors(l_id);
+        if (d_enemyDegree[l_id] > 0) {
+            addToFrontier(l_id);
+        }
+
+        for (int k = d_reverseOffsets[l_id]; k < d_reverseOffsets[l_id + 1]; k++) {
+            int l_source = d_reverseNeighbors[k];
+            if (l_source == l_id) {
+                continue;
+            }
+            Player l_sourceOwner = d_graph.getTerritory(l_source).getOwner();
+            boolean l_wasEnemy = l_sourceOwner != p_oldOwner;
+            boolean l_isEnemy = l_sourceOwner != p_newOwner;
+            if (l_wasEnemy == l_isEnemy) {
+                continue;
+            }
+            if (l_isEnemy) {
+                if (d_enemyDegree[l_source]++ == 0) {
+                    addToFrontier(l_source);
+                }
+            } else if (--d_enemyDegree[l_source] == 0) {
+                removeFromFrontier(l_source, l_sourceOwner);
+            }
+        }
+    }
+
+    /**
+     * Stops following the territories. Called when the index is replaced by a newer one.
+     */
+    public void detach() {
+        for (int i = 0; i < d_graph.size(); i++) {
+            d_graph.getTerritory(i).removeListener(this);
+        }
+    }
+
+    /**
+     * Checks whether a territory borders at least one territory owned by someone else.
+     *
+     * @param p_territory The territory to check
+     * @return true if the territory is on its owner's frontier
+     */
+    public boolean isFrontier(Territory p_territory) {
+        return getEnemyNeighborCount(p_territory) > 0;
+    }
+
+    /**
+     * Gets the number of neighbours of a territory that are owned by someone else.
+     *
+     * @param p_territory The territory
+     * @return The number of enemy neighbours
+     */
+    public int getEnemyNeighborCount(Territory p_territory) {
+        int l_id = indexedId(p_territory);
+        if (l_id >= 0) {
+            return d_enemyDegree[l_id];
+        }
+        int l_count = 0;
+        List<Territory> l_neighborList = p_territory.getNeighborList();
+        for (int i = 0; i < l_neighborList.size(); i++) {
+            if (l_neighborList.get(i).getOwner() != p_territory.getOwner()) {
+                l_count++;
+            }
+        }
+        return l_count;
+    }
+
+    /**
+     * Gets one of the enemy neighbours of a territory, in the order of its neighbour list,
+     * as {@link Territory#getEnemyNeighbors()} would return them.
+     *
+     * @param p_territory The territory
+     * @param p_index The index of the enemy neighbour, between 0 and
+     *        {@link #getEnemyNeighborCount(Territory)} exclusive
+     * @return The enemy neighbour
+     * @throws IndexOutOfBoundsException if the territory has no such enemy neighbour
+     */
+    public Territory getEnemyNeighbor(Territory p_territory, int p_index) {
+        Player l_owner = p_territory.getOwner();
+        int l_remaining = p_index;
+        int l_id = indexedId(p_territory);
+        if (l_id >= 0) {
+            for (int k = d_graph.neighborStart(l_id); k < d_graph.neighborEnd(l_id); k++) {
+                Territory l_neighbor = d_graph.getTerritory(d_graph.neighborAt(k));
+                if (l_neighbor.getOwner() != l_owner && l_remaining-- == 0) {
+                    return l_neighbor;
+                }
+            }
+        } else {
+            List<Territory> l_neighborList = p_territory.getNeighborList();
+            for (int i = 0; i < l_neighborList.size(); i++) {
+                if (l_neighborList.get(i).getOwner() != l_owner && l_remaining-- == 0) {
+                    return l_neighborList.get(i);
+                }
+            }
+        }
+        throw new IndexOutOfBoundsException("Enemy neighbor " + p_index + " of " + p_territory.getName());
+    }
+
+    /**
+     * Gets the number of border territories of a player.
+     *
+     * @param p_player The player
+     * @return The size of the player's frontier
+     */
+    public int getFrontierSize(Player p_player) {
+        Frontier l_frontier = d_frontiers.get(p_player);
+        return l_frontier == null ? 0 : l_frontier.d_size;
+    }
+
+    /**
+     * Gets one of the border territories of a player. The order is unspecified and changes
+     * as territories change hands.
+     *
+     * @param p_player The player
+     * @param p_index The index, between 0 and {@link #getFrontierSize(Player)} exclusive
+     * @return The border territory
+     */
+    public Territory getFrontierTerritory(Player p_player, int p_index) {
+        Frontier l_frontier = d_frontiers.get(p_player);
+        if (l_frontier == null || p_index < 0 || p_index >= l_frontier.d_size) {
+            throw new IndexOutOfBoundsException("Frontier territory " + p_index);
+        }
+        return d_graph.getTerritory(l_frontier.d_ids[p_index]);
+    }
+
+    /**
+     * Copies the border territories of a player, for callers that change owners while walking them.
+     *
+     * @param p_player The player
+     * @return The border territories, in the order of {@link #getFrontierTerritory(Player, int)}
+     */
+    public Territory[] copyFrontier(Player p_player) {
+        Territory[] l_copy = new Territory[getFrontierSize(p_player)];
+        for (int i = 0; i < l_copy.length; i++) {
+            l_copy[i] = getFrontierTerritory(p_player, i);
+        }
+        return l_copy;
+    }
+
+    /**
+     * Gets the id of a territory if this exact territory is part of the graph.
+     *
+     * @param p_territory The territory
+     * @return Its id, or -1 if the index does not cover it
+     */
+    private int indexedId(Territory p_territory) {
+        int l_id = d_graph.getId(p_territory);
+        return l_id >= 0 && d_graph.getTerritory(l_id) == p_territory ? l_id : -1;
+    }
+
+    /**
+     * Counts the neighbours of a territory owned by someone other than its owner.
+     *
+     * @param p_id The territory id
+     * @return The number of enemy neighbours
+     */
+    private int countEnemyNeighbors(int p_id) {
+        Player l_owner = d_graph.getTerritory(p_id).getOwner();
+        int l_count = 0;
+        for (int k = d_graph.neighborStart(p_id); k < d_graph.neighborEnd(p_id); k++) {
+            if (d_graph.getTerritory(d_graph.neighborAt(k)).getOwner() != l_owner) {
+                l_count++;
+            }
+        }
+        return l_count;
+    }
+
+    /**
+     * Adds a territory to the frontier of its current owner. Neutral territories have no frontier.
+     *
+     * @param p_id The territory id
+     */
+    private void addToFrontier(int p_id) {
+        Player l_owner = d_graph.getTerritory(p_id).getOwner();
+        if (l_owner == null || d_frontierPosition[p_id] >= 0) {
+            return;
+        }
+        Frontier l_frontier = d_frontiers.computeIfAbsent(l_owner, l_player -> new Frontier());
+        if (l_frontier.d_size == l_frontier.d_ids.length) {
+            l_frontier.d_ids = Arrays.copyOf(l_frontier.d_ids, l_frontier.d_size * 2);
+        }
+        d_frontierPosition[p_id] = l_frontier.d_size;
+        l_frontier.d_ids[l_frontier.d_size++] = p_id;
+    }
+
+    /**
+     * Removes a territory from a player's frontier, moving the last border territory into its place.
+     *
+     * @param p_id The territory id
+     * @param p_owner The player whose frontier holds the territory, or null
+     */
+    private void removeFromFrontier(int p_id, Player p_owner) {
+        int l_position = d_frontierPosition[p_id];
+        Frontier l_frontier = p_owner == null ? null : d_frontiers.get(p_owner);
+        if (l_position < 0 || l_frontier == null) {
+            return;
+        }
+        int l_last = l_frontier.d_ids[--l_frontier.d_size];
+        l_frontier.d_ids[l_position] = l_last;
+        d_frontierPosition[l_last] = l_position;
+        d_frontierPosition[p_id] = -1;
+    }
+}
@@ -0,0 +1,165 @@
+package com.Game.model;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Keeps a 64-bit hash of the state of a game: the owner and the number of armies of every
+ * territory of the map. Each territory contributes a mixed value of its id, owner and armies,
+ * and the contributions are combined with XOR, so the hasher, listening to the territories,
+ * updates the hash in O(1) on every change of owner or armies instead of rehashing the map.
+ *
+ * <p>Two games in the same state have the same hash as long as their players are given in the
+ * same order. Different states have different hashes with overwhelming probability.</p>
+ */
+public final class GameStateHasher implements TerritoryListener {
+
+    /**
+     * The territories being hashed, indexed by id.
+     */
+    private final Territory[] d_territories;
+
+    /**
+     * Id of each hashed territory.
+     */
+    private final IdentityHashMap<Territory, Integer> d_ids;
+
+    /**
+     * Slot of each player in the hash; neutral territories use slot 0.
+     */
+    private final IdentityHashMap<Player, Integer> d_slots;
+
+    /**
+     * Current contribution of each territory to the hash.
+     */
+    private final long[] d_contributions;
+
+    /**
+     * The current hash.
+     */
+    private long d_hash;
+
+    /**
+     * Hashes the current state of the map's territories and starts following their changes.
+     *
+     * @param p_map The map of the game
+     * @param p_players The players of the game; their order fixes their slot in the hash
+     */
+    public GameStateHasher(Map p_map, List<Player> p_players) {
+        List<Territory> l_territoryList = p_map.getTerritoryList();
+        d_territories = l_territoryList.toArray(new Territory[0]);
+        d_ids = new IdentityHashMap<>(d_territories.length * 2);
+        d_slots = new IdentityHashMap<>();
+        for (Player l_player : p_players) {
+            slotOf(l_player);
+        }
+        d_contributions = new long[d_territories.length];
+        for (int i = 0; i < d_territories.length; i++) {
+            d_ids.put(d_territories[i], i);
+            d_contributions[i] = contribution(i, d_territories[i].getOwner(), d_territories[i].getNumOfArmies());
+            d_hash ^= d_contributions[i];
+            d_territories[i].addListener(this);
+        }
+    }
+
+    /**
+     * Gets the hash of the current state.
+     *
+     * @return The state hash
+     */
+    public long getHash() {
+        return d_hash;
+    }
+
+    /**
+     * Updates the hash for the new owner of a territory.
+     *
+     * @param p_territory The territory that changed hands
+     * @param p_oldOwner The previous owner, or null
+     * @param p_newOwner The new owner, or null
+     */
+    @Override
+    public void onOwnerChanged(Territory p_territory, Player p_oldOwner, Player p_newOwner) {
+        update(p_territory);
+    }
+
+    /**
+     * Updates the hash for the new number of armies of a territory.
+     *
+     * @param p_territory The territory whose armies changed
+     * @param p_oldArmies The previous number of armies
+     * @param p_newArmies The new number of armies
+     */
+    @Override
+    public void onArmiesChanged(Territory p_territory, int p_oldArmies, int p_newArmies) {
+        update(p_territory);
+    }
+
+    /**
+     * Stops following the territories. Called once the game is over.
+     */
+    public void detach() {
+        for (Territory l_territory : d_territories) {
+            l_territory.removeListener(this);
+        }
+    }
+
+    /**
+     * Replaces the contribution of a territory with one for its current owner and armies.
+     *
+     * @param p_territory The territory that changed
+     */
+    private void update(Territory p_territory) {
+        Integer l_id = d_ids.get(p_territory);
+        if (l_id == null) {
+            return;
+        }
+        long l_contribution = contribution(l_id, p_territory.getOwner(), p_territory.getNumOfArmies());
+        d_hash ^= d_contributions[l_id] ^ l_contribution;
+        d_contributions[l_id] = l_contribution;
+    }
+
+    /**
+     * Computes the contribution of one territory to the hash.
+     *
+     * @param p_id The territory id
+     * @param p_owner The owner, or null
+     * @param p_armies The number of armies
+     * @return The contribution
+     */
+    private long contribution(int p_id, Player p_owner, int p_armies) {
+        long l_key = ((long) p_id << 40) ^ ((long) slotOf(p_owner) << 32) ^ (p_armies & 0xFFFFFFFFL);
+        return mix(l_key + 0x9E3779B97F4A7C15L * (p_id + 1));
+    }
+
+    /**
+     * Gets the slot of a player, giving the next free slot to a player seen for the first time.
+     *
+     * @param p_player The player, or null for a neutral territory
+     * @return The slot
+     */
+    private int slotOf(Player p_player) {
+        if (p_player == null) {
+            return 0;
+        }
+        Integer l_slot = d_slots.get(p_player);
+        if (l_slot == null) {
+            l_slot = d_slots.size() + 1;
+            d_slots.put(p_player, l_slot);
+        }
+        return l_slot;
+    }
+
+    /**
+     * Scrambles the bits of a key (the finalizer of SplitMix64).
+     *
+     * @param p_key The key
+     * @return The mixed value
+     */
+    private static long mix(long p_key) {
+        long l_z = p_key;
+        l_z = (l_z ^ (l_z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        l_z = (l_z ^ (l_z >>> 27)) * 0x94D049BB133111EBL;
+        return l_z ^ (l_z >>> 31);
+    }
+}
@@ -96,6 +96,7 @@ public class HumanPlayer extends Player {
 			}
 
 			Territory l_territoryTo = p_map.getTerritoryByName(l_parts[1]);
+			removeCard(CardType.BOMB);
 			l_order = new BombOrder(this, l_territoryTo);
 		} else if (l_orderType.equalsIgnoreCase("blockade")) {
 			if (!validateBlockade(l_parts)) {
@@ -103,6 +104,7 @@ public class HumanPlayer extends Player {
 			}
 
 			Territory l_territoryTo = findTerritoryByName(l_parts[1]);
+			removeCard(CardType.BLOCKADE);
 			l_order = new BlockadeOrder(this, l_territoryTo);
 		} else if (l_orderType.equalsIgnoreCase("airlift")) {
 			if (!validateAirlift(l_parts, p_map)) {
@@ -112,6 +114,7 @@ public class HumanPlayer extends Player {
 			Territory l_territoryFrom = findTerritoryByName(l_parts[1]);
 			Territory l_territoryTo = p_map.getTerritoryByName(l_parts[2]);
 			int l_numberOfArmies = Integer.parseInt(l_parts[3]);
+			removeCard(CardType.AIRLIFT);
 
 			// Deduct armies from source territory
 			l_territoryFrom.setNumOfArmies(l_territoryFrom.getNumOfArmies() - l_numberOfArmies);
@@ -135,6 +138,7 @@ public class HumanPlayer extends Player {
 				}
 			}
 
+			removeCard(CardType.NEGOTIATE);
 			l_order = new NegotiateOrder(this, l_playerToNegotiateWith);
 			// Execute the negotiate order immediately
 			l_order.execute();
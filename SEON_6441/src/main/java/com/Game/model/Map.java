@@ -1,12 +1,18 @@
 package com.Game.model;
 
 import java.io.BufferedWriter;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.zip.GZIPOutputStream;
 import java.io.*;
 
 /**
@@ -15,10 +21,35 @@ import java.io.*;
  */
 public class Map {
 
+    /**
+     * First four bytes of a binary map file, "MAPB" in ASCII.
+     */
+    public static final int BINARY_MAGIC = 0x4D415042;
+
+    /**
+     * Version of the binary map format written by {@link #saveToBinaryFile(String)}.
+     */
+    public static final int BINARY_VERSION = 1;
+
+    /**
+     * File extension of binary map files.
+     */
+    public static final String BINARY_EXTENSION = ".mapb";
+
+    /**
+     * File extension of gzip-compressed map and save-game files.
+     */
+    public static final String GZIP_EXTENSION = ".gz";
+
+    /**
+     * Size of the buffers used to write map files, large enough that big maps are written in few system calls.
+     */
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
     /**
      * A list of all territories in the game.
      */
-    private List<Territory> d_territoryList;
+    private TerritoryList d_territoryList;
 
     /**
      * A map of continent names to their control values.
@@ -31,11 +62,67 @@ public class Map {
      */
     private boolean d_hasUniqueTerritories;
 
+    /**
+     * Cached adjacency view of the territories; null until first built.
+     */
+    private AdjacencyGraph d_adjacencyGraph;
+
+    /**
+     * Modification count of the territory list when the adjacency view was built.
+     */
+    private int d_adjacencyGraphModCount;
+
+    /**
+     * Number of changes to neighbours, continents or the territory list itself that invalidate
+     * the adjacency view without adding or removing territories in the current list.
+     */
+    private int d_topologyModCount;
+
+    /**
+     * Value of {@link #d_topologyModCount} when the adjacency view was built.
+     */
+    private int d_adjacencyGraphTopologyModCount;
+
+    /**
+     * Report of the last validation; null until the map is first validated.
+     */
+    private MapValidationReport d_validationReport;
+
+    /**
+     * Adjacency view the last validation report was computed from.
+     */
+    private AdjacencyGraph d_validationGraph;
+
+    /**
+     * Cached continent ownership index; null when it must be rebuilt.
+     */
+    private ContinentOwnershipIndex d_ownershipIndex;
+
+    /**
+     * Modification count of the territory list when the ownership index was built.
+     */
+    private int d_ownershipIndexModCount;
+
+    /**
+     * Cached frontier index; replaced whenever the adjacency view is rebuilt.
+     */
+    private FrontierIndex d_frontierIndex;
+
+    /**
+     * Discards the adjacency view when the neighbours of one of the territories change.
+     */
+    private final TerritoryListener d_topologyListener = new TerritoryListener() {
+        @Override
+        public void onNeighborsChanged(Territory p_territory) {
+            invalidateAdjacencyGraph();
+        }
+    };
+
     /**
      * Default constructor that initializes an empty map with no territories or continents.
      */
     public Map() {
-        this.d_territoryList = new ArrayList<>();
+        this.d_territoryList = new TerritoryList();
         this.d_continents = new HashMap<>();
         this.d_hasUniqueTerritories = true;
     }
@@ -64,12 +151,116 @@ public class Map {
     }
 
     /**
-     * Sets the territory list.
+     * Sets the territory list. A list that is not already a {@link TerritoryList}
+     * is copied into one, so that territories can be looked up by name.
      * 
      * @param p_territoryList The territory list to set.
      */
     public void setTerritoryList(List<Territory> p_territoryList) {
-        this.d_territoryList = p_territoryList;
+        this.d_territoryList = p_territoryList instanceof TerritoryList
+                ? (TerritoryList) p_territoryList
+                : new TerritoryList(p_territoryList);
+        invalidateAdjacencyGraph();
+        invalidateOwnershipIndex();
+    }
+
+    /**
+     * Gets the adjacency view of the map, building it if the map changed since it was last built.
+     * Changes made through this class, adding or removing territories in the territory list and
+     * {@link Territory#addNeighbor(Territory)} are picked up automatically; code that edits a
+     * neighbour list directly must call {@link #invalidateAdjacencyGraph()}.
+     *
+     * @return The adjacency view of the current territories
+     */
+    public AdjacencyGraph getAdjacencyGraph() {
+        if (d_adjacencyGraph == null || d_adjacencyGraphModCount != d_territoryList.getModificationCount()
+                || d_adjacencyGraphTopologyModCount != d_topologyModCount) {
+            if (d_adjacencyGraph != null) {
+                // Territories that left the map must not keep a reference to it
+                for (int i = 0; i < d_adjacencyGraph.size(); i++) {
+                    d_adjacencyGraph.getTerritory(i).removeListener(d_topologyListener);
+                }
+            }
+            AdjacencyGraph l_graph = new AdjacencyGraph(this);
+            for (int i = 0; i < l_graph.size(); i++) {
+                l_graph.getTerritory(i).addListener(d_topologyListener);
+            }
+            d_adjacencyGraph = l_graph;
+            d_adjacencyGraphModCount = d_territoryList.getModificationCount();
+            d_adjacencyGraphTopologyModCount = d_topologyModCount;
+        }
+        return d_adjacencyGraph;
+    }
+
+    /**
+     * Marks the cached adjacency view as out of date so that it is rebuilt on next use.
+     */
+    public void invalidateAdjacencyGraph() {
+        d_topologyModCount++;
+    }
+
+    /**
+     * Removes the territories matching a condition from the map and stops listening to them,
+     * so that removed territories do not keep the map's listeners alive.
+     *
+     * @param p_condition Selects the territories to remove
+     */
+    private void removeTerritories(Predicate<Territory> p_condition) {
+        d_territoryList.removeIf(l_territory -> {
+            if (!p_condition.test(l_territory)) {
+                return false;
+            }
+            l_territory.removeListener(d_topologyListener);
+            if (d_frontierIndex != null) {
+                l_territory.removeListener(d_frontierIndex);
+            }
+            if (d_ownershipIndex != null) {
+                l_territory.removeListener(d_ownershipIndex);
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Gets the continent ownership index of the map, building it if territories or continents
+     * were added or removed since it was last built. Changes of owner are followed by the index itself.
+     *
+     * @return The ownership index of the current territories
+     */
+    public ContinentOwnershipIndex getOwnershipIndex() {
+        if (d_ownershipIndex == null || d_ownershipIndexModCount != d_territoryList.getModificationCount()) {
+            invalidateOwnershipIndex();
+            d_ownershipIndex = new ContinentOwnershipIndex(this);
+            d_ownershipIndexModCount = d_territoryList.getModificationCount();
+        }
+        return d_ownershipIndex;
+    }
+
+    /**
+     * Gets the frontier index of the map, building it again whenever the adjacency view is rebuilt.
+     * Changes of owner are followed by the index itself.
+     *
+     * @return The frontier index of the current territories
+     */
+    public FrontierIndex getFrontierIndex() {
+        AdjacencyGraph l_graph = getAdjacencyGraph();
+        if (d_frontierIndex == null || d_frontierIndex.getGraph() != l_graph) {
+            if (d_frontierIndex != null) {
+                d_frontierIndex.detach();
+            }
+            d_frontierIndex = new FrontierIndex(l_graph);
+        }
+        return d_frontierIndex;
+    }
+
+    /**
+     * Discards the cached ownership index so that it is rebuilt on next use.
+     */
+    private void invalidateOwnershipIndex() {
+        if (d_ownershipIndex != null) {
+            d_ownershipIndex.detach();
+            d_ownershipIndex = null;
+        }
     }
 
     /**
@@ -100,12 +291,7 @@ public class Map {
      * @return The territory if found, otherwise null.
      */
     public Territory getTerritoryByName(String p_name) {
-        for (Territory l_territory : d_territoryList) {
-            if (l_territory.getName().equals(p_name)) {
-                return l_territory;
-            }
-        }
-        return null;
+        return d_territoryList.findByName(p_name);
     }
 
     /**
@@ -130,6 +316,8 @@ public class Map {
      */
     public void addContinent(String p_continentID, int p_continentValue) {
         d_continents.put(p_continentID, p_continentValue);
+        invalidateAdjacencyGraph();
+        invalidateOwnershipIndex();
     }
 
     /**
@@ -139,7 +327,9 @@ public class Map {
      */
     public void removeContinent(String p_continentID) {
         d_continents.remove(p_continentID);
-        d_territoryList.removeIf(t -> t.getContinent().equals(p_continentID));
+        removeTerritories(t -> t.getContinent().equals(p_continentID));
+        invalidateAdjacencyGraph();
+        invalidateOwnershipIndex();
     }
 
     /**
@@ -167,7 +357,8 @@ public class Map {
             l_territory.getNeighborList().removeIf(neighbor -> neighbor.getName().equals(p_countryID));
         }
         // Then, remove the country itself from the territory list
-        d_territoryList.removeIf(t -> t.getName().equals(p_countryID));
+        removeTerritories(t -> t.getName().equals(p_countryID));
+        invalidateAdjacencyGraph();
     }
 
     /**
@@ -195,8 +386,8 @@ public class Map {
         Territory l_country = getTerritoryByName(p_countryID);
         Territory l_neighbor = getTerritoryByName(p_neighborCountryID);
         if (l_country != null && l_neighbor != null) {
-            l_country.getNeighborList().remove(l_neighbor);
-            l_neighbor.getNeighborList().remove(l_country);
+            l_country.removeNeighbor(l_neighbor);
+            l_neighbor.removeNeighbor(l_country);
         }
     }
 
@@ -207,11 +398,35 @@ public class Map {
      */
     public void setContinents(java.util.Map<String, Integer> p_continents) {
         this.d_continents = new HashMap<>(p_continents);
+        invalidateAdjacencyGraph();
+        invalidateOwnershipIndex();
+    }
+
+    /**
+     * Opens a buffered writer on a map file. Files whose name ends with {@link #GZIP_EXTENSION}
+     * are gzip-compressed while they are written.
+     *
+     * @param p_file The file to write.
+     * @return The writer.
+     * @throws IOException If the file cannot be created.
+     */
+    private static BufferedWriter newMapWriter(File p_file) throws IOException {
+        OutputStream l_out = new FileOutputStream(p_file);
+        if (p_file.getName().endsWith(GZIP_EXTENSION)) {
+            try {
+                l_out = new GZIPOutputStream(l_out, WRITE_BUFFER_SIZE);
+            } catch (IOException e) {
+                l_out.close();
+                throw e;
+            }
+        }
+        return new BufferedWriter(new OutputStreamWriter(l_out), WRITE_BUFFER_SIZE);
     }
 
     /**
      * Saves the map structure to a file in a specific format.
      * The file includes continents, countries, and their neighboring relationships.
+     * A path ending with {@link #GZIP_EXTENSION} produces a gzip-compressed file.
      *
      * @param p_filePath The path to the file where the map should be saved.
      */
@@ -227,33 +442,8 @@ public class Map {
             l_parentDir.mkdirs();  // Creates the directories if they do not exist
         }
 
-        try (BufferedWriter l_writer = new BufferedWriter(new FileWriter(l_file))) {
-            // Writing continents section
-            l_writer.write("[continents]\n");
-            for (java.util.Map.Entry<String, Integer> l_entry : d_continents.entrySet()) {
-                l_writer.write(l_entry.getKey() + " " + l_entry.getValue() + "\n");
-            }
-            l_writer.write("\n");
-
-            // Writing countries section
-            l_writer.write("[countries]\n");
-            for (int i = 0; i < d_territoryList.size(); i++) {
-                Territory l_t = d_territoryList.get(i);
-                l_writer.write((i + 1) + " " + l_t.getName() + " " + (new ArrayList<>(d_continents.keySet()).indexOf(l_t.getContinent()) + 1) + "\n");
-            }
-            l_writer.write("\n");
-
-            // Writing borders section
-            l_writer.write("[borders]\n");
-            for (int i = 0; i < d_territoryList.size(); i++) {
-                Territory l_t = d_territoryList.get(i);
-                l_writer.write((i + 1) + "");
-                for (Territory l_neighbor : l_t.getNeighborList()) {
-                    l_writer.write(" " + (d_territoryList.indexOf(l_neighbor) + 1));
-                }
-                l_writer.write("\n");
-                l_writer.flush(); // Forces any data in the buffer to be written to the file
-            }
+        try (BufferedWriter l_writer = newMapWriter(l_file)) {
+            writeDominationSections(l_writer);
 
             System.out.println("File saved successfully!");
         } catch (IOException e) {
@@ -281,7 +471,7 @@ public class Map {
             l_parentDir.mkdirs();  // Creates the directories if they do not exist
         }
 
-        try (BufferedWriter l_writer = new BufferedWriter(new FileWriter(l_file))) {
+        try (BufferedWriter l_writer = newMapWriter(l_file)) {
             // Writing Map section
             l_writer.write("[Map]\n");
 
@@ -297,24 +487,20 @@ public class Map {
             for (int i = 0; i < d_territoryList.size(); i++) {
                 Territory l_t = d_territoryList.get(i);
                 // Territory format: Name,x,y,Continent,Neighbor1,Neighbor2,...
-                StringBuilder territoryLine = new StringBuilder(l_t.getName() + ",");
+                l_writer.write(l_t.getName());
 
                 // Add territory coordinates (example: dummy data for now, replace with real coordinates)
-                territoryLine.append(11 + "," + 22+ ",");  // Replace with actual X,Y values if needed
+                l_writer.write(",11,22,");  // Replace with actual X,Y values if needed
 
                 // Add continent name
-                territoryLine.append(l_t.getContinent() + ",");
+                l_writer.write(String.valueOf(l_t.getContinent()));
 
                 // Add neighbors
                 for (Territory l_neighbor : l_t.getNeighborList()) {
-                    territoryLine.append(l_neighbor.getName() + ",");
-                }
-                // Remove the trailing comma if any
-                if (territoryLine.charAt(territoryLine.length() - 1) == ',') {
-                    territoryLine.deleteCharAt(territoryLine.length() - 1);
+                    l_writer.write(',');
+                    l_writer.write(String.valueOf(l_neighbor.getName()));
                 }
-
-                l_writer.write(territoryLine.toString() + "\n");
+                l_writer.write('\n');
             }
             l_writer.write("\n");
 
@@ -326,19 +512,155 @@ public class Map {
         }
     }
 
+    /**
+     * Saves the topology of the map in the compact binary format read by
+     * {@link com.Game.utils.MapLoader#loadBinaryMap(String)}.
+     *
+     * <p>All values are big-endian ints, stored in this order:</p>
+     * <ul>
+     *   <li>the magic number {@link #BINARY_MAGIC} and the format version {@link #BINARY_VERSION};</li>
+     *   <li>the name table: the number of names, then for each name its length in bytes and its UTF-8 bytes.
+     *       Territory and continent names refer to it by index, so each distinct name is stored once;</li>
+     *   <li>the continent table: the number of continents, the number of them declared on the map
+     *       (they come first), then the name index and the bonus of every continent;</li>
+     *   <li>the territories: their number, then the name index, continent index and bonus of every territory;</li>
+     *   <li>the adjacency: one neighbour offset per territory plus a trailing one, then the neighbour ids.</li>
+     * </ul>
+     * <p>Neighbour links to territories that are not on the map are not saved.</p>
+     *
+     * @param p_filePath The path to the file where the map should be saved.
+     */
+    public void saveToBinaryFile(String p_filePath) {
+        System.out.println("Saving to binary file: " + new File(p_filePath).getAbsolutePath());
+
+        File l_file = new File(p_filePath);
+        File l_parentDir = l_file.getParentFile();
+        if (l_parentDir != null && !l_parentDir.exists()) {
+            System.out.println("Directory does not exist. Creating directory: " + l_parentDir.getAbsolutePath());
+            l_parentDir.mkdirs();
+        }
+
+        try (FileChannel l_channel = FileChannel.open(l_file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer l_buffer = encodeBinary();
+            while (l_buffer.hasRemaining()) {
+                l_channel.write(l_buffer);
+            }
+            System.out.println("Binary map file saved successfully!");
+        } catch (IOException e) {
+            e.printStackTrace();
+            System.err.println("Error saving the binary file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Encodes the topology of the map in the binary format described in {@link #saveToBinaryFile(String)}.
+     *
+     * @return A buffer holding the encoded map, ready to be written.
+     */
+    public ByteBuffer encodeBinary() {
+        AdjacencyGraph l_graph = getAdjacencyGraph();
+        int l_territoryCount = l_graph.size();
+        int l_continentCount = l_graph.getContinentCount();
+
+        // Intern every name once
+        java.util.Map<String, Integer> l_nameIds = new HashMap<>();
+        List<byte[]> l_names = new ArrayList<>();
+        int[] l_continentNameIds = new int[l_continentCount];
+        int[] l_continentBonuses = new int[l_continentCount];
+        for (int c = 0; c < l_continentCount; c++) {
+            String l_name = l_graph.getContinentName(c);
+            l_continentNameIds[c] = internName(l_name, l_nameIds, l_names);
+            Integer l_bonus = d_continents.get(l_name);
+            l_continentBonuses[c] = l_bonus == null ? 0 : l_bonus;
+        }
+        int[] l_territoryNameIds = new int[l_territoryCount];
+        int[] l_territoryContinents = new int[l_territoryCount];
+        int[] l_territoryBonuses = new int[l_territoryCount];
+        int[] l_offsets = new int[l_territoryCount + 1];
+        int[] l_neighbors = new int[l_graph.getEdgeCount()];
+        for (int i = 0; i < l_territoryCount; i++) {
+            Territory l_territory = l_graph.getTerritory(i);
+            l_territoryNameIds[i] = internName(l_territory.getName(), l_nameIds, l_names);
+            l_territoryContinents[i] = l_graph.getContinentId(i);
+            l_territoryBonuses[i] = l_territory.getBonus();
+            l_offsets[i] = l_graph.neighborStart(i);
+            for (int k = l_graph.neighborStart(i); k < l_graph.neighborEnd(i); k++) {
+                l_neighbors[k] = l_graph.neighborAt(k);
+            }
+        }
+        l_offsets[l_territoryCount] = l_graph.getEdgeCount();
+
+        long l_size = 4L * (2 + 1 + 2 + 1) + 4L * (2 * l_continentCount + 3 * l_territoryCount + l_offsets.length + l_neighbors.length);
+        for (byte[] l_name : l_names) {
+            l_size += 4 + l_name.length;
+        }
+        if (l_size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Map is too large for the binary format");
+        }
+
+        ByteBuffer l_buffer = ByteBuffer.allocate((int) l_size);
+        l_buffer.putInt(BINARY_MAGIC).putInt(BINARY_VERSION);
+        l_buffer.putInt(l_names.size());
+        for (byte[] l_name : l_names) {
+            l_buffer.putInt(l_name.length).put(l_name);
+        }
+        l_buffer.putInt(l_continentCount).putInt(d_continents.size());
+        putInts(l_buffer, l_continentNameIds);
+        putInts(l_buffer, l_continentBonuses);
+        l_buffer.putInt(l_territoryCount);
+        putInts(l_buffer, l_territoryNameIds);
+        putInts(l_buffer, l_territoryContinents);
+        putInts(l_buffer, l_territoryBonuses);
+        putInts(l_buffer, l_offsets);
+        putInts(l_buffer, l_neighbors);
+        l_buffer.flip();
+        return l_buffer;
+    }
+
+    /**
+     * Returns the index of a name in the name table, adding it if needed.
+     *
+     * @param p_name The name.
+     * @param p_nameIds Indexes of the names already in the table.
+     * @param p_names The UTF-8 bytes of the names in the table.
+     * @return The index of the name.
+     */
+    private static int internName(String p_name, java.util.Map<String, Integer> p_nameIds, List<byte[]> p_names) {
+        Integer l_id = p_nameIds.get(p_name);
+        if (l_id == null) {
+            l_id = p_names.size();
+            p_nameIds.put(p_name, l_id);
+            p_names.add(p_name.getBytes(StandardCharsets.UTF_8));
+        }
+        return l_id;
+    }
+
+    /**
+     * Writes an int array to a buffer in one bulk operation.
+     *
+     * @param p_buffer The buffer, positioned where the ints go.
+     * @param p_values The ints to write.
+     */
+    private static void putInts(ByteBuffer p_buffer, int[] p_values) {
+        p_buffer.asIntBuffer().put(p_values);
+        p_buffer.position(p_buffer.position() + 4 * p_values.length);
+    }
+
     /**
      * Saves the current state of the game to a map file.
      *
      * <p>This method creates or overwrites a file with the specified name (appending ".map" if not present)
      * inside the {@code /resources/LoadingMaps} directory. It writes details about the players, their owned
-     * territories, and delegates the map saving logic to {@code saveMapToFile()}.</p>
+     * territories, and delegates the map saving logic to {@code saveMapToFile()}. A name ending with ".map.gz"
+     * produces a gzip-compressed file, which loadgame reads back transparently.</p>
      *
      * @param p_fileName The name of the file to which the game state should be saved.
      * @param d_players  A list of players whose game state (including owned territories) is to be saved.
      */
     public void saveGameState(String p_fileName, List<Player> d_players) {
-        // Ensure the file name ends with .map
-        if (!p_fileName.endsWith(".map")) {
+        // Ensure the file name ends with .map, or .map.gz for a compressed save
+        if (!p_fileName.endsWith(".map") && !p_fileName.endsWith(".map" + GZIP_EXTENSION)) {
             p_fileName += ".map";
         }
 
@@ -356,7 +678,7 @@ public class Map {
             l_parentDir.mkdirs();
         }
 
-        try (BufferedWriter l_writer = new BufferedWriter(new FileWriter(l_file))) {
+        try (BufferedWriter l_writer = newMapWriter(l_file)) {
             // Writing game state header
             l_writer.write("[Game is Saved]\n\n");
 
@@ -402,6 +724,19 @@ public class Map {
      * @throws IOException If an I/O error occurs during writing.
      */
     private void saveMapToFile(BufferedWriter p_writer) throws IOException {
+        writeDominationSections(p_writer);
+    }
+
+    /**
+     * Writes the [continents], [countries] and [borders] sections of the Domination format.
+     * Continent and country numbers come from the adjacency view, so the whole map is written in
+     * O(V+E) without searching any list. Continents that are not declared are written as 0, and so
+     * are neighbours that are not on the map. The writer is not flushed.
+     *
+     * @param p_writer The writer to write the sections to.
+     * @throws IOException If an I/O error occurs during writing.
+     */
+    private void writeDominationSections(Writer p_writer) throws IOException {
         // Writing continents section
         p_writer.write("[continents]\n");
         for (java.util.Map.Entry<String, Integer> l_entry : d_continents.entrySet()) {
@@ -409,128 +744,152 @@ public class Map {
         }
         p_writer.write("\n");
 
-        // Writing countries section
+        // Writing countries section; declared continents have the first continent ids, in key order
+        AdjacencyGraph l_graph = getAdjacencyGraph();
+        int l_declaredCount = d_continents.size();
         p_writer.write("[countries]\n");
-        for (int i = 0; i < d_territoryList.size(); i++) {
-            Territory l_t = d_territoryList.get(i);
-            p_writer.write((i + 1) + " " + l_t.getName() + " " + (new ArrayList<>(d_continents.keySet()).indexOf(l_t.getContinent()) + 1) + "\n");
+        for (int i = 0; i < l_graph.size(); i++) {
+            int l_continentId = l_graph.getContinentId(i);
+            p_writer.write(Integer.toString(i + 1));
+            p_writer.write(' ');
+            p_writer.write(String.valueOf(l_graph.getTerritory(i).getName()));
+            p_writer.write(' ');
+            p_writer.write(Integer.toString(l_continentId < l_declaredCount ? l_continentId + 1 : 0));
+            p_writer.write('\n');
         }
         p_writer.write("\n");
 
         // Writing borders section
         p_writer.write("[borders]\n");
-        for (int i = 0; i < d_territoryList.size(); i++) {
-            Territory l_t = d_territoryList.get(i);
-            p_writer.write((i + 1) + "");
-            for (Territory l_neighbor : l_t.getNeighborList()) {
-                p_writer.write(" " + (d_territoryList.indexOf(l_neighbor) + 1));
+        for (int i = 0; i < l_graph.size(); i++) {
+            p_writer.write(Integer.toString(i + 1));
+            List<Territory> l_neighborList = l_graph.getTerritory(i).getNeighborList();
+            for (int j = 0; j < l_neighborList.size(); j++) {
+                p_writer.write(' ');
+                p_writer.write(Integer.toString(l_graph.getId(l_neighborList.get(j)) + 1));
             }
-            p_writer.write("\n");
-            p_writer.flush();
+            p_writer.write('\n');
         }
     }
 
     /**
-     * Validates if the entire map is a connected graph.
+     * Validates the whole map and all its continents in a single linear pass over the adjacency view.
+     * As in the original checks, a territory counts as connected when it can be reached by following
+     * neighbour links from the first territory, and a continent when all its territories can be reached
+     * from its first territory through borders inside the continent.
+     * The report is kept until the adjacency view is rebuilt, so validating an unchanged map
+     * again, as loading and then checking a map does, costs nothing.
      *
-     * @return true if the map is connected, otherwise false.
+     * @return A report of the parts of the map and the continents that failed
      */
-    public boolean mapValidation() {
-        if (d_territoryList.isEmpty()) return false;
+    public MapValidationReport validate() {
+        AdjacencyGraph l_graph = getAdjacencyGraph();
+        if (d_validationReport != null && d_validationGraph == l_graph) {
+            return d_validationReport;
+        }
+        int l_count = l_graph.size();
+        int[] l_queue = new int[l_count];
+
+        // Split the map into parts, each one reached from the first territory not reached yet
+        List<List<String>> l_components = new ArrayList<>();
+        boolean[] l_visited = new boolean[l_count];
+        for (int i = 0; i < l_count; i++) {
+            if (!l_visited[i]) {
+                int l_end = traverse(l_graph, i, false, l_visited, l_queue);
+                List<String> l_names = new ArrayList<>(l_end);
+                for (int q = 0; q < l_end; q++) {
+                    l_names.add(l_graph.getTerritory(l_queue[q]).getName());
+                }
+                l_components.add(l_names);
+            }
+        }
 
-        // Track visited territories
-        boolean[] l_visited = new boolean[d_territoryList.size()];
-        dfs(0, l_visited);  // Start DFS from the first territory
+        // Count the parts of every continent, following only borders inside a continent
+        int[] l_continentParts = new int[l_graph.getContinentCount()];
+        Arrays.fill(l_visited, false);
+        for (int i = 0; i < l_count; i++) {
+            if (!l_visited[i]) {
+                traverse(l_graph, i, true, l_visited, l_queue);
+                l_continentParts[l_graph.getContinentId(i)]++;
+            }
+        }
 
-        // Check if all territories were visited
-        for (boolean l_isVisited : l_visited) {
-            if (!l_isVisited) return false;
+        // Continents are numbered in the order of d_continents, so declared ones come first
+        List<String> l_emptyContinents = new ArrayList<>();
+        List<String> l_disconnectedContinents = new ArrayList<>();
+        for (int c = 0; c < d_continents.size(); c++) {
+            if (l_continentParts[c] == 0) {
+                l_emptyContinents.add(l_graph.getContinentName(c));
+            } else if (l_continentParts[c] > 1) {
+                l_disconnectedContinents.add(l_graph.getContinentName(c));
+            }
         }
-        return true;
+
+        d_validationReport = new MapValidationReport(l_count, l_components, l_emptyContinents,
+                l_disconnectedContinents);
+        d_validationGraph = l_graph;
+        return d_validationReport;
     }
 
     /**
-     * Validates if each continent in the map is a connected subgraph.
+     * Records a validation report computed elsewhere for the map in its current state, such as one
+     * read back from the map cache, so that {@link #validate()} returns it until the map changes.
      *
-     * @return true if all continents are connected subgraphs, otherwise false.
+     * @param p_report The report of the current map
      */
-    public boolean continentValidation() {
-        // Iterate over each continent
-        for (String l_continent : d_continents.keySet()) {
-            if (!isContinentConnected(l_continent)) {
-                return false;  // If any continent is not connected, return false
-            }
-        }
-        return true;
+    public void setValidationReport(MapValidationReport p_report) {
+        d_validationGraph = getAdjacencyGraph();
+        d_validationReport = p_report;
     }
 
     /**
-     * Checks if a specific continent is a connected subgraph.
+     * Validates if the entire map is a connected graph.
      *
-     * @param p_continentID The ID of the continent to validate.
-     * @return true if the continent is connected, otherwise false.
+     * @return true if the map is connected, otherwise false.
      */
-    private boolean isContinentConnected(String p_continentID) {
-        List<Territory> l_continentTerritories = new ArrayList<>();
-
-        // Collect territories belonging to the specified continent
-        for (Territory l_territory : d_territoryList) {
-            if (l_territory.getContinent().equals(p_continentID)) {
-                l_continentTerritories.add(l_territory);
-            }
-        }
-
-        if (l_continentTerritories.isEmpty()) return false;
-
-        // Track visited territories within the continent
-        boolean[] l_visited = new boolean[l_continentTerritories.size()];
-        dfs(l_continentTerritories, 0, l_visited);  // Start DFS from the first continent territory
-
-        // Check if all territories in the continent were visited
-        for (boolean l_isVisited : l_visited) {
-            if (!l_isVisited) return false;
-        }
-        return true;
+    public boolean mapValidation() {
+        return validate().isMapConnected();
     }
 
     /**
-     * Depth-First Search (DFS) to explore territories.
+     * Validates if each continent in the map is a connected subgraph.
      *
-     * @param p_index Starting index for DFS.
-     * @param p_visited Array to track visited territories.
+     * @return true if all continents are connected subgraphs, otherwise false.
      */
-    private void dfs(int p_index, boolean[] p_visited) {
-        p_visited[p_index] = true;
-        Territory l_current = d_territoryList.get(p_index);
-
-        // Explore neighbors
-        for (Territory l_neighbor : l_current.getNeighborList()) {
-            int l_neighborIndex = d_territoryList.indexOf(l_neighbor);
-            if (l_neighborIndex != -1 && !p_visited[l_neighborIndex]) {
-                dfs(l_neighborIndex, p_visited);
-            }
-        }
+    public boolean continentValidation() {
+        return validate().areContinentsConnected();
     }
 
     /**
-     * Depth-First Search (DFS) for a specific continent.
+     * Breadth-first search marking every territory reachable from a start territory that was not
+     * visited before. It is iterative, so that large maps cannot overflow the call stack.
      *
-     * @param p_continentTerritories List of territories in the continent.
-     * @param p_index Starting index for DFS within the continent.
-     * @param p_visited Array to track visited territories in the continent.
+     * @param p_graph The adjacency view to walk.
+     * @param p_start Id of the start territory, not yet visited.
+     * @param p_sameContinent If true, only borders between territories of the same continent are followed.
+     * @param p_visited Visited flags, indexed by territory id; updated in place.
+     * @param p_queue Work array with room for one entry per territory; on return it starts with the
+     *                ids of the newly reached territories, in visiting order.
+     * @return The number of territories newly reached, including the start territory.
      */
-    private void dfs(List<Territory> p_continentTerritories, int p_index, boolean[] p_visited) {
-        p_visited[p_index] = true;
-        Territory l_current = p_continentTerritories.get(p_index);
-
-        // Explore neighbors within the same continent
-        for (Territory l_neighbor : l_current.getNeighborList()) {
-            if (l_neighbor.getContinent().equals(l_current.getContinent())) {
-                int l_neighborIndex = p_continentTerritories.indexOf(l_neighbor);
-                if (l_neighborIndex != -1 && !p_visited[l_neighborIndex]) {
-                    dfs(p_continentTerritories, l_neighborIndex, p_visited);
+    private static int traverse(AdjacencyGraph p_graph, int p_start, boolean p_sameContinent,
+                                boolean[] p_visited, int[] p_queue) {
+        int l_head = 0;
+        int l_tail = 0;
+        p_visited[p_start] = true;
+        p_queue[l_tail++] = p_start;
+        int l_continent = p_graph.getContinentId(p_start);
+        while (l_head < l_tail) {
+            int l_current = p_queue[l_head++];
+            for (int k = p_graph.neighborStart(l_current); k < p_graph.neighborEnd(l_current); k++) {
+                int l_neighbor = p_graph.neighborAt(k);
+                if (!p_visited[l_neighbor]
+                        && (!p_sameContinent || p_graph.getContinentId(l_neighbor) == l_continent)) {
+                    p_visited[l_neighbor] = true;
+                    p_queue[l_tail++] = l_neighbor;
                 }
             }
         }
+        return l_tail;
     }
-}
\ No newline at end of file
+}
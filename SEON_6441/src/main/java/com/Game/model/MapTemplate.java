@@ -0,0 +1,186 @@
+package com.Game.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+
+/**
+ * Immutable snapshot of a map's topology: territory names, continents, bonuses and adjacency.
+ * A template is built once from a loaded and validated map, and can then be turned into any
+ * number of independent game maps without reading or parsing the map file again.
+ * Adjacency is stored as integer ids in compressed rows, so creating a map is O(V+E).
+ */
+public final class MapTemplate {
+
+    /**
+     * Territory names, indexed by territory id.
+     */
+    private final String[] d_territoryNames;
+
+    /**
+     * Continent of each territory, indexed by territory id.
+     */
+    private final String[] d_territoryContinents;
+
+    /**
+     * Bonus of each territory, indexed by territory id.
+     */
+    private final int[] d_territoryBonuses;
+
+    /**
+     * Start index in d_neighbors of each territory's neighbours. Has one extra trailing entry.
+     */
+    private final int[] d_neighborOffsets;
+
+    /**
+     * Neighbour territory ids, grouped by territory in id order.
+     */
+    private final int[] d_neighbors;
+
+    /**
+     * Continent names mapped to their control values.
+     */
+    private final java.util.Map<String, Integer> d_continents;
+
+    /**
+     * Private constructor; templates are created through {@link #fromMap(Map)}.
+     *
+     * @param p_territoryNames Territory names
+     * @param p_territoryContinents Continent of each territory
+     * @param p_territoryBonuses Bonus of each territory
+     * @param p_neighborOffsets Start index of each territory's neighbours
+     * @param p_neighbors Neighbour territory ids
+     * @param p_continents Continent control values
+     */
+    private MapTemplate(String[] p_territoryNames, String[] p_territoryContinents, int[] p_territoryBonuses,
+                        int[] p_neighborOffsets, int[] p_neighbors, java.util.Map<String, Integer> p_continents) {
+        this.d_territoryNames = p_territoryNames;
+        this.d_territoryContinents = p_territoryContinents;
+        this.d_territoryBonuses = p_territoryBonuses;
+        this.d_neighborOffsets = p_neighborOffsets;
+        this.d_neighbors = p_neighbors;
+        this.d_continents = Collections.unmodifiableMap(new HashMap<>(p_continents));
+    }
+
+    /**
+     * Builds a template from the topology of a loaded map. Ownership and armies are not captured.
+     * Neighbours that are not part of the map's territory list are ignored.
+     *
+     * @param p_map The map to capture
+     * @return A new immutable template
+     */
+    public static MapTemplate fromMap(Map p_map) {
+        AdjacencyGraph l_graph = p_map.getAdjacencyGraph();
+        int l_count = l_graph.size();
+
+        String[] l_names = new String[l_count];
+        String[] l_continents = new String[l_count];
+        int[] l_bonuses = new int[l_count];
+        int[] l_offsets = new int[l_count + 1];
+        int[] l_neighbors = new int[l_graph.getEdgeCount()];
+
+        for (int i = 0; i < l_count; i++) {
+            Territory l_territory = l_graph.getTerritory(i);
+            l_names[i] = l_territory.getName();
+            l_continents[i] = l_territory.getContinent();
+            l_bonuses[i] = l_territory.getBonus();
+            l_offsets[i] = l_graph.neighborStart(i);
+            for (int k = l_graph.neighborStart(i); k < l_graph.neighborEnd(i); k++) {
+                l_neighbors[k] = l_graph.neighborAt(k);
+            }
+        }
+        l_offsets[l_count] = l_graph.getEdgeCount();
+
+        return new MapTemplate(l_names, l_continents, l_bonuses, l_offsets, l_neighbors, p_map.getContinents());
+    }
+
+    /**
+     * Builds a template from topology arrays, such as those stored in a binary map file.
+     * The arrays are used as they are and must not be changed afterwards.
+     *
+     * @param p_territoryNames Territory names, indexed by territory id
+     * @param p_territoryContinents Continent of each territory
+     * @param p_territoryBonuses Bonus of each territory
+     * @param p_neighborOffsets Start index of each territory's neighbours, with one extra trailing entry
+     * @param p_neighbors Neighbour territory ids, grouped by territory in id order
+     * @param p_continents Continent control values
+     * @return A new immutable template
+     * @throws IllegalArgumentException If the arrays do not describe a consistent topology
+     */
+    public static MapTemplate fromArrays(String[] p_territoryNames, String[] p_territoryContinents, int[] p_territoryBonuses,
+                                         int[] p_neighborOffsets, int[] p_neighbors, java.util.Map<String, Integer> p_continents) {
+        int l_count = p_territoryNames.length;
+        if (p_territoryContinents.length != l_count || p_territoryBonuses.length != l_count
+                || p_neighborOffsets.length != l_count + 1) {
+            throw new IllegalArgumentException("Territory arrays have different lengths");
+        }
+        if (p_neighborOffsets[0] != 0 || p_neighborOffsets[l_count] != p_neighbors.length) {
+            throw new IllegalArgumentException("Neighbour offsets do not cover the neighbour array");
+        }
+        for (int i = 0; i < l_count; i++) {
+            if (p_neighborOffsets[i] > p_neighborOffsets[i + 1]) {
+                throw new IllegalArgumentException("Neighbour offsets are not in order at territory " + i);
+            }
+        }
+        for (int l_neighbor : p_neighbors) {
+            if (l_neighbor < 0 || l_neighbor >= l_count) {
+                throw new IllegalArgumentException("Neighbour id out of range: " + l_neighbor);
+            }
+        }
+        return new MapTemplate(p_territoryNames, p_territoryContinents, p_territoryBonuses,
+                p_neighborOffsets, p_neighbors, p_continents);
+    }
+
+    /**
+     * Creates a new, independent map with this template's topology.
+     * Territories start unowned and with no armies.
+     *
+     * @return A fresh map that can be mutated freely by a single game
+     */
+    public Map instantiate() {
+        int l_count = d_territoryNames.length;
+        Territory[] l_territories = new Territory[l_count];
+        for (int i = 0; i < l_count; i++) {
+            l_territories[i] = new Territory(d_territoryNames[i], d_territoryContinents[i], d_territoryBonuses[i]);
+        }
+        for (int i = 0; i < l_count; i++) {
+            for (int k = d_neighborOffsets[i]; k < d_neighborOffsets[i + 1]; k++) {
+                l_territories[i].addNeighbor(l_territories[d_neighbors[k]]);
+            }
+        }
+
+        TerritoryList l_territoryList = new TerritoryList(l_count);
+        Collections.addAll(l_territoryList, l_territories);
+
+        Map l_map = new Map();
+        l_map.setTerritoryList(l_territoryList);
+        l_map.setContinents(new HashMap<>(d_continents));
+        return l_map;
+    }
+
+    /**
+     * Gets the number of territories in the template.
+     *
+     * @return The territory count
+     */
+    public int getTerritoryCount() {
+        return d_territoryNames.length;
+    }
+
+    /**
+     * Gets the number of directed neighbour links in the template.
+     *
+     * @return The edge count
+     */
+    public int getEdgeCount() {
+        return d_neighbors.length;
+    }
+
+    /**
+     * Gets the continents and their control values.
+     *
+     * @return An unmodifiable view of the continents
+     */
+    public java.util.Map<String, Integer> getContinents() {
+        return d_continents;
+    }
+}
@@ -0,0 +1,142 @@
+package com.Game.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of validating a map with {@link Map#validate()}.
+ * Besides the overall verdict, it tells which parts of the map are cut off from each other
+ * and which continents are empty or split into several parts.
+ */
+public final class MapValidationReport {
+
+    /**
+     * Number of territories in the validated map.
+     */
+    private final int d_territoryCount;
+
+    /**
+     * Territory names of each part of the map; the first part holds the territories reachable
+     * from the first territory.
+     */
+    private final List<List<String>> d_components;
+
+    /**
+     * Declared continents that have no territory.
+     */
+    private final List<String> d_emptyContinents;
+
+    /**
+     * Declared continents whose territories do not form one connected subgraph.
+     */
+    private final List<String> d_disconnectedContinents;
+
+    /**
+     * Creates a report.
+     *
+     * @param p_territoryCount Number of territories in the validated map
+     * @param p_components Territory names of each part of the map, starting with the part reachable from the first territory
+     * @param p_emptyContinents Declared continents that have no territory
+     * @param p_disconnectedContinents Declared continents that are not connected
+     */
+    public MapValidationReport(int p_territoryCount, List<List<String>> p_components,
+                               List<String> p_emptyContinents, List<String> p_disconnectedContinents) {
+        this.d_territoryCount = p_territoryCount;
+        this.d_components = Collections.unmodifiableList(p_components);
+        this.d_emptyContinents = Collections.unmodifiableList(p_emptyContinents);
+        this.d_disconnectedContinents = Collections.unmodifiableList(p_disconnectedContinents);
+    }
+
+    /**
+     * Checks whether the map has territories and they form one connected graph.
+     *
+     * @return true if the map is connected
+     */
+    public boolean isMapConnected() {
+        return d_territoryCount > 0 && d_components.size() == 1;
+    }
+
+    /**
+     * Checks whether every declared continent has territories that form one connected subgraph.
+     *
+     * @return true if all continents are connected
+     */
+    public boolean areContinentsConnected() {
+        return d_emptyContinents.isEmpty() && d_disconnectedContinents.isEmpty();
+    }
+
+    /**
+     * Checks whether the map passed all checks.
+     *
+     * @return true if the map is valid
+     */
+    public boolean isValid() {
+        return isMapConnected() && areContinentsConnected();
+    }
+
+    /**
+     * Gets the number of territories in the validated map.
+     *
+     * @return The territory count
+     */
+    public int getTerritoryCount() {
+        return d_territoryCount;
+    }
+
+    /**
+     * Gets the parts of the map, as territory names. The first part holds the territories reachable
+     * from the first territory; each following part starts at the first territory not reached yet.
+     * A connected map has exactly one part.
+     *
+     * @return The components
+     */
+    public List<List<String>> getComponents() {
+        return d_components;
+    }
+
+    /**
+     * Gets the declared continents that have no territory.
+     *
+     * @return The empty continents
+     */
+    public List<String> getEmptyContinents() {
+        return d_emptyContinents;
+    }
+
+    /**
+     * Gets the declared continents whose territories are split into several parts.
+     *
+     * @return The disconnected continents
+     */
+    public List<String> getDisconnectedContinents() {
+        return d_disconnectedContinents;
+    }
+
+    /**
+     * Describes what failed, one problem per line, or states that the map is valid.
+     *
+     * @return A readable summary of the report
+     */
+    @Override
+    public String toString() {
+        if (isValid()) {
+            return "The map is valid.";
+        }
+        StringBuilder l_sb = new StringBuilder();
+        if (d_territoryCount == 0) {
+            l_sb.append("The map has no territories.\n");
+        } else if (d_components.size() > 1) {
+            l_sb.append("The map is split into ").append(d_components.size()).append(" parts:\n");
+            for (List<String> l_component : d_components) {
+                l_sb.append("  ").append(String.join(", ", l_component)).append("\n");
+            }
+        }
+        if (!d_emptyContinents.isEmpty()) {
+            l_sb.append("Continents without territories: ").append(String.join(", ", d_emptyContinents)).append("\n");
+        }
+        if (!d_disconnectedContinents.isEmpty()) {
+            l_sb.append("Continents that are not connected: ").append(String.join(", ", d_disconnectedContinents)).append("\n");
+        }
+        return l_sb.toString().trim();
+    }
+}
@@ -2,18 +2,25 @@ package com.Game.model;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 import com.Game.model.order.AdvanceAttack;
 import com.Game.model.order.AdvanceMove;
 import com.Game.model.order.AirliftAttack;
 import com.Game.model.order.AirliftMove;
+import com.Game.model.order.BattleEngine;
 import com.Game.model.order.BlockadeOrder;
 import com.Game.model.order.BombOrder;
 import com.Game.model.order.DeployOrder;
 import com.Game.model.order.NegotiateOrder;
 import com.Game.model.order.Order;
 import com.Game.observer.GameLogger;
+import com.Game.observer.LogLevel;
+import com.Game.view.GameOutput;
+import com.Game.view.OutputSink;
 
 /**
  * Represents a player in the game who owns territories and can issue orders.
@@ -35,10 +42,11 @@ public abstract class Player {
 	/**
 	 * A list of territories owned by the player.
 	 */
-	protected List<Territory> d_ownedTerritories;
+	protected TerritoryList d_ownedTerritories;
 
 	/**
-	 * A list of orders issued by the player.
+	 * A list of orders issued by the player, in issue order. A linked list, so that taking
+	 * the next order from the front is O(1).
 	 */
 	protected List<Order> d_orders;
 
@@ -63,6 +71,16 @@ public abstract class Player {
 	 */
 	protected boolean d_hasConqueredThisTurn;
 
+	/**
+	 * Random generator used by this player's strategy and by the orders it issues.
+	 */
+	protected RandomGenerator d_random;
+
+	/**
+	 * Way the battles fought by this player's orders sample their casualties.
+	 */
+	protected BattleEngine.Mode d_battleMode = BattleEngine.Mode.BINOMIAL;
+
 	/**
 	 * Constructor initializing player with a name.
 	 *
@@ -71,13 +89,14 @@ public abstract class Player {
 	 */
 	public Player(String p_name, String p_playerTyp) {
 		this.d_name = p_name;
-		this.d_ownedTerritories = new ArrayList<>();
-		this.d_orders = new ArrayList<>();
+		this.d_ownedTerritories = new TerritoryList();
+		this.d_orders = new LinkedList<>();
 		this.d_nbrOfReinforcementArmies = 0;
 		this.d_cards = new HashMap<>();
 		this.d_negociatedPlayersPerTurn = new ArrayList<>();
 		this.d_hasConqueredThisTurn = false;
 		this.d_playerType = p_playerTyp;
+		this.d_random = new SplittableRandom();
 	}
 
 	/**
@@ -89,13 +108,53 @@ public abstract class Player {
 	 */
 	public Player(String p_name, int p_nbrOfReinforcementArmies, String p_playerType) {
 		this.d_name = p_name;
-		this.d_ownedTerritories = new ArrayList<>();
-		this.d_orders = new ArrayList<>();
+		this.d_ownedTerritories = new TerritoryList();
+		this.d_orders = new LinkedList<>();
 		this.d_nbrOfReinforcementArmies = p_nbrOfReinforcementArmies;
 		this.d_cards = new HashMap<>();
 		this.d_negociatedPlayersPerTurn = new ArrayList<>();
 		this.d_hasConqueredThisTurn = false;
 		this.d_playerType = p_playerType;
+		this.d_random = new SplittableRandom();
+	}
+
+	/**
+	 * Gets the random generator used by this player and the orders it issues.
+	 *
+	 * @return The player's random generator
+	 */
+	public RandomGenerator getRandom() {
+		return d_random;
+	}
+
+	/**
+	 * Sets the random generator used by this player and the orders it issues.
+	 * Giving each player its own seeded stream makes a game reproducible.
+	 *
+	 * @param p_random The random generator to use
+	 */
+	public void setRandom(RandomGenerator p_random) {
+		this.d_random = p_random;
+	}
+
+	/**
+	 * Gets the way the battles fought by this player's orders sample their casualties.
+	 *
+	 * @return The battle mode
+	 */
+	public BattleEngine.Mode getBattleMode() {
+		return d_battleMode;
+	}
+
+	/**
+	 * Sets the way the battles fought by this player's orders sample their casualties.
+	 * {@link BattleEngine.Mode#PER_ARMY} rolls once per army, for verifying a game against
+	 * the original rules; it only affects the game this player takes part in.
+	 *
+	 * @param p_battleMode The battle mode to use
+	 */
+	public void setBattleMode(BattleEngine.Mode p_battleMode) {
+		this.d_battleMode = p_battleMode;
 	}
 
 	/**
@@ -163,89 +222,147 @@ public abstract class Player {
 	 *         otherwise.
 	 */
 	public boolean validateAdvance(String[] p_parts, Map p_map) {
-		GameLogger logger = GameLogger.getInstance();
-
 		if (p_parts.length != 4) {
-			System.err.println(
-					"Invalid format for advance command. Expected: advance [fromTerritory] [toTerritory] [armies]");
-			if (logger != null) {
-				logger.logAction("Error: Invalid advance command format from player " + this.d_name);
-			}
+			reportAdvanceError(
+					"Invalid format for advance command. Expected: advance [fromTerritory] [toTerritory] [armies]",
+					"Invalid advance command format from player " + this.d_name);
 			return false;
 		}
 
 		Territory l_territoryFrom = findTerritoryByName(p_parts[1]);
 		Territory l_territoryTo = p_map.getTerritoryByName(p_parts[2]);
-
-		if (l_territoryFrom == null) {
-			System.err.println("Source territory not found or not owned by you: " + p_parts[1]);
-			if (logger != null) {
-				logger.logAction("Error: Source territory not found for advance command from player " + this.d_name);
-			}
-			return false;
-		}
-
-		if (l_territoryTo == null) {
-			System.err.println("Target territory not found: " + p_parts[2]);
-			if (logger != null) {
-				logger.logAction("Error: Target territory not found for advance command from player " + this.d_name);
-			}
-			return false;
-		}
-
-		if (l_territoryFrom.getName().equals(l_territoryTo.getName())) {
-			System.err.println("Source and target territories cannot be the same");
-			if (logger != null) {
-				logger.logAction(
-						"Error: Same source and target territory in advance command from player " + this.d_name);
-			}
-			return false;
-		}
-
-		int l_numberOfArmies;
+		int l_numberOfArmies = 0;
+		boolean l_armiesParsed = true;
 		try {
 			l_numberOfArmies = Integer.parseInt(p_parts[3]);
-			if (l_numberOfArmies <= 0) {
-				System.err.println("Number of armies must be positive");
-				if (logger != null) {
-					logger.logAction("Error: Non-positive army count in advance command from player " + this.d_name);
-				}
-				return false;
-			}
 		} catch (NumberFormatException e) {
-			System.err.println("Invalid number of armies: " + p_parts[3]);
-			if (logger != null) {
-				logger.logAction("Error: Invalid number format in advance command from player " + this.d_name);
-			}
-			return false;
+			l_armiesParsed = false;
 		}
 
-		if (!l_territoryFrom.getOwner().getName().equals(this.getName())) {
-			System.err.println("You do not own the source territory: " + l_territoryFrom.getName());
-			if (logger != null) {
-				logger.logAction("Error: Player " + this.d_name + " attempted to advance from unowned territory");
-			}
-			return false;
+		switch (checkAdvance(l_territoryFrom, l_territoryTo, l_numberOfArmies, l_armiesParsed)) {
+		case VALID:
+			return true;
+		case SOURCE_NOT_FOUND:
+			reportAdvanceError("Source territory not found or not owned by you: " + p_parts[1],
+					"Source territory not found for advance command from player " + this.d_name);
+			break;
+		case TARGET_NOT_FOUND:
+			reportAdvanceError("Target territory not found: " + p_parts[2],
+					"Target territory not found for advance command from player " + this.d_name);
+			break;
+		case SAME_TERRITORY:
+			reportAdvanceError("Source and target territories cannot be the same",
+					"Same source and target territory in advance command from player " + this.d_name);
+			break;
+		case NON_POSITIVE_ARMIES:
+			reportAdvanceError("Number of armies must be positive",
+					"Non-positive army count in advance command from player " + this.d_name);
+			break;
+		case INVALID_NUMBER:
+			reportAdvanceError("Invalid number of armies: " + p_parts[3],
+					"Invalid number format in advance command from player " + this.d_name);
+			break;
+		case NOT_OWNER:
+			reportAdvanceError("You do not own the source territory: " + l_territoryFrom.getName(),
+					"Player " + this.d_name + " attempted to advance from unowned territory");
+			break;
+		case NOT_ADJACENT:
+			reportAdvanceError(l_territoryFrom.getName() + " is not adjacent to " + l_territoryTo.getName(),
+					"Non-adjacent territories in advance command from player " + this.d_name);
+			break;
+		default:
+			reportAdvanceError("Not enough armies on " + l_territoryFrom.getName() + ". Only "
+					+ l_territoryFrom.getNumOfArmies() + " available.",
+					"Insufficient armies for advance command from player " + this.d_name);
+			break;
 		}
+		return false;
+	}
 
-		if (!l_territoryFrom.hasNeighbor(l_territoryTo)) {
-			System.err.println(l_territoryFrom.getName() + " is not adjacent to " + l_territoryTo.getName());
-			if (logger != null) {
-				logger.logAction("Error: Non-adjacent territories in advance command from player " + this.d_name);
-			}
-			return false;
+	/**
+	 * Checks whether an advance order can be issued, without printing or logging anything.
+	 * The checks are the ones of {@link #validateAdvance(String[], Map)}, on territories instead of names.
+	 *
+	 * @param p_territoryFrom The source territory, or null if it was not found
+	 * @param p_territoryTo   The target territory, or null if it was not found
+	 * @param p_numberOfArmies The number of armies to advance
+	 * @return The outcome of the checks
+	 */
+	public ValidationResult checkAdvance(Territory p_territoryFrom, Territory p_territoryTo, int p_numberOfArmies) {
+		return checkAdvance(p_territoryFrom, p_territoryTo, p_numberOfArmies, true);
+	}
+
+	/**
+	 * Checks whether an advance order can be issued, in the order the text command reports errors.
+	 *
+	 * @param p_territoryFrom  The source territory, or null
+	 * @param p_territoryTo    The target territory, or null
+	 * @param p_numberOfArmies The number of armies to advance
+	 * @param p_armiesParsed   false if the number of armies could not be read
+	 * @return The outcome of the checks
+	 */
+	private ValidationResult checkAdvance(Territory p_territoryFrom, Territory p_territoryTo, int p_numberOfArmies,
+			boolean p_armiesParsed) {
+		if (p_territoryFrom == null) {
+			return ValidationResult.SOURCE_NOT_FOUND;
+		}
+		if (p_territoryTo == null) {
+			return ValidationResult.TARGET_NOT_FOUND;
+		}
+		if (p_territoryFrom.getName().equals(p_territoryTo.getName())) {
+			return ValidationResult.SAME_TERRITORY;
+		}
+		if (!p_armiesParsed) {
+			return ValidationResult.INVALID_NUMBER;
+		}
+		if (p_numberOfArmies <= 0) {
+			return ValidationResult.NON_POSITIVE_ARMIES;
+		}
+		if (!isOwnedByThisPlayer(p_territoryFrom)) {
+			return ValidationResult.NOT_OWNER;
+		}
+		if (!p_territoryFrom.hasNeighbor(p_territoryTo)) {
+			return ValidationResult.NOT_ADJACENT;
+		}
+		if (p_territoryFrom.getNumOfArmies() < p_numberOfArmies) {
+			return ValidationResult.NOT_ENOUGH_ARMIES;
 		}
+		return ValidationResult.VALID;
+	}
 
-		if (l_territoryFrom.getNumOfArmies() < l_numberOfArmies) {
-			System.err.println("Not enough armies on " + l_territoryFrom.getName() + ". Only "
-					+ l_territoryFrom.getNumOfArmies() + " available.");
-			if (logger != null) {
-				logger.logAction("Error: Insufficient armies for advance command from player " + this.d_name);
-			}
-			return false;
+	/**
+	 * Gets the sink messages for this player are shown on: the sink bound to the current
+	 * thread, so simulated games can run headless.
+	 *
+	 * @return The output sink
+	 */
+	protected OutputSink output() {
+		return GameOutput.get();
+	}
+
+	/**
+	 * Reports an invalid advance command on the error stream and in the game log.
+	 *
+	 * @param p_message    The message shown to the player
+	 * @param p_logMessage The message written to the game log, without the error prefix
+	 */
+	private void reportAdvanceError(String p_message, String p_logMessage) {
+		output().printError(p_message);
+		GameLogger logger = GameLogger.getInstance();
+		if (logger != null) {
+			logger.log(LogLevel.WARNING, "Error: {}", p_logMessage);
 		}
+	}
 
-		return true;
+	/**
+	 * Checks whether a territory belongs to this player.
+	 *
+	 * @param p_territory The territory
+	 * @return true if its owner is this player, or a player with the same name
+	 */
+	private boolean isOwnedByThisPlayer(Territory p_territory) {
+		Player l_owner = p_territory.getOwner();
+		return l_owner == this || (l_owner != null && l_owner.getName().equals(this.getName()));
 	}
 
 	/**
@@ -263,34 +380,74 @@ public abstract class Player {
 	 */
 	public boolean validateBomb(String[] p_parts, Map p_map) {
 		if (p_parts.length != 2) {
-			System.err.println("Expecting 2 arguments!");
+			output().printError("Expecting 2 arguments!");
 			return false;
 		}
-		if (!removeCard(CardType.BOMB)) {
-			System.err.println("No Bomb cards available!");
-			return false;
+		switch (checkBomb(p_map.getTerritoryByName(p_parts[1]))) {
+		case VALID:
+			return true;
+		case NO_CARD:
+			output().printError("No Bomb cards available!");
+			break;
+		case TARGET_NOT_FOUND:
+			output().printError("Invalid Territory Name!");
+			break;
+		case OWN_TERRITORY:
+			output().printError("Cannot use bomb on your own territory!");
+			break;
+		default:
+			output().printError(p_parts[1] + " is not adjacent to any of your owned territories!");
+			break;
 		}
-		Territory l_territoryTo = p_map.getTerritoryByName(p_parts[1]);
-		if (l_territoryTo == null) {
-			System.err.println("Invalid Territory Name!");
-			return false;
+		return false;
+	}
+
+	/**
+	 * Checks whether a bomb order can be issued, without printing anything or using up a card.
+	 * The card is only used once the order is created.
+	 *
+	 * @param p_territoryTo The territory to bomb, or null if it was not found
+	 * @return The outcome of the checks
+	 */
+	public ValidationResult checkBomb(Territory p_territoryTo) {
+		if (!hasCard(CardType.BOMB)) {
+			return ValidationResult.NO_CARD;
 		}
-		if (this.getOwnedTerritories().contains(l_territoryTo)) {
-			System.err.println("Cannot use bomb on your own territory!");
-			return false;
+		if (p_territoryTo == null) {
+			return ValidationResult.TARGET_NOT_FOUND;
 		}
-		boolean l_found = false;
-		for (Territory l_territory : this.getOwnedTerritories()) {
-			if (l_territory.hasNeighbor(l_territoryTo)) {
-				l_found = true;
-				break;
+		if (this.getOwnedTerritories().contains(p_territoryTo)) {
+			return ValidationResult.OWN_TERRITORY;
+		}
+		if (!bordersOwnedTerritory(p_territoryTo)) {
+			return ValidationResult.NOT_ADJACENT;
+		}
+		return ValidationResult.VALID;
+	}
+
+	/**
+	 * Checks whether one of the player's territories lists a territory as a neighbour.
+	 * The territory's own neighbours are tried first, which finds the answer in O(degree) on
+	 * maps where borders go both ways; the owned territories are only scanned when that fails.
+	 *
+	 * @param p_territory The territory
+	 * @return true if an owned territory is adjacent to it
+	 */
+	private boolean bordersOwnedTerritory(Territory p_territory) {
+		List<Territory> l_ownedTerritories = this.getOwnedTerritories();
+		List<Territory> l_neighbors = p_territory.getNeighborList();
+		for (int i = 0; i < l_neighbors.size(); i++) {
+			Territory l_neighbor = l_neighbors.get(i);
+			if (l_ownedTerritories.contains(l_neighbor) && l_neighbor.hasNeighbor(p_territory)) {
+				return true;
 			}
 		}
-		if (!l_found) {
-			System.err.println(l_territoryTo.getName() + " is not adjacent to any of your owned territories!");
-			return false;
+		for (Territory l_territory : l_ownedTerritories) {
+			if (l_territory.hasNeighbor(p_territory)) {
+				return true;
+			}
 		}
-		return true;
+		return false;
 	}
 
 	/**
@@ -307,16 +464,16 @@ public abstract class Player {
 	 */
 	public boolean validateBlockade(String[] p_parts) {
 		if (p_parts.length != 2) {
-			System.err.println("Invalid number of arguments!");
+			output().printError("Invalid number of arguments!");
 			return false;
 		}
-		if (!removeCard(CardType.BLOCKADE)) {
-			System.err.println("No Blockade cards available!");
+		if (!hasCard(CardType.BLOCKADE)) {
+			output().printError("No Blockade cards available!");
 			return false;
 		}
 		Territory l_territoryTo = findTerritoryByName(p_parts[1]);
 		if (l_territoryTo == null) {
-			System.err.println("Territory is not owned by " + this.getName() + " or does not exist");
+			output().printError("Territory is not owned by " + this.getName() + " or does not exist");
 			return false;
 		}
 		return true;
@@ -340,40 +497,91 @@ public abstract class Player {
 	 */
 	public boolean validateAirlift(String[] p_parts, Map p_map) {
 		if (p_parts.length != 4) {
-			System.err.println("Invalid number of arguments!");
-			return false;
-		}
-		if (!removeCard(CardType.AIRLIFT)) {
-			System.err.println("No Airlift cards available!");
+			output().printError("Invalid number of arguments!");
 			return false;
 		}
 		Territory l_territoryFrom = findTerritoryByName(p_parts[1]);
-		Territory l_territoryTo = p_map.getTerritoryByName(p_parts[2]);
-		if (l_territoryFrom == null || l_territoryTo == null) {
-			System.err.println("Territorie(s) not found!");
-			return false;
-		}
-		if (l_territoryFrom.getName().equals(l_territoryTo.getName())) {
-			System.err.println("Can't Airlift in your own territory!");
-			return false;
-		}
-		int l_numberOfArmies;
+		int l_numberOfArmies = 0;
+		boolean l_armiesParsed = true;
 		try {
 			l_numberOfArmies = Integer.parseInt(p_parts[3]);
 		} catch (NumberFormatException e) {
-			System.err.println("Invalid number of armies!");
-			return false;
-		}
-		if (!l_territoryFrom.getOwner().getName().equals(this.getName())) {
-			System.err.println(l_territoryFrom + " does not belong to " + this.getName());
-			return false;
+			l_armiesParsed = false;
 		}
-		if (l_territoryFrom.getNumOfArmies() - l_numberOfArmies < 0) {
-			System.err.println("Not enough armies on " + l_territoryFrom.getName() + ". Only "
+		switch (checkAirlift(l_territoryFrom, p_map.getTerritoryByName(p_parts[2]), l_numberOfArmies,
+				l_armiesParsed)) {
+		case VALID:
+			return true;
+		case NO_CARD:
+			output().printError("No Airlift cards available!");
+			break;
+		case SOURCE_NOT_FOUND:
+		case TARGET_NOT_FOUND:
+			output().printError("Territorie(s) not found!");
+			break;
+		case SAME_TERRITORY:
+			output().printError("Can't Airlift in your own territory!");
+			break;
+		case INVALID_NUMBER:
+			output().printError("Invalid number of armies!");
+			break;
+		case NOT_OWNER:
+			output().printError(l_territoryFrom + " does not belong to " + this.getName());
+			break;
+		default:
+			output().printError("Not enough armies on " + l_territoryFrom.getName() + ". Only "
 					+ l_territoryFrom.getNumOfArmies() + " available!");
-			return false;
+			break;
 		}
-		return true;
+		return false;
+	}
+
+	/**
+	 * Checks whether an airlift order can be issued, without printing anything or using up a card.
+	 * The card is only used once the order is created.
+	 *
+	 * @param p_territoryFrom  The source territory, or null if it was not found
+	 * @param p_territoryTo    The target territory, or null if it was not found
+	 * @param p_numberOfArmies The number of armies to airlift
+	 * @return The outcome of the checks
+	 */
+	public ValidationResult checkAirlift(Territory p_territoryFrom, Territory p_territoryTo, int p_numberOfArmies) {
+		return checkAirlift(p_territoryFrom, p_territoryTo, p_numberOfArmies, true);
+	}
+
+	/**
+	 * Checks whether an airlift order can be issued, in the order the text command reports errors.
+	 *
+	 * @param p_territoryFrom  The source territory, or null
+	 * @param p_territoryTo    The target territory, or null
+	 * @param p_numberOfArmies The number of armies to airlift
+	 * @param p_armiesParsed   false if the number of armies could not be read
+	 * @return The outcome of the checks
+	 */
+	private ValidationResult checkAirlift(Territory p_territoryFrom, Territory p_territoryTo, int p_numberOfArmies,
+			boolean p_armiesParsed) {
+		if (!hasCard(CardType.AIRLIFT)) {
+			return ValidationResult.NO_CARD;
+		}
+		if (p_territoryFrom == null) {
+			return ValidationResult.SOURCE_NOT_FOUND;
+		}
+		if (p_territoryTo == null) {
+			return ValidationResult.TARGET_NOT_FOUND;
+		}
+		if (p_territoryFrom.getName().equals(p_territoryTo.getName())) {
+			return ValidationResult.SAME_TERRITORY;
+		}
+		if (!p_armiesParsed) {
+			return ValidationResult.INVALID_NUMBER;
+		}
+		if (!isOwnedByThisPlayer(p_territoryFrom)) {
+			return ValidationResult.NOT_OWNER;
+		}
+		if (p_territoryFrom.getNumOfArmies() - p_numberOfArmies < 0) {
+			return ValidationResult.NOT_ENOUGH_ARMIES;
+		}
+		return ValidationResult.VALID;
 	}
 
 	/**
@@ -391,11 +599,11 @@ public abstract class Player {
 	 */
 	public boolean validateNegociate(String[] l_parts, List<Player> p_players) {
 		if (l_parts.length != 2) {
-			System.err.println("Invalid number of arguments!");
+			output().printError("Invalid number of arguments!");
 			return false;
 		}
-		if (!removeCard(CardType.NEGOTIATE)) {
-			System.err.println("No Negotiate cards available!");
+		if (!hasCard(CardType.NEGOTIATE)) {
+			output().printError("No Negotiate cards available!");
 			return false;
 		}
 		Player l_playerToNegociateWith = null;
@@ -406,11 +614,11 @@ public abstract class Player {
 			}
 		}
 		if (l_playerToNegociateWith == null) {
-			System.err.println("Player not found!");
+			output().printError("Player not found!");
 			return false;
 		}
 		if (l_playerToNegociateWith.getName().equals(this.d_name)) {
-			System.err.println("Cannot negotiate with yourself!");
+			output().printError("Cannot negotiate with yourself!");
 			return false;
 		}
 		return true;
@@ -496,7 +704,9 @@ public abstract class Player {
 	 *                           owned territories.
 	 */
 	public void setOwnedTerritories(List<Territory> p_ownedTerritories) {
-		this.d_ownedTerritories = p_ownedTerritories;
+		this.d_ownedTerritories = p_ownedTerritories instanceof TerritoryList
+				? (TerritoryList) p_ownedTerritories
+				: new TerritoryList(p_ownedTerritories);
 	}
 
 	/**
@@ -535,12 +745,7 @@ public abstract class Player {
 	 *         no such territory is found.
 	 */
 	public Territory findTerritoryByName(String p_territoryName) {
-		for (Territory l_territory : d_ownedTerritories) {
-			if (l_territory.getName().equals(p_territoryName)) {
-				return l_territory;
-			}
-		}
-		return null;
+		return d_ownedTerritories.findByName(p_territoryName);
 	}
 
 	///////////////// Card Management using HashMap /////////////////
@@ -558,7 +763,7 @@ public abstract class Player {
 		// Log card addition
 		GameLogger logger = GameLogger.getInstance();
 		if (logger != null) {
-			logger.logAction("Player " + this.d_name + " received a " + p_cardType.name() + " card");
+			logger.log(LogLevel.DEBUG, "Player {} received a {} card", this.d_name, p_cardType);
 		}
 	}
 
@@ -583,7 +788,7 @@ public abstract class Player {
 			// Log card removal
 			GameLogger logger = GameLogger.getInstance();
 			if (logger != null) {
-				logger.logAction("Player " + this.d_name + " used a " + p_cardType.name() + " card");
+				logger.log(LogLevel.DEBUG, "Player {} used a {} card", this.d_name, p_cardType);
 			}
 			return true;
 		}
@@ -1,7 +1,6 @@
 package com.Game.model;
 
 import java.util.List;
-import java.util.Random;
 
 import com.Game.model.order.AdvanceAttack;
 import com.Game.model.order.AdvanceMove;
@@ -15,8 +14,6 @@ import com.Game.model.order.DeployOrder;
  */
 public class RandomPlayer extends Player {
 
-    private Random rand;
-
     /**
      * Constructor initializing the random player with a name.
      * @param p_name Player's name.
@@ -24,7 +21,6 @@ public class RandomPlayer extends Player {
      */
     public RandomPlayer(String p_name, String p_playerType) {
         super(p_name, p_playerType);
-        this.rand = new Random();
     }
 
     /**
@@ -35,7 +31,6 @@ public class RandomPlayer extends Player {
      */
     public RandomPlayer(String p_name, int p_nbrOfReinforcementArmies, String p_playerType) {
         super(p_name, p_nbrOfReinforcementArmies, p_playerType);
-        this.rand = new Random();
     }
 
     /**
@@ -59,7 +54,7 @@ public class RandomPlayer extends Player {
 
         // ===== Phase 1: Reinforcement =====
         if (!d_ownedTerritories.isEmpty() && this.d_nbrOfReinforcementArmies > 0) {
-            int index = rand.nextInt(d_ownedTerritories.size());
+            int index = d_random.nextInt(d_ownedTerritories.size());
             Territory randomTerritory = d_ownedTerritories.get(index);
             DeployOrder deployOrder = new DeployOrder(this, randomTerritory, this.d_nbrOfReinforcementArmies);
             d_orders.add(deployOrder);
@@ -70,16 +65,19 @@ public class RandomPlayer extends Player {
 
         // ===== Phase 2: Attack =====
         // For each territory that has enemy neighbors, launch an attack.
-        for (Territory territory : d_ownedTerritories) {
-            List<Territory> enemyNeighbors = territory.getEnemyNeighbors();
-            if (!enemyNeighbors.isEmpty() && territory.getNumOfArmies() > 1) {
-                int enemyIndex = rand.nextInt(enemyNeighbors.size());
-                Territory target = enemyNeighbors.get(enemyIndex);
+        FrontierIndex frontier = p_map.getFrontierIndex();
+        // Attacks do not change owners until executed, so the frontier stays the same during the walk.
+        for (int f = 0; f < frontier.getFrontierSize(this); f++) {
+            Territory territory = frontier.getFrontierTerritory(this, f);
+            int enemyCount = frontier.getEnemyNeighborCount(territory);
+            if (territory.getNumOfArmies() > 1) {
+                int enemyIndex = d_random.nextInt(enemyCount);
+                Territory target = frontier.getEnemyNeighbor(territory, enemyIndex);
                 int availableArmies = territory.getNumOfArmies();
                 // Ensure at least one army remains behind.
                 int maxArmiesToAttack = availableArmies - 1;
                 if (maxArmiesToAttack > 0) {
-                    int armiesToAttack = 1 + rand.nextInt(maxArmiesToAttack);
+                    int armiesToAttack = 1 + d_random.nextInt(maxArmiesToAttack);
                     // If the territories are adjacent, use AdvanceAttack.
                     if (territory.hasNeighbor(target)) {
                         AdvanceAttack attackOrder = new AdvanceAttack(this, territory, target, armiesToAttack);
@@ -87,7 +85,8 @@ public class RandomPlayer extends Player {
                         territory.setNumOfArmies(availableArmies - armiesToAttack);
                         orderIssued = true;
                     } else if (this.hasCard(CardType.AIRLIFT) && 
-                               validateAirlift(new String[] { "airlift", territory.getName(), target.getName(), String.valueOf(armiesToAttack) }, p_map)) {
+                               checkAirlift(territory, target, armiesToAttack).isValid()) {
+                        removeCard(CardType.AIRLIFT);
                         AirliftAttack airliftAttack = new AirliftAttack(this, territory, target, armiesToAttack);
                         d_orders.add(airliftAttack);
                         territory.setNumOfArmies(availableArmies - armiesToAttack);
@@ -100,11 +99,11 @@ public class RandomPlayer extends Player {
         // ===== Phase 3: Reallocation =====
         // Randomly pick two different owned territories and attempt to reallocate armies if they are adjacent.
         if (d_ownedTerritories.size() > 1) {
-            int sourceIndex = rand.nextInt(d_ownedTerritories.size());
-            int destIndex = rand.nextInt(d_ownedTerritories.size());
+            int sourceIndex = d_random.nextInt(d_ownedTerritories.size());
+            int destIndex = d_random.nextInt(d_ownedTerritories.size());
             // Ensure source and destination are different.
             while (destIndex == sourceIndex) {
-                destIndex = rand.nextInt(d_ownedTerritories.size());
+                destIndex = d_random.nextInt(d_ownedTerritories.size());
             }
             Territory source = d_ownedTerritories.get(sourceIndex);
             Territory dest = d_ownedTerritories.get(destIndex);
@@ -113,9 +112,9 @@ public class RandomPlayer extends Player {
                 int availableArmies = source.getNumOfArmies();
                 // Move a random number of armies (ensuring at least one stays).
                 int maxArmiesToMove = availableArmies - 1;
-                int armiesToMove = 1 + rand.nextInt(maxArmiesToMove);
+                int armiesToMove = 1 + d_random.nextInt(maxArmiesToMove);
                 // Validate the move order.
-                if (validateAdvance(new String[]{"advance", source.getName(), dest.getName(), String.valueOf(armiesToMove)}, p_map)) {
+                if (checkAdvance(source, dest, armiesToMove).isValid()) {
                     AdvanceMove moveOrder = new AdvanceMove(this, source, dest, armiesToMove);
                     d_orders.add(moveOrder);
                     source.setNumOfArmies(availableArmies - armiesToMove);
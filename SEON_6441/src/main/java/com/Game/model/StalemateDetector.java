@@ -0,0 +1,124 @@
+package com.Game.model;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Detects games that can no longer be won, so that they can be declared a draw early instead
+ * of being played until the turn limit, or forever in automated games.
+ * A game is in a stalemate at the end of a turn when its state, hashed by a {@link GameStateHasher},
+ * is one it has already been in at the end of an earlier turn, or when no player's territory
+ * count has changed for a given number of turns.
+ */
+public final class StalemateDetector {
+
+    /**
+     * Default number of turns without any change of territory counts after which the game is a draw.
+     */
+    public static final int DEFAULT_NO_PROGRESS_TURNS = 10;
+
+    /**
+     * Hash of the game state.
+     */
+    private final GameStateHasher d_hasher;
+
+    /**
+     * The players of the game.
+     */
+    private final List<Player> d_players;
+
+    /**
+     * Number of turns without any change of territory counts after which the game is a draw.
+     */
+    private final int d_noProgressTurns;
+
+    /**
+     * Hashes of the states the game was in at the end of each turn, and at the start.
+     */
+    private final Set<Long> d_seenStates = new HashSet<>();
+
+    /**
+     * Number of territories each player owned at the end of the last turn.
+     */
+    private final int[] d_lastCounts;
+
+    /**
+     * Number of turns in a row in which no territory count changed.
+     */
+    private int d_turnsWithoutProgress;
+
+    /**
+     * Creates a detector using the default number of turns without progress.
+     *
+     * @param p_map The map of the game, with its territories already assigned
+     * @param p_players The players of the game
+     */
+    public StalemateDetector(Map p_map, List<Player> p_players) {
+        this(p_map, p_players, DEFAULT_NO_PROGRESS_TURNS);
+    }
+
+    /**
+     * Creates a detector and records the current state of the game as its starting state.
+     *
+     * @param p_map The map of the game, with its territories already assigned
+     * @param p_players The players of the game
+     * @param p_noProgressTurns Number of turns without any change of territory counts
+     *        after which the game is a draw
+     */
+    public StalemateDetector(Map p_map, List<Player> p_players, int p_noProgressTurns) {
+        d_hasher = new GameStateHasher(p_map, p_players);
+        d_players = p_players;
+        d_noProgressTurns = Math.max(1, p_noProgressTurns);
+        d_lastCounts = new int[p_players.size()];
+        for (int i = 0; i < d_lastCounts.length; i++) {
+            d_lastCounts[i] = p_players.get(i).getOwnedTerritories().size();
+        }
+        d_seenStates.add(d_hasher.getHash());
+    }
+
+    /**
+     * Records the state of the game at the end of a turn.
+     *
+     * @return true if the game is in a stalemate and should end in a draw
+     */
+    public boolean endTurn() {
+        boolean l_progress = false;
+        for (int i = 0; i < d_lastCounts.length; i++) {
+            int l_count = d_players.get(i).getOwnedTerritories().size();
+            if (l_count != d_lastCounts[i]) {
+                d_lastCounts[i] = l_count;
+                l_progress = true;
+            }
+        }
+        d_turnsWithoutProgress = l_progress ? 0 : d_turnsWithoutProgress + 1;
+
+        boolean l_repeated = !d_seenStates.add(d_hasher.getHash());
+        return l_repeated || d_turnsWithoutProgress >= d_noProgressTurns;
+    }
+
+    /**
+     * Gets the number of turns in a row in which no player's territory count changed.
+     *
+     * @return The number of turns without progress
+     */
+    public int getTurnsWithoutProgress() {
+        return d_turnsWithoutProgress;
+    }
+
+    /**
+     * Gets the hash of the current game state.
+     *
+     * @return The state hash
+     */
+    public long getStateHash() {
+        return d_hasher.getHash();
+    }
+
+    /**
+     * Stops following the game. Called once the game is over.
+     */
+    public void detach() {
+        d_hasher.detach();
+    }
+}
@@ -2,6 +2,7 @@ package com.Game.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Represents a territory in the game. A territory is associated with a continent, has a certain number of armies,
@@ -49,6 +50,11 @@ public class Territory {
      */
     private List<Territory> d_neighborList;
 
+    /**
+     * Listeners notified of changes to this territory; null until the first one is added.
+     */
+    private List<TerritoryListener> d_listeners;
+
     /**
      * Constructor to initialize a territory with a name, continent, and bonus value.
      *
@@ -120,12 +126,18 @@ public class Territory {
     }
 
     /**
-     * Sets the number of armies in the territory.
+     * Sets the number of armies in the territory. Listeners are notified if the number actually changes.
      *
      * @param p_numOfArmies The number of armies to set.
      */
     public void setNumOfArmies(int p_numOfArmies) {
+        int l_oldArmies = this.d_numOfArmies;
         this.d_numOfArmies = p_numOfArmies; 
+        if (l_oldArmies != p_numOfArmies && d_listeners != null) {
+            for (int i = 0; i < d_listeners.size(); i++) {
+                d_listeners.get(i).onArmiesChanged(this, l_oldArmies, p_numOfArmies);
+            }
+        }
     }
 
     /**
@@ -138,12 +150,18 @@ public class Territory {
     }
 
     /**
-     * Sets the owner of the territory.
+     * Sets the owner of the territory. Listeners are notified if the owner actually changes.
      *
      * @param p_owner The player to set as the owner.
      */
     public void setOwner(Player p_owner) { 
+        Player l_oldOwner = this.d_owner;
         this.d_owner = p_owner; 
+        if (l_oldOwner != p_owner && d_listeners != null) {
+            for (int i = 0; i < d_listeners.size(); i++) {
+                d_listeners.get(i).onOwnerChanged(this, l_oldOwner, p_owner);
+            }
+        }
     }
 
     /**
@@ -166,6 +184,7 @@ public class Territory {
 
     /**
      * Gets the list of neighboring territories.
+     * Changes made directly to the returned list are not reported to listeners.
      *
      * @return A list of neighboring territories.
      */
@@ -190,6 +209,60 @@ public class Territory {
      */
     public void addNeighbor(Territory p_neighbor) {
         d_neighborList.add(p_neighbor);
+        fireNeighborsChanged();
+    }
+
+    /**
+     * Removes a neighbor territory from the territory.
+     *
+     * @param p_neighbor The neighbor territory to remove.
+     * @return true if the neighbor was removed, false if it was not a neighbor.
+     */
+    public boolean removeNeighbor(Territory p_neighbor) {
+        boolean l_removed = d_neighborList.remove(p_neighbor);
+        if (l_removed) {
+            fireNeighborsChanged();
+        }
+        return l_removed;
+    }
+
+    /**
+     * Adds a listener to be notified of changes to this territory. Adding the same listener twice has no effect.
+     *
+     * @param p_listener The listener to add.
+     */
+    public void addListener(TerritoryListener p_listener) {
+        if (d_listeners == null) {
+            d_listeners = new ArrayList<>(2);
+        }
+        for (TerritoryListener l_listener : d_listeners) {
+            if (l_listener == p_listener) {
+                return;
+            }
+        }
+        d_listeners.add(p_listener);
+    }
+
+    /**
+     * Removes a listener from this territory.
+     *
+     * @param p_listener The listener to remove.
+     */
+    public void removeListener(TerritoryListener p_listener) {
+        if (d_listeners != null) {
+            d_listeners.removeIf(l_listener -> l_listener == p_listener);
+        }
+    }
+
+    /**
+     * Notifies the listeners that the neighbor list changed.
+     */
+    private void fireNeighborsChanged() {
+        if (d_listeners != null) {
+            for (int i = 0; i < d_listeners.size(); i++) {
+                d_listeners.get(i).onNeighborsChanged(this);
+            }
+        }
     }
 
     /**
@@ -222,6 +295,16 @@ public class Territory {
         return l_t.getName().equals(this.d_name) && l_t.getContinent().equals(this.d_continent);
     }
 
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}, based on name and continent.
+     *
+     * @return The hash code of this territory.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 + Objects.hashCode(d_name)) + Objects.hashCode(d_continent);
+    }
+
     /**
      * Returns a string representation of the territory, including its name, continent, number of armies, and neighbors.
      *
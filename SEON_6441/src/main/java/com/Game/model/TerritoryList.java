@@ -0,0 +1,189 @@
+package com.Game.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+
+/**
+ * A list of territories that can also be searched by name in constant time.
+ * The name index is rebuilt lazily, the first time a lookup happens after the list has been
+ * changed, so the list can still be modified freely through the usual {@link java.util.List}
+ * methods (including by callers of getters that expose it). When several territories share a
+ * name, lookups return the first one in list order, exactly like a linear scan would.
+ */
+public class TerritoryList extends ArrayList<Territory> {
+
+	/**
+	 * Serialization version.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Territories keyed by name, first occurrence only.
+	 */
+	private transient HashMap<String, Territory> d_nameIndex;
+
+	/**
+	 * Value of modCount when the index was last built; -1 when the index must be rebuilt.
+	 */
+	private transient int d_indexedModCount = -1;
+
+	/**
+	 * Whether two territories in the indexed list share a name. Removals can only be applied
+	 * to the index incrementally when names are unique.
+	 */
+	private transient boolean d_hasDuplicateNames;
+
+	/**
+	 * Number of territories replaced through {@link #set(int, Territory)}, which ArrayList does
+	 * not count as a modification.
+	 */
+	private transient int d_replacementCount;
+
+	/**
+	 * Creates an empty list.
+	 */
+	public TerritoryList() {
+		super();
+	}
+
+	/**
+	 * Creates an empty list with the given initial capacity.
+	 *
+	 * @param p_initialCapacity The initial capacity
+	 */
+	public TerritoryList(int p_initialCapacity) {
+		super(p_initialCapacity);
+	}
+
+	/**
+	 * Creates a list holding the given territories, in the same order.
+	 *
+	 * @param p_territories The territories to copy
+	 */
+	public TerritoryList(Collection<? extends Territory> p_territories) {
+		super(p_territories);
+	}
+
+	/**
+	 * Finds the first territory with the given name.
+	 *
+	 * @param p_name The name of the territory
+	 * @return The territory, or null if there is none with this name
+	 */
+	public Territory findByName(String p_name) {
+		return nameIndex().get(p_name);
+	}
+
+	/**
+	 * Checks whether the list contains a territory equal to the given object,
+	 * using the name index instead of a linear scan.
+	 *
+	 * @param p_object The object to look for
+	 * @return true if an equal territory is in the list
+	 */
+	@Override
+	public boolean contains(Object p_object) {
+		if (!(p_object instanceof Territory)) {
+			return super.contains(p_object);
+		}
+		Territory l_found = nameIndex().get(((Territory) p_object).getName());
+		if (l_found == null) {
+			return false;
+		}
+		// A same-named territory on another continent may hide an equal one further down
+		return l_found.equals(p_object) || super.contains(p_object);
+	}
+
+	/**
+	 * Appends a territory, keeping an up-to-date index current instead of discarding it.
+	 *
+	 * @param p_territory The territory to add
+	 * @return true
+	 */
+	@Override
+	public boolean add(Territory p_territory) {
+		boolean l_indexCurrent = isIndexCurrent();
+		super.add(p_territory);
+		if (l_indexCurrent) {
+			if (d_nameIndex.putIfAbsent(p_territory.getName(), p_territory) != null) {
+				d_hasDuplicateNames = true;
+			}
+			d_indexedModCount = modCount;
+		}
+		return true;
+	}
+
+	/**
+	 * Removes the first territory equal to the given object, keeping an up-to-date index
+	 * current when territory names are unique.
+	 *
+	 * @param p_object The territory to remove
+	 * @return true if a territory was removed
+	 */
+	@Override
+	public boolean remove(Object p_object) {
+		boolean l_indexCurrent = isIndexCurrent();
+		boolean l_removed = super.remove(p_object);
+		if (l_removed && l_indexCurrent && !d_hasDuplicateNames && p_object instanceof Territory) {
+			d_nameIndex.remove(((Territory) p_object).getName());
+			d_indexedModCount = modCount;
+		}
+		return l_removed;
+	}
+
+	/**
+	 * Replaces the territory at a position, invalidating the name index.
+	 *
+	 * @param p_index The position
+	 * @param p_territory The new territory
+	 * @return The territory previously at that position
+	 */
+	@Override
+	public Territory set(int p_index, Territory p_territory) {
+		d_indexedModCount = -1;
+		d_replacementCount++;
+		return super.set(p_index, p_territory);
+	}
+
+	/**
+	 * Gets a counter that changes every time territories are added, removed, reordered or replaced.
+	 * Caches derived from the list can compare it with the value they were built at.
+	 *
+	 * @return The modification counter
+	 */
+	public int getModificationCount() {
+		return modCount + d_replacementCount;
+	}
+
+	/**
+	 * Returns the name index, rebuilding it if the list changed since it was built.
+	 *
+	 * @return The name index
+	 */
+	private HashMap<String, Territory> nameIndex() {
+		if (!isIndexCurrent()) {
+			HashMap<String, Territory> l_index = new HashMap<>(Math.max(16, size() * 2));
+			boolean l_hasDuplicateNames = false;
+			for (int i = 0; i < size(); i++) {
+				Territory l_territory = get(i);
+				if (l_index.putIfAbsent(l_territory.getName(), l_territory) != null) {
+					l_hasDuplicateNames = true;
+				}
+			}
+			d_nameIndex = l_index;
+			d_hasDuplicateNames = l_hasDuplicateNames;
+			d_indexedModCount = modCount;
+		}
+		return d_nameIndex;
+	}
+
+	/**
+	 * Checks whether the name index reflects the current content of the list.
+	 *
+	 * @return true if the index can be used as is
+	 */
+	private boolean isIndexCurrent() {
+		return d_nameIndex != null && d_indexedModCount == modCount;
+	}
+}
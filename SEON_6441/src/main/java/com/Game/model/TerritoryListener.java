@@ -0,0 +1,39 @@
+package com.Game.model;
+
+/**
+ * Receives notifications when a territory changes.
+ * All methods have empty default implementations, so a listener only overrides what it needs.
+ */
+public interface TerritoryListener {
+
+    /**
+     * Called after a neighbour has been added to or removed from a territory
+     * through {@link Territory#addNeighbor(Territory)} or {@link Territory#removeNeighbor(Territory)}.
+     *
+     * @param p_territory The territory whose neighbour list changed
+     */
+    default void onNeighborsChanged(Territory p_territory) {
+    }
+
+    /**
+     * Called after the owner of a territory has changed through {@link Territory#setOwner(Player)}.
+     * It is not called when the territory is given to the player who already owns it.
+     *
+     * @param p_territory The territory that changed hands
+     * @param p_oldOwner The previous owner, or null if the territory had none
+     * @param p_newOwner The new owner, or null if the territory is now neutral
+     */
+    default void onOwnerChanged(Territory p_territory, Player p_oldOwner, Player p_newOwner) {
+    }
+
+    /**
+     * Called after the number of armies in a territory has changed through
+     * {@link Territory#setNumOfArmies(int)}. It is not called when the number stays the same.
+     *
+     * @param p_territory The territory whose armies changed
+     * @param p_oldArmies The previous number of armies
+     * @param p_newArmies The new number of armies
+     */
+    default void onArmiesChanged(Territory p_territory, int p_oldArmies, int p_newArmies) {
+    }
+}
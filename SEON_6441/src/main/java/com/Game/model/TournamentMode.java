@@ -1,14 +1,35 @@
 package com.Game.model;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Map;
 import java.util.HashMap;
-import java.io.BufferedReader;
-import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
 import com.Game.controller.GameController;
+import com.Game.model.order.OrderScheduler;
 import com.Game.observer.GameLogger;
+import com.Game.observer.LogLevel;
+import com.Game.view.BufferedOutputSink;
+import com.Game.view.GameOutput;
+import com.Game.view.HeadlessOutputSink;
+import com.Game.view.OutputSink;
+import com.Game.utils.GameResult;
+import com.Game.utils.MapBatchValidator;
+import com.Game.utils.MapDiskCache;
+import com.Game.utils.MapLoadResult;
 import com.Game.utils.MapLoader;
+import com.Game.utils.MapPreloader;
+import com.Game.utils.MapTemplateCache;
+import com.Game.utils.RandomService;
+import com.Game.utils.TournamentResultsFile;
+import com.Game.utils.TournamentUtil;
 
 /**
  * Represents a tournament mode for the Warzone game.
@@ -43,16 +64,70 @@ public class TournamentMode {
     private GameController d_gameController;
     
     /**
-     * Stores the results of the tournament.
-     * Map<MapName, Map<GameNumber, WinnerName>>
+     * Whether the results file is a temporary file created by the tournament, removed by
+     * {@link #closeResultsFile()}.
      */
-    private java.util.Map<String, java.util.Map<Integer, String>> d_results;
+    private boolean d_temporaryResultsFile;
     
     /**
      * Game logger for logging tournament events.
      */
     private GameLogger d_gameLogger;
     
+    /**
+     * Number of games that may run at the same time. A value of 1 plays the games
+     * one after another on the calling thread.
+     */
+    private int d_parallelism = 1;
+    
+    /**
+     * Validated map templates for this tournament, keyed by map file path.
+     * Filled once by validateMaps and then only read by the games.
+     */
+    private java.util.Map<String, MapTemplate> d_mapTemplates = new HashMap<>();
+    
+    /**
+     * Cache of validated map templates shared across tournaments.
+     */
+    private MapTemplateCache d_templateCache = MapTemplateCache.getInstance();
+    
+    /**
+     * Tournament seed, or null for an unseeded tournament. When set, the seed of every
+     * game is derived from it, so the whole tournament can be replayed exactly.
+     */
+    private Long d_seed;
+    
+    /**
+     * Preloader that may already have loaded some of the tournament maps, or null.
+     */
+    private MapPreloader d_mapPreloader;
+    
+    /**
+     * Executes the orders of each turn.
+     */
+    private OrderScheduler d_orderScheduler = new OrderScheduler();
+    
+    /**
+     * Level of the entries logged while the games are played, or null to keep the level
+     * of the game logger.
+     */
+    private LogLevel d_gameLogLevel;
+    
+    /**
+     * Sink the games write their output to. Headless by default, since nobody watches the games.
+     */
+    private OutputSink d_gameOutput = HeadlessOutputSink.INSTANCE;
+    
+    /**
+     * Number of turns without any change of territory counts after which a game is a draw.
+     */
+    private int d_stalemateTurns = StalemateDetector.DEFAULT_NO_PROGRESS_TURNS;
+    
+    /**
+     * File the result of every game is streamed to as the game ends, or null.
+     */
+    private TournamentResultsFile d_resultsFile;
+    
     /**
      * Constructor initializing the tournament with the specified parameters.
      *
@@ -69,15 +144,28 @@ public class TournamentMode {
         this.d_numberOfGames = p_numberOfGames;
         this.d_maxTurns = p_maxTurns;
         this.d_gameController = p_gameController;
-        this.d_results = new HashMap<>();
         this.d_gameLogger = GameLogger.getInstance();
     }
     
     /**
      * Runs the tournament, playing the specified number of games on each map.
-     * Records the results for later display.
+     * Streams the results to the results file, as a new run of the file, for later display.
+     * Without a results file, the results are written to a temporary file.
      */
     public void runTournament() {
+        if (d_resultsFile == null) {
+            try {
+                File l_file = File.createTempFile("tournament-results", ".csv");
+                l_file.deleteOnExit();
+                d_resultsFile = new TournamentResultsFile(l_file);
+                d_temporaryResultsFile = true;
+            } catch (IOException e) {
+                System.err.println("Error creating tournament results file: " + e.getMessage());
+            }
+        }
+        if (d_resultsFile != null) {
+            d_resultsFile.startRun();
+        }
         if (d_gameLogger != null) {
             d_gameLogger.logAction("Starting tournament with " + d_mapFiles.size() + " maps, " + 
                                   d_playerStrategies.size() + " player strategies, " + 
@@ -94,7 +182,8 @@ public class TournamentMode {
         System.out.println("Running tournament...");
         
         // First validate all maps
-        List<String> validMaps = validateMaps();
+        // Maps are identified by their position, since the same map may be given more than once
+        List<Integer> validMaps = validateMaps();
         if (validMaps.isEmpty()) {
             System.out.println("\nError: No valid maps found. Tournament cannot proceed.");
             if (d_gameLogger != null) {
@@ -105,69 +194,464 @@ public class TournamentMode {
         
         if (validMaps.size() < d_mapFiles.size()) {
             System.out.println("\nWarning: Some maps are invalid and will be skipped.");
-            System.out.println("Proceeding with valid maps: " + String.join(", ", validMaps));
+            List<String> validMapFiles = new ArrayList<>();
+            for (int mapIndex : validMaps) {
+                validMapFiles.add(d_mapFiles.get(mapIndex));
+            }
+            System.out.println("Proceeding with valid maps: " + String.join(", ", validMapFiles));
         }
         
-        for (String mapFile : validMaps) {
-            // Create result tracking for this map
-            d_results.put(mapFile, new HashMap<>());
-            
-            System.out.println("\nRunning games on map: " + mapFile);
-            
-            for (int gameNumber = 1; gameNumber <= d_numberOfGames; gameNumber++) {
-                System.out.println("  Playing game " + gameNumber + "...");
-                
-                // Play a single game on this map
-                String winner = playSingleGame(mapFile, gameNumber);
-                
-                // Store the result
-                d_results.get(mapFile).put(gameNumber, winner);
+        if (d_parallelism > 1) {
+            runGamesInParallel(validMaps);
+            System.out.println("\nTournament completed!");
+            return;
+        }
+        
+        // Sequential games log to the game logger itself, so apply the game level to it meanwhile
+        LogLevel previousLevel = d_gameLogger != null ? d_gameLogger.getLevel() : null;
+        if (d_gameLogger != null && d_gameLogLevel != null) {
+            d_gameLogger.setLevel(d_gameLogLevel);
+        }
+        GameOutput.bindToCurrentThread(d_gameOutput);
+        try {
+            for (int mapIndex : validMaps) {
+                String mapFile = d_mapFiles.get(mapIndex);
+                System.out.println("\nRunning games on map: " + mapFile);
                 
-                System.out.println("  Game " + gameNumber + " result: " + winner);
+                for (int gameNumber = 1; gameNumber <= d_numberOfGames; gameNumber++) {
+                    System.out.println("  Playing game " + gameNumber + "...");
+                    
+                    // Play a single game on this map; its result is streamed to the results file
+                    String winner = playSingleGame(mapFile, gameNumber, gameSeed(mapIndex, gameNumber));
+                    
+                    System.out.println("  Game " + gameNumber + " result: " + winner);
 
+                }
+            }
+        } finally {
+            GameOutput.unbindFromCurrentThread();
+            if (previousLevel != null) {
+                d_gameLogger.setLevel(previousLevel);
             }
         }
         
         System.out.println("\nTournament completed!");
     }
+    
+    /**
+     * Sets the number of games that may run at the same time.
+     * Values lower than 1 are treated as 1 (sequential execution).
+     *
+     * @param p_parallelism The number of worker threads to use
+     */
+    public void setParallelism(int p_parallelism) {
+        this.d_parallelism = Math.max(1, p_parallelism);
+    }
+    
+    /**
+     * Gets the number of games that may run at the same time.
+     *
+     * @return The number of worker threads used by the tournament
+     */
+    public int getParallelism() {
+        return d_parallelism;
+    }
+    
+    /**
+     * Sets the tournament seed. Running the same tournament again with the same seed
+     * produces the same games, whether they run sequentially or in parallel.
+     *
+     * @param p_seed The tournament seed
+     */
+    public void setSeed(long p_seed) {
+        this.d_seed = p_seed;
+    }
+    
+    /**
+     * Sets the preloader the tournament takes already loaded maps from.
+     *
+     * @param p_mapPreloader The map preloader, or null to load every map during validation
+     */
+    public void setMapPreloader(MapPreloader p_mapPreloader) {
+        this.d_mapPreloader = p_mapPreloader;
+    }
+    
+    /**
+     * Sets the scheduler that executes the orders of each turn.
+     *
+     * @param p_orderScheduler The order scheduler
+     */
+    public void setOrderScheduler(OrderScheduler p_orderScheduler) {
+        this.d_orderScheduler = p_orderScheduler;
+    }
+    
+    /**
+     * Sets the level of the entries logged while the games are played. The tournament's
+     * own entries are not affected. {@link LogLevel#OFF} plays the games without logging,
+     * so no log message is ever built.
+     *
+     * @param p_gameLogLevel The game log level, or null to keep the level of the game logger
+     */
+    public void setGameLogLevel(LogLevel p_gameLogLevel) {
+        this.d_gameLogLevel = p_gameLogLevel;
+    }
+    
+    /**
+     * Sets the sink the games write their output to. Games played in parallel each collect
+     * their output in a {@link BufferedOutputSink} and write it to this sink in one go when
+     * they finish, so the output of different games is not interleaved.
+     *
+     * @param p_gameOutput The output sink, or null to play the games headless
+     */
+    public void setGameOutput(OutputSink p_gameOutput) {
+        this.d_gameOutput = p_gameOutput != null ? p_gameOutput : HeadlessOutputSink.INSTANCE;
+    }
+    
+    /**
+     * Gets the sink the games write their output to.
+     *
+     * @return The output sink
+     */
+    public OutputSink getGameOutput() {
+        return d_gameOutput;
+    }
+    
+    /**
+     * Sets the number of turns without any change of territory counts after which a game
+     * ends in a draw. A game also ends in a draw as soon as it returns to a state it was
+     * already in at the end of an earlier turn.
+     *
+     * @param p_stalemateTurns The number of turns without progress; values lower than 1 are treated as 1
+     */
+    public void setStalemateTurns(int p_stalemateTurns) {
+        this.d_stalemateTurns = Math.max(1, p_stalemateTurns);
+    }
+    
+    /**
+     * Gets the number of turns without any change of territory counts after which a game ends in a draw.
+     *
+     * @return The number of turns without progress
+     */
+    public int getStalemateTurns() {
+        return d_stalemateTurns;
+    }
+    
+    /**
+     * Sets the file the result of every game is streamed to as soon as the game ends:
+     * map, game number, seed, winner, turns played, wall time and orders executed.
+     * The file is appended to, as CSV or, for ".jsonl" files, as JSON lines, and each call
+     * to {@link #runTournament()} records its games as a new run of the file.
+     *
+     * @param p_resultsFile The results file, or null to write the results to a temporary file
+     */
+    public void setResultsFile(TournamentResultsFile p_resultsFile) {
+        this.d_resultsFile = p_resultsFile;
+        this.d_temporaryResultsFile = false;
+    }
+    
+    /**
+     * Gets the file the result of every game is streamed to.
+     *
+     * @return The results file, or null if none is set and no tournament has run yet
+     */
+    public TournamentResultsFile getResultsFile() {
+        return d_resultsFile;
+    }
+    
+    /**
+     * Closes the results file, once the results have been displayed. A temporary results
+     * file, created because none was set, is also removed.
+     *
+     * @throws IOException If the results file cannot be closed
+     */
+    public void closeResultsFile() throws IOException {
+        TournamentResultsFile l_resultsFile = d_resultsFile;
+        if (l_resultsFile == null) {
+            return;
+        }
+        try {
+            l_resultsFile.close();
+        } finally {
+            if (d_temporaryResultsFile) {
+                l_resultsFile.getFile().delete();
+                d_resultsFile = null;
+                d_temporaryResultsFile = false;
+            }
+        }
+    }
+    
+    /**
+     * Gets the level of the entries logged while the games are played.
+     *
+     * @return The game log level, or null if the level of the game logger is kept
+     */
+    public LogLevel getGameLogLevel() {
+        return d_gameLogLevel;
+    }
+    
+    /**
+     * Gets the tournament seed.
+     *
+     * @return The tournament seed, or null if the tournament is unseeded
+     */
+    public Long getSeed() {
+        return d_seed;
+    }
+    
+    /**
+     * Plays every (map, game) pair on a fixed pool of worker threads.
+     * Each game runs with its own in-memory logger bound to the worker thread, so that
+     * concurrent games never share a log buffer. Each game streams its result to the results
+     * file as it ends, and results are reported in (map, game) order, which keeps the output
+     * independent of the order in which workers complete. The log of each game is moved to disk when the
+     * game ends and streamed into the tournament log when the game's result is merged.
+     *
+     * @param p_validMaps Positions in the map files list of the maps that passed validation
+     */
+    private void runGamesInParallel(List<Integer> p_validMaps) {
+        int l_totalGames = p_validMaps.size() * d_numberOfGames;
+        int l_poolSize = Math.min(d_parallelism, l_totalGames);
+        AtomicInteger l_threadCounter = new AtomicInteger(1);
+        ExecutorService l_executor = Executors.newFixedThreadPool(l_poolSize, p_runnable -> {
+            Thread l_thread = new Thread(p_runnable, "tournament-worker-" + l_threadCounter.getAndIncrement());
+            l_thread.setDaemon(true);
+            return l_thread;
+        });
+        
+        System.out.println("\nRunning " + l_totalGames + " games on " + l_poolSize + " worker threads...");
+        
+        // Each game's logger is published before its future completes, so it is visible after get()
+        GameLogger[] l_gameLoggers = new GameLogger[l_totalGames];
+        // Seeds are drawn up front so that a game that fails can still be recorded with its seed
+        long[] l_gameSeeds = new long[l_totalGames];
+        List<Future<String>> l_futures = new ArrayList<>();
+        int l_index = 0;
+        try {
+            for (int l_mapIndex : p_validMaps) {
+                String l_mapFile = d_mapFiles.get(l_mapIndex);
+                for (int l_gameNumber = 1; l_gameNumber <= d_numberOfGames; l_gameNumber++) {
+                    final int l_number = l_gameNumber;
+                    final int l_slot = l_futures.size();
+                    final long l_seed = gameSeed(l_mapIndex, l_gameNumber);
+                    l_gameSeeds[l_slot] = l_seed;
+                    l_futures.add(l_executor.submit(() -> playIsolatedGame(l_mapFile, l_number, l_seed, l_gameLoggers, l_slot)));
+                }
+            }
+            
+            for (int l_mapIndex : p_validMaps) {
+                String l_mapFile = d_mapFiles.get(l_mapIndex);
+                System.out.println("\nResults on map: " + l_mapFile);
+                
+                for (int l_gameNumber = 1; l_gameNumber <= d_numberOfGames; l_gameNumber++) {
+                    String l_winner;
+                    try {
+                        l_winner = l_futures.get(l_index).get();
+                    } catch (ExecutionException e) {
+                        System.err.println("Game " + l_gameNumber + " on map " + l_mapFile + " failed:");
+                        e.getCause().printStackTrace();
+                        if (d_gameLogger != null) {
+                            d_gameLogger.logAction("Game " + l_gameNumber + " on map " + l_mapFile
+                                    + " failed: " + e.getCause());
+                        }
+                        // Record the failed game, so the summaries still count every game played
+                        l_winner = finishGame(l_mapFile, l_gameNumber, l_gameSeeds[l_index], "Game Error",
+                                0, System.nanoTime(), 0);
+                    }
+                    mergeGameLog(l_gameLoggers, l_index, l_mapFile, l_gameNumber);
+                    l_index++;
+                    
+                    System.out.println("  Game " + l_gameNumber + " result: " + l_winner);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.out.println("\nTournament interrupted.");
+        } finally {
+            l_executor.shutdownNow();
+            // Remove the logs of the games that were not merged
+            for (int i = l_index; i < l_totalGames; i++) {
+                GameLogger l_gameLogger = l_gameLoggers[i];
+                if (l_gameLogger != null) {
+                    l_gameLogger.clearLogBuffer();
+                }
+            }
+        }
+    }
+    
+    /**
+     * Streams the log of a finished game into the tournament log, then removes it.
+     *
+     * @param p_gameLoggers The loggers of the games, in (map, game) order
+     * @param p_index Index of the game's logger
+     * @param p_mapFile The map file the game was played on
+     * @param p_gameNumber The game number
+     */
+    private void mergeGameLog(GameLogger[] p_gameLoggers, int p_index, String p_mapFile, int p_gameNumber) {
+        GameLogger l_gameLogger = p_gameLoggers[p_index];
+        if (l_gameLogger == null) {
+            return;
+        }
+        p_gameLoggers[p_index] = null;
+        try {
+            if (d_gameLogger != null) {
+                d_gameLogger.logAction("Log of game " + p_gameNumber + " on map " + p_mapFile + ":");
+                d_gameLogger.appendLogBuffer(l_gameLogger);
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading the log of game " + p_gameNumber + ": " + e.getMessage());
+        } finally {
+            l_gameLogger.clearLogBuffer();
+        }
+    }
+    
+    /**
+     * Plays a single game with a game-scoped logger bound to the current thread. The logger
+     * is stored in the given slot before the game starts and its entries are moved to disk
+     * when the game ends, so that only the winner is held until the result is merged.
+     *
+     * @param p_mapFile The map file to play on
+     * @param p_gameNumber The game number
+     * @param p_seed Seed of the game's random streams
+     * @param p_gameLoggers Where the game's logger is stored
+     * @param p_slot Index of the game's logger
+     * @return The winner
+     */
+    private String playIsolatedGame(String p_mapFile, int p_gameNumber, long p_seed,
+                                    GameLogger[] p_gameLoggers, int p_slot) {
+        GameLogger l_gameLogger = GameLogger.createGameScopedLogger();
+        if (d_gameLogLevel != null) {
+            l_gameLogger.setLevel(d_gameLogLevel);
+        }
+        p_gameLoggers[p_slot] = l_gameLogger;
+        GameLogger.bindToCurrentThread(l_gameLogger);
+        GameOutput.bindToCurrentThread(d_gameOutput.isEnabled() ? new BufferedOutputSink(d_gameOutput) : d_gameOutput);
+        try {
+            return playSingleGame(p_mapFile, p_gameNumber, p_seed);
+        } finally {
+            GameOutput.unbindFromCurrentThread();
+            GameLogger.unbindFromCurrentThread();
+            l_gameLogger.spillLogBuffer();
+        }
+    }
+
+    /**
+     * Outcome of checking one tournament map on a validation worker.
+     */
+    private static final class MapCheck {
+
+        /**
+         * The template of the map when it is valid, or null.
+         */
+        private final MapTemplate d_template;
+
+        /**
+         * Whether the template was found in the template cache without loading the map.
+         */
+        private final boolean d_cached;
+
+        /**
+         * The outcome of loading the map, or null when the template was cached.
+         */
+        private final MapLoadResult d_loadResult;
+
+        /**
+         * Creates the outcome of a map check.
+         *
+         * @param p_template The template of the map when it is valid, or null
+         * @param p_cached Whether the template came from the template cache
+         * @param p_loadResult The outcome of loading the map, or null when the template was cached
+         */
+        private MapCheck(MapTemplate p_template, boolean p_cached, MapLoadResult p_loadResult) {
+            this.d_template = p_template;
+            this.d_cached = p_cached;
+            this.d_loadResult = p_loadResult;
+        }
+    }
+
+    /**
+     * Checks one map file with its own loader. Safe to run on several maps at the same time.
+     *
+     * @param p_mapFile The map file to check
+     * @return The outcome of the check
+     */
+    private MapCheck checkMap(String p_mapFile) {
+        MapLoader mapValidator = new MapLoader();
+        MapLoadResult preloaded = d_mapPreloader == null ? null : d_mapPreloader.take(p_mapFile);
+        
+        // Read the file once; the same bytes are hashed and parsed
+        byte[] content = mapValidator.readMapBytes(p_mapFile);
+        if (content == null) {
+            return new MapCheck(null, false, MapLoadResult.notFound(p_mapFile));
+        }
+        
+        // Reuse the template if this exact content has already been validated
+        String contentHash = MapTemplateCache.hashContent(content);
+        MapTemplate cachedTemplate = d_templateCache.lookup(p_mapFile, contentHash);
+        if (cachedTemplate != null) {
+            return new MapCheck(cachedTemplate, true, null);
+        }
+        
+        // Use the map loaded in the background if there is one; otherwise unchanged files
+        // validated by an earlier run are read back from the disk cache
+        MapLoadResult loadResult = preloaded != null ? preloaded
+                : MapDiskCache.getInstance().load(mapValidator, p_mapFile, content, contentHash);
+        MapTemplate template = null;
+        if (loadResult.isValid()) {
+            template = d_templateCache.store(p_mapFile, contentHash, loadResult.getMap());
+        }
+        return new MapCheck(template, false, loadResult);
+    }
 
     /**
      * Validates all maps in the map files list with improved error reporting.
+     * The maps are checked concurrently, each with its own loader, and reported in the order
+     * they were given.
      * 
-     * @return A list of valid map files
+     * @return The positions in the map files list of the valid maps
      */
-    private List<String> validateMaps() {
-        List<String> validMaps = new ArrayList<>();
+    private List<Integer> validateMaps() {
+        List<Integer> validMaps = new ArrayList<>();
         List<String> invalidMaps = new ArrayList<>();
-        MapLoader mapValidator = new MapLoader();
         
         System.out.println("\n===== MAP VALIDATION =====");
         
-        for (String mapFile : d_mapFiles) {
+        List<MapCheck> checks = new MapBatchValidator().forEachMap(d_mapFiles, this::checkMap,
+                (mapFile, error) -> new MapCheck(null, false, MapLoadResult.loadError(mapFile, error)));
+        
+        for (int i = 0; i < d_mapFiles.size(); i++) {
+            String mapFile = d_mapFiles.get(i);
+            MapCheck check = checks.get(i);
             System.out.println("\nValidating map: " + mapFile);
             
-            // Reset the map loader for each map to ensure independent validation
-            mapValidator = new MapLoader();
+            if (check.d_cached) {
+                System.out.println("  ✓ Map is valid (cached)");
+                d_mapTemplates.put(mapFile, check.d_template);
+                validMaps.add(i);
+                continue;
+            }
             
-            // Check if map exists
-            BufferedReader reader = mapValidator.isMapExist(mapFile);
-            if (reader == null) {
-                System.out.println("  ❌ Error: Map file not found");
+            MapLoadResult loadResult = check.d_loadResult;
+            if (loadResult.isLoadError()) {
+                String message = String.join("; ", loadResult.getDiagnostics());
+                System.out.println("  ❌ Error: " + message);
                 if (d_gameLogger != null) {
-                    d_gameLogger.logAction("Map validation failed: File not found - " + mapFile);
+                    d_gameLogger.logAction("Map validation failed: " + message + " - " + mapFile);
                 }
                 invalidMaps.add(mapFile);
                 continue;
             }
             
-            try {
-                reader.close();
-            } catch (IOException e) {
-                e.printStackTrace();
+            if (!loadResult.isFound()) {
+                System.out.println("  ❌ Error: Map file not found");
+                if (d_gameLogger != null) {
+                    d_gameLogger.logAction("Map validation failed: File not found - " + mapFile);
+                }
+                invalidMaps.add(mapFile);
+                continue;
             }
             
             // Check map format
-            boolean isValidFormat = mapValidator.isValid(mapFile);
+            boolean isValidFormat = loadResult.hasRequiredSections();
             if (!isValidFormat) {
                 System.out.println("  ❌ Error: Invalid map format");
                 if (d_gameLogger != null) {
@@ -177,9 +661,8 @@ public class TournamentMode {
                 continue;
             }
             
-            // Load and validate map connectivity
-            mapValidator.read(mapFile);
-            boolean isValidMap = mapValidator.validateMap(false);
+            // Validate map connectivity
+            boolean isValidMap = loadResult.isValid();
             if (!isValidMap) {
                 System.out.println("  ❌ Error: Map validation failed (connectivity or other issues)");
                 if (d_gameLogger != null) {
@@ -190,7 +673,8 @@ public class TournamentMode {
             }
             
             System.out.println("  ✓ Map is valid");
-            validMaps.add(mapFile);
+            d_mapTemplates.put(mapFile, check.d_template);
+            validMaps.add(i);
         }
         
         // Print validation summary
@@ -212,7 +696,8 @@ public class TournamentMode {
     }
 
     /**
-     * Displays the tournament results in a formatted table.
+     * Displays the tournament results in a formatted table. The table and the winning
+     * statistics are computed by streaming the records of the last run from the results file.
      */
     public void displayResults() {
         System.out.println("\n=============== Tournament Results ===============");
@@ -222,46 +707,19 @@ public class TournamentMode {
         System.out.println("D: " + d_maxTurns);
         System.out.println();
         
-        // Calculate column widths for better formatting
-        int mapNameWidth = 15; // Minimum width for map names
-        int resultWidth = 10;  // Minimum width for game results
-        
-        // Find the longest map name
-        for (String mapFile : d_results.keySet()) {
-            String mapName = extractMapName(mapFile);
-            mapNameWidth = Math.max(mapNameWidth, mapName.length() + 2);
-        }
-        
-        // Create header row with better formatting
-        String headerFormat = "%-" + mapNameWidth + "s";
-        System.out.printf(headerFormat, "Map");
-        
-        for (int i = 1; i <= d_numberOfGames; i++) {
-            System.out.printf("%-" + resultWidth + "s", "Game " + i);
+        if (d_resultsFile == null) {
+            System.out.println("No results were recorded.");
+            System.out.println("=================================================");
+            return;
         }
-        System.out.println();
-        
-        // Add a divider line
-        printDivider(mapNameWidth + (resultWidth * d_numberOfGames));
         
-        // Display results for each map with better formatting
-        String rowFormat = "%-" + mapNameWidth + "s";
-        for (String mapFile : d_results.keySet()) {
-            String mapName = extractMapName(mapFile);
-            System.out.printf(rowFormat, mapName);
-            
-            // Display results for each game on this map
-            java.util.Map<Integer, String> mapResults = d_results.get(mapFile);
-            for (int gameNumber = 1; gameNumber <= d_numberOfGames; gameNumber++) {
-                String winner = mapResults.getOrDefault(gameNumber, "N/A");
-                System.out.printf("%-" + resultWidth + "s", winner);
-            }
-            System.out.println();
+        // Stream the table row by row instead of building it first
+        try {
+            TournamentUtil.writeResultsTable(d_resultsFile.getFile(), d_resultsFile.getRunId(), d_numberOfGames, System.out);
+        } catch (IOException e) {
+            System.err.println("Error reading tournament results: " + e.getMessage());
         }
         
-        // Add another divider line
-        printDivider(mapNameWidth + (resultWidth * d_numberOfGames));
-        
         // Display winning stats
         System.out.println("\nWinning Statistics:");
         
@@ -272,24 +730,17 @@ public class TournamentMode {
         
         System.out.println("=================================================");
         
-        // Log the tournament results
+        // Log the tournament results; the winner of every game is already in the log
         if (d_gameLogger != null) {
             StringBuilder logSB = new StringBuilder("Tournament results:\n");
             logSB.append("Maps: ").append(String.join(", ", d_mapFiles)).append("\n");
             logSB.append("Player strategies: ").append(String.join(", ", d_playerStrategies)).append("\n");
             logSB.append("Games per map: ").append(d_numberOfGames).append("\n");
-            logSB.append("Max turns per game: ").append(d_maxTurns).append("\n\n");
-            
-            for (String mapFile : d_results.keySet()) {
-                String mapName = extractMapName(mapFile);
-                logSB.append("Map ").append(mapName).append(" results: ");
-                
-                java.util.Map<Integer, String> mapResults = d_results.get(mapFile);
-                for (int gameNumber = 1; gameNumber <= d_numberOfGames; gameNumber++) {
-                    String winner = mapResults.getOrDefault(gameNumber, "N/A");
-                    logSB.append("Game ").append(gameNumber).append(": ").append(winner).append(", ");
-                }
-                logSB.append("\n");
+            logSB.append("Max turns per game: ").append(d_maxTurns).append("\n");
+            logSB.append("Results: run ").append(d_resultsFile.getRunId())
+                    .append(" of ").append(d_resultsFile.getFile().getPath()).append("\n");
+            for (String player : winCounts.keySet()) {
+                logSB.append(player).append(": ").append(winCounts.get(player)).append(" wins\n");
             }
             
             d_gameLogger.logAction(logSB.toString());
@@ -297,120 +748,91 @@ public class TournamentMode {
     }
 
     /**
-     * Extracts a user-friendly map name from the file path.
-     * 
-     * @param mapFile The map file path
-     * @return A user-friendly map name
-     */
-    private String extractMapName(String mapFile) {
-        String mapName = mapFile;
-        if (mapFile.contains("/")) {
-            mapName = mapFile.substring(mapFile.lastIndexOf('/') + 1);
-        } else if (mapFile.contains("\\")) {
-            mapName = mapFile.substring(mapFile.lastIndexOf('\\') + 1);
-        }
-        if (mapName.toLowerCase().endsWith(".map")) {
-            mapName = mapName.substring(0, mapName.length() - 4);
-        }
-        return mapName;
-    }
-
-    /**
-     * Prints a divider line of specified width.
-     * 
-     * @param width The width of the divider line
-     */
-    private void printDivider(int width) {
-        for (int i = 0; i < width; i++) {
-            System.out.print("-");
-        }
-        System.out.println();
-    }
-
-    /**
-     * Counts the number of wins for each player strategy.
+     * Counts the number of wins for each player strategy in the last run of the results file.
      * 
      * @return A map of player names to win counts
      */
     private java.util.Map<String, Integer> countWins() {
+        if (d_resultsFile != null) {
+            try {
+                return TournamentUtil.countWins(d_resultsFile.getFile(), d_resultsFile.getRunId(), d_playerStrategies);
+            } catch (IOException e) {
+                System.err.println("Error reading tournament results: " + e.getMessage());
+            }
+        }
         java.util.Map<String, Integer> winCounts = new HashMap<>();
-        
-        // Initialize win counts for all player strategies and Draw
         for (String strategy : d_playerStrategies) {
             winCounts.put(strategy, 0);
         }
         winCounts.put("Draw", 0);
-        
-        // Count wins from results
-        for (java.util.Map<Integer, String> mapResults : d_results.values()) {
-            for (String winner : mapResults.values()) {
-                // Extract the base strategy name from the winner
-                String baseStrategy = winner;
-                if (winner.contains("_")) {
-                    baseStrategy = winner.substring(0, winner.indexOf("_"));
-                }
-                
-                // Increment the count for the appropriate strategy
-                if (winCounts.containsKey(baseStrategy)) {
-                    winCounts.put(baseStrategy, winCounts.get(baseStrategy) + 1);
-                } else if (baseStrategy.equals("Draw")) {
-                    winCounts.put("Draw", winCounts.get("Draw") + 1);
-                }
-            }
-        }
-        
         return winCounts;
     }
 
+    /**
+     * Gets the seed of a game's random streams: derived from the tournament seed if set,
+     * unpredictable otherwise.
+     *
+     * @param p_mapIndex Position in the map files list of the map the game is played on
+     * @param p_gameNumber The game number
+     * @return The game seed
+     */
+    private long gameSeed(int p_mapIndex, int p_gameNumber) {
+        return d_seed != null
+                ? RandomService.deriveGameSeed(d_seed, p_mapIndex, p_gameNumber)
+                : new RandomService().getSeed();
+    }
+
     /**
      * Plays a single game as part of the tournament.
      *
      * @param p_mapFile The map file to play on
      * @param p_gameNumber The game number (for logging)
+     * @param p_seed Seed of the game's random streams
      * @return The name of the winner, or "Draw" if no winner after max turns
      */
-    private String playSingleGame(String p_mapFile, int p_gameNumber) {
-        if (d_gameLogger != null) {
-            d_gameLogger.logAction("Starting game " + p_gameNumber + " on map " + p_mapFile);
-        }
-        
-        // Reset the game state
-        MapLoader l_mapLoader = new MapLoader();
-        
-        // Load the map
-        l_mapLoader.resetLoadedMap();
+    private String playSingleGame(String p_mapFile, int p_gameNumber, long p_seed) {
+        // Resolved per call so that games running on worker threads use their own logger
+        GameLogger l_gameLogger = GameLogger.getInstance();
+        long l_startNanos = System.nanoTime();
         
-        // Try to load the map file
-        BufferedReader l_reader = l_mapLoader.isMapExist(p_mapFile);
-        if (l_reader == null) {
-            if (d_gameLogger != null) {
-                d_gameLogger.logAction("Failed to find map file: " + p_mapFile);
-            }
-            return "Map Error";
+        if (l_gameLogger != null) {
+            l_gameLogger.logAction("Starting game " + p_gameNumber + " on map " + p_mapFile);
         }
         
-        try {
-            l_reader.close();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        // Every game draws from its own random streams
+        RandomService l_randomService = new RandomService(p_seed);
+        long l_gameSeed = p_seed;
         
-        boolean l_isMapValid = l_mapLoader.isValid(p_mapFile);
-        if (!l_isMapValid) {
-            if (d_gameLogger != null) {
-                d_gameLogger.logAction("Invalid map format: " + p_mapFile);
+        // Clone the validated template when available, so the map file is not parsed again
+        com.Game.model.Map l_gameMap;
+        MapTemplate l_template = d_mapTemplates.get(p_mapFile);
+        if (l_template != null) {
+            l_gameMap = l_template.instantiate();
+        } else {
+            // Load the map file in a single read
+            MapLoadResult l_loadResult = new MapLoader().loadMap(p_mapFile);
+            if (!l_loadResult.isFound()) {
+                if (l_gameLogger != null) {
+                    l_gameLogger.logAction("Failed to find map file: " + p_mapFile);
+                }
+                return finishGame(p_mapFile, p_gameNumber, l_gameSeed, "Map Error", 0, l_startNanos, 0);
             }
-            return "Invalid Map";
-        }
-        
-        l_mapLoader.read(p_mapFile);
-        com.Game.model.Map l_gameMap = l_mapLoader.getLoadedMap();
-        
-        if (!l_mapLoader.validateMap(false)) {
-            if (d_gameLogger != null) {
-                d_gameLogger.logAction("Map validation failed: " + p_mapFile);
+            
+            if (!l_loadResult.hasRequiredSections()) {
+                if (l_gameLogger != null) {
+                    l_gameLogger.logAction("Invalid map format: " + p_mapFile);
+                }
+                return finishGame(p_mapFile, p_gameNumber, l_gameSeed, "Invalid Map", 0, l_startNanos, 0);
+            }
+            
+            l_gameMap = l_loadResult.getMap();
+            
+            if (!l_loadResult.isValid()) {
+                if (l_gameLogger != null) {
+                    l_gameLogger.logAction("Map validation failed: " + p_mapFile);
+                }
+                return finishGame(p_mapFile, p_gameNumber, l_gameSeed, "Invalid Map", 0, l_startNanos, 0);
             }
-            return "Invalid Map";
         }
         
         // Create players based on strategies
@@ -418,58 +840,98 @@ public class TournamentMode {
         for (int i = 0; i < d_playerStrategies.size(); i++) {
             String strategy = d_playerStrategies.get(i);
             Player player = createPlayerByStrategy(strategy, strategy + "_" + (i+1));
+            player.setRandom(l_randomService.split());
             l_players.add(player);
         }
         
         if (l_players.size() < 2) {
-            if (d_gameLogger != null) {
-                d_gameLogger.logAction("Not enough players for a game");
+            if (l_gameLogger != null) {
+                l_gameLogger.logAction("Not enough players for a game");
             }
-            return "Not Enough Players";
+            return finishGame(p_mapFile, p_gameNumber, l_gameSeed, "Not Enough Players", 0, l_startNanos, 0);
         }
         
         // Assign countries randomly
-        assignCountriesRandomly(l_gameMap, l_players);
+        assignCountriesRandomly(l_gameMap, l_players, l_randomService.split());
         
-        // Run the game for up to max turns or until a winner is found
+        // Run the game for up to max turns, until a winner is found or until it cannot be won
         int currentTurn = 0;
         Player winner = null;
+        boolean stalemate = false;
+        long ordersExecuted = 0;
+        StalemateDetector stalemateDetector = new StalemateDetector(l_gameMap, l_players, d_stalemateTurns);
         
-        while (currentTurn < d_maxTurns && winner == null) {
-            // Reinforcement phase
-            calculateReinforcements(l_players);
+        try {
+            while (currentTurn < d_maxTurns && winner == null && !stalemate) {
+                // Reinforcement phase
+                calculateReinforcements(l_players, l_gameMap);
             
-            // Issue orders phase
-            issueOrders(l_players, l_gameMap);
+                // Issue orders phase
+                issueOrders(l_players, l_gameMap);
             
-            // Execute orders phase
-            executeOrders(l_players);
+                // Execute orders phase
+                ordersExecuted += executeOrders(l_players);
             
-            // Check for a winner
-            winner = checkForWinner(l_gameMap, l_players);
+                // Check for a winner
+                winner = checkForWinner(l_gameMap, l_players);
             
-            // Reset players' status for next turn
-            for (Player player : l_players) {
-                player.setHasConqueredThisTurn(false);
-                player.setNegociatedPlayersPerTurn(new ArrayList<>());
-            }
+                // Reset players' status for next turn
+                for (Player player : l_players) {
+                    player.setHasConqueredThisTurn(false);
+                    player.setNegociatedPlayersPerTurn(new ArrayList<>());
+                }
+            
+                currentTurn++;
             
-            currentTurn++;
+                if (winner == null) {
+                    stalemate = stalemateDetector.endTurn();
+                }
+            }
+        } finally {
+            stalemateDetector.detach();
         }
         
         if (winner != null) {
-            if (d_gameLogger != null) {
-                d_gameLogger.logAction("Game " + p_gameNumber + " on map " + p_mapFile + 
+            if (l_gameLogger != null) {
+                l_gameLogger.logAction("Game " + p_gameNumber + " on map " + p_mapFile + 
                                       " ended with winner: " + winner.getName());
             }
-            return winner.getName();
+            return finishGame(p_mapFile, p_gameNumber, l_gameSeed, winner.getName(), currentTurn, l_startNanos, ordersExecuted);
         } else {
-            if (d_gameLogger != null) {
-                d_gameLogger.logAction("Game " + p_gameNumber + " on map " + p_mapFile + 
-                                      " ended in a draw after " + d_maxTurns + " turns");
+            if (l_gameLogger != null) {
+                l_gameLogger.logAction("Game " + p_gameNumber + " on map " + p_mapFile + 
+                                      " ended in a draw after " + currentTurn + " turns"
+                                      + (stalemate ? " (stalemate)" : ""));
+            }
+            return finishGame(p_mapFile, p_gameNumber, l_gameSeed, "Draw", currentTurn, l_startNanos, ordersExecuted);
+        }
+    }
+    
+    /**
+     * Streams the result of a finished game to the results file.
+     * Called on the thread that played the game, as soon as it ends.
+     *
+     * @param p_mapFile The map file the game was played on
+     * @param p_gameNumber The game number
+     * @param p_seed Seed of the game's random streams
+     * @param p_winner Name of the winner, "Draw", or the error that stopped the game
+     * @param p_turns Number of turns played
+     * @param p_startNanos Value of {@link System#nanoTime()} when the game started
+     * @param p_ordersExecuted Number of orders executed during the game
+     * @return The winner
+     */
+    private String finishGame(String p_mapFile, int p_gameNumber, long p_seed, String p_winner,
+                              int p_turns, long p_startNanos, long p_ordersExecuted) {
+        if (d_resultsFile != null) {
+            long l_wallTimeMillis = (System.nanoTime() - p_startNanos) / 1_000_000;
+            try {
+                d_resultsFile.append(new GameResult(p_mapFile, p_gameNumber, p_seed, p_winner,
+                        p_turns, l_wallTimeMillis, p_ordersExecuted));
+            } catch (IOException e) {
+                System.err.println("Error writing tournament result: " + e.getMessage());
             }
-            return "Draw";
         }
+        return p_winner;
     }
     
     /**
@@ -477,18 +939,19 @@ public class TournamentMode {
      *
      * @param p_gameMap The game map
      * @param p_players List of players
+     * @param p_random Random generator used to shuffle the territories
      */
-    private void assignCountriesRandomly(com.Game.model.Map p_gameMap, List<Player> p_players) {
-        List<Territory> l_territories = p_gameMap.getTerritoryList();
+    private void assignCountriesRandomly(com.Game.model.Map p_gameMap, List<Player> p_players, RandomGenerator p_random) {
+        // Shuffle a copy so the map's own territory order is left untouched
+        List<Territory> l_territories = new ArrayList<>(p_gameMap.getTerritoryList());
         
         if (l_territories.isEmpty() || p_players.isEmpty()) {
             return;
         }
         
         // Shuffle territories for random assignment
-        java.util.Random rand = new java.util.Random();
         for (int i = l_territories.size() - 1; i > 0; i--) {
-            int l_index = rand.nextInt(i + 1);
+            int l_index = p_random.nextInt(i + 1);
             Territory l_temp = l_territories.get(l_index);
             l_territories.set(l_index, l_territories.get(i));
             l_territories.set(i, l_temp);
@@ -514,14 +977,15 @@ public class TournamentMode {
     }
     
     /**
-     * Calculate reinforcements for each player.
+     * Calculate reinforcements for each player, including the bonus of the continents they control.
      *
      * @param p_players List of players
+     * @param p_gameMap The game map
      */
-    private void calculateReinforcements(List<Player> p_players) {
+    private void calculateReinforcements(List<Player> p_players, com.Game.model.Map p_gameMap) {
+        ContinentOwnershipIndex ownershipIndex = p_gameMap.getOwnershipIndex();
         for (Player player : p_players) {
-            // Basic calculation: number of territories divided by 3, minimum 3
-            int reinforcements = Math.max(3, player.getOwnedTerritories().size() / 3);
+            int reinforcements = ownershipIndex.calculateReinforcements(player);
             player.setNbrOfReinforcementArmies(reinforcements);
         }
     }
@@ -542,22 +1006,10 @@ public class TournamentMode {
      * Execute orders for all players.
      *
      * @param p_players List of players
+     * @return The number of orders executed
      */
-    private void executeOrders(List<Player> p_players) {
-        boolean ordersRemaining = true;
-        
-        while (ordersRemaining) {
-            ordersRemaining = false;
-            
-            for (Player player : p_players) {
-                com.Game.model.order.Order nextOrder = player.nextOrder();
-                
-                if (nextOrder != null) {
-                    nextOrder.execute();
-                    ordersRemaining = true;
-                }
-            }
-        }
+    private int executeOrders(List<Player> p_players) {
+        return d_orderScheduler.executeAll(p_players);
     }
     
     /**
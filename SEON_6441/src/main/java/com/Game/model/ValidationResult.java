@@ -0,0 +1,73 @@
+package com.Game.model;
+
+/**
+ * Outcome of checking an order against the current game state with the typed validation
+ * methods of {@link Player}, such as {@link Player#checkAdvance(Territory, Territory, int)}.
+ * The checks only compute the outcome; turning it into a message for the user is left to the caller.
+ */
+public enum ValidationResult {
+
+    /**
+     * The order can be issued.
+     */
+    VALID,
+
+    /**
+     * The player has no card of the type the order needs.
+     */
+    NO_CARD,
+
+    /**
+     * The source territory does not exist or is not owned by the player.
+     */
+    SOURCE_NOT_FOUND,
+
+    /**
+     * The target territory does not exist.
+     */
+    TARGET_NOT_FOUND,
+
+    /**
+     * The source and target are the same territory.
+     */
+    SAME_TERRITORY,
+
+    /**
+     * The number of armies could not be read.
+     */
+    INVALID_NUMBER,
+
+    /**
+     * The number of armies is zero or negative.
+     */
+    NON_POSITIVE_ARMIES,
+
+    /**
+     * The player does not own the source territory.
+     */
+    NOT_OWNER,
+
+    /**
+     * The target is the player's own territory.
+     */
+    OWN_TERRITORY,
+
+    /**
+     * The target is not adjacent to the source, or to any territory of the player.
+     */
+    NOT_ADJACENT,
+
+    /**
+     * The source territory does not hold enough armies.
+     */
+    NOT_ENOUGH_ARMIES;
+
+    /**
+     * Checks whether the order can be issued.
+     *
+     * @return true for {@link #VALID}
+     */
+    public boolean isValid() {
+        return this == VALID;
+    }
+}
@@ -47,43 +47,41 @@ public class AdvanceMove extends AdvanceOrder {
 	 */
 	@Override
 	public void execute() {
-		String l_logMessage;
-		boolean l_conquered = false;
-		
 		// Update the target territory's army count
 		getD_territoryTo().setNumOfArmies(getD_territoryTo().getNumOfArmies() + getD_numberOfArmies());
 		
-		if(getD_territoryTo().getOwner() == null) { // its a neutral territory
-			l_conquered = true;
+		boolean l_conquered = getD_territoryTo().getOwner() == null;
+		if(l_conquered) { // its a neutral territory
 			this.d_issuer.addTerritory(d_territoryTo);
 			d_territoryTo.setOwner(d_issuer);
 			
-			l_logMessage = "Player " + this.d_issuer.getName() + 
-						  " advanced and conquered neutral territory " + getD_territoryTo().getName() + 
-						  " with " + getD_numberOfArmies() + " armies.";
-			
-			System.out.println(this.d_issuer.getName() + " conquered the neutral territory " + 
+			output().println(this.d_issuer.getName() + " conquered the neutral territory " + 
 							  getD_territoryTo().getName() + " and now has " + 
 							  getD_territoryTo().getNumOfArmies() + " armies.");
 		} else {
-			l_logMessage = "Player " + this.d_issuer.getName() + 
-						  " advanced " + this.d_numberOfArmies + " armies from " + 
-						  getD_territoryFrom().getName() + " to " + getD_territoryTo().getName() + ".";
-			
-			System.out.println(this.d_numberOfArmies + " armie(s) were moved from " + 
+			output().println(this.d_numberOfArmies + " armie(s) were moved from " + 
 							  getD_territoryFrom().getName() + " to " + getD_territoryTo().getName());
 		}
 		
-		// Add additional status info to the log
-		l_logMessage += " " + getD_territoryTo().getName() + " now has " + 
-					   getD_territoryTo().getNumOfArmies() + " armies.";
-		
-		logOrderExecution(l_logMessage);
+		// Log the move with additional status info
+		if (isExecutionLogged()) {
+			logOrderExecution((l_conquered
+					? "Player " + this.d_issuer.getName() + 
+					  " advanced and conquered neutral territory " + getD_territoryTo().getName() + 
+					  " with " + getD_numberOfArmies() + " armies."
+					: "Player " + this.d_issuer.getName() + 
+					  " advanced " + this.d_numberOfArmies + " armies from " + 
+					  getD_territoryFrom().getName() + " to " + getD_territoryTo().getName() + ".")
+					+ " " + getD_territoryTo().getName() + " now has " + 
+					getD_territoryTo().getNumOfArmies() + " armies.");
+		}
 		
 		// If a territory was conquered, update the player's conquest status
 		if (l_conquered) {
 			this.d_issuer.setHasConqueredThisTurn(true);
-			logOrderExecution("Player " + this.d_issuer.getName() + " has conquered at least one territory this turn.");
+			if (isExecutionLogged()) {
+				logOrderExecution("Player " + this.d_issuer.getName() + " has conquered at least one territory this turn.");
+			}
 		}
 	}
 }
\ No newline at end of file
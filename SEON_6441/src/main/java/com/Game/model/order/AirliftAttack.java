@@ -2,7 +2,7 @@ package com.Game.model.order;
 
 import com.Game.model.Player;
 import com.Game.model.Territory;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents an airlift attack order, which is a specialized form of airlift order where
@@ -48,18 +48,16 @@ public class AirliftAttack extends AirliftOrder {
 	 */
 	@Override
 	public void execute() {
-		String l_logMessage;
-		
 		if(getIssuer().getNegociatedPlayersPerTurn().contains(d_territoryTo.getOwner())) {
 			d_territoryFrom.setNumOfArmies(d_territoryFrom.getNumOfArmies() + d_numberOfArmies);
 			
-			l_logMessage = "Airlift Attack cancelled: Player " + getIssuer().getName() + 
-						   " has a diplomacy agreement with " + d_territoryTo.getOwner().getName();
-						   
-			System.out.println("Undo Airlift order from: " + getIssuer().getName());
-			System.out.println("Diplomacy between: " + getIssuer().getName() + " and " + d_territoryTo.getOwner().getName());
+			output().println("Undo Airlift order from: " + getIssuer().getName());
+			output().println("Diplomacy between: " + getIssuer().getName() + " and " + d_territoryTo.getOwner().getName());
 			
-			logOrderExecution(l_logMessage);
+			if (isExecutionLogged()) {
+				logOrderExecution("Airlift Attack cancelled: Player " + getIssuer().getName() + 
+						" has a diplomacy agreement with " + d_territoryTo.getOwner().getName());
+			}
 			return;
 		}
 	    int attackingArmies = getD_numberOfArmies();
@@ -71,23 +69,13 @@ public class AirliftAttack extends AirliftOrder {
 	    // Remove the attacking armies from the originating territory
 	    //getD_territoryFrom().setNumOfArmies(getD_territoryFrom().getNumOfArmies() - this.d_numberOfArmies);
 	    
-	    Random rand = new Random();
-	    int attackerKills = 0;
-	    int defenderKills = 0;
-	    
+	    RandomGenerator rand = getIssuer().getRandom();
+	    BattleEngine.Mode battleMode = getIssuer().getBattleMode();
 	    // Each attacking army unit has a 60% chance to kill one defending army unit
-	    for (int i = 0; i < attackingArmies; i++) {
-	        if (rand.nextDouble() < 0.6) {
-	            attackerKills++;
-	        }
-	    }
+	    int attackerKills = BattleEngine.countKills(attackingArmies, BattleEngine.ATTACKER_KILL_PROBABILITY, rand, battleMode);
 	    
 	    // Each defending army unit has a 70% chance to kill one attacking army unit
-	    for (int i = 0; i < defendingArmies; i++) {
-	        if (rand.nextDouble() < 0.7) {
-	            defenderKills++;
-	        }
-	    }
+	    int defenderKills = BattleEngine.countKills(defendingArmies, BattleEngine.DEFENDER_KILL_PROBABILITY, rand, battleMode);
 	    
 	    // The actual casualties cannot exceed the number of armies on each side.
 	    // it should be attacker kills but it should never go beyond the number of defending Armies.
@@ -123,32 +111,36 @@ public class AirliftAttack extends AirliftOrder {
 	    }
 	    
 	    // Log the battle result.
-	    System.out.println("Airlift Battle results:");
-	    System.out.println(getD_territoryFrom().getName() + " (attacking) sent: " + attackingArmies + " armies");
-	    System.out.println(getD_territoryTo().getName() + " (defending) had: " + defendingArmies + " armies");
-	    System.out.println(getD_territoryFrom().getName() + " (attacking) inflicted " + actualDefenderCasualties + " casualties");
-	    System.out.println(getD_territoryTo().getName() + " (defending) inflicted " + actualAttackerCasualties + " casualties");
+	    if (output().isEnabled()) {
+	        output().println("Airlift Battle results:");
+	        output().println(getD_territoryFrom().getName() + " (attacking) sent: " + attackingArmies + " armies");
+	        output().println(getD_territoryTo().getName() + " (defending) had: " + defendingArmies + " armies");
+	        output().println(getD_territoryFrom().getName() + " (attacking) inflicted " + actualDefenderCasualties + " casualties");
+	        output().println(getD_territoryTo().getName() + " (defending) inflicted " + actualAttackerCasualties + " casualties");
+	    }
 	    
 	    if (l_conquered) {
-	        System.out.println(getIssuer().getName() + " captured "+ getD_territoryTo().getName() + " and the territory now has " + survivingAttackingArmies + " armies.");
+	        output().println(getIssuer().getName() + " captured "+ getD_territoryTo().getName() + " and the territory now has " + survivingAttackingArmies + " armies.");
 	        
-	        l_logMessage = "Airlift Attack succeeded: Player " + getIssuer().getName() + 
-	                       " conquered " + getD_territoryTo().getName() + 
-	                       " from " + l_opposingPlayerName + ". " +
-	                       survivingAttackingArmies + " attacking armies survived.";
+	        if (isExecutionLogged()) {
+	        	logOrderExecution("Airlift Attack succeeded: Player " + getIssuer().getName() + 
+		                       " conquered " + getD_territoryTo().getName() + 
+		                       " from " + l_opposingPlayerName + ". " +
+		                       survivingAttackingArmies + " attacking armies survived.");
+	        }
 	    } else {
-	        System.out.println(l_opposingPlayerName + " retained " + getD_territoryTo().getName() + 
+	        output().println(l_opposingPlayerName + " retained " + getD_territoryTo().getName() + 
 	                           " and the territory now has " + survivingDefendingArmies + " armies remaining.");
-	        System.out.println(getIssuer().getName() + " retained "+ getD_territoryFrom().getName() + 
+	        output().println(getIssuer().getName() + " retained "+ getD_territoryFrom().getName() + 
 	                           " and the territory now has " + survivingAttackingArmies + " armies.");
 	        
-	        l_logMessage = "Airlift Attack failed: Player " + getIssuer().getName() + 
-	                       " attacked " + getD_territoryTo().getName() + 
-	                       " owned by " + l_opposingPlayerName + ". " +
-	                       "Defender retained territory with " + survivingDefendingArmies + " armies. " +
-	                       survivingAttackingArmies + " attacking armies returned to " + getD_territoryFrom().getName() + ".";
+	        if (isExecutionLogged()) {
+	        	logOrderExecution("Airlift Attack failed: Player " + getIssuer().getName() + 
+		                       " attacked " + getD_territoryTo().getName() + 
+		                       " owned by " + l_opposingPlayerName + ". " +
+		                       "Defender retained territory with " + survivingDefendingArmies + " armies. " +
+		                       survivingAttackingArmies + " attacking armies returned to " + getD_territoryFrom().getName() + ".");
+	        }
 	    }
-	    
-	    logOrderExecution(l_logMessage);
 	}
 }
\ No newline at end of file
@@ -49,43 +49,42 @@ public class AirliftMove extends AirliftOrder {
     @Override
     public void execute() {
         //getD_territoryFrom().setNumOfArmies(getD_territoryFrom().getNumOfArmies() - getD_numberOfArmies());
-        String l_logMessage;
-        boolean l_conquered = false;
+        boolean l_conquered = getD_territoryTo().getOwner() == null;
         
-        if(getD_territoryTo().getOwner() == null) { // if its a neutral territory
-            l_conquered = true;
+        if(l_conquered) { // if its a neutral territory
             this.d_issuer.addTerritory(d_territoryTo);
             d_territoryTo.setOwner(d_issuer);
             
-            l_logMessage = "Player " + this.d_issuer.getName() + 
-                          " conquered the neutral territory " + getD_territoryTo().getName() + 
-                          " using AIRLIFT with " + this.d_numberOfArmies + " armies.";
-            
-            System.out.println(this.d_issuer.getName() + " conquered the neutral territory " 
+            output().println(this.d_issuer.getName() + " conquered the neutral territory " 
                 + getD_territoryTo().getName() + " using AIRLIFT and now has " 
                 + getD_territoryTo().getNumOfArmies() + " armies.");
         } else {
-            l_logMessage = "Player " + this.d_issuer.getName() + 
-                          " airlifted " + this.d_numberOfArmies + " armies from " + 
-                          getD_territoryFrom().getName() + " to " + getD_territoryTo().getName() + ".";
-            
-            System.out.println(this.d_numberOfArmies + " armie(s) were moved from " 
+            output().println(this.d_numberOfArmies + " armie(s) were moved from " 
                 + getD_territoryFrom().getName() + " to " + getD_territoryTo().getName());
         }
         
         // Update the territory's army count
         getD_territoryTo().setNumOfArmies(getD_territoryTo().getNumOfArmies() + getD_numberOfArmies());
         
-        // Add additional status info to the log
-        l_logMessage += " " + getD_territoryTo().getName() + " now has " + 
-                       getD_territoryTo().getNumOfArmies() + " armies.";
-        
-        logOrderExecution(l_logMessage);
+        // Log the airlift with additional status info
+        if (isExecutionLogged()) {
+            logOrderExecution((l_conquered
+                    ? "Player " + this.d_issuer.getName() + 
+                      " conquered the neutral territory " + getD_territoryTo().getName() + 
+                      " using AIRLIFT with " + this.d_numberOfArmies + " armies."
+                    : "Player " + this.d_issuer.getName() + 
+                      " airlifted " + this.d_numberOfArmies + " armies from " + 
+                      getD_territoryFrom().getName() + " to " + getD_territoryTo().getName() + ".")
+                    + " " + getD_territoryTo().getName() + " now has " + 
+                    getD_territoryTo().getNumOfArmies() + " armies.");
+        }
         
         // If a territory was conquered, update the player's conquest status
         if (l_conquered) {
             this.d_issuer.setHasConqueredThisTurn(true);
-            logOrderExecution("Player " + this.d_issuer.getName() + " has conquered at least one territory this turn.");
+            if (isExecutionLogged()) {
+                logOrderExecution("Player " + this.d_issuer.getName() + " has conquered at least one territory this turn.");
+            }
         }
     }
 }
\ No newline at end of file
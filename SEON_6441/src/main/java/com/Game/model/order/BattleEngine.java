@@ -0,0 +1,180 @@
+package com.Game.model.order;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Resolves the casualties of a battle between an attacking and a defending force.
+ * Each attacking army kills one defender with probability {@link #ATTACKER_KILL_PROBABILITY}
+ * and each defending army kills one attacker with probability {@link #DEFENDER_KILL_PROBABILITY}.
+ * The number of kills on each side is therefore binomially distributed, and the default
+ * {@link Mode#BINOMIAL} mode samples it directly in O(log n) time instead of rolling once per army.
+ * The original per-army rolls remain available as {@link Mode#PER_ARMY} for verification.
+ * The mode is chosen by each caller rather than held here, so games running concurrently
+ * can use different modes.
+ */
+public final class BattleEngine {
+
+	/**
+	 * Chance that a single attacking army kills a defending army.
+	 */
+	public static final double ATTACKER_KILL_PROBABILITY = 0.6;
+
+	/**
+	 * Chance that a single defending army kills an attacking army.
+	 */
+	public static final double DEFENDER_KILL_PROBABILITY = 0.7;
+
+	/**
+	 * Below this number of armies, kills are counted with one roll per army.
+	 */
+	private static final int DIRECT_ROLL_THRESHOLD = 16;
+
+	/**
+	 * The ways kills can be sampled.
+	 */
+	public enum Mode {
+		/**
+		 * Sample the kill count from the binomial distribution in O(log n).
+		 */
+		BINOMIAL,
+		/**
+		 * Roll once per army, as the original implementation did.
+		 */
+		PER_ARMY
+	}
+
+	/**
+	 * Utility class; not instantiable.
+	 */
+	private BattleEngine() {
+	}
+
+	/**
+	 * Counts how many of the given armies score a kill, sampling the binomial distribution.
+	 *
+	 * @param p_armies The number of armies rolling
+	 * @param p_killProbability The chance that one army scores a kill
+	 * @param p_random The random generator to draw from
+	 * @return The number of kills, between 0 and p_armies
+	 */
+	public static int countKills(int p_armies, double p_killProbability, RandomGenerator p_random) {
+		return countKills(p_armies, p_killProbability, p_random, Mode.BINOMIAL);
+	}
+
+	/**
+	 * Counts how many of the given armies score a kill.
+	 *
+	 * @param p_armies The number of armies rolling
+	 * @param p_killProbability The chance that one army scores a kill
+	 * @param p_random The random generator to draw from
+	 * @param p_mode The way the kills are sampled
+	 * @return The number of kills, between 0 and p_armies
+	 */
+	public static int countKills(int p_armies, double p_killProbability, RandomGenerator p_random, Mode p_mode) {
+		if (p_mode == Mode.PER_ARMY) {
+			return rollEachArmy(p_armies, p_killProbability, p_random);
+		}
+		return sampleBinomial(p_armies, p_killProbability, p_random);
+	}
+
+	/**
+	 * Counts kills by rolling once per army.
+	 *
+	 * @param p_armies The number of armies rolling
+	 * @param p_killProbability The chance that one army scores a kill
+	 * @param p_random The random generator to draw from
+	 * @return The number of kills
+	 */
+	static int rollEachArmy(int p_armies, double p_killProbability, RandomGenerator p_random) {
+		int l_kills = 0;
+		for (int i = 0; i < p_armies; i++) {
+			if (p_random.nextDouble() < p_killProbability) {
+				l_kills++;
+			}
+		}
+		return l_kills;
+	}
+
+	/**
+	 * Samples a Binomial(n, p) value exactly.
+	 * With U(1) &lt;= ... &lt;= U(n) the sorted rolls of n armies, the i-th smallest roll follows
+	 * Beta(i, n + 1 - i). If it falls below p, the i lowest rolls are all kills and the n - i others
+	 * are uniform above it; otherwise the n - i + 1 highest rolls are all misses and the i - 1 others
+	 * are uniform below it. Splitting at the median halves n at each step, and the small remainder
+	 * is rolled directly.
+	 *
+	 * @param p_trials The number of armies rolling
+	 * @param p_probability The chance that one army scores a kill
+	 * @param p_random The random generator to draw from
+	 * @return The number of kills
+	 */
+	static int sampleBinomial(int p_trials, double p_probability, RandomGenerator p_random) {
+		if (p_trials <= 0 || p_probability <= 0.0) {
+			return 0;
+		}
+		if (p_probability >= 1.0) {
+			return p_trials;
+		}
+
+		int l_trials = p_trials;
+		double l_probability = p_probability;
+		int l_successes = 0;
+
+		while (l_trials > DIRECT_ROLL_THRESHOLD) {
+			int l_rank = (l_trials + 1) / 2;
+			double l_orderStatistic = sampleBeta(l_rank, l_trials + 1 - l_rank, p_random);
+			if (l_orderStatistic < l_probability) {
+				l_successes += l_rank;
+				l_trials -= l_rank;
+				l_probability = (l_probability - l_orderStatistic) / (1.0 - l_orderStatistic);
+			} else {
+				l_trials = l_rank - 1;
+				l_probability = l_probability / l_orderStatistic;
+			}
+		}
+
+		return l_successes + rollEachArmy(l_trials, l_probability, p_random);
+	}
+
+	/**
+	 * Samples a Beta(a, b) value from two gamma variates.
+	 *
+	 * @param p_alpha The first shape parameter, at least 1
+	 * @param p_beta The second shape parameter, at least 1
+	 * @param p_random The random generator to draw from
+	 * @return A value in [0, 1]
+	 */
+	private static double sampleBeta(double p_alpha, double p_beta, RandomGenerator p_random) {
+		double l_x = sampleGamma(p_alpha, p_random);
+		double l_y = sampleGamma(p_beta, p_random);
+		return l_x / (l_x + l_y);
+	}
+
+	/**
+	 * Samples a Gamma(shape, 1) value with the Marsaglia-Tsang method.
+	 *
+	 * @param p_shape The shape parameter, at least 1
+	 * @param p_random The random generator to draw from
+	 * @return A positive value
+	 */
+	private static double sampleGamma(double p_shape, RandomGenerator p_random) {
+		double l_d = p_shape - 1.0 / 3.0;
+		double l_c = 1.0 / Math.sqrt(9.0 * l_d);
+		while (true) {
+			double l_x = p_random.nextGaussian();
+			double l_v = 1.0 + l_c * l_x;
+			if (l_v <= 0.0) {
+				continue;
+			}
+			l_v = l_v * l_v * l_v;
+			double l_u = p_random.nextDouble();
+			double l_xSquared = l_x * l_x;
+			if (l_u < 1.0 - 0.0331 * l_xSquared * l_xSquared) {
+				return l_d * l_v;
+			}
+			if (Math.log(l_u) < 0.5 * l_xSquared + l_d * (1.0 - l_v + Math.log(l_v))) {
+				return l_d * l_v;
+			}
+		}
+	}
+}
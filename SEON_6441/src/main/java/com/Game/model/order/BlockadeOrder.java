@@ -51,10 +51,10 @@ public class BlockadeOrder extends Order {
 	 */
 	@Override
 	public void execute() {
-		System.out.println();
+		output().println();
 		int l_initialArmies = d_territoryTo.getNumOfArmies();
-		System.out.println("Number of armies in " + d_territoryTo.getName() + ": " + l_initialArmies);
-		System.out.println("Using BLOCKADE on " + d_territoryTo.getName() + ". Will become a neutral territory!");
+		output().println("Number of armies in " + d_territoryTo.getName() + ": " + l_initialArmies);
+		output().println("Using BLOCKADE on " + d_territoryTo.getName() + ". Will become a neutral territory!");
 		
 		Player l_originalOwner = this.getIssuer();
 		String l_originalOwnerName = l_originalOwner.getName();
@@ -64,15 +64,15 @@ public class BlockadeOrder extends Order {
 		d_territoryTo.setNumOfArmies(d_territoryTo.getNumOfArmies() * 3);
 		int l_finalArmies = d_territoryTo.getNumOfArmies();
 		
-		System.out.println("Number of armies in " + d_territoryTo.getName() + ": " + l_finalArmies);
-		System.out.println();
+		output().println("Number of armies in " + d_territoryTo.getName() + ": " + l_finalArmies);
+		output().println();
 		
-		String l_logMessage = "Blockade Order Executed: Player " + l_originalOwnerName + 
-							  " blockaded " + d_territoryTo.getName() + 
-							  ". Territory is now neutral with " + l_finalArmies + 
-							  " armies (tripled from " + l_initialArmies + ").";
-							  
-		logOrderExecution(l_logMessage);
+		if (isExecutionLogged()) {
+			logOrderExecution("Blockade Order Executed: Player " + l_originalOwnerName + 
+					" blockaded " + d_territoryTo.getName() + 
+					". Territory is now neutral with " + l_finalArmies + 
+					" armies (tripled from " + l_initialArmies + ").");
+		}
 	}
 	
 	/**
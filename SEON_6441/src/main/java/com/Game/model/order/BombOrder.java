@@ -51,34 +51,33 @@ public class BombOrder extends Order {
 	 */
 	@Override
 	public void execute() {
-		String l_logMessage;
-		
 		if(getIssuer().getNegociatedPlayersPerTurn().contains(d_territoryTo.getOwner())) {
-			l_logMessage = "Bomb order from " + getIssuer().getName() + 
-						   " cancelled due to diplomacy with " + d_territoryTo.getOwner().getName();
-			System.out.println("Undo Bomb order from: " + getIssuer().getName());
-			System.out.println("Diplomacy between: " + getIssuer().getName() + " and " + d_territoryTo.getOwner().getName());
-			logOrderExecution(l_logMessage);
+			output().println("Undo Bomb order from: " + getIssuer().getName());
+			output().println("Diplomacy between: " + getIssuer().getName() + " and " + d_territoryTo.getOwner().getName());
+			if (isExecutionLogged()) {
+				logOrderExecution("Bomb order from " + getIssuer().getName() + 
+						" cancelled due to diplomacy with " + d_territoryTo.getOwner().getName());
+			}
 			return;
 		}
 		
-		System.out.println();
+		output().println();
 		int l_initialArmies = d_territoryTo.getNumOfArmies();
-		System.out.println("Number of armies in " + d_territoryTo.getName() + ": " + l_initialArmies);
-		System.out.println("Using BOMB on " + d_territoryTo.getName());
+		output().println("Number of armies in " + d_territoryTo.getName() + ": " + l_initialArmies);
+		output().println("Using BOMB on " + d_territoryTo.getName());
 		
 		d_territoryTo.setNumOfArmies(d_territoryTo.getNumOfArmies() / 2);
 		int l_finalArmies = d_territoryTo.getNumOfArmies();
 		
-		System.out.println("Number of armies in " + d_territoryTo.getName() + ": " + l_finalArmies);
-		System.out.println();
+		output().println("Number of armies in " + d_territoryTo.getName() + ": " + l_finalArmies);
+		output().println();
 		
-		l_logMessage = "Bomb Order Executed: Player " + getIssuer().getName() + 
-					   " bombed " + d_territoryTo.getName() + " owned by " + 
-					   (d_territoryTo.getOwner() != null ? d_territoryTo.getOwner().getName() : "neutral") + 
-					   ". Army count reduced from " + l_initialArmies + " to " + l_finalArmies;
-					   
-		logOrderExecution(l_logMessage);
+		if (isExecutionLogged()) {
+			logOrderExecution("Bomb Order Executed: Player " + getIssuer().getName() + 
+					" bombed " + d_territoryTo.getName() + " owned by " + 
+					(d_territoryTo.getOwner() != null ? d_territoryTo.getOwner().getName() : "neutral") + 
+					". Army count reduced from " + l_initialArmies + " to " + l_finalArmies);
+		}
 	}
 	
 	/**
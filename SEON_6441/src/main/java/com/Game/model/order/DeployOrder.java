@@ -102,7 +102,7 @@ public class DeployOrder extends Order {
                               this.d_targetTerritory.getName() + ". New total: " + 
                               this.d_targetTerritory.getNumOfArmies() + " armies.";
                               
-        System.out.println(l_logMessage);
+        output().println(l_logMessage);
         logOrderExecution(l_logMessage);
     }
 }
\ No newline at end of file
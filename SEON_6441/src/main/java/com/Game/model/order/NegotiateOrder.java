@@ -52,17 +52,17 @@ public class NegotiateOrder extends Order {
 	 */
 	@Override
 	public void execute() {
-		System.out.println();
-		System.out.println("Negotiating with: " + this.d_playerTo.getName());
+		output().println();
+		output().println("Negotiating with: " + this.d_playerTo.getName());
 		this.d_issuer.getNegociatedPlayersPerTurn().add(d_playerTo);
 		d_playerTo.getNegociatedPlayersPerTurn().add(this.d_issuer);
-		System.out.println();
+		output().println();
 		
-		String l_logMessage = "Negotiate Order Executed: Player " + this.d_issuer.getName() + 
-							  " established diplomacy with " + this.d_playerTo.getName() + 
-							  ". They cannot attack each other for this turn.";
-		
-		logOrderExecution(l_logMessage);
+		if (isExecutionLogged()) {
+			logOrderExecution("Negotiate Order Executed: Player " + this.d_issuer.getName() + 
+					" established diplomacy with " + this.d_playerTo.getName() + 
+					". They cannot attack each other for this turn.");
+		}
 	}
 	
 	/**
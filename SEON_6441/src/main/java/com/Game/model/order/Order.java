@@ -2,6 +2,9 @@ package com.Game.model.order;
 
 import com.Game.model.Player;
 import com.Game.observer.GameLogger;
+import com.Game.observer.LogLevel;
+import com.Game.view.GameOutput;
+import com.Game.view.OutputSink;
 
 /**
  * Abstract class representing an order in the game, implementing the Command pattern.
@@ -65,6 +68,16 @@ public abstract class Order {
      */
     public abstract void execute();
     
+    /**
+     * Gets the sink the results of this order are shown on: the sink bound to the thread
+     * executing the order, so simulated games can run headless.
+     * 
+     * @return The output sink
+     */
+    protected OutputSink output() {
+        return GameOutput.get();
+    }
+    
     /**
      * Logs the execution of this order.
      * 
@@ -73,7 +86,18 @@ public abstract class Order {
     protected void logOrderExecution(String p_message) {
         GameLogger logger = GameLogger.getInstance();
         if (logger != null) {
-            logger.logAction("Order execution: " + p_message);
+            logger.log(LogLevel.INFO, "Order execution: {}", p_message);
         }
     }
+    
+    /**
+     * Checks whether order executions are recorded by the game log. Orders test this before
+     * building their message, so nothing is allocated when the log is quieter than INFO.
+     * 
+     * @return true if {@link #logOrderExecution(String)} would record an entry
+     */
+    protected boolean isExecutionLogged() {
+        GameLogger logger = GameLogger.getInstance();
+        return logger != null && logger.isEnabled(LogLevel.INFO);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,178 @@
+package com.Game.model.order;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import com.Game.model.Player;
+
+/**
+ * Executes the orders issued by the players during a turn.
+ * Players that still have orders are kept in a ring: each one executes its next order and goes
+ * back to the end of the ring, and a player leaves the ring as soon as it has no order left,
+ * so draining N orders costs O(N) whatever the number of players.
+ */
+public final class OrderScheduler {
+
+	/**
+	 * The ways orders of different players can be interleaved.
+	 */
+	public enum Policy {
+		/**
+		 * One order per player in turn, in the order each player issued them.
+		 */
+		ROUND_ROBIN,
+		/**
+		 * Negotiations first, then deploys, then every other order. Within each group, one order
+		 * per player in turn, in the order each player issued them.
+		 */
+		PHASE_ORDERED
+	}
+
+	/**
+	 * Number of priority groups used by {@link Policy#PHASE_ORDERED}.
+	 */
+	private static final int PRIORITY_COUNT = 3;
+
+	/**
+	 * The policy used to interleave orders.
+	 */
+	private final Policy d_policy;
+
+	/**
+	 * Creates a scheduler using the round-robin policy.
+	 */
+	public OrderScheduler() {
+		this(Policy.ROUND_ROBIN);
+	}
+
+	/**
+	 * Creates a scheduler using the given policy.
+	 *
+	 * @param p_policy The policy used to interleave orders
+	 */
+	public OrderScheduler(Policy p_policy) {
+		this.d_policy = p_policy;
+	}
+
+	/**
+	 * Gets the policy used to interleave orders.
+	 *
+	 * @return The policy
+	 */
+	public Policy getPolicy() {
+		return d_policy;
+	}
+
+	/**
+	 * Executes every order of the players until none is left.
+	 *
+	 * @param p_players The players, in turn order
+	 * @return The number of orders executed
+	 */
+	public int executeAll(List<Player> p_players) {
+		return executeAll(p_players, null);
+	}
+
+	/**
+	 * Executes every order of the players until none is left.
+	 *
+	 * @param p_players The players, in turn order
+	 * @param p_beforeExecute Called with the issuing player and the order just before each order is executed;
+	 *        may be null
+	 * @return The number of orders executed
+	 */
+	public int executeAll(List<Player> p_players, BiConsumer<Player, Order> p_beforeExecute) {
+		if (d_policy == Policy.PHASE_ORDERED) {
+			return executePhaseOrdered(p_players, p_beforeExecute);
+		}
+		ArrayDeque<Player> l_ring = new ArrayDeque<>(p_players);
+		int l_executed = 0;
+		while (!l_ring.isEmpty()) {
+			Player l_player = l_ring.pollFirst();
+			Order l_order = l_player.nextOrder();
+			if (l_order == null) {
+				continue;
+			}
+			execute(l_player, l_order, p_beforeExecute);
+			l_executed++;
+			l_ring.addLast(l_player);
+		}
+		return l_executed;
+	}
+
+	/**
+	 * Gets the priority group of an order under {@link Policy#PHASE_ORDERED}; lower groups run first.
+	 *
+	 * @param p_order The order
+	 * @return 0 for negotiations, 1 for deploys, 2 for every other order
+	 */
+	public static int priorityOf(Order p_order) {
+		if (p_order instanceof NegotiateOrder) {
+			return 0;
+		}
+		if (p_order instanceof DeployOrder) {
+			return 1;
+		}
+		return 2;
+	}
+
+	/**
+	 * Takes every order of the players in one pass, sorts them into priority groups
+	 * and executes the groups in order, round robin within each group.
+	 *
+	 * @param p_players The players, in turn order
+	 * @param p_beforeExecute Called before each order is executed; may be null
+	 * @return The number of orders executed
+	 */
+	private int executePhaseOrdered(List<Player> p_players, BiConsumer<Player, Order> p_beforeExecute) {
+		List<List<ArrayDeque<Order>>> l_groups = new ArrayList<>(PRIORITY_COUNT);
+		for (int i = 0; i < PRIORITY_COUNT; i++) {
+			List<ArrayDeque<Order>> l_queues = new ArrayList<>(p_players.size());
+			for (int j = 0; j < p_players.size(); j++) {
+				l_queues.add(new ArrayDeque<>());
+			}
+			l_groups.add(l_queues);
+		}
+		for (int j = 0; j < p_players.size(); j++) {
+			Order l_order;
+			while ((l_order = p_players.get(j).nextOrder()) != null) {
+				l_groups.get(priorityOf(l_order)).get(j).addLast(l_order);
+			}
+		}
+
+		int l_executed = 0;
+		for (List<ArrayDeque<Order>> l_queues : l_groups) {
+			ArrayDeque<Integer> l_ring = new ArrayDeque<>(p_players.size());
+			for (int j = 0; j < p_players.size(); j++) {
+				if (!l_queues.get(j).isEmpty()) {
+					l_ring.addLast(j);
+				}
+			}
+			while (!l_ring.isEmpty()) {
+				int l_index = l_ring.pollFirst();
+				execute(p_players.get(l_index), l_queues.get(l_index).pollFirst(), p_beforeExecute);
+				l_executed++;
+				if (!l_queues.get(l_index).isEmpty()) {
+					l_ring.addLast(l_index);
+				}
+			}
+		}
+		return l_executed;
+	}
+
+	/**
+	 * Executes one order.
+	 *
+	 * @param p_player The player who issued the order
+	 * @param p_order The order
+	 * @param p_beforeExecute Called before the order is executed; may be null
+	 */
+	private static void execute(Player p_player, Order p_order, BiConsumer<Player, Order> p_beforeExecute) {
+		if (p_beforeExecute != null) {
+			p_beforeExecute.accept(p_player, p_order);
+		}
+		p_order.execute();
+	}
+}
@@ -0,0 +1,236 @@
+package com.Game.observer;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * File observer that writes log entries on a background thread.
+ * Entries are placed in a bounded queue by {@link #update(String)}, which never blocks the game.
+ * A writer thread keeps one file open and writes the queued entries in batches, flushing once per
+ * batch, either when a batch is full or when the flush interval has elapsed. When the queue is full,
+ * new entries are dropped and counted rather than slowing the game down.
+ * {@link #close()} writes every entry still queued before returning.
+ */
+public class AsyncFileLogObserver extends FileLogObserver implements AutoCloseable {
+
+    /**
+     * Default number of entries the queue can hold.
+     */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    /**
+     * Default maximum number of entries written per batch.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    /**
+     * Default time the writer waits for more entries before flushing, in milliseconds.
+     */
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 200;
+
+    /**
+     * Entries waiting to be written.
+     */
+    private final BlockingQueue<String> d_queue;
+
+    /**
+     * Maximum number of entries written per batch.
+     */
+    private final int d_batchSize;
+
+    /**
+     * Time the writer waits for entries before flushing, in milliseconds.
+     */
+    private final long d_flushIntervalMillis;
+
+    /**
+     * Number of entries dropped because the queue was full or the observer was closed.
+     */
+    private final AtomicLong d_droppedEntries = new AtomicLong();
+
+    /**
+     * Number of entries written to the file.
+     */
+    private final AtomicLong d_writtenEntries = new AtomicLong();
+
+    /**
+     * Background thread writing the entries.
+     */
+    private final Thread d_writerThread;
+
+    /**
+     * Set once close() has been called.
+     */
+    private volatile boolean d_closed;
+
+    /**
+     * Creates an asynchronous observer with the default capacity, batch size and flush interval.
+     *
+     * @param p_logFilePath The path of the log file
+     * @param p_appendToFile If true, append to existing file; if false, create new file
+     */
+    public AsyncFileLogObserver(String p_logFilePath, boolean p_appendToFile) {
+        this(p_logFilePath, p_appendToFile, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE, DEFAULT_FLUSH_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Creates an asynchronous observer.
+     *
+     * @param p_logFilePath The path of the log file
+     * @param p_appendToFile If true, append to existing file; if false, create new file
+     * @param p_capacity Number of entries the queue can hold
+     * @param p_batchSize Maximum number of entries written per batch
+     * @param p_flushIntervalMillis Time the writer waits for entries before flushing, in milliseconds
+     */
+    public AsyncFileLogObserver(String p_logFilePath, boolean p_appendToFile, int p_capacity,
+                                int p_batchSize, long p_flushIntervalMillis) {
+        super(p_logFilePath, p_appendToFile);
+        this.d_queue = new ArrayBlockingQueue<>(Math.max(1, p_capacity));
+        this.d_batchSize = Math.max(1, p_batchSize);
+        this.d_flushIntervalMillis = Math.max(1, p_flushIntervalMillis);
+        this.d_writerThread = new Thread(this::writeLoop, "log-writer");
+        this.d_writerThread.setDaemon(true);
+        this.d_writerThread.start();
+    }
+
+    /**
+     * Queues a log entry for writing. Never blocks; the entry is dropped if the queue is full.
+     *
+     * @param p_logEntry The log entry that was added to the buffer
+     */
+    @Override
+    public void update(String p_logEntry) {
+        if (d_closed || !d_queue.offer(p_logEntry)) {
+            d_droppedEntries.incrementAndGet();
+        }
+    }
+
+    /**
+     * Body of the writer thread: takes batches of entries off the queue and writes them,
+     * reopening the file whenever the log file path changes. A batch that cannot be written
+     * is counted as dropped and the file is reopened for the next batch, so a passing error
+     * does not stop the writer.
+     */
+    private void writeLoop() {
+        List<String> l_batch = new ArrayList<>(d_batchSize);
+        BufferedWriter l_writer = null;
+        String l_openPath = null;
+        try {
+            while (!d_closed || !d_queue.isEmpty()) {
+                String l_first;
+                try {
+                    l_first = d_queue.poll(d_flushIntervalMillis, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    // close() interrupts only to cut the wait short; keep draining
+                    continue;
+                }
+                if (l_first == null) {
+                    continue;
+                }
+                l_batch.add(l_first);
+                d_queue.drainTo(l_batch, d_batchSize - 1);
+
+                try {
+                    String l_path = getLogFilePath();
+                    if (l_writer == null || !l_path.equals(l_openPath)) {
+                        closeQuietly(l_writer);
+                        l_writer = null;
+                        l_writer = new BufferedWriter(new FileWriter(l_path, true));
+                        l_openPath = l_path;
+                    }
+                    for (String l_entry : l_batch) {
+                        l_writer.write(l_entry);
+                        l_writer.newLine();
+                    }
+                    l_writer.flush();
+                    d_writtenEntries.addAndGet(l_batch.size());
+                } catch (IOException e) {
+                    System.err.println("Error writing to log file: " + e.getMessage());
+                    d_droppedEntries.addAndGet(l_batch.size());
+                    closeQuietly(l_writer);
+                    l_writer = null;
+                }
+                l_batch.clear();
+            }
+        } finally {
+            closeQuietly(l_writer);
+        }
+    }
+
+    /**
+     * Closes a writer, ignoring errors.
+     *
+     * @param p_writer The writer to close, may be null
+     */
+    private static void closeQuietly(BufferedWriter p_writer) {
+        if (p_writer != null) {
+            try {
+                p_writer.close();
+            } catch (IOException e) {
+                System.err.println("Error closing log file: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Stops accepting entries, writes everything still queued and closes the file.
+     * Safe to call more than once.
+     */
+    @Override
+    public void close() {
+        d_closed = true;
+        d_writerThread.interrupt();
+        try {
+            d_writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Entries offered while the writer was finishing are counted as dropped
+        d_droppedEntries.addAndGet(d_queue.size());
+        d_queue.clear();
+    }
+
+    /**
+     * Gets the number of entries waiting to be written.
+     *
+     * @return The current queue depth
+     */
+    public int getQueueDepth() {
+        return d_queue.size();
+    }
+
+    /**
+     * Gets the number of entries dropped because the queue was full, the observer was
+     * closed, or the file could not be written.
+     *
+     * @return The number of dropped entries
+     */
+    public long getDroppedEntries() {
+        return d_droppedEntries.get();
+    }
+
+    /**
+     * Gets the number of entries written to the file.
+     *
+     * @return The number of written entries
+     */
+    public long getWrittenEntries() {
+        return d_writtenEntries.get();
+    }
+
+    /**
+     * Checks whether the observer has been closed.
+     *
+     * @return true if closed, false otherwise
+     */
+    public boolean isClosed() {
+        return d_closed;
+    }
+}
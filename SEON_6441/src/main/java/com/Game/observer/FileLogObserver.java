@@ -12,9 +12,10 @@ import java.io.PrintWriter;
 public class FileLogObserver implements LogObserver {
     
     /**
-     * The path of the log file.
+     * The path of the log file. Volatile because an {@link AsyncFileLogObserver} reads it on
+     * its writer thread while it may be changed on the game thread.
      */
-    private String d_logFilePath;
+    private volatile String d_logFilePath;
     
     /**
      * Flag indicating whether to append to an existing file or create a new one.
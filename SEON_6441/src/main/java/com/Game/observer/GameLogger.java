@@ -1,9 +1,17 @@
 package com.Game.observer;
 
+import java.util.function.Supplier;
+
 /**
  * GameLogger class serves as a facade for the logging system.
  * It initializes and manages the LogEntryBuffer and observers, providing a simplified
  * interface for the game components to log actions.
+ *
+ * <p>Entries below the level of the logger are dropped. The {@link Supplier} and template
+ * overloads of {@link #log(LogLevel, String)} check the level before building the message.
+ * A lambda that captures variables is still allocated at the call site, and so is a boxed
+ * template argument, so call sites on hot paths either pass references to the template
+ * overloads or test {@link #isEnabled(LogLevel)} before building anything.</p>
  */
 public class GameLogger {
     
@@ -13,15 +21,27 @@ public class GameLogger {
     private LogEntryBuffer d_logEntryBuffer;
     
     /**
-     * File observer that writes logs to a file.
+     * File observer that writes logs to a file. Replaced by {@link #setAsyncFileWriting(boolean)}
+     * while other threads may be logging.
      */
-    private FileLogObserver d_fileObserver;
+    private volatile FileLogObserver d_fileObserver;
     
     /**
      * Singleton instance of the GameLogger.
      */
     private static GameLogger d_instance;
     
+    /**
+     * Logger bound to the current thread, if any. A bound logger takes precedence over
+     * the singleton so that games running concurrently do not interleave their entries.
+     */
+    private static final ThreadLocal<GameLogger> d_threadInstance = new ThreadLocal<>();
+    
+    /**
+     * Minimum level of the entries recorded by this logger.
+     */
+    private volatile LogLevel d_level = LogLevel.INFO;
+    
     /**
      * Private constructor initializing the logger components.
      * 
@@ -36,6 +56,14 @@ public class GameLogger {
         this.d_logEntryBuffer.addObserver(d_fileObserver);
     }
     
+    /**
+     * Private constructor for a logger that only keeps entries in memory.
+     */
+    private GameLogger() {
+        this.d_logEntryBuffer = new LogEntryBuffer();
+        this.d_fileObserver = null;
+    }
+    
     /**
      * Gets the singleton instance of GameLogger.
      * Creates a new instance if one doesn't exist.
@@ -53,29 +81,179 @@ public class GameLogger {
     
     /**
      * Gets the singleton instance with default configuration if it exists.
+     * If a logger has been bound to the calling thread, that logger is returned instead.
      * 
      * @return The existing GameLogger instance or null if not initialized
      */
     public static GameLogger getInstance() {
+        GameLogger l_threadLogger = d_threadInstance.get();
+        if (l_threadLogger != null) {
+            return l_threadLogger;
+        }
         return d_instance;
     }
     
     /**
-     * Logs a game action.
+     * Creates a logger that keeps its entries in memory only, without writing to a file.
+     * Used to isolate the log of a single game when several games run concurrently.
+     * 
+     * @return A new in-memory GameLogger
+     */
+    public static GameLogger createGameScopedLogger() {
+        GameLogger l_logger = new GameLogger();
+        GameLogger l_instance = d_instance;
+        if (l_instance != null && l_instance.d_level != null) {
+            l_logger.d_level = l_instance.d_level;
+        }
+        return l_logger;
+    }
+    
+    /**
+     * Binds a logger to the calling thread, so that {@link #getInstance()} returns it
+     * on this thread until {@link #unbindFromCurrentThread()} is called.
+     * 
+     * @param p_logger The logger to bind
+     */
+    public static void bindToCurrentThread(GameLogger p_logger) {
+        d_threadInstance.set(p_logger);
+    }
+    
+    /**
+     * Removes the logger bound to the calling thread, if any.
+     */
+    public static void unbindFromCurrentThread() {
+        d_threadInstance.remove();
+    }
+    
+    /**
+     * Gets the minimum level of the entries recorded by this logger.
+     * 
+     * @return The logger level
+     */
+    public LogLevel getLevel() {
+        return d_level;
+    }
+    
+    /**
+     * Sets the minimum level of the entries recorded by this logger.
+     * {@link LogLevel#OFF} disables logging entirely.
+     * 
+     * @param p_level The new logger level
+     */
+    public void setLevel(LogLevel p_level) {
+        this.d_level = p_level;
+    }
+    
+    /**
+     * Checks whether entries of the given level are recorded. Call sites that build a message
+     * in several steps can use this to skip the work. A logger without a level records
+     * {@link LogLevel#INFO} and above.
+     * 
+     * @param p_level The level of the entry
+     * @return true if entries of this level are recorded
+     */
+    public boolean isEnabled(LogLevel p_level) {
+        LogLevel l_level = d_level;
+        return p_level.isAtLeast(l_level != null ? l_level : LogLevel.INFO);
+    }
+    
+    /**
+     * Logs a game action at {@link LogLevel#INFO}.
      * 
      * @param p_logEntry The log entry describing the action
      */
     public void logAction(String p_logEntry) {
-        this.d_logEntryBuffer.logAction(p_logEntry);
+        if (isEnabled(LogLevel.INFO)) {
+            this.d_logEntryBuffer.logAction(p_logEntry);
+        }
     }
     
     /**
-     * Logs a phase change in the game.
+     * Logs a phase change in the game at {@link LogLevel#INFO}.
      * 
      * @param p_phaseName The name of the new phase
      */
     public void logPhaseChange(String p_phaseName) {
-        this.d_logEntryBuffer.logPhaseChange(p_phaseName);
+        if (isEnabled(LogLevel.INFO)) {
+            this.d_logEntryBuffer.logPhaseChange(p_phaseName);
+        }
+    }
+    
+    /**
+     * Logs an entry at the given level.
+     * 
+     * @param p_level The level of the entry
+     * @param p_logEntry The log entry
+     */
+    public void log(LogLevel p_level, String p_logEntry) {
+        if (isEnabled(p_level)) {
+            this.d_logEntryBuffer.logAction(p_logEntry);
+        }
+    }
+    
+    /**
+     * Logs an entry at the given level, building it only if the level is recorded.
+     * 
+     * @param p_level The level of the entry
+     * @param p_logEntry Builds the log entry
+     */
+    public void log(LogLevel p_level, Supplier<String> p_logEntry) {
+        if (isEnabled(p_level)) {
+            this.d_logEntryBuffer.logAction(p_logEntry.get());
+        }
+    }
+    
+    /**
+     * Logs an entry at the given level, replacing the first {@code {}} of the template with
+     * the argument. The entry is only formatted if the level is recorded.
+     * 
+     * @param p_level The level of the entry
+     * @param p_template The entry, with {@code {}} where the argument goes
+     * @param p_arg The argument
+     */
+    public void log(LogLevel p_level, String p_template, Object p_arg) {
+        if (isEnabled(p_level)) {
+            this.d_logEntryBuffer.logAction(format(p_template, p_arg, null, 1));
+        }
+    }
+    
+    /**
+     * Logs an entry at the given level, replacing the first two {@code {}} of the template with
+     * the arguments, in order. The entry is only formatted if the level is recorded.
+     * 
+     * @param p_level The level of the entry
+     * @param p_template The entry, with {@code {}} where the arguments go
+     * @param p_arg1 The first argument
+     * @param p_arg2 The second argument
+     */
+    public void log(LogLevel p_level, String p_template, Object p_arg1, Object p_arg2) {
+        if (isEnabled(p_level)) {
+            this.d_logEntryBuffer.logAction(format(p_template, p_arg1, p_arg2, 2));
+        }
+    }
+    
+    /**
+     * Replaces the {@code {}} placeholders of a template with the arguments. Placeholders
+     * beyond the number of arguments are kept as they are.
+     * 
+     * @param p_template The template
+     * @param p_arg1 The first argument
+     * @param p_arg2 The second argument
+     * @param p_argCount The number of arguments to use, 1 or 2
+     * @return The formatted entry
+     */
+    static String format(String p_template, Object p_arg1, Object p_arg2, int p_argCount) {
+        StringBuilder l_entry = new StringBuilder(p_template.length() + 32);
+        int l_start = 0;
+        for (int l_used = 0; l_used < p_argCount; l_used++) {
+            int l_placeholder = p_template.indexOf("{}", l_start);
+            if (l_placeholder < 0) {
+                break;
+            }
+            l_entry.append(p_template, l_start, l_placeholder).append(l_used == 0 ? p_arg1 : p_arg2);
+            l_start = l_placeholder + 2;
+        }
+        return l_entry.append(p_template, l_start, p_template.length()).toString();
     }
     
     /**
@@ -87,6 +265,40 @@ public class GameLogger {
         return this.d_logEntryBuffer.getLogBuffer();
     }
     
+    /**
+     * Writes the full log buffer content to the given output, streaming the entries
+     * spilled to disk instead of building the whole content in memory first.
+     * 
+     * @param p_out Where to write the entries
+     * @throws java.io.IOException If the spilled entries cannot be read or the output cannot be written
+     */
+    public void writeLogBuffer(Appendable p_out) throws java.io.IOException {
+        this.d_logEntryBuffer.writeLogBuffer(p_out);
+    }
+    
+    /**
+     * Appends every entry of another logger to this one, in order, as if they had been logged
+     * here with the timestamps they were logged with. The entries are streamed one line at a
+     * time, so the other log is never built in memory, and are dropped like
+     * {@link #logAction(String)} entries when this logger does not record {@link LogLevel#INFO}.
+     * 
+     * @param p_source The logger whose entries are appended
+     * @throws java.io.IOException If the entries the other logger spilled to disk cannot be read
+     */
+    public void appendLogBuffer(GameLogger p_source) throws java.io.IOException {
+        if (isEnabled(LogLevel.INFO)) {
+            this.d_logEntryBuffer.appendEntries(p_source.d_logEntryBuffer);
+        }
+    }
+    
+    /**
+     * Moves the entries kept in memory to disk, for a logger whose entries are only
+     * read back later.
+     */
+    public void spillLogBuffer() {
+        this.d_logEntryBuffer.spillRecentEntries();
+    }
+    
     /**
      * Clears the log buffer.
      */
@@ -100,7 +312,62 @@ public class GameLogger {
      * @return The log file path
      */
     public String getLogFilePath() {
-        return this.d_fileObserver.getLogFilePath();
+        FileLogObserver l_observer = d_fileObserver;
+        return l_observer != null ? l_observer.getLogFilePath() : null;
+    }
+    
+    /**
+     * Gets the observer writing this logger's entries to a file.
+     * 
+     * @return The file observer, or null for an in-memory logger
+     */
+    public FileLogObserver getFileObserver() {
+        return d_fileObserver;
+    }
+    
+    /**
+     * Switches between writing log entries on the calling thread and writing them in
+     * batches on a background thread. Switching back to synchronous writing, like
+     * {@link #shutdown()}, waits until every queued entry has been written.
+     * Has no effect on an in-memory logger.
+     * 
+     * @param p_async true to write asynchronously, false to write synchronously
+     */
+    public synchronized void setAsyncFileWriting(boolean p_async) {
+        FileLogObserver l_current = d_fileObserver;
+        if (l_current == null || (l_current instanceof AsyncFileLogObserver) == p_async) {
+            return;
+        }
+        FileLogObserver l_replacement = p_async
+                ? new AsyncFileLogObserver(l_current.getLogFilePath(), true)
+                : new FileLogObserver(l_current.getLogFilePath(), true);
+        // Holding the buffer's lock keeps entries out while the observers are swapped, so none
+        // is delivered to both or to neither, and the old observer is drained before the new
+        // one writes anything.
+        synchronized (d_logEntryBuffer) {
+            d_logEntryBuffer.removeObserver(l_current);
+            if (l_current instanceof AsyncFileLogObserver) {
+                ((AsyncFileLogObserver) l_current).close();
+            }
+            d_logEntryBuffer.addObserver(l_replacement);
+            d_fileObserver = l_replacement;
+        }
+    }
+    
+    /**
+     * Checks whether log entries are written on a background thread.
+     * 
+     * @return true if writing asynchronously, false otherwise
+     */
+    public boolean isAsyncFileWriting() {
+        return d_fileObserver instanceof AsyncFileLogObserver;
+    }
+    
+    /**
+     * Writes any queued log entries and releases the background writer, if one is used.
+     */
+    public synchronized void shutdown() {
+        setAsyncFileWriting(false);
     }
     
     /**
@@ -108,7 +375,10 @@ public class GameLogger {
      * 
      * @param p_logFilePath The new log file path
      */
-    public void setLogFilePath(String p_logFilePath) {
-        this.d_fileObserver.setLogFilePath(p_logFilePath);
+    public synchronized void setLogFilePath(String p_logFilePath) {
+        FileLogObserver l_observer = d_fileObserver;
+        if (l_observer != null) {
+            l_observer.setLogFilePath(p_logFilePath);
+        }
     }
 }
\ No newline at end of file
@@ -1,30 +1,139 @@
 package com.Game.observer;
 
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * LogEntryBuffer class acts as the Observable in the Observer pattern.
  * It maintains a list of log entries and notifies observers when new entries are added.
+ *
+ * <p>Only the most recent entries are kept in memory, in a ring bounded both by a number of
+ * entries and by an estimate of their size in bytes. When either bound is reached, the oldest
+ * entries spill to a {@link SegmentedLogFile} on disk, so memory use stays the same however
+ * long the game runs and however long its entries are. {@link #getLogBuffer()} and
+ * {@link #writeLogBuffer(Appendable)} read the spilled entries back before the recent ones.</p>
  */
 public class LogEntryBuffer {
     
+    /**
+     * Format of the timestamp at the start of each entry.
+     */
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    
+    /**
+     * Timestamp prefix of the second in which the last entry was formatted, shared by every
+     * buffer. Entries within the same second reuse it instead of formatting the time again.
+     */
+    private static volatile TimestampPrefix d_lastPrefix = new TimestampPrefix(Long.MIN_VALUE, "");
+    
+    /**
+     * A formatted timestamp prefix and the second it was formatted for.
+     */
+    private static final class TimestampPrefix {
+        
+        /**
+         * Seconds since the epoch the prefix was formatted for.
+         */
+        private final long d_second;
+        
+        /**
+         * The prefix, such as "[2025-01-31 12:00:00] ".
+         */
+        private final String d_prefix;
+        
+        /**
+         * Creates a prefix.
+         * 
+         * @param p_second Seconds since the epoch
+         * @param p_prefix The formatted prefix
+         */
+        private TimestampPrefix(long p_second, String p_prefix) {
+            this.d_second = p_second;
+            this.d_prefix = p_prefix;
+        }
+    }
+    
     /**
      * List of observers that will be notified of changes.
      */
     private List<LogObserver> d_observers;
     
     /**
-     * The current log entry buffer.
+     * Default number of entries kept in memory.
      */
-    private StringBuilder d_logBuffer;
+    public static final int DEFAULT_CAPACITY = 4096;
     
     /**
-     * Constructor initializing the buffer and observer list.
+     * Default estimate of the bytes taken by the entries kept in memory.
+     */
+    public static final long DEFAULT_MAX_BYTES = 1L << 20;
+    
+    /**
+     * The most recent entries, oldest at d_head.
+     */
+    private final String[] d_recentEntries;
+    
+    /**
+     * Index of the oldest entry kept in memory.
+     */
+    private int d_head;
+    
+    /**
+     * Number of entries kept in memory.
+     */
+    private int d_size;
+    
+    /**
+     * Maximum estimate of the bytes taken by the entries kept in memory.
+     */
+    private final long d_maxBytes;
+    
+    /**
+     * Estimate of the bytes taken by the entries kept in memory, two per character.
+     */
+    private long d_bytes;
+    
+    /**
+     * Entries that no longer fit in memory.
+     */
+    private final SegmentedLogFile d_spill;
+    
+    /**
+     * Constructor initializing the buffer and observer list with the default capacity.
      */
     public LogEntryBuffer() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_BYTES, new SegmentedLogFile());
+    }
+    
+    /**
+     * Constructor initializing the buffer and observer list with the default byte budget.
+     * 
+     * @param p_capacity Number of entries kept in memory before older ones spill to disk
+     * @param p_spill Where entries that no longer fit in memory are written
+     */
+    public LogEntryBuffer(int p_capacity, SegmentedLogFile p_spill) {
+        this(p_capacity, DEFAULT_MAX_BYTES, p_spill);
+    }
+    
+    /**
+     * Constructor initializing the buffer and observer list.
+     * 
+     * @param p_capacity Number of entries kept in memory before older ones spill to disk
+     * @param p_maxBytes Estimate of the bytes the entries kept in memory may take before
+     *                   older ones spill to disk
+     * @param p_spill Where entries that no longer fit in memory are written
+     */
+    public LogEntryBuffer(int p_capacity, long p_maxBytes, SegmentedLogFile p_spill) {
         this.d_observers = new ArrayList<>();
-        this.d_logBuffer = new StringBuilder();
+        this.d_recentEntries = new String[Math.max(1, p_capacity)];
+        this.d_maxBytes = Math.max(0, p_maxBytes);
+        this.d_spill = p_spill;
     }
     
     /**
@@ -32,7 +141,7 @@ public class LogEntryBuffer {
      * 
      * @param p_observer The observer to add
      */
-    public void addObserver(LogObserver p_observer) {
+    public synchronized void addObserver(LogObserver p_observer) {
         if (!d_observers.contains(p_observer)) {
             d_observers.add(p_observer);
         }
@@ -43,7 +152,7 @@ public class LogEntryBuffer {
      * 
      * @param p_observer The observer to remove
      */
-    public void removeObserver(LogObserver p_observer) {
+    public synchronized void removeObserver(LogObserver p_observer) {
         d_observers.remove(p_observer);
     }
     
@@ -59,14 +168,117 @@ public class LogEntryBuffer {
     }
     
     /**
-     * Adds a log entry to the buffer and notifies observers.
+     * Adds a log entry to the buffer and notifies observers. Observers are notified while
+     * holding the buffer's lock, so an observer replaced under that lock sees each entry
+     * either before or after the replacement, never both.
      * 
      * @param p_logEntry The log entry to add
      */
     public void logAction(String p_logEntry) {
         String l_formattedEntry = formatLogEntry(p_logEntry);
-        d_logBuffer.append(l_formattedEntry).append("\n");
-        notifyObservers(l_formattedEntry);
+        synchronized (this) {
+            addRecentEntry(l_formattedEntry);
+            notifyObservers(l_formattedEntry);
+        }
+    }
+    
+    /**
+     * Keeps an entry in memory, spilling the oldest entries to disk while the ring holds too
+     * many entries or too many bytes. An entry larger than the whole byte budget goes straight
+     * to disk, after the entries before it.
+     * 
+     * @param p_entry The formatted entry
+     */
+    private synchronized void addRecentEntry(String p_entry) {
+        if (d_size == d_recentEntries.length) {
+            spillOldest();
+        }
+        d_recentEntries[(d_head + d_size) % d_recentEntries.length] = p_entry;
+        d_size++;
+        d_bytes += estimateBytes(p_entry);
+        while (d_size > 0 && d_bytes > d_maxBytes) {
+            spillOldest();
+        }
+    }
+    
+    /**
+     * Moves the oldest entry kept in memory to disk.
+     */
+    private void spillOldest() {
+        String l_oldest = d_recentEntries[d_head];
+        d_recentEntries[d_head] = null;
+        d_head = (d_head + 1) % d_recentEntries.length;
+        d_size--;
+        d_bytes -= estimateBytes(l_oldest);
+        try {
+            d_spill.append(l_oldest);
+        } catch (IOException e) {
+            System.err.println("Error spilling log entry to disk: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Estimates the bytes taken by an entry, counting two per character.
+     * 
+     * @param p_entry The entry
+     * @return The estimate
+     */
+    private static long estimateBytes(String p_entry) {
+        return 2L * p_entry.length();
+    }
+    
+    /**
+     * Moves every entry kept in memory to disk, so that the buffer holds none of its
+     * entries in memory until the next one is logged.
+     */
+    public synchronized void spillRecentEntries() {
+        while (d_size > 0) {
+            spillOldest();
+        }
+        d_head = 0;
+    }
+    
+    /**
+     * Appends every entry of another buffer to this one, in order, and notifies the observers
+     * of each. The entries are streamed one line at a time, from the other buffer's spilled
+     * segments and then its ring, and keep the timestamps they were logged with; an entry
+     * spanning several lines becomes one entry per line.
+     * 
+     * @param p_source The buffer whose entries are appended
+     * @throws IOException If the spilled entries of the other buffer cannot be read
+     */
+    public void appendEntries(LogEntryBuffer p_source) throws IOException {
+        p_source.writeLogBuffer(new Appendable() {
+            private final StringBuilder d_line = new StringBuilder();
+            
+            @Override
+            public Appendable append(CharSequence p_chars) {
+                return append(p_chars, 0, p_chars.length());
+            }
+            
+            @Override
+            public Appendable append(CharSequence p_chars, int p_start, int p_end) {
+                for (int i = p_start; i < p_end; i++) {
+                    append(p_chars.charAt(i));
+                }
+                return this;
+            }
+            
+            @Override
+            public Appendable append(char p_char) {
+                if (p_char != '\n') {
+                    d_line.append(p_char);
+                    return this;
+                }
+                String l_entry = d_line.toString();
+                d_line.setLength(0);
+                synchronized (LogEntryBuffer.this) {
+                    addRecentEntry(l_entry);
+                    notifyObservers(l_entry);
+                }
+                return this;
+            }
+        });
     }
     
     /**
@@ -80,15 +292,21 @@ public class LogEntryBuffer {
     }
     
     /**
-     * Formats a log entry with timestamp.
+     * Formats a log entry with timestamp. The timestamp is only formatted again when
+     * the second changes.
      * 
      * @param p_logEntry The log entry to format
      * @return The formatted log entry
      */
     private String formatLogEntry(String p_logEntry) {
-        java.time.LocalDateTime l_now = java.time.LocalDateTime.now();
-        java.time.format.DateTimeFormatter l_formatter = java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-        return "[" + l_formatter.format(l_now) + "] " + p_logEntry;
+        long l_second = System.currentTimeMillis() / 1000;
+        TimestampPrefix l_prefix = d_lastPrefix;
+        if (l_prefix.d_second != l_second) {
+            l_prefix = new TimestampPrefix(l_second, "[" + TIMESTAMP_FORMAT.format(
+                    LocalDateTime.ofInstant(Instant.ofEpochSecond(l_second), ZoneId.systemDefault())) + "] ");
+            d_lastPrefix = l_prefix;
+        }
+        return l_prefix.d_prefix.concat(p_logEntry);
     }
     
     /**
@@ -97,13 +315,46 @@ public class LogEntryBuffer {
      * @return The log buffer as a string
      */
     public String getLogBuffer() {
-        return d_logBuffer.toString();
+        StringBuilder l_buffer = new StringBuilder();
+        try {
+            writeLogBuffer(l_buffer);
+        } catch (IOException e) {
+            System.err.println("Error reading spilled log entries: " + e.getMessage());
+        }
+        return l_buffer.toString();
+    }
+    
+    /**
+     * Writes every entry, one per line, to the given output: first the entries spilled
+     * to disk, streamed from their segments, then the entries kept in memory.
+     * 
+     * @param p_out Where to write the entries
+     * @throws IOException If the spilled entries cannot be read or the output cannot be written
+     */
+    public synchronized void writeLogBuffer(Appendable p_out) throws IOException {
+        d_spill.copyTo(p_out);
+        for (int i = 0; i < d_size; i++) {
+            p_out.append(d_recentEntries[(d_head + i) % d_recentEntries.length]).append('\n');
+        }
+    }
+    
+    /**
+     * Gets the number of entries logged since the buffer was created or cleared.
+     * 
+     * @return The number of entries, in memory and on disk
+     */
+    public synchronized long getEntryCount() {
+        return d_spill.getEntryCount() + d_size;
     }
     
     /**
-     * Clears the log buffer.
+     * Clears the log buffer, removing the spilled entries from disk.
      */
-    public void clearLogBuffer() {
-        d_logBuffer = new StringBuilder();
+    public synchronized void clearLogBuffer() {
+        Arrays.fill(d_recentEntries, null);
+        d_head = 0;
+        d_size = 0;
+        d_bytes = 0;
+        d_spill.delete();
     }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.Game.observer;
+
+/**
+ * Severity of a log entry. A {@link GameLogger} records the entries at or above its level
+ * and drops the others before any message is built.
+ */
+public enum LogLevel {
+
+    /**
+     * Detailed tracing of the game, such as every card received or used.
+     */
+    DEBUG,
+
+    /**
+     * Normal game events: phases, orders and their results.
+     */
+    INFO,
+
+    /**
+     * Unexpected situations the game recovers from, such as invalid orders.
+     */
+    WARNING,
+
+    /**
+     * Failures, such as a map that cannot be loaded.
+     */
+    ERROR,
+
+    /**
+     * Used as a logger level only: records nothing.
+     */
+    OFF;
+
+    /**
+     * Checks whether an entry of this level is recorded by a logger set to the given level.
+     *
+     * @param p_threshold The level of the logger
+     * @return true if entries of this level are recorded
+     */
+    public boolean isAtLeast(LogLevel p_threshold) {
+        return this != OFF && compareTo(p_threshold) >= 0;
+    }
+}
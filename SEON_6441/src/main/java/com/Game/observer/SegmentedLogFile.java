@@ -0,0 +1,182 @@
+package com.Game.observer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Temporary on-disk store for the log entries that no longer fit in the memory of a
+ * {@link LogEntryBuffer}. Entries are appended to a sequence of segment files, a new segment
+ * being started once the current one reaches its size limit, and can be streamed back in the
+ * order they were written. Nothing is created on disk until the first entry is appended, and
+ * {@link #delete()} removes every segment.
+ */
+public class SegmentedLogFile {
+
+    /**
+     * Default number of characters written to a segment before a new one is started.
+     */
+    public static final long DEFAULT_SEGMENT_SIZE = 1L << 20;
+
+    /**
+     * Number of characters written to a segment before a new one is started.
+     */
+    private final long d_segmentSize;
+
+    /**
+     * Segment files, oldest first.
+     */
+    private final List<Path> d_segments = new ArrayList<>();
+
+    /**
+     * Directory holding the segments, or null until the first entry is appended.
+     */
+    private Path d_directory;
+
+    /**
+     * Writer of the current segment, or null if no segment is open.
+     */
+    private Writer d_writer;
+
+    /**
+     * Number of characters written to the current segment.
+     */
+    private long d_currentSize;
+
+    /**
+     * Number of entries written since the file was created or deleted.
+     */
+    private long d_entryCount;
+
+    /**
+     * Creates a segmented file using the default segment size.
+     */
+    public SegmentedLogFile() {
+        this(DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a segmented file.
+     *
+     * @param p_segmentSize Number of characters written to a segment before a new one is started
+     */
+    public SegmentedLogFile(long p_segmentSize) {
+        this.d_segmentSize = Math.max(1, p_segmentSize);
+    }
+
+    /**
+     * Appends an entry, followed by a line break, to the current segment.
+     *
+     * @param p_entry The entry to append
+     * @throws IOException If the segment cannot be created or written
+     */
+    public void append(String p_entry) throws IOException {
+        if (d_writer == null || d_currentSize >= d_segmentSize) {
+            openSegment();
+        }
+        d_writer.write(p_entry);
+        d_writer.write('\n');
+        d_currentSize += p_entry.length() + 1;
+        d_entryCount++;
+    }
+
+    /**
+     * Copies every entry written so far, in order, to the given output without loading
+     * a whole segment in memory.
+     *
+     * @param p_out Where to copy the entries
+     * @throws IOException If a segment cannot be read or the output cannot be written
+     */
+    public void copyTo(Appendable p_out) throws IOException {
+        if (d_writer != null) {
+            d_writer.flush();
+        }
+        char[] l_chunk = new char[8192];
+        CharBuffer l_view = CharBuffer.wrap(l_chunk);
+        for (Path l_segment : d_segments) {
+            try (BufferedReader l_reader = Files.newBufferedReader(l_segment, StandardCharsets.UTF_8)) {
+                int l_read;
+                while ((l_read = l_reader.read(l_chunk)) > 0) {
+                    p_out.append(l_view, 0, l_read);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of entries written since the file was created or deleted.
+     *
+     * @return The number of entries
+     */
+    public long getEntryCount() {
+        return d_entryCount;
+    }
+
+    /**
+     * Gets the number of segment files currently on disk.
+     *
+     * @return The number of segments
+     */
+    public int getSegmentCount() {
+        return d_segments.size();
+    }
+
+    /**
+     * Closes the current segment and removes every segment from disk. The file can be
+     * appended to again afterwards.
+     */
+    public void delete() {
+        try {
+            if (d_writer != null) {
+                d_writer.close();
+            }
+        } catch (IOException e) {
+            System.err.println("Error closing log segment: " + e.getMessage());
+        }
+        d_writer = null;
+        d_currentSize = 0;
+        d_entryCount = 0;
+        for (Path l_segment : d_segments) {
+            try {
+                Files.deleteIfExists(l_segment);
+            } catch (IOException e) {
+                System.err.println("Error deleting log segment: " + e.getMessage());
+            }
+        }
+        d_segments.clear();
+        if (d_directory != null) {
+            try {
+                Files.deleteIfExists(d_directory);
+            } catch (IOException e) {
+                System.err.println("Error deleting log segment directory: " + e.getMessage());
+            }
+            d_directory = null;
+        }
+    }
+
+    /**
+     * Closes the current segment, if any, and starts a new one.
+     *
+     * @throws IOException If the segment cannot be created
+     */
+    private void openSegment() throws IOException {
+        if (d_writer != null) {
+            d_writer.close();
+        }
+        if (d_directory == null) {
+            d_directory = Files.createTempDirectory("warzone-log");
+            d_directory.toFile().deleteOnExit();
+        }
+        Path l_segment = d_directory.resolve("segment-" + d_segments.size() + ".log");
+        d_writer = Files.newBufferedWriter(l_segment, StandardCharsets.UTF_8);
+        l_segment.toFile().deleteOnExit();
+        d_segments.add(l_segment);
+        d_currentSize = 0;
+    }
+}
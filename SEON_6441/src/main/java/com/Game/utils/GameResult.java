@@ -0,0 +1,160 @@
+package com.Game.utils;
+
+/**
+ * Outcome of one tournament game, as streamed to a {@link TournamentResultsFile}.
+ */
+public final class GameResult {
+
+    /**
+     * Identifier of the tournament run the game was played in, or null if the result has
+     * not been written to a results file yet.
+     */
+    private final String d_runId;
+
+    /**
+     * The map file the game was played on.
+     */
+    private final String d_mapFile;
+
+    /**
+     * The number of the game on its map, starting at 1.
+     */
+    private final int d_gameNumber;
+
+    /**
+     * Seed of the game's random streams; replaying the game from it gives the same result.
+     */
+    private final long d_seed;
+
+    /**
+     * Name of the winner, "Draw", or a description of the error that stopped the game.
+     */
+    private final String d_winner;
+
+    /**
+     * Number of turns played.
+     */
+    private final int d_turns;
+
+    /**
+     * Time the game took, in milliseconds.
+     */
+    private final long d_wallTimeMillis;
+
+    /**
+     * Number of orders executed during the game.
+     */
+    private final long d_ordersExecuted;
+
+    /**
+     * Creates a game result.
+     *
+     * @param p_mapFile The map file the game was played on
+     * @param p_gameNumber The number of the game on its map
+     * @param p_seed Seed of the game's random streams
+     * @param p_winner Name of the winner, or "Draw"
+     * @param p_turns Number of turns played
+     * @param p_wallTimeMillis Time the game took, in milliseconds
+     * @param p_ordersExecuted Number of orders executed during the game
+     */
+    public GameResult(String p_mapFile, int p_gameNumber, long p_seed, String p_winner,
+                      int p_turns, long p_wallTimeMillis, long p_ordersExecuted) {
+        this(null, p_mapFile, p_gameNumber, p_seed, p_winner, p_turns, p_wallTimeMillis, p_ordersExecuted);
+    }
+
+    /**
+     * Creates a game result read back from a results file.
+     *
+     * @param p_runId Identifier of the tournament run the game was played in
+     * @param p_mapFile The map file the game was played on
+     * @param p_gameNumber The number of the game on its map
+     * @param p_seed Seed of the game's random streams
+     * @param p_winner Name of the winner, or "Draw"
+     * @param p_turns Number of turns played
+     * @param p_wallTimeMillis Time the game took, in milliseconds
+     * @param p_ordersExecuted Number of orders executed during the game
+     */
+    public GameResult(String p_runId, String p_mapFile, int p_gameNumber, long p_seed, String p_winner,
+                      int p_turns, long p_wallTimeMillis, long p_ordersExecuted) {
+        this.d_runId = p_runId;
+        this.d_mapFile = p_mapFile;
+        this.d_gameNumber = p_gameNumber;
+        this.d_seed = p_seed;
+        this.d_winner = p_winner;
+        this.d_turns = p_turns;
+        this.d_wallTimeMillis = p_wallTimeMillis;
+        this.d_ordersExecuted = p_ordersExecuted;
+    }
+
+    /**
+     * Gets the identifier of the tournament run the game was played in.
+     *
+     * @return The run identifier, or null if the result has not been written to a results file
+     */
+    public String getRunId() {
+        return d_runId;
+    }
+
+    /**
+     * Gets the map file the game was played on.
+     *
+     * @return The map file
+     */
+    public String getMapFile() {
+        return d_mapFile;
+    }
+
+    /**
+     * Gets the number of the game on its map.
+     *
+     * @return The game number, starting at 1
+     */
+    public int getGameNumber() {
+        return d_gameNumber;
+    }
+
+    /**
+     * Gets the seed of the game's random streams.
+     *
+     * @return The game seed
+     */
+    public long getSeed() {
+        return d_seed;
+    }
+
+    /**
+     * Gets the winner of the game.
+     *
+     * @return Name of the winner, "Draw", or a description of the error that stopped the game
+     */
+    public String getWinner() {
+        return d_winner;
+    }
+
+    /**
+     * Gets the number of turns played.
+     *
+     * @return The number of turns
+     */
+    public int getTurns() {
+        return d_turns;
+    }
+
+    /**
+     * Gets the time the game took.
+     *
+     * @return The wall time, in milliseconds
+     */
+    public long getWallTimeMillis() {
+        return d_wallTimeMillis;
+    }
+
+    /**
+     * Gets the number of orders executed during the game.
+     *
+     * @return The number of orders executed
+     */
+    public long getOrdersExecuted() {
+        return d_ordersExecuted;
+    }
+}
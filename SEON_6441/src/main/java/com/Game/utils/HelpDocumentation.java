@@ -18,14 +18,16 @@ public class HelpDocumentation {
         help.append("across different maps with various computer player strategies.\n\n");
         
         help.append("Command Format:\n");
-        help.append("tournament -M <list_of_maps> -P <list_of_player_strategies> -G <num_of_games> -D <max_turns>\n\n");
+        help.append("tournament -M <list_of_maps> -P <list_of_player_strategies> -G <num_of_games> -D <max_turns> [-T <threads>] [-S <seed>]\n\n");
         
         help.append("Parameters:\n");
         help.append("  -M: List of map files (1-5 maps)\n");
         help.append("  -P: List of player strategies (2-4 strategies)\n");
         help.append("      Available strategies: aggressive, benevolent, random, cheater\n");
         help.append("  -G: Number of games to play on each map (1-5 games)\n");
-        help.append("  -D: Maximum number of turns for each game (10-50 turns)\n\n");
+        help.append("  -D: Maximum number of turns for each game (10-50 turns)\n");
+        help.append("  -T: Optional number of games to run in parallel (default 1)\n");
+        help.append("  -S: Optional seed; the same seed replays the same tournament\n\n");
         
         help.append("Example:\n");
         help.append("tournament -M canada.map swiss.map -P aggressive benevolent random cheater -G 3 -D 20\n\n");
@@ -0,0 +1,126 @@
+package com.Game.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Validates a batch of map files concurrently on a fixed pool of worker threads.
+ * Every map is loaded by its own {@link MapLoader}, so maps never share parsing state, and
+ * results are always returned in the order of the input list, whatever order the workers finish in.
+ */
+public class MapBatchValidator {
+
+    /**
+     * Maximum number of maps validated at the same time.
+     */
+    private final int d_parallelism;
+
+    /**
+     * Creates a validator that uses one worker per available processor.
+     */
+    public MapBatchValidator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a validator with the given number of workers.
+     * Values lower than 1 are treated as 1 (validation on the calling thread).
+     *
+     * @param p_parallelism The number of worker threads to use
+     */
+    public MapBatchValidator(int p_parallelism) {
+        this.d_parallelism = Math.max(1, p_parallelism);
+    }
+
+    /**
+     * Gets the maximum number of maps validated at the same time.
+     *
+     * @return The number of worker threads
+     */
+    public int getParallelism() {
+        return d_parallelism;
+    }
+
+    /**
+     * Loads and validates every map file, going through the {@link MapDiskCache}.
+     *
+     * @param p_mapFiles The map files to validate
+     * @return One result per map file, in the same order
+     */
+    public List<MapLoadResult> validate(List<String> p_mapFiles) {
+        return forEachMap(p_mapFiles, l_mapFile -> MapDiskCache.getInstance().load(new MapLoader(), l_mapFile));
+    }
+
+    /**
+     * Runs a task on every map file on the worker pool and collects what it returns.
+     * A task that throws does not stop the others; its map gets a result from {@code p_onError}.
+     *
+     * @param <T> The type of result produced for each map
+     * @param p_mapFiles The map files
+     * @param p_task The task run for each map file
+     * @param p_onError Produces the result of a map whose task threw, from the map file and the exception
+     * @return One result per map file, in the same order
+     */
+    public <T> List<T> forEachMap(List<String> p_mapFiles, Function<String, T> p_task,
+                                  BiFunction<String, Throwable, T> p_onError) {
+        List<T> l_results = new ArrayList<>(p_mapFiles.size());
+        int l_poolSize = Math.min(d_parallelism, p_mapFiles.size());
+        if (l_poolSize <= 1) {
+            for (String l_mapFile : p_mapFiles) {
+                try {
+                    l_results.add(p_task.apply(l_mapFile));
+                } catch (RuntimeException e) {
+                    l_results.add(p_onError.apply(l_mapFile, e));
+                }
+            }
+            return l_results;
+        }
+
+        AtomicInteger l_threadCounter = new AtomicInteger(1);
+        ExecutorService l_executor = Executors.newFixedThreadPool(l_poolSize, p_runnable -> {
+            Thread l_thread = new Thread(p_runnable, "map-validator-" + l_threadCounter.getAndIncrement());
+            l_thread.setDaemon(true);
+            return l_thread;
+        });
+        try {
+            List<Future<T>> l_futures = new ArrayList<>(p_mapFiles.size());
+            for (String l_mapFile : p_mapFiles) {
+                l_futures.add(l_executor.submit(() -> p_task.apply(l_mapFile)));
+            }
+            for (int i = 0; i < p_mapFiles.size(); i++) {
+                try {
+                    l_results.add(l_futures.get(i).get());
+                } catch (ExecutionException e) {
+                    l_results.add(p_onError.apply(p_mapFiles.get(i), e.getCause()));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            for (int i = l_results.size(); i < p_mapFiles.size(); i++) {
+                l_results.add(p_onError.apply(p_mapFiles.get(i), e));
+            }
+        } finally {
+            l_executor.shutdownNow();
+        }
+        return l_results;
+    }
+
+    /**
+     * Runs a task on every map file, as {@link #forEachMap(List, Function, BiFunction)},
+     * turning a task failure into a load result that reports it.
+     *
+     * @param p_mapFiles The map files
+     * @param p_task The task run for each map file
+     * @return One result per map file, in the same order
+     */
+    public List<MapLoadResult> forEachMap(List<String> p_mapFiles, Function<String, MapLoadResult> p_task) {
+        return forEachMap(p_mapFiles, p_task, MapLoadResult::loadError);
+    }
+}
@@ -0,0 +1,290 @@
+package com.Game.utils;
+
+import com.Game.model.Map;
+import com.Game.model.MapValidationReport;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * On-disk cache of loaded and validated maps, kept in a per-user directory: the directory named by
+ * the {@value #DIRECTORY_PROPERTY} system property, or {@value #DIRECTORY_NAME} in the user's home
+ * directory. Each entry is named after the SHA-256 hash of a map file's content and holds the validation verdict,
+ * the parsing diagnostics and the map topology in the binary map format. Loading an unchanged file
+ * therefore skips both parsing and validation, and a file whose content changed simply no longer
+ * matches its old entry.
+ *
+ * <p>Only files that have the sections required by their format are cached.</p>
+ */
+public class MapDiskCache {
+
+    /**
+     * Name of the cache directory created in the user's home directory.
+     */
+    public static final String DIRECTORY_NAME = ".mapcache";
+
+    /**
+     * System property naming the directory of the shared cache.
+     */
+    public static final String DIRECTORY_PROPERTY = "warzone.mapcache.dir";
+
+    /**
+     * Extension of cache entry files.
+     */
+    private static final String ENTRY_EXTENSION = ".mapc";
+
+    /**
+     * First four bytes of a cache entry, "MAPC" in ASCII.
+     */
+    private static final int ENTRY_MAGIC = 0x4D415043;
+
+    /**
+     * Version of the entry layout; entries of another version are ignored and rewritten.
+     */
+    private static final int ENTRY_VERSION = 1;
+
+    /**
+     * Shared cache instance.
+     */
+    private static MapDiskCache d_instance;
+
+    /**
+     * Directory holding all entries.
+     */
+    private final File d_directory;
+
+    /**
+     * Creates a cache that keeps its entries in the {@link #getDefaultDirectory() default directory}.
+     */
+    public MapDiskCache() {
+        this(getDefaultDirectory());
+    }
+
+    /**
+     * Creates a cache that keeps all its entries in one directory.
+     *
+     * @param p_directory The directory holding the entries
+     */
+    public MapDiskCache(File p_directory) {
+        this.d_directory = p_directory;
+    }
+
+    /**
+     * Gets the directory used by default: the one named by the {@value #DIRECTORY_PROPERTY} system
+     * property if set, otherwise {@value #DIRECTORY_NAME} in the user's home directory, or in the
+     * temporary directory if the home directory is unknown.
+     *
+     * @return The default cache directory
+     */
+    public static File getDefaultDirectory() {
+        String l_configured = System.getProperty(DIRECTORY_PROPERTY);
+        if (l_configured != null && !l_configured.isEmpty()) {
+            return new File(l_configured);
+        }
+        String l_home = System.getProperty("user.home");
+        if (l_home != null && !l_home.isEmpty()) {
+            return new File(l_home, DIRECTORY_NAME);
+        }
+        return new File(System.getProperty("java.io.tmpdir"), DIRECTORY_NAME + "-" + System.getProperty("user.name"));
+    }
+
+    /**
+     * Gets the directory holding the entries.
+     *
+     * @return The cache directory
+     */
+    public File getDirectory() {
+        return d_directory;
+    }
+
+    /**
+     * Gets the shared cache instance, creating it on first use.
+     *
+     * @return The shared MapDiskCache
+     */
+    public static synchronized MapDiskCache getInstance() {
+        if (d_instance == null) {
+            d_instance = new MapDiskCache();
+        }
+        return d_instance;
+    }
+
+    /**
+     * Loads a map file through the cache.
+     *
+     * @param p_loader The loader used to read the file on a cache miss
+     * @param p_mapFile The map file path or name
+     * @return The outcome of the load, as {@link MapLoader#loadMap(String)} would report it
+     */
+    public MapLoadResult load(MapLoader p_loader, String p_mapFile) {
+        byte[] l_content = p_loader.readMapBytes(p_mapFile);
+        if (l_content == null) {
+            return MapLoadResult.notFound(p_mapFile);
+        }
+        return load(p_loader, p_mapFile, l_content, MapTemplateCache.hashContent(l_content));
+    }
+
+    /**
+     * Loads a map file whose content has already been read and hashed.
+     *
+     * @param p_loader The loader used to parse the content on a cache miss
+     * @param p_mapFile The map file path or name
+     * @param p_content The content of the file
+     * @param p_contentHash The hash of the content, as computed by {@link MapTemplateCache#hashContent(byte[])}
+     * @return The outcome of the load
+     */
+    public MapLoadResult load(MapLoader p_loader, String p_mapFile, byte[] p_content, String p_contentHash) {
+        File l_entry = new File(d_directory, p_contentHash + ENTRY_EXTENSION);
+        if (l_entry.isFile()) {
+            MapLoadResult l_cached = readEntry(p_mapFile, l_entry);
+            if (l_cached != null) {
+                return l_cached;
+            }
+        }
+
+        MapLoadResult l_result;
+        try {
+            l_result = p_loader.loadMap(p_mapFile, new ByteArrayInputStream(p_content), null);
+        } catch (IOException e) {
+            return MapLoadResult.notFound(p_mapFile);
+        }
+        if (l_result.hasRequiredSections() && l_result.getMap() != null) {
+            writeEntry(l_entry, l_result);
+        }
+        return l_result;
+    }
+
+    /**
+     * Reads a cache entry.
+     *
+     * @param p_mapFile The map file path or name, reported in the result
+     * @param p_entry The entry file
+     * @return The cached outcome, or null if the entry cannot be read or has another layout version
+     */
+    private static MapLoadResult readEntry(String p_mapFile, File p_entry) {
+        try (DataInputStream l_in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(p_entry.toPath())))) {
+            if (l_in.readInt() != ENTRY_MAGIC || l_in.readInt() != ENTRY_VERSION) {
+                return null;
+            }
+            MapLoadResult.Format l_format = MapLoadResult.Format.values()[l_in.readInt()];
+            List<String> l_diagnostics = readStrings(l_in);
+
+            int l_territoryCount = l_in.readInt();
+            int l_componentCount = l_in.readInt();
+            List<List<String>> l_components = new ArrayList<>(l_componentCount);
+            for (int i = 0; i < l_componentCount; i++) {
+                l_components.add(readStrings(l_in));
+            }
+            List<String> l_emptyContinents = readStrings(l_in);
+            List<String> l_disconnectedContinents = readStrings(l_in);
+            MapValidationReport l_report = new MapValidationReport(l_territoryCount, l_components,
+                    l_emptyContinents, l_disconnectedContinents);
+
+            byte[] l_topology = new byte[l_in.readInt()];
+            l_in.readFully(l_topology);
+            Map l_map = MapLoader.decodeBinaryTopology(ByteBuffer.wrap(l_topology));
+            l_map.setValidationReport(l_report);
+            return new MapLoadResult(p_mapFile, true, l_format, true, l_map, l_report, l_diagnostics);
+        } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException
+                 | IllegalArgumentException | NegativeArraySizeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes a cache entry. The entry is written to a temporary file first and then moved into place,
+     * so concurrent readers never see a partial entry. The file is created with the permissions the
+     * user's umask gives new files. Failing to write only means the map will be parsed again next time.
+     *
+     * @param p_entry The entry file
+     * @param p_result The outcome of loading the map file
+     */
+    private static void writeEntry(File p_entry, MapLoadResult p_result) {
+        ByteArrayOutputStream l_bytes = new ByteArrayOutputStream();
+        Path l_temp = null;
+        try (DataOutputStream l_out = new DataOutputStream(l_bytes)) {
+            l_out.writeInt(ENTRY_MAGIC);
+            l_out.writeInt(ENTRY_VERSION);
+            l_out.writeInt(p_result.getFormat().ordinal());
+            writeStrings(l_out, p_result.getDiagnostics());
+
+            MapValidationReport l_report = p_result.getValidationReport();
+            l_out.writeInt(l_report.getTerritoryCount());
+            l_out.writeInt(l_report.getComponents().size());
+            for (List<String> l_component : l_report.getComponents()) {
+                writeStrings(l_out, l_component);
+            }
+            writeStrings(l_out, l_report.getEmptyContinents());
+            writeStrings(l_out, l_report.getDisconnectedContinents());
+
+            ByteBuffer l_topology = p_result.getMap().encodeBinary();
+            l_out.writeInt(l_topology.remaining());
+            l_out.write(l_topology.array(), l_topology.arrayOffset() + l_topology.position(), l_topology.remaining());
+            l_out.flush();
+
+            File l_directory = p_entry.getParentFile();
+            Files.createDirectories(l_directory.toPath());
+            l_temp = l_directory.toPath().resolve(p_entry.getName() + "." + Thread.currentThread().getId()
+                    + "-" + System.nanoTime() + ".tmp");
+            Files.write(l_temp, l_bytes.toByteArray(), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            try {
+                Files.move(l_temp, p_entry.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(l_temp, p_entry.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            l_temp = null;
+        } catch (IOException | SecurityException e) {
+            System.err.println("Could not write map cache entry " + p_entry + ": " + e.getMessage());
+        } finally {
+            if (l_temp != null) {
+                l_temp.toFile().delete();
+            }
+        }
+    }
+
+    /**
+     * Writes a list of strings as a count followed by each string.
+     *
+     * @param p_out The stream to write to
+     * @param p_strings The strings
+     * @throws IOException If the stream cannot be written
+     */
+    private static void writeStrings(DataOutputStream p_out, List<String> p_strings) throws IOException {
+        p_out.writeInt(p_strings.size());
+        for (String l_string : p_strings) {
+            p_out.writeUTF(l_string);
+        }
+    }
+
+    /**
+     * Reads a list of strings written by {@link #writeStrings(DataOutputStream, List)}.
+     *
+     * @param p_in The stream to read from
+     * @return The strings
+     * @throws IOException If the stream cannot be read
+     */
+    private static List<String> readStrings(DataInputStream p_in) throws IOException {
+        int l_count = p_in.readInt();
+        if (l_count < 0 || l_count > p_in.available()) {
+            throw new IOException("Bad string count " + l_count);
+        }
+        List<String> l_strings = new ArrayList<>(l_count);
+        for (int i = 0; i < l_count; i++) {
+            l_strings.add(p_in.readUTF());
+        }
+        return l_strings;
+    }
+}
@@ -0,0 +1,237 @@
+package com.Game.utils;
+
+import com.Game.model.Map;
+import com.Game.model.MapValidationReport;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of loading a map file with {@link MapLoader#loadMap(String)}.
+ * It holds everything learnt while reading the file once: whether it was found, its format,
+ * whether the required sections are present, the parsed map, its validation report and any
+ * problems met while parsing.
+ */
+public class MapLoadResult {
+
+    /**
+     * Map file formats understood by the loader.
+     */
+    public enum Format {
+        /**
+         * Domination format, with [continents], [countries] and [borders] sections.
+         */
+        DOMINATION,
+
+        /**
+         * Conquest format, starting with a [Map] section.
+         */
+        CONQUEST,
+
+        /**
+         * Binary topology format written by {@link Map#saveToBinaryFile(String)}.
+         */
+        BINARY,
+
+        /**
+         * Format could not be determined, for instance because the file is empty.
+         */
+        UNKNOWN
+    }
+
+    /**
+     * The name of the map file.
+     */
+    private final String d_fileName;
+
+    /**
+     * Whether the file was found.
+     */
+    private final boolean d_found;
+
+    /**
+     * The format the file was read as.
+     */
+    private final Format d_format;
+
+    /**
+     * Whether the sections required by the format are present.
+     */
+    private final boolean d_hasRequiredSections;
+
+    /**
+     * The parsed map, or null when nothing could be parsed.
+     */
+    private final Map d_map;
+
+    /**
+     * The validation report of the parsed map, or null when there is no map.
+     */
+    private final MapValidationReport d_validationReport;
+
+    /**
+     * Problems met while parsing, in the order they were found.
+     */
+    private final List<String> d_diagnostics;
+
+    /**
+     * Error that stopped the file from being loaded, or null if loading completed.
+     */
+    private final Throwable d_loadError;
+
+    /**
+     * Creates a load result.
+     *
+     * @param p_fileName The name of the map file
+     * @param p_found Whether the file was found
+     * @param p_format The format the file was read as
+     * @param p_hasRequiredSections Whether the sections required by the format are present
+     * @param p_map The parsed map, or null
+     * @param p_validationReport The validation report of the map, or null
+     * @param p_diagnostics Problems met while parsing
+     */
+    public MapLoadResult(String p_fileName, boolean p_found, Format p_format, boolean p_hasRequiredSections,
+                         Map p_map, MapValidationReport p_validationReport, List<String> p_diagnostics) {
+        this(p_fileName, p_found, p_format, p_hasRequiredSections, p_map, p_validationReport, p_diagnostics, null);
+    }
+
+    /**
+     * Creates a load result.
+     *
+     * @param p_fileName The name of the map file
+     * @param p_found Whether the file was found
+     * @param p_format The format the file was read as
+     * @param p_hasRequiredSections Whether the sections required by the format are present
+     * @param p_map The parsed map, or null
+     * @param p_validationReport The validation report of the map, or null
+     * @param p_diagnostics Problems met while parsing
+     * @param p_loadError Error that stopped the file from being loaded, or null
+     */
+    private MapLoadResult(String p_fileName, boolean p_found, Format p_format, boolean p_hasRequiredSections,
+                          Map p_map, MapValidationReport p_validationReport, List<String> p_diagnostics,
+                          Throwable p_loadError) {
+        this.d_fileName = p_fileName;
+        this.d_found = p_found;
+        this.d_format = p_format;
+        this.d_hasRequiredSections = p_hasRequiredSections;
+        this.d_map = p_map;
+        this.d_validationReport = p_validationReport;
+        this.d_diagnostics = Collections.unmodifiableList(p_diagnostics);
+        this.d_loadError = p_loadError;
+    }
+
+    /**
+     * Creates the result for a file that could not be found.
+     *
+     * @param p_fileName The name of the map file
+     * @return A result with no map
+     */
+    public static MapLoadResult notFound(String p_fileName) {
+        return new MapLoadResult(p_fileName, false, Format.UNKNOWN, false, null, null,
+                Collections.singletonList("File not found: " + p_fileName));
+    }
+
+    /**
+     * Creates the result for a file whose loading failed with an error, such as an I/O failure,
+     * before anything could be said about its format or content.
+     *
+     * @param p_fileName The name of the map file
+     * @param p_error The error
+     * @return A result with no map that reports the error in its diagnostics
+     */
+    public static MapLoadResult loadError(String p_fileName, Throwable p_error) {
+        String l_message = p_error.getMessage() != null ? p_error.getMessage() : p_error.getClass().getSimpleName();
+        return new MapLoadResult(p_fileName, true, Format.UNKNOWN, false, null, null,
+                Collections.singletonList("Error loading map file: " + l_message), p_error);
+    }
+
+    /**
+     * Gets the name of the map file.
+     *
+     * @return The file name
+     */
+    public String getFileName() {
+        return d_fileName;
+    }
+
+    /**
+     * Checks whether the file was found.
+     *
+     * @return true if the file was found
+     */
+    public boolean isFound() {
+        return d_found;
+    }
+
+    /**
+     * Gets the format the file was read as.
+     *
+     * @return The format
+     */
+    public Format getFormat() {
+        return d_format;
+    }
+
+    /**
+     * Checks whether the sections required by the file's format are present, as {@link MapLoader#isValid(String)} does.
+     *
+     * @return true if the required sections are present
+     */
+    public boolean hasRequiredSections() {
+        return d_hasRequiredSections;
+    }
+
+    /**
+     * Gets the parsed map.
+     *
+     * @return The map, or null if the file was not found or its format is unknown
+     */
+    public Map getMap() {
+        return d_map;
+    }
+
+    /**
+     * Gets the validation report of the parsed map.
+     *
+     * @return The report, or null if there is no map
+     */
+    public MapValidationReport getValidationReport() {
+        return d_validationReport;
+    }
+
+    /**
+     * Gets the problems met while parsing.
+     *
+     * @return The diagnostics, possibly empty
+     */
+    public List<String> getDiagnostics() {
+        return d_diagnostics;
+    }
+
+    /**
+     * Checks whether loading the file failed with an error rather than producing a verdict.
+     *
+     * @return true if an error stopped the file from being loaded
+     */
+    public boolean isLoadError() {
+        return d_loadError != null;
+    }
+
+    /**
+     * Gets the error that stopped the file from being loaded.
+     *
+     * @return The error, or null if loading completed
+     */
+    public Throwable getLoadError() {
+        return d_loadError;
+    }
+
+    /**
+     * Checks whether the file was found, has the required sections and holds a valid map.
+     *
+     * @return true if the map can be played
+     */
+    public boolean isValid() {
+        return d_found && d_hasRequiredSections && d_validationReport != null && d_validationReport.isValid();
+    }
+}
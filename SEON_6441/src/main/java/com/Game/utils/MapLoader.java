@@ -1,12 +1,22 @@
 package com.Game.utils;
 
 import com.Game.model.Map;
+import com.Game.model.MapTemplate;
+import com.Game.model.MapValidationReport;
 import com.Game.model.Territory;
 
 import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.zip.GZIPInputStream;
 import java.io.*;
 
 /**
@@ -15,6 +25,11 @@ import java.io.*;
  */
 public class MapLoader {
 
+    /**
+     * Size of the buffer used to decompress gzip-compressed map files.
+     */
+    private static final int GZIP_BUFFER_SIZE = 1 << 16;
+
     /**
      * Represents the loaded map data for the game.
      */
@@ -63,44 +78,47 @@ public class MapLoader {
     
     /**
      * Validates a collection of maps for use in the tournament mode.
+     * The maps are validated concurrently by a {@link MapBatchValidator}, each with its own loader;
+     * messages are then printed in the order of the list. Files that have not changed since they were
+     * last validated are taken from the {@link MapDiskCache} without being parsed again.
      * 
      * @param p_mapFiles List of map file paths to validate
      * @return Map of validation results (map path -> validation result)
      */
     public java.util.Map<String, Boolean> validateMapsForTournament(List<String> p_mapFiles) {
         java.util.Map<String, Boolean> validationResults = new HashMap<>();
+        List<MapLoadResult> results = new MapBatchValidator().validate(p_mapFiles);
         
-        for (String mapFile : p_mapFiles) {
+        for (int i = 0; i < p_mapFiles.size(); i++) {
+            String mapFile = p_mapFiles.get(i);
             System.out.println("Validating map: " + mapFile);
             
-            // Check if map exists
-            BufferedReader reader = isMapExist(mapFile);
-            if (reader == null) {
-                System.out.println("  Error: Map file not found - " + mapFile);
+            MapLoadResult result = results.get(i);
+            if (result.isLoadError()) {
+                System.out.println("  Error: " + String.join("; ", result.getDiagnostics()) + " - " + mapFile);
                 validationResults.put(mapFile, false);
                 continue;
             }
-            
-            try {
-                reader.close();
-            } catch (IOException e) {
-                e.printStackTrace();
+            if (!result.isFound()) {
+                System.out.println("  Error: Map file not found - " + mapFile);
+                validationResults.put(mapFile, false);
+                continue;
             }
             
             // Check map format
-            boolean isValidFormat = isValid(mapFile);
-            if (!isValidFormat) {
+            if (!result.hasRequiredSections()) {
                 System.out.println("  Error: Invalid map format - " + mapFile);
                 validationResults.put(mapFile, false);
                 continue;
             }
             
-            // Load and validate map connectivity
+            // Keep the map loaded, as reading it would
             resetLoadedMap();
-            read(mapFile);
-            boolean isValidMap = validateMap(false);
+            if (result.getMap() != null) {
+                d_loadedMap = result.getMap();
+            }
             
-            if (!isValidMap) {
+            if (!result.isValid()) {
                 System.out.println("  Error: Map validation failed (connectivity or other issues) - " + mapFile);
                 validationResults.put(mapFile, false);
             } else {
@@ -118,32 +136,22 @@ public class MapLoader {
      * 2. Format is valid
      * 3. Map is connected
      * 4. Continents are connected
+     * The verdict of an unchanged file is taken from the {@link MapDiskCache}.
      * 
      * @param p_mapFile Path to the map file
      * @return true if the map is completely valid, false otherwise
      */
     public boolean isMapCompletelyValid(String p_mapFile) {
-        // Check if map exists
-        BufferedReader reader = isMapExist(p_mapFile);
-        if (reader == null) {
-            return false;
-        }
-        
-        try {
-            reader.close();
-        } catch (IOException e) {
+        MapLoadResult l_result = MapDiskCache.getInstance().load(this, p_mapFile);
+        if (!l_result.isFound() || !l_result.hasRequiredSections()) {
             return false;
         }
         
-        // Check map format
-        if (!isValid(p_mapFile)) {
-            return false;
-        }
-        
-        // Load and validate map connectivity
         resetLoadedMap();
-        read(p_mapFile);
-        return validateMap(false);
+        if (l_result.getMap() != null) {
+            d_loadedMap = l_result.getMap();
+        }
+        return l_result.isValid();
     }
 
     /**
@@ -153,62 +161,7 @@ public class MapLoader {
      * @return true if the map file is valid, false otherwise.
      */
     public boolean isValid(String p_mapFile) {
-        BufferedReader l_reader = null;
-        
-        try {
-            l_reader = isMapExist(p_mapFile);
-            if (l_reader == null) {
-                return false;
-            }
-
-            // Basic validation - check for required sections
-            boolean l_hasContinents = false;
-            boolean l_hasCountries = false;
-            boolean l_hasBorders = false;
-            boolean l_haBMap = false;
-            boolean l_hasTerritories = false;
-
-            String l_line;
-            while ((l_line = l_reader.readLine()) != null) {
-                if (l_line.equalsIgnoreCase("[continents]"))
-                {
-                    l_hasContinents = true;
-                }
-                else if (l_line.equals("[countries]"))
-                {
-                    l_hasCountries = true;
-                }
-                else if (l_line.equals("[borders]"))
-                {
-                    l_hasBorders = true;
-                }
-                else if (l_line.equals("[Map]"))
-                {
-                    l_haBMap = true;
-                }
-                else if (l_line.equals("[Territories]"))
-                {
-                    l_hasTerritories = true;
-                }
-            }
-            if (l_haBMap)
-            {
-                return l_hasTerritories && l_hasContinents;
-            }
-
-            return l_hasContinents && l_hasCountries && l_hasBorders;
-            
-        } catch (IOException e) {
-            return false;
-        } finally {
-            if (l_reader != null) {
-                try {
-                    l_reader.close();
-                } catch (IOException e) {
-                    e.printStackTrace();
-                }
-            }
-        }
+        return loadMap(p_mapFile).hasRequiredSections();
     }
 
     /**
@@ -229,10 +182,14 @@ public class MapLoader {
      * @return true if both the map and continents are valid, false otherwise.
      */
     public boolean validateMap(boolean p_showMsg) {
-        boolean l_isValid = d_loadedMap.mapValidation() && d_loadedMap.continentValidation();
+        MapValidationReport l_report = d_loadedMap.validate();
+        boolean l_isValid = l_report.isValid();
 
         if (p_showMsg) {
             System.out.println(l_isValid ? "The map is valid." : "The map is invalid.");
+            if (!l_isValid) {
+                System.out.println(l_report);
+            }
         }
 
         return l_isValid;
@@ -240,98 +197,507 @@ public class MapLoader {
 
     /**
      * Checks if a map file exists either locally or as a resource, and returns a BufferedReader to read it.
+     * Gzip-compressed files are decompressed on the fly, as by {@link #openMapStream(String)}.
      * If the file does not exist or cannot be found, it returns null.
      *
      * @param p_mapFile the path or name of the map file to be checked.
      * @return a BufferedReader for reading the map file if it exists, null otherwise.
      */
     public BufferedReader isMapExist(String p_mapFile) {
-        File l_file = new File(p_mapFile);
-        BufferedReader l_reader = null;
+        InputStream l_inputStream = openMapStream(p_mapFile);
+        if (l_inputStream == null) {
+            return null;
+        }
+        return new BufferedReader(new InputStreamReader(l_inputStream));
+    }
+
+    /**
+     * Opens a map file as a byte stream, looking first on the local filesystem and then in the
+     * LoadingMaps resources. When neither holds the file, its gzip-compressed version
+     * (the same name followed by {@value Map#GZIP_EXTENSION}) is looked for the same way.
+     * Gzip-compressed content is recognised by its header, whatever the file name, and
+     * decompressed while it is read; it is never inflated to a temporary file.
+     *
+     * @param p_mapFile the path or name of the map file.
+     * @return an InputStream over the (decompressed) map content, or null if it cannot be found or opened.
+     */
+    public InputStream openMapStream(String p_mapFile) {
+        InputStream l_inputStream = openStoredStream(p_mapFile);
+        if (l_inputStream == null && !p_mapFile.endsWith(Map.GZIP_EXTENSION)) {
+            l_inputStream = openStoredStream(p_mapFile + Map.GZIP_EXTENSION);
+        }
+        if (l_inputStream == null) {
+            return null;
+        }
+        try {
+            return decompressIfGzipped(l_inputStream);
+        } catch (IOException e) {
+            try {
+                l_inputStream.close();
+            } catch (IOException l_ignored) {
+                // the stream is unusable anyway
+            }
+            return null;
+        }
+    }
 
+    /**
+     * Opens a map file exactly as it is stored, looking first on the local filesystem
+     * and then in the LoadingMaps resources.
+     *
+     * @param p_mapFile the path or name of the map file.
+     * @return an InputStream over the stored bytes, or null if it cannot be found.
+     */
+    private InputStream openStoredStream(String p_mapFile) {
+        File l_file = new File(p_mapFile);
         try {
             if (l_file.exists()) {
-                // File exists locally, open it for reading
-                l_reader = new BufferedReader(new FileReader(l_file));
-            } else {
-                // Try with LoadingMaps prefix
-                String l_resourcePath = p_mapFile;
-                if (!l_resourcePath.contains("LoadingMaps/") && !l_resourcePath.contains("LoadingMaps\\")) {
-                    l_resourcePath = "LoadingMaps/" + l_resourcePath;
-                }
-
-                InputStream l_inputStream = getClass().getClassLoader().getResourceAsStream(l_resourcePath);
-                if (l_inputStream == null) {
-                    return null;
-                }
-                // Resource found, create a reader
-                l_reader = new BufferedReader(new InputStreamReader(l_inputStream));
+                return new FileInputStream(l_file);
             }
         } catch (IOException e) {
             return null;
         }
 
-        return l_reader;
+        String l_resourcePath = p_mapFile;
+        if (!l_resourcePath.contains("LoadingMaps/") && !l_resourcePath.contains("LoadingMaps\\")) {
+            l_resourcePath = "LoadingMaps/" + l_resourcePath;
+        }
+        return getClass().getClassLoader().getResourceAsStream(l_resourcePath);
     }
 
     /**
-     * Reads a map from a file.
+     * Wraps a stream so that gzip-compressed content is decompressed while it is read.
+     * Other content is returned unchanged.
      *
-     * @param p_fileName The name of the map file to read.
+     * @param p_inputStream the stream to read.
+     * @return a stream over the decompressed content.
+     * @throws IOException if the stream cannot be read or holds a damaged gzip header.
      */
-    public void read(String p_fileName) {
-        BufferedReader l_reader = null;
+    public static InputStream decompressIfGzipped(InputStream p_inputStream) throws IOException {
+        InputStream l_in = p_inputStream.markSupported() ? p_inputStream : new BufferedInputStream(p_inputStream);
+        l_in.mark(2);
+        int l_first = l_in.read();
+        int l_second = l_in.read();
+        l_in.reset();
+        if (l_first == (GZIPInputStream.GZIP_MAGIC & 0xff) && l_second == (GZIPInputStream.GZIP_MAGIC >>> 8)) {
+            return new GZIPInputStream(l_in, GZIP_BUFFER_SIZE);
+        }
+        return l_in;
+    }
+
+    /**
+     * Finds the file a map is read from, looking in the same places as {@link #openMapStream(String)}.
+     *
+     * @param p_mapFile the path or name of the map file.
+     * @return the file, or null if the map cannot be found or is not stored as a plain file (for instance inside a jar).
+     */
+    public File locateMapFile(String p_mapFile) {
+        File l_file = locateStoredFile(p_mapFile);
+        if (l_file == null && !p_mapFile.endsWith(Map.GZIP_EXTENSION)) {
+            l_file = locateStoredFile(p_mapFile + Map.GZIP_EXTENSION);
+        }
+        return l_file;
+    }
+
+    /**
+     * Finds the file a map is stored in under exactly the given name.
+     *
+     * @param p_mapFile the path or name of the map file.
+     * @return the file, or null if it cannot be found or is not a plain file.
+     */
+    private File locateStoredFile(String p_mapFile) {
+        File l_file = new File(p_mapFile);
+        if (l_file.exists()) {
+            return l_file;
+        }
 
+        String l_resourcePath = p_mapFile;
+        if (!l_resourcePath.contains("LoadingMaps/") && !l_resourcePath.contains("LoadingMaps\\")) {
+            l_resourcePath = "LoadingMaps/" + l_resourcePath;
+        }
+        URL l_resource = getClass().getClassLoader().getResource(l_resourcePath);
+        if (l_resource == null || !"file".equals(l_resource.getProtocol())) {
+            return null;
+        }
         try {
-            File l_file = new File(p_fileName);
-            if (l_file.exists()) {
-                l_reader = new BufferedReader(new FileReader(l_file));
-            } else {
-                String l_resourcePath = p_fileName;
-                if (!l_resourcePath.contains("LoadingMaps/") && !l_resourcePath.contains("LoadingMaps\\")) {
-                    l_resourcePath = "LoadingMaps/" + l_resourcePath;
-                }
+            return new File(l_resource.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
 
-                InputStream l_inputStream = getClass().getClassLoader().getResourceAsStream(l_resourcePath);
-                if (l_inputStream != null) {
-                    l_reader = new BufferedReader(new InputStreamReader(l_inputStream));
-                } else {
-                    System.err.println("File not found: " + p_fileName);
-                    return;
-                }
-            }
+    /**
+     * Reads the full content of a map file.
+     *
+     * @param p_mapFile the path or name of the map file.
+     * @return the bytes of the file, or null if it cannot be found or read.
+     */
+    public byte[] readMapBytes(String p_mapFile) {
+        InputStream l_inputStream = openMapStream(p_mapFile);
+        if (l_inputStream == null) {
+            return null;
+        }
+        try (InputStream l_in = l_inputStream) {
+            return l_in.readAllBytes();
+        } catch (IOException e) {
+            return null;
+        }
+    }
 
-            String l_line;
-            while ((l_line = l_reader.readLine()) != null) {
-                l_line = l_line.trim();
-                if (l_line.isEmpty() || l_line.startsWith(";")) {
-                    continue;
-                }
+    /**
+     * Loads a map file in a single streaming read: detects the format, checks the required sections,
+     * builds the map and validates it. The loaded map of this loader is not changed.
+     *
+     * @param p_fileName The name of the map file to read.
+     * @return The outcome of the load.
+     */
+    public MapLoadResult loadMap(String p_fileName) {
+        return loadMap(p_fileName, null);
+    }
 
-                // Check first relevant line
-                if (l_line.equalsIgnoreCase("[Map]")) {
-                    System.out.println("Detected Conquest map format.");
-                    readConquestMap(p_fileName);
-                    return;
-                } else {
-                    System.out.println("Detected Domination map format.");
-                    readDominationMap(p_fileName);
-                    return;
-                }
+    /**
+     * Loads a map file in a single read, as {@link #loadMap(String)}, optionally forcing its format.
+     * Domination maps found on the local filesystem are read in one bulk read and parsed directly from the bytes;
+     * Conquest maps and classpath resources are read as a stream.
+     *
+     * @param p_fileName The name of the map file to read.
+     * @param p_format The format to read the file as, or null to detect it from the first line.
+     * @return The outcome of the load.
+     */
+    public MapLoadResult loadMap(String p_fileName, MapLoadResult.Format p_format) {
+        if (p_format == MapLoadResult.Format.BINARY
+                || (p_format == null && p_fileName.endsWith(Map.BINARY_EXTENSION))) {
+            return loadBinaryMap(p_fileName);
+        }
+
+        // Local Domination maps are parsed straight from the bytes of the file
+        if (p_format != MapLoadResult.Format.CONQUEST) {
+            MapLoadResult l_local = LocalDominationReader.load(p_fileName, p_format);
+            if (l_local != null) {
+                return l_local;
             }
+        }
 
-            System.err.println("Could not determine map format: " + p_fileName);
+        InputStream l_inputStream = openMapStream(p_fileName);
+        if (l_inputStream == null) {
+            return MapLoadResult.notFound(p_fileName);
+        }
+        try (InputStream l_in = l_inputStream) {
+            return loadMap(p_fileName, l_in, p_format);
         } catch (IOException e) {
             e.printStackTrace();
-        } finally {
-            try {
-                if (l_reader != null) {
-                    l_reader.close();
+            return new MapLoadResult(p_fileName, true, MapLoadResult.Format.UNKNOWN, false, null, null,
+                    Collections.singletonList("Error reading map file: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Loads a map from an already opened stream, in a single pass. The stream is not closed.
+     *
+     * @param p_fileName The name of the map file, used in messages.
+     * @param p_inputStream The content of the map file.
+     * @param p_format The format to read the content as, or null to detect it from the content.
+     * @return The outcome of the load.
+     * @throws IOException If the stream cannot be read.
+     */
+    public MapLoadResult loadMap(String p_fileName, InputStream p_inputStream, MapLoadResult.Format p_format)
+            throws IOException {
+        InputStream l_in = p_inputStream.markSupported() ? p_inputStream : new BufferedInputStream(p_inputStream);
+        if (p_format == MapLoadResult.Format.BINARY || (p_format == null && startsWithBinaryMagic(l_in))) {
+            return decodeBinaryMap(p_fileName, ByteBuffer.wrap(l_in.readAllBytes()));
+        }
+        BufferedReader l_reader = new BufferedReader(new InputStreamReader(l_in));
+        List<String> l_diagnostics = new ArrayList<>();
+        MapLoadResult.Format l_format = p_format;
+        LineParser l_parser = p_format == null ? null : createParser(p_format, l_diagnostics);
+
+        // Sections looked for by the format check
+        boolean l_hasContinents = false;
+        boolean l_hasCountries = false;
+        boolean l_hasBorders = false;
+        boolean l_hasMap = false;
+        boolean l_hasTerritories = false;
+
+        String l_line;
+        while ((l_line = l_reader.readLine()) != null) {
+            if (l_line.equalsIgnoreCase("[continents]")) {
+                l_hasContinents = true;
+            } else if (l_line.equals("[countries]")) {
+                l_hasCountries = true;
+            } else if (l_line.equals("[borders]")) {
+                l_hasBorders = true;
+            } else if (l_line.equals("[Map]")) {
+                l_hasMap = true;
+            } else if (l_line.equals("[Territories]")) {
+                l_hasTerritories = true;
+            }
+
+            if (l_parser == null) {
+                // The first line that is not blank or a comment tells the format
+                String l_trimmed = l_line.trim();
+                if (l_trimmed.isEmpty() || l_trimmed.startsWith(";")) {
+                    continue;
+                }
+                l_format = l_trimmed.equalsIgnoreCase("[Map]")
+                        ? MapLoadResult.Format.CONQUEST
+                        : MapLoadResult.Format.DOMINATION;
+                l_parser = createParser(l_format, l_diagnostics);
+            }
+            l_parser.accept(l_line);
+        }
+
+        boolean l_hasRequiredSections = l_hasMap
+                ? l_hasTerritories && l_hasContinents
+                : l_hasContinents && l_hasCountries && l_hasBorders;
+        if (l_parser == null) {
+            l_diagnostics.add("Could not determine map format: " + p_fileName);
+            return new MapLoadResult(p_fileName, true, MapLoadResult.Format.UNKNOWN, l_hasRequiredSections,
+                    null, null, l_diagnostics);
+        }
+        Map l_map = l_parser.finish();
+        return new MapLoadResult(p_fileName, true, l_format, l_hasRequiredSections,
+                l_map, l_map.validate(), l_diagnostics);
+    }
+
+    /**
+     * Loads a map saved in the binary format of {@link Map#saveToBinaryFile(String)}.
+     * Local files are read through a file channel in one bulk read; resources are read as a stream.
+     *
+     * @param p_fileName The name of the binary map file.
+     * @return The outcome of the load.
+     */
+    public MapLoadResult loadBinaryMap(String p_fileName) {
+        File l_file = new File(p_fileName);
+        if (l_file.isFile()) {
+            try (FileChannel l_channel = FileChannel.open(l_file.toPath(), StandardOpenOption.READ)) {
+                if (l_channel.size() > Integer.MAX_VALUE) {
+                    return binaryError(p_fileName, "File is too large: " + p_fileName);
                 }
+                ByteBuffer l_buffer = ByteBuffer.allocate((int) l_channel.size());
+                while (l_buffer.hasRemaining() && l_channel.read(l_buffer) >= 0) {
+                    // keep reading until the buffer is full
+                }
+                l_buffer.flip();
+                return decodeBinaryMap(p_fileName, l_buffer);
             } catch (IOException e) {
-                e.printStackTrace();
+                return binaryError(p_fileName, "Error reading map file: " + e.getMessage());
+            }
+        }
+        byte[] l_content = readMapBytes(p_fileName);
+        if (l_content == null) {
+            return MapLoadResult.notFound(p_fileName);
+        }
+        return decodeBinaryMap(p_fileName, ByteBuffer.wrap(l_content));
+    }
+
+    /**
+     * Decodes a binary map. Int arrays are copied out of the buffer in bulk, and the map is built
+     * from them through a {@link MapTemplate} in O(V+E).
+     *
+     * @param p_fileName The name of the map file, used in messages.
+     * @param p_buffer The content of the file, positioned at its start.
+     * @return The outcome of the load.
+     */
+    private static MapLoadResult decodeBinaryMap(String p_fileName, ByteBuffer p_buffer) {
+        try {
+            if (p_buffer.remaining() < 8 || p_buffer.getInt() != Map.BINARY_MAGIC) {
+                return binaryError(p_fileName, "Not a binary map file: " + p_fileName);
+            }
+            int l_version = p_buffer.getInt();
+            if (l_version < 1 || l_version > Map.BINARY_VERSION) {
+                return binaryError(p_fileName, "Unsupported binary map version " + l_version + ": " + p_fileName);
+            }
+            Map l_map = decodeBinaryBody(p_buffer);
+            return new MapLoadResult(p_fileName, true, MapLoadResult.Format.BINARY, true,
+                    l_map, l_map.validate(), new ArrayList<>());
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            return binaryError(p_fileName, "Corrupt binary map file " + p_fileName + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Builds the map held by a complete binary map, without validating it.
+     *
+     * @param p_buffer The binary map, positioned at its start.
+     * @return The map.
+     * @throws IllegalArgumentException If the content is not a supported binary map.
+     * @throws BufferUnderflowException If the content is truncated.
+     */
+    static Map decodeBinaryTopology(ByteBuffer p_buffer) {
+        if (p_buffer.remaining() < 8 || p_buffer.getInt() != Map.BINARY_MAGIC) {
+            throw new IllegalArgumentException("Not a binary map");
+        }
+        int l_version = p_buffer.getInt();
+        if (l_version < 1 || l_version > Map.BINARY_VERSION) {
+            throw new IllegalArgumentException("Unsupported binary map version " + l_version);
+        }
+        return decodeBinaryBody(p_buffer);
+    }
+
+    /**
+     * Builds a map from the part of a binary map that follows its magic number and version.
+     *
+     * @param p_buffer The binary map, positioned after its header.
+     * @return The map.
+     * @throws IllegalArgumentException If a count or id is out of range.
+     * @throws BufferUnderflowException If the content is truncated.
+     */
+    private static Map decodeBinaryBody(ByteBuffer p_buffer) {
+        String[] l_names = new String[checkedCount(p_buffer.getInt(), p_buffer)];
+        for (int i = 0; i < l_names.length; i++) {
+            byte[] l_bytes = new byte[checkedCount(p_buffer.getInt(), p_buffer)];
+            p_buffer.get(l_bytes);
+            l_names[i] = new String(l_bytes, StandardCharsets.UTF_8);
+        }
+
+        int l_continentCount = checkedCount(p_buffer.getInt(), p_buffer);
+        int l_declaredCount = p_buffer.getInt();
+        if (l_declaredCount < 0 || l_declaredCount > l_continentCount) {
+            throw new IllegalArgumentException("Bad declared continent count " + l_declaredCount);
+        }
+        int[] l_continentNameIds = getInts(p_buffer, l_continentCount);
+        int[] l_continentBonuses = getInts(p_buffer, l_continentCount);
+        String[] l_continentNames = new String[l_continentCount];
+        java.util.Map<String, Integer> l_continents = new HashMap<>();
+        for (int c = 0; c < l_continentCount; c++) {
+            l_continentNames[c] = l_names[l_continentNameIds[c]];
+            if (c < l_declaredCount) {
+                l_continents.put(l_continentNames[c], l_continentBonuses[c]);
             }
         }
+
+        int l_territoryCount = checkedCount(p_buffer.getInt(), p_buffer);
+        int[] l_territoryNameIds = getInts(p_buffer, l_territoryCount);
+        int[] l_territoryContinentIds = getInts(p_buffer, l_territoryCount);
+        int[] l_territoryBonuses = getInts(p_buffer, l_territoryCount);
+        int[] l_offsets = getInts(p_buffer, l_territoryCount + 1);
+        int[] l_neighbors = getInts(p_buffer, checkedCount(l_offsets[l_territoryCount], p_buffer));
+        String[] l_territoryNames = new String[l_territoryCount];
+        String[] l_territoryContinents = new String[l_territoryCount];
+        for (int i = 0; i < l_territoryCount; i++) {
+            l_territoryNames[i] = l_names[l_territoryNameIds[i]];
+            l_territoryContinents[i] = l_continentNames[l_territoryContinentIds[i]];
+        }
+
+        MapTemplate l_template = MapTemplate.fromArrays(l_territoryNames, l_territoryContinents,
+                l_territoryBonuses, l_offsets, l_neighbors, l_continents);
+        return l_template.instantiate();
+    }
+
+    /**
+     * Checks that a count read from a binary map is not negative and not larger than what is left to read.
+     *
+     * @param p_count The count.
+     * @param p_buffer The buffer it was read from.
+     * @return The count.
+     */
+    private static int checkedCount(int p_count, ByteBuffer p_buffer) {
+        if (p_count < 0 || p_count > p_buffer.remaining()) {
+            throw new IllegalArgumentException("Bad count " + p_count);
+        }
+        return p_count;
+    }
+
+    /**
+     * Reads an int array from a buffer in one bulk operation.
+     *
+     * @param p_buffer The buffer, positioned at the first int.
+     * @param p_length The number of ints.
+     * @return The ints.
+     */
+    private static int[] getInts(ByteBuffer p_buffer, int p_length) {
+        if ((long) p_length * 4 > p_buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        int[] l_values = new int[p_length];
+        p_buffer.asIntBuffer().get(l_values);
+        p_buffer.position(p_buffer.position() + 4 * p_length);
+        return l_values;
+    }
+
+    /**
+     * Creates the result for a binary map file that was found but could not be read.
+     *
+     * @param p_fileName The name of the map file.
+     * @param p_message The problem met.
+     * @return A result with no map.
+     */
+    private static MapLoadResult binaryError(String p_fileName, String p_message) {
+        return new MapLoadResult(p_fileName, true, MapLoadResult.Format.BINARY, false, null, null,
+                Collections.singletonList(p_message));
+    }
+
+    /**
+     * Checks whether a stream starts with the binary map magic number, without consuming it.
+     *
+     * @param p_inputStream A stream that supports mark and reset.
+     * @return true if the content is a binary map.
+     * @throws IOException If the stream cannot be read.
+     */
+    private static boolean startsWithBinaryMagic(InputStream p_inputStream) throws IOException {
+        p_inputStream.mark(4);
+        byte[] l_head = p_inputStream.readNBytes(4);
+        p_inputStream.reset();
+        return l_head.length == 4 && ByteBuffer.wrap(l_head).getInt() == Map.BINARY_MAGIC;
+    }
+
+    /**
+     * Converts a map file in any supported format to the binary format.
+     *
+     * @param p_sourceFile The map file to convert.
+     * @param p_targetFile The binary file to write.
+     * @return The outcome of loading the source file; nothing is written unless it holds a map.
+     */
+    public MapLoadResult convertToBinary(String p_sourceFile, String p_targetFile) {
+        MapLoadResult l_result = loadMap(p_sourceFile);
+        if (l_result.getMap() != null && l_result.hasRequiredSections()) {
+            l_result.getMap().saveToBinaryFile(p_targetFile);
+        }
+        return l_result;
+    }
+
+    /**
+     * Creates the parser for a map format.
+     *
+     * @param p_format The format, DOMINATION or CONQUEST.
+     * @param p_diagnostics List receiving the problems met while parsing.
+     * @return A new parser.
+     */
+    private static LineParser createParser(MapLoadResult.Format p_format, List<String> p_diagnostics) {
+        return p_format == MapLoadResult.Format.CONQUEST
+                ? new ConquestParser(p_diagnostics)
+                : new DominationParser(p_diagnostics);
+    }
+
+    /**
+     * Reads a map from a file.
+     *
+     * @param p_fileName The name of the map file to read.
+     */
+    public void read(String p_fileName) {
+        read(loadMap(p_fileName));
+    }
+
+    /**
+     * Makes the map of an already completed load the loaded map, printing the same messages as
+     * {@link #read(String)}. Used for maps loaded ahead of time by a {@link MapPreloader}.
+     *
+     * @param p_result The outcome of loading a map file.
+     */
+    public void read(MapLoadResult p_result) {
+        MapLoadResult l_result = p_result;
+        if (!l_result.isFound() || l_result.getMap() == null) {
+            printDiagnostics(l_result);
+            return;
+        }
+        if (l_result.getFormat() == MapLoadResult.Format.CONQUEST) {
+            System.out.println("Detected Conquest map format.");
+        } else if (l_result.getFormat() == MapLoadResult.Format.BINARY) {
+            System.out.println("Detected binary map format.");
+        } else {
+            System.out.println("Detected Domination map format.");
+        }
+        applyLoadResult(l_result);
     }
 
     /**
@@ -340,224 +706,686 @@ public class MapLoader {
      * @param p_fileName The name of the map file to read.
      */
     public void readConquestMap(String p_fileName) {
-        BufferedReader l_reader = null;
+        applyLoadResult(loadMap(p_fileName, MapLoadResult.Format.CONQUEST));
+    }
 
-        try {
-            File l_file = new File(p_fileName);
-            if (l_file.exists()) {
-                l_reader = new BufferedReader(new FileReader(l_file));
-            } else {
-                String l_resourcePath = p_fileName;
-                if (!l_resourcePath.contains("LoadingMaps/") && !l_resourcePath.contains("LoadingMaps\\")) {
-                    l_resourcePath = "LoadingMaps/" + l_resourcePath;
-                }
+    /**
+     * Reads a domination map from a file.
+     *
+     * @param p_fileName The name of the map file to read.
+     */
+    public void readDominationMap(String p_fileName) {
+        applyLoadResult(loadMap(p_fileName, MapLoadResult.Format.DOMINATION));
+    }
 
-                InputStream l_inputStream = getClass().getClassLoader().getResourceAsStream(l_resourcePath);
-                if (l_inputStream != null) {
-                    l_reader = new BufferedReader(new InputStreamReader(l_inputStream));
-                } else {
-                    System.err.println("File not found: " + p_fileName);
-                    return;
+    /**
+     * Makes the map of a load result the loaded map and reports the problems met while loading it.
+     * Conquest maps also get their validation verdict printed, as they always have.
+     *
+     * @param p_result The outcome of a load.
+     */
+    private void applyLoadResult(MapLoadResult p_result) {
+        printDiagnostics(p_result);
+        if (p_result.getMap() == null) {
+            return;
+        }
+        d_loadedMap = p_result.getMap();
+        if (p_result.getFormat() == MapLoadResult.Format.CONQUEST) {
+            System.out.println(p_result.getValidationReport().isValid() ? "The map is valid." : "The map is invalid.");
+        }
+    }
+
+    /**
+     * Prints the problems met while loading a map to the error stream.
+     *
+     * @param p_result The outcome of a load.
+     */
+    private static void printDiagnostics(MapLoadResult p_result) {
+        for (String l_diagnostic : p_result.getDiagnostics()) {
+            System.err.println(l_diagnostic);
+        }
+    }
+
+    /**
+     * Receives the lines of a map file one by one and builds the map from them.
+     */
+    private interface LineParser {
+
+        /**
+         * Handles the next line of the file.
+         *
+         * @param p_line The line, without its line terminator.
+         */
+        void accept(String p_line);
+
+        /**
+         * Completes the map once every line has been handled.
+         *
+         * @return The parsed map.
+         */
+        Map finish();
+    }
+
+    /**
+     * Parser for the Domination format. Sections end at a blank line or at the next section header;
+     * a header that ends a section is not read as the start of a new one, as in earlier versions.
+     */
+    private static class DominationParser implements LineParser {
+
+        /**
+         * Sections of a Domination map file.
+         */
+        private enum Section { NONE, CONTINENTS, COUNTRIES, BORDERS }
+
+        /**
+         * The map being built.
+         */
+        private final Map d_map = new Map();
+
+        /**
+         * List receiving the problems met while parsing.
+         */
+        private final List<String> d_diagnostics;
+
+        /**
+         * Continent names, in file order.
+         */
+        private final List<String> d_continentNames = new ArrayList<>();
+
+        /**
+         * Continent bonuses, in file order.
+         */
+        private final List<Integer> d_bonuses = new ArrayList<>();
+
+        /**
+         * Continent bonuses keyed by continent name.
+         */
+        private final java.util.Map<String, Integer> d_continentMap = new HashMap<>();
+
+        /**
+         * Territories, in file order.
+         */
+        private final List<Territory> d_territories = new ArrayList<>();
+
+        /**
+         * The section being read.
+         */
+        private Section d_section = Section.NONE;
+
+        /**
+         * Set when a malformed number stopped the parsing.
+         */
+        private boolean d_failed;
+
+        /**
+         * Creates a parser.
+         *
+         * @param p_diagnostics List receiving the problems met while parsing.
+         */
+        DominationParser(List<String> p_diagnostics) {
+            this.d_diagnostics = p_diagnostics;
+        }
+
+        @Override
+        public void accept(String p_line) {
+            if (d_failed) {
+                return;
+            }
+            if (d_section != Section.NONE) {
+                if (p_line.isEmpty() || p_line.startsWith("[")) {
+                    endSection();
+                } else if (!p_line.startsWith(";")) {
+                    try {
+                        parseLine(p_line);
+                    } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                        d_diagnostics.add("Error parsing map file: " + e.getMessage());
+                        d_failed = true;
+                    }
                 }
+                return;
+            }
+            if (p_line.equals("[continents]")) {
+                d_section = Section.CONTINENTS;
+            } else if (p_line.equals("[countries]")) {
+                d_section = Section.COUNTRIES;
+            } else if (p_line.equals("[borders]")) {
+                d_section = Section.BORDERS;
             }
+        }
 
-            d_loadedMap = new Map();
-            String l_line;
-            boolean inTerritories = false;
+        /**
+         * Parses one line of the current section.
+         *
+         * @param p_line The line.
+         */
+        private void parseLine(String p_line) {
+            String[] l_parts = p_line.split(" ");
+            if (d_section == Section.CONTINENTS) {
+                String l_name = l_parts[0];
+                addContinent(l_name, Integer.parseInt(l_parts[1]));
+            } else if (d_section == Section.COUNTRIES) {
+                if (l_parts.length >= 3) {
+                    addCountry(l_parts[1], Integer.parseInt(l_parts[2]));
+                }
+            } else if (l_parts.length >= 1) {
+                int l_territoryIndex = Integer.parseInt(l_parts[0]) - 1;
+                if (l_territoryIndex >= 0 && l_territoryIndex < d_territories.size()) {
+                    Territory l_territory = d_territories.get(l_territoryIndex);
+                    for (int i = 1; i < l_parts.length; i++) {
+                        int l_neighborIndex = Integer.parseInt(l_parts[i]) - 1;
+                        if (l_neighborIndex >= 0 && l_neighborIndex < d_territories.size()) {
+                            l_territory.addNeighbor(d_territories.get(l_neighborIndex));
+                        }
+                    }
+                }
+            }
+        }
 
-            java.util.Map<String, Territory> l_territoryMap = new HashMap<>();
-            java.util.Map<String, List<String>> l_neighborsMap = new HashMap<>();
-            Set<String> l_continents = new HashSet<>();
+        /**
+         * Adds a continent read from the continents section.
+         *
+         * @param p_name The continent name.
+         * @param p_bonus The continent bonus.
+         */
+        void addContinent(String p_name, int p_bonus) {
+            d_continentNames.add(p_name);
+            d_bonuses.add(p_bonus);
+            d_continentMap.put(p_name, p_bonus);
+        }
 
-            while ((l_line = l_reader.readLine()) != null) {
-                l_line = l_line.trim();
+        /**
+         * Adds a territory read from the countries section, unless its continent number is unknown.
+         *
+         * @param p_name The territory name.
+         * @param p_continentNumber The 1-based number of its continent.
+         */
+        void addCountry(String p_name, int p_continentNumber) {
+            int l_continentIndex = p_continentNumber - 1;
+            if (l_continentIndex >= 0 && l_continentIndex < d_continentNames.size()) {
+                Territory l_territory = new Territory(p_name, d_continentNames.get(l_continentIndex), d_bonuses.get(l_continentIndex));
+                d_territories.add(l_territory);
+                d_map.addTerritory(l_territory);
+            }
+        }
 
-                if (l_line.startsWith(";") || l_line.isEmpty()) {
-                    continue;
+        /**
+         * Adds the neighbours of a territory read from the borders section.
+         * Unknown territory numbers are ignored.
+         *
+         * @param p_territoryNumber The 1-based number of the territory.
+         * @param p_neighborNumbers The 1-based numbers of its neighbours.
+         * @param p_count The number of entries of p_neighborNumbers to use.
+         */
+        void addBorders(int p_territoryNumber, int[] p_neighborNumbers, int p_count) {
+            int l_territoryIndex = p_territoryNumber - 1;
+            if (l_territoryIndex < 0 || l_territoryIndex >= d_territories.size()) {
+                return;
+            }
+            Territory l_territory = d_territories.get(l_territoryIndex);
+            for (int i = 0; i < p_count; i++) {
+                int l_neighborIndex = p_neighborNumbers[i] - 1;
+                if (l_neighborIndex >= 0 && l_neighborIndex < d_territories.size()) {
+                    l_territory.addNeighbor(d_territories.get(l_neighborIndex));
                 }
+            }
+        }
 
-                if (l_line.equals("[Territories]")) {
-                    inTerritories = true;
-                    continue;
-                }
+        /**
+         * Leaves the current section, storing the continents when it was the continents section.
+         */
+        private void endSection() {
+            if (d_section == Section.CONTINENTS) {
+                d_map.setContinents(d_continentMap);
+            }
+            d_section = Section.NONE;
+        }
 
-                if (inTerritories) {
-                    String[] l_parts = l_line.split(",");
-                    if (l_parts.length < 4) continue;
+        @Override
+        public Map finish() {
+            if (!d_failed) {
+                endSection();
+            }
+            return d_map;
+        }
+    }
 
-                    String l_countryName = l_parts[0].trim();
-                    String l_continentName = l_parts[3].trim();
+    /**
+     * Parser for the Conquest format. Continents get a bonus of 0, and neighbours are linked
+     * once all territories are known.
+     */
+    private static class ConquestParser implements LineParser {
 
-                    l_continents.add(l_continentName);
+        /**
+         * The map being built.
+         */
+        private final Map d_map = new Map();
 
-                    Territory l_territory = new Territory(l_countryName, l_continentName, 0); // bonus = 0 (ignored)
-                    l_territoryMap.put(l_countryName, l_territory);
-                    d_loadedMap.addTerritory(l_territory);
+        /**
+         * List receiving the problems met while parsing.
+         */
+        private final List<String> d_diagnostics;
 
-                    List<String> l_neighbors = new ArrayList<>();
-                    for (int i = 4; i < l_parts.length; i++) {
-                        l_neighbors.add(l_parts[i].trim());
-                    }
-                    l_neighborsMap.put(l_countryName, l_neighbors);
+        /**
+         * Territories keyed by name.
+         */
+        private final java.util.Map<String, Territory> d_territoryMap = new HashMap<>();
+
+        /**
+         * Neighbour names of each territory.
+         */
+        private final java.util.Map<String, List<String>> d_neighborsMap = new HashMap<>();
+
+        /**
+         * Names of the continents used by territories.
+         */
+        private final Set<String> d_continents = new HashSet<>();
+
+        /**
+         * Whether the [Territories] section has started.
+         */
+        private boolean d_inTerritories;
+
+        /**
+         * Creates a parser.
+         *
+         * @param p_diagnostics List receiving the problems met while parsing.
+         */
+        ConquestParser(List<String> p_diagnostics) {
+            this.d_diagnostics = p_diagnostics;
+        }
+
+        @Override
+        public void accept(String p_line) {
+            String l_line = p_line.trim();
+            if (l_line.startsWith(";") || l_line.isEmpty()) {
+                return;
+            }
+            if (l_line.equals("[Territories]")) {
+                d_inTerritories = true;
+                return;
+            }
+            if (d_inTerritories) {
+                String[] l_parts = l_line.split(",");
+                if (l_parts.length < 4) return;
+
+                String l_countryName = l_parts[0].trim();
+                String l_continentName = l_parts[3].trim();
+
+                d_continents.add(l_continentName);
+
+                Territory l_territory = new Territory(l_countryName, l_continentName, 0); // bonus = 0 (ignored)
+                d_territoryMap.put(l_countryName, l_territory);
+                d_map.addTerritory(l_territory);
+
+                List<String> l_neighbors = new ArrayList<>();
+                for (int i = 4; i < l_parts.length; i++) {
+                    l_neighbors.add(l_parts[i].trim());
                 }
+                d_neighborsMap.put(l_countryName, l_neighbors);
             }
+        }
 
+        @Override
+        public Map finish() {
             // Assign neighbors
-            for (java.util.Map.Entry<String, List<String>> entry : l_neighborsMap.entrySet()) {
-                Territory l_territory = l_territoryMap.get(entry.getKey());
-                for (String l_neighborName : entry.getValue()) {
-                    Territory l_neighbor = l_territoryMap.get(l_neighborName);
+            for (java.util.Map.Entry<String, List<String>> l_entry : d_neighborsMap.entrySet()) {
+                Territory l_territory = d_territoryMap.get(l_entry.getKey());
+                for (String l_neighborName : l_entry.getValue()) {
+                    Territory l_neighbor = d_territoryMap.get(l_neighborName);
                     if (l_neighbor != null) {
                         l_territory.addNeighbor(l_neighbor);
                     } else {
-                        System.err.println("Neighbor not found: " + l_neighborName);
+                        d_diagnostics.add("Neighbor not found: " + l_neighborName);
                     }
                 }
             }
 
-            // Optionally, set continents with dummy bonuses (0)
             java.util.Map<String, Integer> l_continentMap = new HashMap<>();
-            for (String l_continentName : l_continents) {
+            for (String l_continentName : d_continents) {
                 l_continentMap.put(l_continentName, 0);
             }
-            d_loadedMap.setContinents(l_continentMap);
-
-        } catch (IOException e) {
-            e.printStackTrace();
-        } finally {
-            try {
-                if (l_reader != null) {
-                    l_reader.close();
-                    validateMap(true); // validate true = conquest
-                }
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
+            d_map.setContinents(l_continentMap);
+            return d_map;
         }
     }
 
     /**
-     * Reads a domination map from a file.
-     *
-     * @param p_fileName The name of the map file to read.
+     * Parser for Domination map files on the local filesystem that works on the bytes of the file,
+     * read through a file channel in one bulk read. The file is not memory-mapped: Java cannot
+     * unmap a buffer before it is garbage-collected, and on Windows a mapped file cannot be
+     * rewritten, which would make saving a map that was just loaded fail. Line breaks, numbers and names are read straight from the bytes, so the
+     * [borders] section, which holds most of a large map, is read without creating a String
+     * per line or per neighbour. Lines that are not in the simple single-space-separated form
+     * are decoded and handed to {@link DominationParser}, so results and error messages are the
+     * same as when reading the file as a stream.
      */
-    public void readDominationMap(String p_fileName) {
-        BufferedReader l_reader = null;
+    private static class LocalDominationReader {
 
-        try {
-            // First, try reading from the local filesystem
+        /**
+         * Maximum number of characters of an int, sign included.
+         */
+        private static final int MAX_INT_LENGTH = 11;
+
+        /**
+         * The file content.
+         */
+        private final ByteBuffer d_buffer;
+
+        /**
+         * The charset used to decode names, the platform default as for the stream reader.
+         */
+        private final Charset d_charset;
+
+        /**
+         * The parser receiving the content.
+         */
+        private final DominationParser d_parser;
+
+        /**
+         * Neighbour numbers of the border line being read; grows as needed.
+         */
+        private int[] d_numbers = new int[64];
+
+        /**
+         * Result of the last call to {@link #parseInt(int, int)}.
+         */
+        private int d_parsedInt;
+
+        /**
+         * Creates a reader.
+         *
+         * @param p_buffer The file content.
+         * @param p_charset The charset used to decode names.
+         * @param p_diagnostics List receiving the problems met while parsing.
+         */
+        private LocalDominationReader(ByteBuffer p_buffer, Charset p_charset, List<String> p_diagnostics) {
+            this.d_buffer = p_buffer;
+            this.d_charset = p_charset;
+            this.d_parser = new DominationParser(p_diagnostics);
+        }
+
+        /**
+         * Loads a local Domination map, reading the whole file through a channel into a heap buffer.
+         *
+         * @param p_fileName The name of the map file.
+         * @param p_format DOMINATION to force the format, or null to detect it.
+         * @return The outcome of the load, or null if the file has to be read as a stream instead:
+         *         it is not a local file, it is empty or too large for one buffer, the platform charset is not
+         *         ASCII-compatible, or the file turns out to be a Conquest, binary or compressed map.
+         */
+        static MapLoadResult load(String p_fileName, MapLoadResult.Format p_format) {
             File l_file = new File(p_fileName);
-            if (l_file.exists()) {
-                l_reader = new BufferedReader(new FileReader(l_file));
-            } else {
-                // Fallback to reading from classpath resources
-                String l_resourcePath = p_fileName;
-                // If path is in LoadingMaps folder but doesn't include it in the path
-                if (!l_resourcePath.contains("LoadingMaps/") && !l_resourcePath.contains("LoadingMaps\\")) {
-                    l_resourcePath = "LoadingMaps/" + l_resourcePath;
+            Charset l_charset = Charset.defaultCharset();
+            boolean l_asciiCompatible = l_charset.equals(StandardCharsets.UTF_8)
+                    || l_charset.equals(StandardCharsets.ISO_8859_1)
+                    || l_charset.equals(StandardCharsets.US_ASCII);
+            if (!l_asciiCompatible || !l_file.isFile() || l_file.length() == 0 || l_file.length() > Integer.MAX_VALUE) {
+                return null;
+            }
+            try (FileChannel l_channel = FileChannel.open(l_file.toPath(), StandardOpenOption.READ)) {
+                ByteBuffer l_buffer = ByteBuffer.allocate((int) l_channel.size());
+                while (l_buffer.hasRemaining() && l_channel.read(l_buffer) >= 0) {
+                    // keep reading until the buffer is full
                 }
-
-                InputStream l_inputStream = getClass().getClassLoader().getResourceAsStream(l_resourcePath);
-                if (l_inputStream != null) {
-                    l_reader = new BufferedReader(new InputStreamReader(l_inputStream));
-                } else {
-                    System.err.println("File not found: " + p_fileName);
-                    return;
+                l_buffer.flip();
+                if (l_buffer.limit() >= 4 && l_buffer.getInt(0) == Map.BINARY_MAGIC) {
+                    return null;
+                }
+                if (l_buffer.limit() >= 2 && (l_buffer.get(0) & 0xff) == (GZIPInputStream.GZIP_MAGIC & 0xff)
+                        && (l_buffer.get(1) & 0xff) == (GZIPInputStream.GZIP_MAGIC >>> 8)) {
+                    return null;
                 }
+                return new LocalDominationReader(l_buffer, l_charset, new ArrayList<>()).read(p_fileName, p_format);
+            } catch (IOException e) {
+                return null;
             }
+        }
 
-            d_loadedMap = new Map();
-            // Reading the file content
-            String l_line;
-            List<String> l_continentNames = new ArrayList<>();
-            List<Integer> l_bonuses = new ArrayList<>();
-            List<Territory> l_territories = new ArrayList<>();
-            java.util.Map<String, Integer> l_continentMap = new HashMap<>();
+        /**
+         * Reads the whole buffer.
+         *
+         * @param p_fileName The name of the map file.
+         * @param p_format DOMINATION to force the format, or null to detect it.
+         * @return The outcome of the load, or null if the file is a Conquest map.
+         */
+        private MapLoadResult read(String p_fileName, MapLoadResult.Format p_format) {
+            boolean l_detected = p_format != null;
+            boolean l_hasContinents = false;
+            boolean l_hasCountries = false;
+            boolean l_hasBorders = false;
+            boolean l_hasMap = false;
+            boolean l_hasTerritories = false;
 
-            while ((l_line = l_reader.readLine()) != null) {
-                // Skip comments and sections we don't need
-                if (l_line.startsWith(";") || l_line.equals("[files]")) {
-                    continue;
+            int l_limit = d_buffer.limit();
+            int l_start = 0;
+            while (l_start < l_limit) {
+                // Find the end of the line; \n, \r and \r\n all end a line, as for BufferedReader
+                int l_end = l_start;
+                while (l_end < l_limit && d_buffer.get(l_end) != '\n' && d_buffer.get(l_end) != '\r') {
+                    l_end++;
+                }
+                int l_next = l_end + 1;
+                if (l_end < l_limit && d_buffer.get(l_end) == '\r' && l_next < l_limit && d_buffer.get(l_next) == '\n') {
+                    l_next++;
                 }
 
-                if (l_line.equals("[continents]")) {
-                    while ((l_line = l_reader.readLine()) != null && !l_line.isEmpty() && !l_line.startsWith("[")) {
-                        // Skip comment lines
-                        if (l_line.startsWith(";")) continue;
-
-                        String[] l_parts = l_line.split(" ");
-                        l_continentNames.add(l_parts[0]);
-                        int l_bonus = Integer.parseInt(l_parts[1]);
-                        l_bonuses.add(l_bonus);
-                        l_continentMap.put(l_parts[0], l_bonus);
+                if (!l_detected) {
+                    // The first line that is not blank or a comment tells the format
+                    int l_first = l_start;
+                    while (l_first < l_end && (d_buffer.get(l_first) & 0xFF) <= ' ') {
+                        l_first++;
                     }
-                    d_loadedMap.setContinents(l_continentMap);
-
-                    // If we reached another section, rewind
-                    if (l_line != null && l_line.startsWith("[")) {
-                        continue;
+                    if (l_first < l_end && d_buffer.get(l_first) != ';') {
+                        String l_trimmed = decode(l_start, l_end).trim();
+                        if (l_trimmed.equalsIgnoreCase("[Map]")) {
+                            return null;
+                        }
+                        l_detected = true;
                     }
                 }
 
-                if (l_line != null && l_line.equals("[countries]")) {
-                    while ((l_line = l_reader.readLine()) != null && !l_line.isEmpty() && !l_line.startsWith("[")) {
-                        // Skip comment lines
-                        if (l_line.startsWith(";")) continue;
-
-                        String[] l_parts = l_line.split(" ");
-                        if (l_parts.length >= 3) {
-                            int l_continentIndex = Integer.parseInt(l_parts[2]) - 1;
-                            if (l_continentIndex >= 0 && l_continentIndex < l_continentNames.size()) {
-                                Territory l_territory = new Territory(l_parts[1], l_continentNames.get(l_continentIndex), l_bonuses.get(l_continentIndex));
-                                l_territories.add(l_territory);
-                                d_loadedMap.addTerritory(l_territory);
-                            }
-                        }
+                if (l_start < l_end && d_buffer.get(l_start) == '[') {
+                    // Section headers are rare; handle them as strings
+                    String l_line = decode(l_start, l_end);
+                    if (l_line.equalsIgnoreCase("[continents]")) {
+                        l_hasContinents = true;
+                    } else if (l_line.equals("[countries]")) {
+                        l_hasCountries = true;
+                    } else if (l_line.equals("[borders]")) {
+                        l_hasBorders = true;
+                    } else if (l_line.equals("[Map]")) {
+                        l_hasMap = true;
+                    } else if (l_line.equals("[Territories]")) {
+                        l_hasTerritories = true;
                     }
-
-                    // If we reached another section, continue to process it
-                    if (l_line != null && l_line.startsWith("[")) {
-                        continue;
+                    if (l_detected) {
+                        d_parser.accept(l_line);
                     }
+                } else if (l_detected && d_parser.d_section != DominationParser.Section.NONE && !d_parser.d_failed) {
+                    readSectionLine(l_start, l_end);
                 }
+                l_start = l_next;
+            }
 
-                if (l_line != null && l_line.equals("[borders]")) {
-                    while ((l_line = l_reader.readLine()) != null && !l_line.isEmpty() && !l_line.startsWith("[")) {
-                        // Skip comment lines
-                        if (l_line.startsWith(";")) continue;
-
-                        String[] l_parts = l_line.split(" ");
-                        if (l_parts.length >= 1) {
-                            int l_territoryIndex = Integer.parseInt(l_parts[0]) - 1;
-                            if (l_territoryIndex >= 0 && l_territoryIndex < l_territories.size()) {
-                                Territory l_territory = l_territories.get(l_territoryIndex);
-                                for (int i = 1; i < l_parts.length; i++) {
-                                    int l_neighborIndex = Integer.parseInt(l_parts[i]) - 1;
-                                    if (l_neighborIndex >= 0 && l_neighborIndex < l_territories.size()) {
-                                        l_territory.addNeighbor(l_territories.get(l_neighborIndex));
-                                    }
-                                }
-                            }
+            boolean l_hasRequiredSections = l_hasMap
+                    ? l_hasTerritories && l_hasContinents
+                    : l_hasContinents && l_hasCountries && l_hasBorders;
+            if (!l_detected) {
+                List<String> l_diagnostics = new ArrayList<>(d_parser.d_diagnostics);
+                l_diagnostics.add("Could not determine map format: " + p_fileName);
+                return new MapLoadResult(p_fileName, true, MapLoadResult.Format.UNKNOWN, l_hasRequiredSections,
+                        null, null, l_diagnostics);
+            }
+            Map l_map = d_parser.finish();
+            return new MapLoadResult(p_fileName, true, MapLoadResult.Format.DOMINATION, l_hasRequiredSections,
+                    l_map, l_map.validate(), d_parser.d_diagnostics);
+        }
+
+        /**
+         * Reads a line of the continents, countries or borders section that is not a section header.
+         *
+         * @param p_start Position of the first byte of the line.
+         * @param p_end Position just after the last byte of the line.
+         */
+        private void readSectionLine(int p_start, int p_end) {
+            if (p_start == p_end || d_buffer.get(p_start) == ';') {
+                d_parser.accept(decode(p_start, p_end));
+                return;
+            }
+
+            // Trailing spaces do not produce fields, as with String.split
+            int l_end = p_end;
+            while (l_end > p_start && d_buffer.get(l_end - 1) == ' ') {
+                l_end--;
+            }
+            if (l_end == p_start || !isSimpleLine(p_start, l_end)) {
+                d_parser.accept(decode(p_start, p_end));
+                return;
+            }
+
+            int l_fieldEnd = fieldEnd(p_start, l_end);
+            switch (d_parser.d_section) {
+                case CONTINENTS: {
+                    if (l_fieldEnd == l_end) {
+                        d_parser.accept(decode(p_start, p_end));
+                        return;
+                    }
+                    int l_bonusStart = l_fieldEnd + 1;
+                    if (!parseInt(l_bonusStart, fieldEnd(l_bonusStart, l_end))) {
+                        d_parser.accept(decode(p_start, p_end));
+                        return;
+                    }
+                    d_parser.addContinent(decode(p_start, l_fieldEnd), d_parsedInt);
+                    return;
+                }
+                case COUNTRIES: {
+                    if (l_fieldEnd == l_end) {
+                        return;
+                    }
+                    int l_nameStart = l_fieldEnd + 1;
+                    int l_nameEnd = fieldEnd(l_nameStart, l_end);
+                    if (l_nameEnd == l_end) {
+                        return;
+                    }
+                    int l_continentStart = l_nameEnd + 1;
+                    if (!parseInt(l_continentStart, fieldEnd(l_continentStart, l_end))) {
+                        d_parser.accept(decode(p_start, p_end));
+                        return;
+                    }
+                    d_parser.addCountry(decode(l_nameStart, l_nameEnd), d_parsedInt);
+                    return;
+                }
+                default: {
+                    // Check every number before adding anything, so a bad line can be handed over as is
+                    if (!parseInt(p_start, l_fieldEnd)) {
+                        d_parser.accept(decode(p_start, p_end));
+                        return;
+                    }
+                    int l_territoryNumber = d_parsedInt;
+                    int l_count = 0;
+                    int l_fieldStart = l_fieldEnd + 1;
+                    while (l_fieldStart < l_end) {
+                        int l_nextEnd = fieldEnd(l_fieldStart, l_end);
+                        if (!parseInt(l_fieldStart, l_nextEnd)) {
+                            d_parser.accept(decode(p_start, p_end));
+                            return;
+                        }
+                        if (l_count == d_numbers.length) {
+                            d_numbers = Arrays.copyOf(d_numbers, l_count * 2);
                         }
+                        d_numbers[l_count++] = d_parsedInt;
+                        l_fieldStart = l_nextEnd + 1;
                     }
+                    d_parser.addBorders(l_territoryNumber, d_numbers, l_count);
                 }
             }
-        } catch (IOException e) {
-            e.printStackTrace();
-        } catch (NumberFormatException e) {
-            System.err.println("Error parsing map file: " + e.getMessage());
-            e.printStackTrace();
-        } finally {
-            try {
-                if (l_reader != null) {
-                    l_reader.close();
+        }
 
-                    validateMap(false);
+        /**
+         * Checks that a line has fields separated by single spaces, with no leading space.
+         *
+         * @param p_start Position of the first byte of the line.
+         * @param p_end Position just after the last byte, trailing spaces excluded.
+         * @return true if the line can be read field by field from the bytes.
+         */
+        private boolean isSimpleLine(int p_start, int p_end) {
+            if (d_buffer.get(p_start) == ' ') {
+                return false;
+            }
+            for (int i = p_start + 1; i < p_end; i++) {
+                if (d_buffer.get(i) == ' ' && d_buffer.get(i - 1) == ' ') {
+                    return false;
                 }
-            } catch (IOException e) {
-                e.printStackTrace();
             }
+            return true;
+        }
+
+        /**
+         * Finds the end of the field starting at a position.
+         *
+         * @param p_start Position of the first byte of the field.
+         * @param p_end Position just after the last byte of the line.
+         * @return Position of the space after the field, or p_end.
+         */
+        private int fieldEnd(int p_start, int p_end) {
+            int i = p_start;
+            while (i < p_end && d_buffer.get(i) != ' ') {
+                i++;
+            }
+            return i;
         }
-    }
 
-}
\ No newline at end of file
+        /**
+         * Parses a decimal int the way {@link Integer#parseInt(String)} does and stores it in d_parsedInt.
+         *
+         * @param p_start Position of the first byte of the number.
+         * @param p_end Position just after the last byte of the number.
+         * @return false if the bytes are not a valid int.
+         */
+        private boolean parseInt(int p_start, int p_end) {
+            int l_length = p_end - p_start;
+            if (l_length <= 0 || l_length > MAX_INT_LENGTH) {
+                return false;
+            }
+            int i = p_start;
+            boolean l_negative = false;
+            byte l_first = d_buffer.get(i);
+            if (l_first == '-' || l_first == '+') {
+                l_negative = l_first == '-';
+                i++;
+                if (i == p_end) {
+                    return false;
+                }
+            }
+            long l_value = 0;
+            for (; i < p_end; i++) {
+                byte l_digit = d_buffer.get(i);
+                if (l_digit < '0' || l_digit > '9') {
+                    return false;
+                }
+                l_value = l_value * 10 + (l_digit - '0');
+            }
+            if (l_negative) {
+                l_value = -l_value;
+            }
+            if (l_value < Integer.MIN_VALUE || l_value > Integer.MAX_VALUE) {
+                return false;
+            }
+            d_parsedInt = (int) l_value;
+            return true;
+        }
+
+        /**
+         * Decodes part of the buffer with the platform charset.
+         *
+         * @param p_start Position of the first byte.
+         * @param p_end Position just after the last byte.
+         * @return The decoded text.
+         */
+        private String decode(int p_start, int p_end) {
+            byte[] l_bytes = new byte[p_end - p_start];
+            d_buffer.get(p_start, l_bytes);
+            return new String(l_bytes, d_charset);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.Game.utils;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads and validates maps on background threads before they are asked for.
+ * Maps are preloaded as soon as their names are known (recently used maps at startup, the maps of a
+ * tournament command as it is parsed), and the command that needs the map then takes the result,
+ * waiting only for whatever part of the work is not done yet.
+ *
+ * <p>Each preloaded map is handed out once, so the map a command receives is never shared.
+ * A result is discarded if the file has changed since it was preloaded.</p>
+ */
+public class MapPreloader {
+
+    /**
+     * A map being loaded in the background.
+     */
+    private static final class PreloadedMap {
+
+        /**
+         * The pending outcome of the load.
+         */
+        private final Future<MapLoadResult> d_future;
+
+        /**
+         * Last modification time of the file when the load started, or 0 if it is not a plain file.
+         */
+        private final long d_lastModified;
+
+        /**
+         * Length of the file when the load started, or 0 if it is not a plain file.
+         */
+        private final long d_length;
+
+        /**
+         * Creates a preloaded map entry.
+         *
+         * @param p_future The pending outcome of the load
+         * @param p_lastModified Last modification time of the file when the load started
+         * @param p_length Length of the file when the load started
+         */
+        private PreloadedMap(Future<MapLoadResult> p_future, long p_lastModified, long p_length) {
+            this.d_future = p_future;
+            this.d_lastModified = p_lastModified;
+            this.d_length = p_length;
+        }
+    }
+
+    /**
+     * Workers that load the maps.
+     */
+    private final ExecutorService d_executor;
+
+    /**
+     * Maps being loaded or loaded and not taken yet, keyed by the name they were asked for with.
+     */
+    private final java.util.Map<String, PreloadedMap> d_preloads;
+
+    /**
+     * Creates a preloader with two background workers.
+     */
+    public MapPreloader() {
+        this(2);
+    }
+
+    /**
+     * Creates a preloader with the given number of background workers.
+     *
+     * @param p_threads The number of worker threads; values lower than 1 are treated as 1
+     */
+    public MapPreloader(int p_threads) {
+        AtomicInteger l_threadCounter = new AtomicInteger(1);
+        this.d_executor = Executors.newFixedThreadPool(Math.max(1, p_threads), p_runnable -> {
+            Thread l_thread = new Thread(p_runnable, "map-preloader-" + l_threadCounter.getAndIncrement());
+            l_thread.setDaemon(true);
+            l_thread.setPriority(Thread.MIN_PRIORITY);
+            return l_thread;
+        });
+        this.d_preloads = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Starts loading a map in the background, unless it is already being loaded from the same file state.
+     *
+     * @param p_mapFile The map file path or name
+     */
+    public void preload(String p_mapFile) {
+        if (p_mapFile == null || p_mapFile.isEmpty()) {
+            return;
+        }
+        d_preloads.compute(p_mapFile, (l_name, l_existing) -> {
+            File l_file = new MapLoader().locateMapFile(l_name);
+            long l_lastModified = l_file == null ? 0 : l_file.lastModified();
+            long l_length = l_file == null ? 0 : l_file.length();
+            if (l_existing != null && l_existing.d_lastModified == l_lastModified && l_existing.d_length == l_length) {
+                return l_existing;
+            }
+            if (l_existing != null) {
+                l_existing.d_future.cancel(true);
+            }
+            Future<MapLoadResult> l_future = d_executor.submit(
+                    () -> MapDiskCache.getInstance().load(new MapLoader(), l_name));
+            return new PreloadedMap(l_future, l_lastModified, l_length);
+        });
+    }
+
+    /**
+     * Starts loading several maps in the background.
+     *
+     * @param p_mapFiles The map file paths or names
+     */
+    public void preloadAll(Collection<String> p_mapFiles) {
+        for (String l_mapFile : p_mapFiles) {
+            preload(l_mapFile);
+        }
+    }
+
+    /**
+     * Checks whether a map is being loaded or has been loaded and not taken yet.
+     *
+     * @param p_mapFile The map file path or name
+     * @return true if a preloaded result is pending for this name
+     */
+    public boolean isPreloaded(String p_mapFile) {
+        return d_preloads.containsKey(p_mapFile);
+    }
+
+    /**
+     * Takes the preloaded result of a map, waiting for the load to finish if needed.
+     * The result is removed from the preloader, so the same map is never handed out twice.
+     *
+     * @param p_mapFile The map file path or name
+     * @return The outcome of the load, or null if the map was not preloaded, the file changed since,
+     *         or the load failed; the caller should then load the map itself
+     */
+    public MapLoadResult take(String p_mapFile) {
+        PreloadedMap l_preloaded = p_mapFile == null ? null : d_preloads.remove(p_mapFile);
+        if (l_preloaded == null) {
+            return null;
+        }
+        File l_file = new MapLoader().locateMapFile(p_mapFile);
+        long l_lastModified = l_file == null ? 0 : l_file.lastModified();
+        long l_length = l_file == null ? 0 : l_file.length();
+        if (l_lastModified != l_preloaded.d_lastModified || l_length != l_preloaded.d_length) {
+            l_preloaded.d_future.cancel(true);
+            return null;
+        }
+        try {
+            return l_preloaded.d_future.get();
+        } catch (ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * Drops every pending result and stops the background workers.
+     */
+    public void shutdown() {
+        d_preloads.clear();
+        d_executor.shutdownNow();
+    }
+}
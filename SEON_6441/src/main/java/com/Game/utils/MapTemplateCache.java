@@ -0,0 +1,179 @@
+package com.Game.utils;
+
+import com.Game.model.Map;
+import com.Game.model.MapTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches validated map templates, keyed by map path and the hash of the file's content.
+ * A cached template is only returned while the file still has the content it was built from,
+ * so editing a map on disk transparently causes it to be parsed and validated again.
+ */
+public class MapTemplateCache {
+
+    /**
+     * Shared cache instance.
+     */
+    private static MapTemplateCache d_instance;
+
+    /**
+     * Cached entries keyed by map path.
+     */
+    private final java.util.Map<String, CachedTemplate> d_templates;
+
+    /**
+     * A template together with the content hash of the file it was built from.
+     */
+    private static final class CachedTemplate {
+
+        /**
+         * SHA-256 hash of the map file content.
+         */
+        private final String d_contentHash;
+
+        /**
+         * The validated template.
+         */
+        private final MapTemplate d_template;
+
+        /**
+         * Creates a cache entry.
+         *
+         * @param p_contentHash Hash of the map file content
+         * @param p_template The validated template
+         */
+        private CachedTemplate(String p_contentHash, MapTemplate p_template) {
+            this.d_contentHash = p_contentHash;
+            this.d_template = p_template;
+        }
+    }
+
+    /**
+     * Creates an empty cache.
+     */
+    public MapTemplateCache() {
+        this.d_templates = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the shared cache instance, creating it on first use.
+     *
+     * @return The shared MapTemplateCache
+     */
+    public static synchronized MapTemplateCache getInstance() {
+        if (d_instance == null) {
+            d_instance = new MapTemplateCache();
+        }
+        return d_instance;
+    }
+
+    /**
+     * Looks up a template by map path and content hash.
+     *
+     * @param p_mapFile The map file path
+     * @param p_contentHash Hash of the file's current content
+     * @return The cached template, or null if none matches this content
+     */
+    public MapTemplate lookup(String p_mapFile, String p_contentHash) {
+        CachedTemplate l_entry = d_templates.get(p_mapFile);
+        if (l_entry == null || !l_entry.d_contentHash.equals(p_contentHash)) {
+            return null;
+        }
+        return l_entry.d_template;
+    }
+
+    /**
+     * Stores the template of a validated map, replacing any entry for the same path.
+     *
+     * @param p_mapFile The map file path
+     * @param p_contentHash Hash of the content the map was loaded from
+     * @param p_map The loaded and validated map
+     * @return The template that was stored
+     */
+    public MapTemplate store(String p_mapFile, String p_contentHash, Map p_map) {
+        MapTemplate l_template = MapTemplate.fromMap(p_map);
+        d_templates.put(p_mapFile, new CachedTemplate(p_contentHash, l_template));
+        return l_template;
+    }
+
+    /**
+     * Returns the template for a map file, loading and validating the file if it is not
+     * cached yet or if its content has changed.
+     *
+     * @param p_mapFile The map file path
+     * @return The template, or null if the file cannot be found or is not a valid map
+     */
+    public MapTemplate getOrLoad(String p_mapFile) {
+        MapLoader l_loader = new MapLoader();
+        byte[] l_content = l_loader.readMapBytes(p_mapFile);
+        if (l_content == null) {
+            return null;
+        }
+
+        String l_hash = hashContent(l_content);
+        MapTemplate l_template = lookup(p_mapFile, l_hash);
+        if (l_template != null) {
+            return l_template;
+        }
+
+        MapLoadResult l_result;
+        try {
+            l_result = l_loader.loadMap(p_mapFile, new ByteArrayInputStream(l_content), null);
+        } catch (IOException e) {
+            return null;
+        }
+        if (!l_result.isValid()) {
+            return null;
+        }
+        return store(p_mapFile, l_hash, l_result.getMap());
+    }
+
+    /**
+     * Removes the entry for a map file.
+     *
+     * @param p_mapFile The map file path
+     */
+    public void invalidate(String p_mapFile) {
+        d_templates.remove(p_mapFile);
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        d_templates.clear();
+    }
+
+    /**
+     * Gets the number of cached templates.
+     *
+     * @return The number of entries
+     */
+    public int size() {
+        return d_templates.size();
+    }
+
+    /**
+     * Computes the SHA-256 hash of a map file's content.
+     *
+     * @param p_content The file content
+     * @return The hash as a lowercase hexadecimal string
+     */
+    public static String hashContent(byte[] p_content) {
+        try {
+            byte[] l_digest = MessageDigest.getInstance("SHA-256").digest(p_content);
+            StringBuilder l_hex = new StringBuilder(l_digest.length * 2);
+            for (byte l_byte : l_digest) {
+                l_hex.append(String.format("%02x", l_byte));
+            }
+            return l_hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
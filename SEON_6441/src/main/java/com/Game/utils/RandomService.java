@@ -0,0 +1,89 @@
+package com.Game.utils;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Source of randomness for a single game.
+ * A service is created from a seed, and hands out independent random streams through
+ * {@link #split()}, one for each consumer (territory assignment, each player and the orders
+ * it issues). Streams are never shared between games, so games running concurrently do not
+ * contend on a common generator, and a game created from the same seed replays identically
+ * as long as the consumers ask for their streams in the same order.
+ */
+public class RandomService {
+
+    /**
+     * Seed this service was created from.
+     */
+    private final long d_seed;
+
+    /**
+     * Root generator from which the per-consumer streams are split.
+     */
+    private final SplittableRandom d_root;
+
+    /**
+     * Creates a service from an explicit seed.
+     *
+     * @param p_seed The seed
+     */
+    public RandomService(long p_seed) {
+        this.d_seed = p_seed;
+        this.d_root = new SplittableRandom(p_seed);
+    }
+
+    /**
+     * Creates a service with an unpredictable seed.
+     */
+    public RandomService() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Derives the seed of one tournament game from the tournament seed, so that every
+     * (map, game) pair gets its own, reproducible sequence regardless of the order in
+     * which the games run.
+     *
+     * @param p_tournamentSeed The tournament seed
+     * @param p_mapIndex The index of the map in the tournament
+     * @param p_gameNumber The game number on that map
+     * @return The seed for that game
+     */
+    public static long deriveGameSeed(long p_tournamentSeed, int p_mapIndex, int p_gameNumber) {
+        long l_key = ((long) p_mapIndex << 32) | (p_gameNumber & 0xffffffffL);
+        return mix(p_tournamentSeed ^ mix(l_key + 0x9E3779B97F4A7C15L));
+    }
+
+    /**
+     * Gets the seed this service was created from.
+     *
+     * @return The seed
+     */
+    public long getSeed() {
+        return d_seed;
+    }
+
+    /**
+     * Returns a new random stream, statistically independent of every other stream
+     * split from this service.
+     *
+     * @return A new random generator
+     */
+    public RandomGenerator split() {
+        return d_root.split();
+    }
+
+    /**
+     * Scrambles a 64-bit value (the finalizer of the SplitMix64 generator).
+     *
+     * @param p_value The value to scramble
+     * @return The scrambled value
+     */
+    private static long mix(long p_value) {
+        long l_z = p_value;
+        l_z = (l_z ^ (l_z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        l_z = (l_z ^ (l_z >>> 27)) * 0x94D049BB133111EBL;
+        return l_z ^ (l_z >>> 31);
+    }
+}
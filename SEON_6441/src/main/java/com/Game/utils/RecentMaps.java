@@ -0,0 +1,100 @@
+package com.Game.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * List of the maps loaded most recently, most recent first, kept in a small text file with
+ * one map name per line so that it survives between runs.
+ */
+public class RecentMaps {
+
+    /**
+     * Maximum number of maps remembered.
+     */
+    public static final int MAX_ENTRIES = 5;
+
+    /**
+     * Name of the default file holding the list, kept in the map cache's default directory.
+     */
+    public static final String DEFAULT_FILE_NAME = "recent_maps.txt";
+
+    /**
+     * The file holding the list.
+     */
+    private final File d_file;
+
+    /**
+     * The map names, most recent first.
+     */
+    private final List<String> d_maps;
+
+    /**
+     * Creates the list stored in the default file.
+     */
+    public RecentMaps() {
+        this(new File(MapDiskCache.getDefaultDirectory(), DEFAULT_FILE_NAME));
+    }
+
+    /**
+     * Creates the list stored in the given file, reading the entries it already holds.
+     *
+     * @param p_file The file holding the list
+     */
+    public RecentMaps(File p_file) {
+        this.d_file = p_file;
+        this.d_maps = new ArrayList<>();
+        if (p_file.isFile()) {
+            try {
+                for (String l_line : Files.readAllLines(p_file.toPath(), StandardCharsets.UTF_8)) {
+                    String l_map = l_line.trim();
+                    if (!l_map.isEmpty() && !d_maps.contains(l_map) && d_maps.size() < MAX_ENTRIES) {
+                        d_maps.add(l_map);
+                    }
+                }
+            } catch (IOException e) {
+                System.err.println("Could not read recent maps from " + p_file + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Gets the remembered maps.
+     *
+     * @return The map names, most recent first
+     */
+    public synchronized List<String> getMaps() {
+        return Collections.unmodifiableList(new ArrayList<>(d_maps));
+    }
+
+    /**
+     * Records that a map was loaded, moving it to the front of the list, and saves the list.
+     *
+     * @param p_mapFile The map file path or name
+     */
+    public synchronized void add(String p_mapFile) {
+        if (p_mapFile == null || p_mapFile.trim().isEmpty()) {
+            return;
+        }
+        String l_map = p_mapFile.trim();
+        d_maps.remove(l_map);
+        d_maps.add(0, l_map);
+        while (d_maps.size() > MAX_ENTRIES) {
+            d_maps.remove(d_maps.size() - 1);
+        }
+        try {
+            File l_parent = d_file.getAbsoluteFile().getParentFile();
+            if (l_parent != null) {
+                Files.createDirectories(l_parent.toPath());
+            }
+            Files.write(d_file.toPath(), d_maps, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            System.err.println("Could not save recent maps to " + d_file + ": " + e.getMessage());
+        }
+    }
+}
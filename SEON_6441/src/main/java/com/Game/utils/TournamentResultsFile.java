@@ -0,0 +1,434 @@
+package com.Game.utils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Append-only file of tournament results, one record per game, written as soon as the game
+ * ends and flushed immediately, so the results of a long tournament survive a crash and never
+ * need to be held in memory. Records are written as CSV, or as JSON lines when the file name
+ * ends with ".jsonl" or ".json". {@link #forEach(File, Consumer)} streams the records back,
+ * one at a time.
+ *
+ * <p>Every record carries the identifier of the tournament run it belongs to, so that a file
+ * appended to by several runs can still be summarized one run at a time with
+ * {@link #forEach(File, String, Consumer)}.</p>
+ */
+public class TournamentResultsFile implements AutoCloseable {
+
+    /**
+     * The formats a results file can be written in.
+     */
+    public enum Format {
+        /**
+         * Comma-separated values with a header line.
+         */
+        CSV,
+        /**
+         * One JSON object per line.
+         */
+        JSONL;
+
+        /**
+         * Gets the format of a results file from its name.
+         *
+         * @param p_file The results file
+         * @return JSONL for ".jsonl" and ".json" files, CSV otherwise
+         */
+        public static Format of(File p_file) {
+            String l_name = p_file.getName().toLowerCase();
+            return l_name.endsWith(".jsonl") || l_name.endsWith(".json") ? JSONL : CSV;
+        }
+    }
+
+    /**
+     * Header line of CSV files.
+     */
+    public static final String CSV_HEADER = "run,map,game,seed,winner,turns,wall_time_ms,orders_executed";
+
+    /**
+     * The results file.
+     */
+    private final File d_file;
+
+    /**
+     * The format records are written in.
+     */
+    private final Format d_format;
+
+    /**
+     * Writer appending to the file.
+     */
+    private final Writer d_writer;
+
+    /**
+     * Identifier of the run the records appended now belong to.
+     */
+    private volatile String d_runId;
+
+    /**
+     * Opens a results file for appending, creating it, with a CSV header if needed, when it does not exist.
+     * The records appended belong to a new run, until {@link #startRun()} is called.
+     *
+     * @param p_file The results file
+     * @throws IOException If the file cannot be opened
+     */
+    public TournamentResultsFile(File p_file) throws IOException {
+        this.d_file = p_file;
+        this.d_format = Format.of(p_file);
+        this.d_runId = newRunId();
+        File l_parent = p_file.getAbsoluteFile().getParentFile();
+        if (l_parent != null) {
+            l_parent.mkdirs();
+        }
+        boolean l_empty = !p_file.isFile() || p_file.length() == 0;
+        this.d_writer = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(p_file, true), StandardCharsets.UTF_8));
+        if (l_empty && d_format == Format.CSV) {
+            d_writer.write(CSV_HEADER);
+            d_writer.write('\n');
+            d_writer.flush();
+        }
+    }
+
+    /**
+     * Gets the results file.
+     *
+     * @return The file
+     */
+    public File getFile() {
+        return d_file;
+    }
+
+    /**
+     * Gets the format records are written in.
+     *
+     * @return The format
+     */
+    public Format getFormat() {
+        return d_format;
+    }
+
+    /**
+     * Gets the identifier of the run the records appended now belong to.
+     *
+     * @return The run identifier
+     */
+    public String getRunId() {
+        return d_runId;
+    }
+
+    /**
+     * Starts a new run: the records appended from now on are told apart from the ones
+     * already in the file.
+     *
+     * @return The identifier of the new run
+     */
+    public String startRun() {
+        d_runId = newRunId();
+        return d_runId;
+    }
+
+    /**
+     * Appends the record of one game, as part of the current run, and flushes it to the file.
+     * Games finishing on several threads may append at the same time.
+     *
+     * @param p_result The result of the game
+     * @throws IOException If the record cannot be written
+     */
+    public synchronized void append(GameResult p_result) throws IOException {
+        d_writer.write(d_format == Format.JSONL ? toJson(d_runId, p_result) : toCsv(d_runId, p_result));
+        d_writer.write('\n');
+        d_writer.flush();
+    }
+
+    /**
+     * Closes the file.
+     *
+     * @throws IOException If the file cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        d_writer.close();
+    }
+
+    /**
+     * Reads the records of a results file one at a time, in the order they were written.
+     * Lines that are not valid records, such as the CSV header, are skipped.
+     *
+     * @param p_file The results file
+     * @param p_consumer Called with each record
+     * @throws IOException If the file cannot be read
+     */
+    public static void forEach(File p_file, Consumer<GameResult> p_consumer) throws IOException {
+        forEach(p_file, null, p_consumer);
+    }
+
+    /**
+     * Reads the records of one run of a results file one at a time, in the order they were written.
+     *
+     * @param p_file The results file
+     * @param p_runId Identifier of the run whose records are read, or null to read every record
+     * @param p_consumer Called with each record
+     * @throws IOException If the file cannot be read
+     */
+    public static void forEach(File p_file, String p_runId, Consumer<GameResult> p_consumer) throws IOException {
+        Format l_format = Format.of(p_file);
+        try (BufferedReader l_reader = Files.newBufferedReader(p_file.toPath(), StandardCharsets.UTF_8)) {
+            String l_line;
+            while ((l_line = l_reader.readLine()) != null) {
+                GameResult l_result = l_format == Format.JSONL ? parseJson(l_line) : parseCsv(l_line);
+                if (l_result != null && (p_runId == null || p_runId.equals(l_result.getRunId()))) {
+                    p_consumer.accept(l_result);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates an identifier for a new run.
+     *
+     * @return The run identifier
+     */
+    private static String newRunId() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * Formats a record as a CSV line.
+     *
+     * @param p_runId Identifier of the run the record belongs to
+     * @param p_result The result of a game
+     * @return The CSV line
+     */
+    static String toCsv(String p_runId, GameResult p_result) {
+        return csvField(p_runId) + "," + csvField(p_result.getMapFile()) + "," + p_result.getGameNumber() + "," + p_result.getSeed()
+                + "," + csvField(p_result.getWinner()) + "," + p_result.getTurns()
+                + "," + p_result.getWallTimeMillis() + "," + p_result.getOrdersExecuted();
+    }
+
+    /**
+     * Formats a record as a JSON object on one line.
+     *
+     * @param p_runId Identifier of the run the record belongs to
+     * @param p_result The result of a game
+     * @return The JSON line
+     */
+    static String toJson(String p_runId, GameResult p_result) {
+        return "{\"run\":" + jsonString(p_runId)
+                + ",\"map\":" + jsonString(p_result.getMapFile())
+                + ",\"game\":" + p_result.getGameNumber()
+                + ",\"seed\":" + p_result.getSeed()
+                + ",\"winner\":" + jsonString(p_result.getWinner())
+                + ",\"turns\":" + p_result.getTurns()
+                + ",\"wallTimeMillis\":" + p_result.getWallTimeMillis()
+                + ",\"ordersExecuted\":" + p_result.getOrdersExecuted() + "}";
+    }
+
+    /**
+     * Parses a CSV line.
+     *
+     * @param p_line The line
+     * @return The record, or null if the line is not a valid record
+     */
+    static GameResult parseCsv(String p_line) {
+        List<String> l_fields = new ArrayList<>(8);
+        StringBuilder l_field = new StringBuilder();
+        boolean l_quoted = false;
+        for (int i = 0; i < p_line.length(); i++) {
+            char l_char = p_line.charAt(i);
+            if (l_quoted) {
+                if (l_char == '"' && i + 1 < p_line.length() && p_line.charAt(i + 1) == '"') {
+                    l_field.append('"');
+                    i++;
+                } else if (l_char == '"') {
+                    l_quoted = false;
+                } else {
+                    l_field.append(l_char);
+                }
+            } else if (l_char == '"') {
+                l_quoted = true;
+            } else if (l_char == ',') {
+                l_fields.add(l_field.toString());
+                l_field.setLength(0);
+            } else {
+                l_field.append(l_char);
+            }
+        }
+        l_fields.add(l_field.toString());
+        if (l_fields.size() != 8) {
+            return null;
+        }
+        try {
+            return new GameResult(l_fields.get(0), l_fields.get(1), Integer.parseInt(l_fields.get(2)),
+                    Long.parseLong(l_fields.get(3)), l_fields.get(4), Integer.parseInt(l_fields.get(5)),
+                    Long.parseLong(l_fields.get(6)), Long.parseLong(l_fields.get(7)));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses a JSON line written by {@link #toJson(String, GameResult)}: a flat object whose values
+     * are strings or integers.
+     *
+     * @param p_line The line
+     * @return The record, or null if the line is not a valid record
+     */
+    static GameResult parseJson(String p_line) {
+        Map<String, String> l_values = new HashMap<>();
+        String l_line = p_line.trim();
+        if (!l_line.startsWith("{") || !l_line.endsWith("}")) {
+            return null;
+        }
+        int i = 1;
+        int l_end = l_line.length() - 1;
+        while (i < l_end) {
+            char l_char = l_line.charAt(i);
+            if (l_char == ',' || Character.isWhitespace(l_char)) {
+                i++;
+                continue;
+            }
+            StringBuilder l_key = new StringBuilder();
+            i = readJsonString(l_line, i, l_key);
+            while (i < l_end && l_line.charAt(i) != ':') {
+                i++;
+            }
+            i++;
+            while (i < l_end && Character.isWhitespace(l_line.charAt(i))) {
+                i++;
+            }
+            if (i >= l_end || l_key.length() == 0) {
+                return null;
+            }
+            if (l_line.charAt(i) == '"') {
+                StringBuilder l_value = new StringBuilder();
+                i = readJsonString(l_line, i, l_value);
+                l_values.put(l_key.toString(), l_value.toString());
+            } else {
+                int l_start = i;
+                while (i < l_end && l_line.charAt(i) != ',') {
+                    i++;
+                }
+                l_values.put(l_key.toString(), l_line.substring(l_start, i).trim());
+            }
+        }
+        if (l_values.get("run") == null || l_values.get("map") == null || l_values.get("winner") == null) {
+            return null;
+        }
+        try {
+            return new GameResult(l_values.get("run"), l_values.get("map"), Integer.parseInt(l_values.get("game")),
+                    Long.parseLong(l_values.get("seed")), l_values.get("winner"),
+                    Integer.parseInt(l_values.get("turns")), Long.parseLong(l_values.get("wallTimeMillis")),
+                    Long.parseLong(l_values.get("ordersExecuted")));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads a JSON string starting at a double quote.
+     *
+     * @param p_line The line
+     * @param p_start Index of the opening double quote
+     * @param p_out Receives the unescaped string
+     * @return Index just after the closing double quote
+     */
+    private static int readJsonString(String p_line, int p_start, StringBuilder p_out) {
+        if (p_line.charAt(p_start) != '"') {
+            return p_start + 1;
+        }
+        int i = p_start + 1;
+        while (i < p_line.length() && p_line.charAt(i) != '"') {
+            char l_char = p_line.charAt(i);
+            if (l_char == '\\' && i + 1 < p_line.length()) {
+                char l_escaped = p_line.charAt(++i);
+                switch (l_escaped) {
+                    case 'n':
+                        p_out.append('\n');
+                        break;
+                    case 't':
+                        p_out.append('\t');
+                        break;
+                    case 'r':
+                        p_out.append('\r');
+                        break;
+                    case 'u':
+                        p_out.append((char) Integer.parseInt(p_line.substring(i + 1, i + 5), 16));
+                        i += 4;
+                        break;
+                    default:
+                        p_out.append(l_escaped);
+                }
+            } else {
+                p_out.append(l_char);
+            }
+            i++;
+        }
+        return i + 1;
+    }
+
+    /**
+     * Quotes a CSV field if it holds a comma, a double quote or a line break.
+     *
+     * @param p_value The field value
+     * @return The field as written in the file
+     */
+    private static String csvField(String p_value) {
+        if (p_value.indexOf(',') < 0 && p_value.indexOf('"') < 0
+                && p_value.indexOf('\n') < 0 && p_value.indexOf('\r') < 0) {
+            return p_value;
+        }
+        return "\"" + p_value.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * Writes a value as a JSON string.
+     *
+     * @param p_value The value
+     * @return The quoted and escaped string
+     */
+    private static String jsonString(String p_value) {
+        StringBuilder l_json = new StringBuilder(p_value.length() + 2).append('"');
+        for (int i = 0; i < p_value.length(); i++) {
+            char l_char = p_value.charAt(i);
+            switch (l_char) {
+                case '"':
+                    l_json.append("\\\"");
+                    break;
+                case '\\':
+                    l_json.append("\\\\");
+                    break;
+                case '\n':
+                    l_json.append("\\n");
+                    break;
+                case '\r':
+                    l_json.append("\\r");
+                    break;
+                case '\t':
+                    l_json.append("\\t");
+                    break;
+                default:
+                    if (l_char < 0x20) {
+                        l_json.append(String.format("\\u%04x", (int) l_char));
+                    } else {
+                        l_json.append(l_char);
+                    }
+            }
+        }
+        return l_json.append('"').toString();
+    }
+}
@@ -1,9 +1,16 @@
 package com.Game.utils;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.Game.model.AggressivePlayer;
 import com.Game.model.BenevolentPlayer;
@@ -101,6 +108,154 @@ public class TournamentUtil {
         return table.toString();
     }
     
+    /**
+     * Creates a formatted table from a tournament results file, reading its records one at
+     * a time. Maps appear in the order of their first record.
+     * 
+     * @param p_resultsFile File of tournament results written by {@link TournamentResultsFile}
+     * @param p_numberOfGames Number of games played per map
+     * @return Formatted table as string
+     * @throws IOException If the file cannot be read
+     */
+    public static String formatResultsTable(File p_resultsFile, int p_numberOfGames) throws IOException {
+        return formatResultsTable(p_resultsFile, null, p_numberOfGames);
+    }
+    
+    /**
+     * Creates a formatted table from one run of a tournament results file, reading its
+     * records one at a time. Maps appear in the order of their first record.
+     * 
+     * @param p_resultsFile File of tournament results written by {@link TournamentResultsFile}
+     * @param p_runId Identifier of the run to format, or null to format every record
+     * @param p_numberOfGames Number of games played per map
+     * @return Formatted table as string
+     * @throws IOException If the file cannot be read
+     */
+    public static String formatResultsTable(File p_resultsFile, String p_runId, int p_numberOfGames) throws IOException {
+        StringBuilder table = new StringBuilder();
+        writeResultsTable(p_resultsFile, p_runId, p_numberOfGames, table);
+        return table.toString();
+    }
+    
+    /**
+     * Writes a formatted table of one run of a tournament results file to the given output,
+     * in the same layout as {@link #formatResultsTable(Map, int)}. The file is read twice, one
+     * record at a time: once for the width of the map column, then for the rows. A row is
+     * written as soon as all of its games have been read and the rows before it are written,
+     * so only the rows of maps whose games are still being read are held in memory.
+     * 
+     * @param p_resultsFile File of tournament results written by {@link TournamentResultsFile}
+     * @param p_runId Identifier of the run to format, or null to format every record
+     * @param p_numberOfGames Number of games played per map
+     * @param p_out Where to write the table
+     * @throws IOException If the file cannot be read or the output cannot be written
+     */
+    public static void writeResultsTable(File p_resultsFile, String p_runId, int p_numberOfGames,
+                                         Appendable p_out) throws IOException {
+        // Calculate column widths
+        int[] mapNameWidth = { 15 }; // Minimum width
+        TournamentResultsFile.forEach(p_resultsFile, p_runId, result -> mapNameWidth[0] =
+                Math.max(mapNameWidth[0], extractMapName(result.getMapFile()).length() + 2));
+        
+        int resultWidth = 10; // Minimum width
+        
+        // Create header row
+        p_out.append(String.format("%-" + mapNameWidth[0] + "s", "Map"));
+        for (int i = 1; i <= p_numberOfGames; i++) {
+            p_out.append(String.format("%-" + resultWidth + "s", "Game " + i));
+        }
+        p_out.append("\n");
+        
+        // Add divider
+        for (int i = 0; i < mapNameWidth[0] + (resultWidth * p_numberOfGames); i++) {
+            p_out.append("-");
+        }
+        p_out.append("\n");
+        
+        // Add data rows, in the order of the first record of each map
+        Map<String, ResultsRow> pendingRows = new LinkedHashMap<>();
+        Set<String> writtenMaps = new HashSet<>();
+        try {
+            TournamentResultsFile.forEach(p_resultsFile, p_runId, result -> {
+                int gameNumber = result.getGameNumber();
+                if (gameNumber < 1 || gameNumber > p_numberOfGames || writtenMaps.contains(result.getMapFile())) {
+                    return;
+                }
+                ResultsRow row = pendingRows.computeIfAbsent(result.getMapFile(), mapFile -> new ResultsRow(p_numberOfGames));
+                if (row.d_winners[gameNumber - 1] == null) {
+                    row.d_filled++;
+                }
+                row.d_winners[gameNumber - 1] = result.getWinner();
+                
+                Iterator<Map.Entry<String, ResultsRow>> rows = pendingRows.entrySet().iterator();
+                while (rows.hasNext()) {
+                    Map.Entry<String, ResultsRow> oldestRow = rows.next();
+                    if (oldestRow.getValue().d_filled < p_numberOfGames) {
+                        break;
+                    }
+                    writeResultsRow(oldestRow.getKey(), oldestRow.getValue().d_winners, mapNameWidth[0], resultWidth, p_out);
+                    writtenMaps.add(oldestRow.getKey());
+                    rows.remove();
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        
+        // Games that have no record are shown as N/A
+        for (Map.Entry<String, ResultsRow> row : pendingRows.entrySet()) {
+            writeResultsRow(row.getKey(), row.getValue().d_winners, mapNameWidth[0], resultWidth, p_out);
+        }
+    }
+    
+    /**
+     * Row of a results table whose games are still being read.
+     */
+    private static final class ResultsRow {
+        
+        /**
+         * Winner of each game, or null for games not read yet.
+         */
+        private final String[] d_winners;
+        
+        /**
+         * Number of games read.
+         */
+        private int d_filled;
+        
+        /**
+         * Creates an empty row.
+         * 
+         * @param p_numberOfGames Number of games played per map
+         */
+        private ResultsRow(int p_numberOfGames) {
+            this.d_winners = new String[p_numberOfGames];
+        }
+    }
+    
+    /**
+     * Writes one row of a results table.
+     * 
+     * @param p_mapFile Map file path
+     * @param p_winners Winner of each game, or null for games that have no result
+     * @param p_mapNameWidth Width of the map column
+     * @param p_resultWidth Width of each game column
+     * @param p_out Where to write the row
+     * @throws UncheckedIOException If the output cannot be written
+     */
+    private static void writeResultsRow(String p_mapFile, String[] p_winners, int p_mapNameWidth,
+                                        int p_resultWidth, Appendable p_out) {
+        try {
+            p_out.append(String.format("%-" + p_mapNameWidth + "s", extractMapName(p_mapFile)));
+            for (String winner : p_winners) {
+                p_out.append(String.format("%-" + p_resultWidth + "s", winner != null ? winner : "N/A"));
+            }
+            p_out.append("\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
     /**
      * Extracts a clean map name from a file path.
      * 
@@ -139,24 +294,69 @@ public class TournamentUtil {
         // Count wins
         for (Map<Integer, String> mapResults : p_results.values()) {
             for (String winner : mapResults.values()) {
-                // Extract the base strategy name from the winner
-                String baseStrategy = winner;
-                if (winner.contains("_")) {
-                    baseStrategy = winner.substring(0, winner.indexOf("_"));
-                }
-                
-                // Increment the count
-                if (winCounts.containsKey(baseStrategy)) {
-                    winCounts.put(baseStrategy, winCounts.get(baseStrategy) + 1);
-                } else if (baseStrategy.equals("Draw")) {
-                    winCounts.put("Draw", winCounts.get("Draw") + 1);
-                }
+                addWin(winCounts, winner);
             }
         }
         
         return winCounts;
     }
     
+    /**
+     * Counts the number of wins for each player strategy in a tournament results file,
+     * reading its records one at a time.
+     * 
+     * @param p_resultsFile File of tournament results written by {@link TournamentResultsFile}
+     * @param p_playerStrategies List of player strategies
+     * @return Map of strategy names to win counts
+     * @throws IOException If the file cannot be read
+     */
+    public static Map<String, Integer> countWins(File p_resultsFile, List<String> p_playerStrategies) throws IOException {
+        return countWins(p_resultsFile, null, p_playerStrategies);
+    }
+    
+    /**
+     * Counts the number of wins for each player strategy in one run of a tournament results
+     * file, reading its records one at a time.
+     * 
+     * @param p_resultsFile File of tournament results written by {@link TournamentResultsFile}
+     * @param p_runId Identifier of the run to count, or null to count every record
+     * @param p_playerStrategies List of player strategies
+     * @return Map of strategy names to win counts
+     * @throws IOException If the file cannot be read
+     */
+    public static Map<String, Integer> countWins(File p_resultsFile, String p_runId, List<String> p_playerStrategies) throws IOException {
+        Map<String, Integer> winCounts = new HashMap<>();
+        for (String strategy : p_playerStrategies) {
+            winCounts.put(strategy, 0);
+        }
+        winCounts.put("Draw", 0);
+        
+        TournamentResultsFile.forEach(p_resultsFile, p_runId, result -> addWin(winCounts, result.getWinner()));
+        return winCounts;
+    }
+    
+    /**
+     * Adds one win to the strategy of a winner. Winners that are neither a counted strategy
+     * nor a draw, such as map errors, are ignored.
+     * 
+     * @param p_winCounts Map of strategy names to win counts
+     * @param p_winner Name of the winner, such as "aggressive_1", or "Draw"
+     */
+    private static void addWin(Map<String, Integer> p_winCounts, String p_winner) {
+        // Extract the base strategy name from the winner
+        String baseStrategy = p_winner;
+        if (p_winner.contains("_")) {
+            baseStrategy = p_winner.substring(0, p_winner.indexOf("_"));
+        }
+        
+        // Increment the count
+        if (p_winCounts.containsKey(baseStrategy)) {
+            p_winCounts.put(baseStrategy, p_winCounts.get(baseStrategy) + 1);
+        } else if (baseStrategy.equals("Draw")) {
+            p_winCounts.put("Draw", p_winCounts.get("Draw") + 1);
+        }
+    }
+    
     /**
      * Logs tournament results.
      * 
@@ -0,0 +1,83 @@
+package com.Game.view;
+
+/**
+ * Sink collecting output in memory and writing it to another sink in one call on
+ * {@link #flush()}. Error messages are collected with the rest of the output, in order,
+ * and are written to the target's normal output. A buffered sink is meant to be used by a
+ * single game, on a single thread.
+ */
+public class BufferedOutputSink implements OutputSink {
+
+    /**
+     * Where the collected output is written on flush, or null to only keep it in memory.
+     */
+    private final OutputSink d_target;
+
+    /**
+     * Output collected since the last flush.
+     */
+    private final StringBuilder d_buffer = new StringBuilder();
+
+    /**
+     * Creates a sink that only keeps its output in memory.
+     */
+    public BufferedOutputSink() {
+        this(null);
+    }
+
+    /**
+     * Creates a sink that writes its output to the given sink on flush.
+     *
+     * @param p_target The sink the collected output is written to, or null to only keep it in memory
+     */
+    public BufferedOutputSink(OutputSink p_target) {
+        this.d_target = p_target;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void print(String p_text) {
+        d_buffer.append(p_text);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void println(String p_text) {
+        d_buffer.append(p_text).append('\n');
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void printError(String p_text) {
+        d_buffer.append(p_text).append('\n');
+    }
+
+    /**
+     * Gets the output collected since the last flush.
+     *
+     * @return The collected output
+     */
+    public String getContent() {
+        return d_buffer.toString();
+    }
+
+    /**
+     * Writes the collected output to the target sink and empties the buffer.
+     * Without a target, the output is kept.
+     */
+    @Override
+    public void flush() {
+        if (d_target == null || d_buffer.length() == 0) {
+            return;
+        }
+        d_target.print(d_buffer.toString());
+        d_target.flush();
+        d_buffer.setLength(0);
+    }
+}
@@ -0,0 +1,44 @@
+package com.Game.view;
+
+/**
+ * Sink writing to the console: normal output to {@link System#out} and errors to
+ * {@link System#err}. The streams are looked up on every call, so redirecting them
+ * with {@link System#setOut} also redirects the sink.
+ */
+public final class ConsoleOutputSink implements OutputSink {
+
+    /**
+     * The console sink.
+     */
+    public static final ConsoleOutputSink INSTANCE = new ConsoleOutputSink();
+
+    /**
+     * Private constructor; use {@link #INSTANCE}.
+     */
+    private ConsoleOutputSink() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void print(String p_text) {
+        System.out.print(p_text);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void println(String p_text) {
+        System.out.println(p_text);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void printError(String p_text) {
+        System.err.println(p_text);
+    }
+}
@@ -0,0 +1,74 @@
+package com.Game.view;
+
+/**
+ * Gives access to the sink game output is written to. Like the game logger, a sink can be
+ * bound to the current thread, so that games running on worker threads, or simulated on the
+ * main thread, write to their own sink while the rest of the application keeps the default one.
+ */
+public final class GameOutput {
+
+    /**
+     * Sink used when none is bound to the current thread.
+     */
+    private static volatile OutputSink d_defaultSink = ConsoleOutputSink.INSTANCE;
+
+    /**
+     * Sink bound to the current thread, if any.
+     */
+    private static final ThreadLocal<OutputSink> d_threadSink = new ThreadLocal<>();
+
+    /**
+     * Private constructor; this class only has static methods.
+     */
+    private GameOutput() {
+    }
+
+    /**
+     * Gets the sink of the current thread, or the default sink if none is bound.
+     *
+     * @return The sink to write game output to
+     */
+    public static OutputSink get() {
+        OutputSink l_sink = d_threadSink.get();
+        return l_sink != null ? l_sink : d_defaultSink;
+    }
+
+    /**
+     * Gets the sink used when none is bound to the current thread.
+     *
+     * @return The default sink
+     */
+    public static OutputSink getDefault() {
+        return d_defaultSink;
+    }
+
+    /**
+     * Sets the sink used when none is bound to the current thread.
+     *
+     * @param p_sink The default sink, or null to write to the console
+     */
+    public static void setDefault(OutputSink p_sink) {
+        d_defaultSink = p_sink != null ? p_sink : ConsoleOutputSink.INSTANCE;
+    }
+
+    /**
+     * Binds a sink to the calling thread, so that {@link #get()} returns it on this thread
+     * until {@link #unbindFromCurrentThread()} is called.
+     *
+     * @param p_sink The sink to bind
+     */
+    public static void bindToCurrentThread(OutputSink p_sink) {
+        d_threadSink.set(p_sink);
+    }
+
+    /**
+     * Flushes and removes the sink bound to the calling thread, if any.
+     */
+    public static void unbindFromCurrentThread() {
+        OutputSink l_sink = d_threadSink.get();
+        d_threadSink.remove();
+        if (l_sink != null) {
+            l_sink.flush();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.Game.model.Map;
 import com.Game.model.Player;
 import com.Game.model.Territory;
 import com.Game.observer.GameLogger;
+import com.Game.observer.LogLevel;
 import com.Game.model.CardType;
 
 import java.util.List;
@@ -11,84 +12,109 @@ import java.util.ArrayList;
 
 /**
  * Responsible for displaying game information to the user.
- * This class handles all the console output related to the game state.
+ * This class handles all the console output related to the game state, written through
+ * an {@link OutputSink} so that it can be silenced or buffered.
  */
 public class GameView {
     
+    /**
+     * Sink this view writes to, or null to write to the sink of the current thread.
+     */
+    private OutputSink d_output;
+    
+    /**
+     * Sets the sink this view writes to.
+     * 
+     * @param p_output The output sink, or null to write to the sink of the current thread
+     */
+    public void setOutputSink(OutputSink p_output) {
+        this.d_output = p_output;
+    }
+    
+    /**
+     * Gets the sink this view writes to.
+     * 
+     * @return The sink set on this view, or else the sink of the current thread
+     */
+    public OutputSink out() {
+        return d_output != null ? d_output : GameOutput.get();
+    }
+    
     /**
      * Displays the welcome message when the game starts.
      */
     public void displayWelcomeMessage() {
-        System.out.println("Welcome to Warzone Game!");
+        out().println("Welcome to Warzone Game!");
     }
     
     /**
      * Displays the menu for the map editing phase.
      */
     public void displayMapEditingMenu() {
-        System.out.println("\n=== Map Editing Phase Menu ===\n");
-        System.out.println("1. editcontinent <args>   - Edit continent details");
-        System.out.println("2. editcountry <args>     - Edit country details");
-        System.out.println("3. editneighbor <args>    - Edit neighboring territories");
-        System.out.println("4. showmap                - Display the current map");
-        System.out.println("5. savemap <args>         - Save the current map");
-        System.out.println("6. editmap <args>         - Edit the map");
-        System.out.println("7. validatemap            - Validate the map");
-        System.out.println("8. loadmap <args>         - Load an existing map");
-        System.out.println("9. gameplayer <args>      - Setup players and transition to startup phase");
-        System.out.println("\nType 'exit' to quit the map editing phase.\n");
+        out().println("\n=== Map Editing Phase Menu ===\n");
+        out().println("1. editcontinent <args>   - Edit continent details");
+        out().println("2. editcountry <args>     - Edit country details");
+        out().println("3. editneighbor <args>    - Edit neighboring territories");
+        out().println("4. showmap                - Display the current map");
+        out().println("5. savemap <args>         - Save the current map");
+        out().println("6. editmap <args>         - Edit the map");
+        out().println("7. validatemap            - Validate the map");
+        out().println("8. loadmap <args>         - Load an existing map");
+        out().println("9. gameplayer <args>      - Setup players and transition to startup phase");
+        out().println("10. convertmap <args>     - Convert a map file to the binary .mapb format");
+        out().println("\nType 'exit' to quit the map editing phase.\n");
     }
     
     /**
      * Displays the menu for the tournament map editing phase.
      */
     public void displayTournamentMapEditingMenu() {
-        System.out.println("\n=== Tournament Mode: Map Editing Phase ===\n");
-        System.out.println("1. loadmap <filename>  - Load an existing map");
-        System.out.println("2. editmap <filename>  - Edit a map");
-        System.out.println("3. validatemap         - Validate the current map");
-        System.out.println("4. showmap             - Display the current map");
-        System.out.println("\nLoad a map to proceed with the tournament.\n");
+        out().println("\n=== Tournament Mode: Map Editing Phase ===\n");
+        out().println("1. loadmap <filename>  - Load an existing map");
+        out().println("2. editmap <filename>  - Edit a map");
+        out().println("3. validatemap         - Validate the current map");
+        out().println("4. showmap             - Display the current map");
+        out().println("\nLoad a map to proceed with the tournament.\n");
     }
 
     /**
      * Displays the menu for the startup phase.
      */
     public void displayStartupMenu() {
-        System.out.println("\n=== Startup Phase Menu ===\n");
-        System.out.println("1. showmap            - Display the current map");
-        System.out.println("2. gameplayer <args>  - Manage game players");
-        System.out.println("3. assigncountries    - Assign countries to players");
-        System.out.println("4. startgame          - Start the main game");
-        System.out.println("5. editmap <args>     - Return to map editing phase");
-        System.out.println("6. loadmap <args>     - Load a different map");
-        System.out.println("\nType 'exit' to quit the startup phase.\n");
+        out().println("\n=== Startup Phase Menu ===\n");
+        out().println("1. showmap            - Display the current map");
+        out().println("2. gameplayer <args>  - Manage game players");
+        out().println("3. assigncountries    - Assign countries to players");
+        out().println("4. startgame          - Start the main game");
+        out().println("5. editmap <args>     - Return to map editing phase");
+        out().println("6. loadmap <args>     - Load a different map");
+        out().println("\nType 'exit' to quit the startup phase.\n");
     }
     
     /**
      * Displays the menu for the main game phase.
      */
     public void displayMainGameMenu() {
-        System.out.println("\n=== Main Game Phase Menu ===\n");
-        System.out.println("1. showmap         - Display the current map");
-        System.out.println("2. issueorder      - Issue an order");
-        System.out.println("3. executeorders   - Execute all issued orders");
-        System.out.println("4. endturn         - End the current turn, and move to the next one");
-        System.out.println("5. savegame        - Save the current game.");
-        System.out.println("6. loadgame <args> - Load saved game");
-        System.out.println("\nType 'exit' to quit the main game phase.\n");
+        out().println("\n=== Main Game Phase Menu ===\n");
+        out().println("1. showmap         - Display the current map");
+        out().println("2. issueorder      - Issue an order");
+        out().println("3. executeorders   - Execute all issued orders");
+        out().println("4. endturn         - End the current turn, and move to the next one");
+        out().println("5. savegame        - Save the current game.");
+        out().println("6. loadgame <args> - Load saved game");
+        out().println("\nType 'exit' to quit the main game phase.\n");
     }
     
     /**
      * Displays the menu for the tournament mode.
      */
     public void displayTournamentMenu() {
-        System.out.println("\n=== Tournament Mode Menu ===\n");
-        System.out.println("1. showmap                - Display the current map");
-        System.out.println("2. tournament <args>      - Start a tournament with specified parameters");
-        System.out.println("   Format: tournament -M listofmapfiles -P listofplayerstrategies -G numberofgames -D maxnumberofturns");
-        System.out.println("   Example: tournament -M canada.map swiss.map -P aggressive benevolent random cheater -G 3 -D 20");
-        System.out.println("\nType 'exit' to quit the tournament mode.\n");
+        out().println("\n=== Tournament Mode Menu ===\n");
+        out().println("1. showmap                - Display the current map");
+        out().println("2. tournament <args>      - Start a tournament with specified parameters");
+        out().println("   Format: tournament -M listofmapfiles -P listofplayerstrategies -G numberofgames -D maxnumberofturns [-T threads] [-S seed] [-L debug|info|warning|error|off] [-R results.csv|results.jsonl]");
+        out().println("   Example: tournament -M canada.map swiss.map -P aggressive benevolent random cheater -G 3 -D 20");
+        out().println("\nType 'exit' to quit the tournament mode.\n");
     }
 
     /**
@@ -98,7 +124,7 @@ public class GameView {
      * @param p_players The list of players to display
      */
     public void displayMap(Map p_gameMap, List<Player> p_players) {
-        System.out.println("\n======== Game Map Overview ========");
+        out().println("\n======== Game Map Overview ========");
         
         // Get the full list of territories from the map.
         List<Territory> l_allTerritories = p_gameMap.getTerritoryList();
@@ -113,52 +139,52 @@ public class GameView {
         
         // Print territories grouped by continent.
         for (String l_continent : l_continents) {
-            System.out.println("\nContinent: " + l_continent);
-            System.out.println("----------------------------");
+            out().println("\nContinent: " + l_continent);
+            out().println("----------------------------");
             for (Territory l_territory : l_allTerritories) {
                 if (l_territory.getContinent().equals(l_continent)) {
-                    System.out.println("Territory: " + l_territory.getName() 
+                    out().println("Territory: " + l_territory.getName() 
                             + " | Armies: " + l_territory.getNumOfArmies());
                     
                     // Display neighbor list for this territory.
                     List<Territory> l_neighbors = l_territory.getNeighborList();
                     if (l_neighbors.isEmpty()) {
-                        System.out.println("    Neighbors: None");
+                        out().println("    Neighbors: None");
                     } else {
-                        System.out.print("    --> Neighbors: ");
+                        out().print("    --> Neighbors: ");
                         for (Territory l_neighbor : l_neighbors) {
-                            System.out.print(l_neighbor.getName() + " || ");
+                            out().print(l_neighbor.getName() + " || ");
                         }
-                        System.out.println(); // Newline after listing neighbors.
+                        out().println(); // Newline after listing neighbors.
                     }
                 }
             }
         }
-        System.out.println("=====================================");
+        out().println("=====================================");
         
         // Then display detailed status for each player.
-        System.out.println("\nPlayers status:");
+        out().println("\nPlayers status:");
         for (Player l_player : p_players) {
-            System.out.println("-------------------------------------------------");
-            System.out.println("Player Name: " + l_player.getName());
-            System.out.println("Total Territories Owned: " + l_player.getOwnedTerritories().size());
-            System.out.println("Available Reinforcement Armies: " + l_player.getNbrOfReinforcementArmies());
+            out().println("-------------------------------------------------");
+            out().println("Player Name: " + l_player.getName());
+            out().println("Total Territories Owned: " + l_player.getOwnedTerritories().size());
+            out().println("Available Reinforcement Armies: " + l_player.getNbrOfReinforcementArmies());
             
-            System.out.println("Cards Available:");
-            System.out.println(l_player.getFormattedCards());
+            out().println("Cards Available:");
+            out().println(l_player.getFormattedCards());
 
 
-            System.out.println("Territory Details:");
+            out().println("Territory Details:");
             for (Territory l_territory : l_player.getOwnedTerritories()) {
-                System.out.println("    - " + l_territory.getName() 
+                out().println("    - " + l_territory.getName() 
                         + " (" + l_territory.getNumOfArmies() + " armies)");
             }
         }
-        System.out.println("-------------------------------------------------");
+        out().println("-------------------------------------------------");
         
      // Add logging of map state
         GameLogger logger = GameLogger.getInstance();
-        if (logger != null) {
+        if (logger != null && logger.isEnabled(LogLevel.INFO)) {
             StringBuilder logSB = new StringBuilder("Current map state:\n");
             for (Player player : p_players) {
                 logSB.append("Player ").append(player.getName())
@@ -176,7 +202,7 @@ public class GameView {
      * @param p_message The message to display
      */
     public void displayMessage(String p_message) {
-        System.out.println(p_message);
+        out().println(p_message);
     }
     
     /**
@@ -185,14 +211,14 @@ public class GameView {
      * @param p_errorMessage The error message to display
      */
     public void displayError(String p_errorMessage) {
-        System.err.println("Error: " + p_errorMessage);
+        out().printError("Error: " + p_errorMessage);
     }
     
     /**
      * Displays information about the reinforcement phase.
      */
     public void displayReinforcementPhase() {
-        System.out.println("\n===== REINFORCEMENT PHASE =====");
+        out().println("\n===== REINFORCEMENT PHASE =====");
     }
     
     /**
@@ -202,21 +228,21 @@ public class GameView {
      * @param p_reinforcements The number of reinforcements allocated
      */
     public void displayReinforcementAllocation(String p_playerName, int p_reinforcements) {
-        System.out.println(p_playerName + " receives " + p_reinforcements + " reinforcement armies.");
+        out().println(p_playerName + " receives " + p_reinforcements + " reinforcement armies.");
     }
     
     /**
      * Displays the end of reinforcement phase message.
      */
     public void displayReinforcementComplete() {
-        System.out.println("\nPlayers have been assigned their armies!\n");
+        out().println("\nPlayers have been assigned their armies!\n");
     }
     
     /**
      * Displays information about the issue orders phase.
      */
     public void displayIssueOrdersPhase() {
-        System.out.println("\n===== ISSUE ORDERS PHASE =====");
+        out().println("\n===== ISSUE ORDERS PHASE =====");
     }
     
     /**
@@ -226,7 +252,7 @@ public class GameView {
      * @param p_reinforcements The number of reinforcements the player has left
      */
     public void displayPlayerTurn(String p_playerName, int p_reinforcements) {
-        System.out.println("\n" + p_playerName + "'s turn (" + p_reinforcements + " reinforcements left)");
+        out().println("\n" + p_playerName + "'s turn (" + p_reinforcements + " reinforcements left)");
     }
     
     /**
@@ -237,52 +263,52 @@ public class GameView {
      * @param p_gameMap The game map containing all territories and their connections.
      */
     public void displayPlayerTerritories(List<Territory> p_territories, Player p_player, Map p_gameMap) {
-        System.out.println("Your territories:");
+        out().println("Your territories:");
         for (int i = 0; i < p_territories.size(); i++) {
             Territory l_territory = p_territories.get(i);
-            System.out.println((i+1) + ". " + l_territory.getName() + " (" + l_territory.getNumOfArmies() + " armies)");
+            out().println((i+1) + ". " + l_territory.getName() + " (" + l_territory.getNumOfArmies() + " armies)");
             List<Territory> neighbors = l_territory.getNeighborList();
-            System.out.print("      - Neighbors: ");
+            out().print("      - Neighbors: ");
             for (Territory l_neighbor : neighbors) {
                 if(p_player.getOwnedTerritories().contains(l_neighbor)) {
-                    System.out.print(l_neighbor.getName() + "(Owned) || ");
+                    out().print(l_neighbor.getName() + "(Owned) || ");
                 }
                 else {
                     if(l_neighbor.getOwner() != null) {
-                        System.out.print(l_neighbor.getName() + " (Enemy: "+ l_neighbor.getOwner().getName() +") || ");
+                        out().print(l_neighbor.getName() + " (Enemy: "+ l_neighbor.getOwner().getName() +") || ");
                     }
                     else {
-                        System.out.print(l_neighbor.getName() + " (Neutral) || ");
+                        out().print(l_neighbor.getName() + " (Neutral) || ");
                     }
                 }
             }
-            System.out.println();
+            out().println();
         }
         
         // Display player's cards
-        System.out.println("\nYour cards:");
+        out().println("\nYour cards:");
         String cards = p_player.getFormattedCards();
         if (cards.isEmpty()) {
-            System.out.println("  None");
+            out().println("  None");
         } else {
-            System.out.println("  " + cards);
+            out().println("  " + cards);
         }
-        System.out.println();
+        out().println();
     }
     
     /**
      * Displays the completion of the issue orders phase.
      */
     public void displayIssueOrdersComplete() {
-        System.out.println("\nAll players have issued their orders.\n");
+        out().println("\nAll players have issued their orders.\n");
     }
     
     /**
      * Displays information about the execute orders phase.
      */
     public void displayExecuteOrdersPhase() {
-        System.out.println("\n===== EXECUTE ORDERS PHASE =====");
-        System.out.println("Executing all orders...");
+        out().println("\n===== EXECUTE ORDERS PHASE =====");
+        out().println("Executing all orders...");
     }
     
     /**
@@ -291,14 +317,14 @@ public class GameView {
      * @param p_playerName The name of the player whose order is being executed
      */
     public void displayExecutingOrder(String p_playerName) {
-        System.out.println("\nExecuting order from " + p_playerName + ":");
+        out().println("\nExecuting order from " + p_playerName + ":");
     }
     
     /**
      * Displays the completion of the execute orders phase.
      */
     public void displayExecuteOrdersComplete() {
-        System.out.println("\nAll orders executed. Use 'endturn' to end the turn or 'showmap' to see the current state.");
+        out().println("\nAll orders executed. Use 'endturn' to end the turn or 'showmap' to see the current state.");
     }
     
     /**
@@ -307,15 +333,15 @@ public class GameView {
      * @param p_winnerName The name of the winning player
      */
     public void displayWinner(String p_winnerName) {
-        System.out.println("\n*******************************");
-        System.out.println("Game Over! " + p_winnerName + " wins!");
-        System.out.println("*******************************\n");
+        out().println("\n*******************************");
+        out().println("Game Over! " + p_winnerName + " wins!");
+        out().println("*******************************\n");
     }
     
     /**
      * Displays a message at the end of a turn.
      */
     public void displayEndTurn() {
-        System.out.println("\nTurn ended. Starting new turn.");
+        out().println("\nTurn ended. Starting new turn.");
     }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.Game.view;
+
+/**
+ * Sink discarding everything written to it, for games nobody watches such as tournament
+ * games and automated single games.
+ */
+public final class HeadlessOutputSink implements OutputSink {
+
+    /**
+     * The headless sink.
+     */
+    public static final HeadlessOutputSink INSTANCE = new HeadlessOutputSink();
+
+    /**
+     * Private constructor; use {@link #INSTANCE}.
+     */
+    private HeadlessOutputSink() {
+    }
+
+    /**
+     * Discards the text.
+     *
+     * @param p_text The text to write
+     */
+    @Override
+    public void print(String p_text) {
+    }
+
+    /**
+     * Discards the text.
+     *
+     * @param p_text The text to write
+     */
+    @Override
+    public void println(String p_text) {
+    }
+
+    /**
+     * Discards the error message.
+     *
+     * @param p_text The error message
+     */
+    @Override
+    public void printError(String p_text) {
+    }
+
+    /**
+     * Always false: nothing written to this sink is shown.
+     *
+     * @return false
+     */
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+}
@@ -0,0 +1,56 @@
+package com.Game.view;
+
+/**
+ * Destination of the text the game shows to the user while it is played: order results,
+ * player messages and views. Writing through a sink rather than straight to
+ * {@link System#out} lets simulated games run headless, or collect their output and write
+ * it in one go, instead of paying for synchronized, line-flushed console output.
+ *
+ * @see GameOutput
+ */
+public interface OutputSink {
+
+    /**
+     * Writes text without ending the line.
+     *
+     * @param p_text The text to write
+     */
+    void print(String p_text);
+
+    /**
+     * Writes text and ends the line.
+     *
+     * @param p_text The text to write
+     */
+    void println(String p_text);
+
+    /**
+     * Ends the current line.
+     */
+    default void println() {
+        println("");
+    }
+
+    /**
+     * Writes an error message on its own line.
+     *
+     * @param p_text The error message
+     */
+    void printError(String p_text);
+
+    /**
+     * Checks whether anything written to this sink is shown. Call sites that build several
+     * lines of output can use this to skip the work.
+     *
+     * @return true if the output is shown, false if it is discarded
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Writes any output held by the sink to its destination.
+     */
+    default void flush() {
+    }
+}
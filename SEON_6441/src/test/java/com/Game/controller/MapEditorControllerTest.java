@@ -1,6 +1,7 @@
 package com.Game.controller;
 
 import com.Game.observer.GameLogger;
+import com.Game.utils.MapLoadResult;
 import com.Game.utils.MapLoader;
 import org.junit.Before;
 import org.junit.Test;
@@ -110,5 +111,20 @@ public class MapEditorControllerTest {
         // Verify error message for invalid map
         verify(mockGameView).displayError("The map is invalid.");
     }
-}
 
+    @Test
+    public void testHandleCommand_loadMapReadsTheFileOnce() {
+        MapLoadResult loadResult = new MapLoader().loadMap("canada.map");
+        when(mockMapLoader.loadMap("canada.map")).thenReturn(loadResult);
+
+        mapEditorController.handleCommand(new String[] {"loadmap", "canada.map"}, "loadmap", false);
+
+        // The single load answers the existence, format and validity checks
+        verify(mockMapLoader, times(1)).loadMap("canada.map");
+        verify(mockMapLoader).read(loadResult);
+        verify(mockMapLoader, never()).isMapExist(anyString());
+        verify(mockMapLoader, never()).isValid(anyString());
+        verify(mockMapLoader, never()).read(anyString());
+        verify(mockGameView).displayMessage("canada.map is loaded successfully.");
+    }
+}
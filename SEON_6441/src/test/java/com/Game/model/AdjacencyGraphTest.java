@@ -0,0 +1,154 @@
+package com.Game.model;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for the compressed adjacency view of a map and its invalidation.
+ */
+public class AdjacencyGraphTest {
+
+    private Map d_map;
+
+    /**
+     * Creates a map with a line of three territories and a separate island.
+     */
+    @Before
+    public void setUp() {
+        d_map = new Map();
+        d_map.addContinent("North", 3);
+        d_map.addContinent("South", 2);
+        d_map.addCountry("A", "North");
+        d_map.addCountry("B", "North");
+        d_map.addCountry("C", "South");
+        d_map.addCountry("D", "South");
+        d_map.addNeighbor("A", "B");
+        d_map.addNeighbor("B", "C");
+    }
+
+    /**
+     * Test that ids, neighbour rows and continents match the territory list.
+     */
+    @Test
+    public void testGraphMatchesTerritoryList() {
+        AdjacencyGraph graph = d_map.getAdjacencyGraph();
+        assertEquals(4, graph.size());
+        assertEquals(4, graph.getEdgeCount());
+        assertEquals(1, graph.getId(d_map.getTerritoryByName("B")));
+        assertEquals(-1, graph.getId(new Territory("Z", "North", 3)));
+
+        int b = graph.getId(d_map.getTerritoryByName("B"));
+        assertEquals(2, graph.degree(b));
+        assertEquals(0, graph.neighborAt(graph.neighborStart(b)));
+        assertEquals(2, graph.neighborAt(graph.neighborStart(b) + 1));
+        assertEquals(0, graph.degree(3));
+
+        assertEquals(2, graph.getContinentCount());
+        assertEquals("South", graph.getContinentName(graph.getContinentId(2)));
+        assertSame(graph, d_map.getAdjacencyGraph());
+    }
+
+    /**
+     * Test that editor changes and direct neighbour additions cause a rebuild.
+     */
+    @Test
+    public void testGraphIsRebuiltAfterChanges() {
+        assertFalse(d_map.mapValidation());
+        AdjacencyGraph before = d_map.getAdjacencyGraph();
+
+        d_map.getTerritoryByName("C").addNeighbor(d_map.getTerritoryByName("D"));
+        d_map.getTerritoryByName("D").addNeighbor(d_map.getTerritoryByName("C"));
+        assertNotSame(before, d_map.getAdjacencyGraph());
+        assertTrue(d_map.mapValidation());
+        assertTrue(d_map.continentValidation());
+
+        d_map.removeNeighbor("A", "B");
+        assertFalse(d_map.mapValidation());
+        assertFalse(d_map.continentValidation());
+
+        d_map.addNeighbor("A", "B");
+        d_map.addTerritory(new Territory("E", "North", 3));
+        assertEquals(5, d_map.getAdjacencyGraph().size());
+        assertFalse(d_map.mapValidation());
+
+        d_map.removeCountry("E");
+        assertTrue(d_map.mapValidation());
+    }
+
+    /**
+     * Test that copied maps resolve neighbours to their own territories, and that
+     * validation handles a long chain without recursion.
+     */
+    @Test
+    public void testCopiedAndLargeMaps() {
+        Map copy = new Map(d_map);
+        AdjacencyGraph graph = copy.getAdjacencyGraph();
+        int b = graph.getId(copy.getTerritoryByName("B"));
+        assertSame(copy.getTerritoryByName("A"), graph.getTerritory(graph.neighborAt(graph.neighborStart(b))));
+
+        Map chain = new Map();
+        chain.addContinent("Line", 1);
+        for (int i = 0; i < 100000; i++) {
+            chain.addCountry("T" + i, "Line");
+            if (i > 0) {
+                chain.addNeighbor("T" + (i - 1), "T" + i);
+            }
+        }
+        assertTrue(chain.mapValidation());
+        assertTrue(chain.continentValidation());
+    }
+
+    /**
+     * Test the allocation-free enemy border check used by the AI players.
+     */
+    @Test
+    public void testHasEnemyNeighbor() {
+        Player owner = new HumanPlayer("Owner", "human");
+        Player enemy = new HumanPlayer("Enemy", "human");
+        for (Territory territory : d_map.getTerritoryList()) {
+            territory.setOwner(owner);
+        }
+        AdjacencyGraph graph = d_map.getAdjacencyGraph();
+        assertFalse(graph.hasEnemyNeighbor(d_map.getTerritoryByName("A")));
+        d_map.getTerritoryByName("C").setOwner(enemy);
+        assertTrue(graph.hasEnemyNeighbor(d_map.getTerritoryByName("B")));
+        assertFalse(graph.hasEnemyNeighbor(d_map.getTerritoryByName("A")));
+    }
+
+    /**
+     * Test that a removed territory no longer invalidates the map's adjacency view and that
+     * explicit invalidation forces a rebuild.
+     */
+    @Test
+    public void testRemovedTerritoriesAreNoLongerObserved() {
+        Territory removed = d_map.getTerritoryByName("D");
+        d_map.getAdjacencyGraph();
+        d_map.removeCountry("D");
+        AdjacencyGraph graph = d_map.getAdjacencyGraph();
+        assertEquals(3, graph.size());
+
+        removed.addNeighbor(new Territory("Z", "South", 2));
+        assertSame("A removed territory should not invalidate the view", graph, d_map.getAdjacencyGraph());
+
+        d_map.invalidateAdjacencyGraph();
+        assertNotSame(graph, d_map.getAdjacencyGraph());
+    }
+
+    /**
+     * Test that an unchanged map is validated once and a changed map again.
+     */
+    @Test
+    public void testValidationReportIsReusedUntilTheMapChanges() {
+        MapValidationReport report = d_map.validate();
+        assertSame(report, d_map.validate());
+        assertFalse(d_map.mapValidation());
+
+        d_map.addNeighbor("C", "D");
+        MapValidationReport changed = d_map.validate();
+        assertNotSame(report, changed);
+        assertTrue(changed.isMapConnected());
+        assertTrue(d_map.mapValidation());
+    }
+}
@@ -0,0 +1,84 @@
+package com.Game.model;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for the continent ownership index and the continent-aware reinforcement calculation.
+ */
+public class ContinentOwnershipIndexTest {
+
+    private Map d_map;
+
+    private Player d_red;
+
+    private Player d_blue;
+
+    /**
+     * Creates a map with a two-territory continent and a one-territory continent,
+     * and gives every territory to the red player.
+     */
+    @Before
+    public void setUp() {
+        d_map = new Map();
+        d_map.addContinent("North", 3);
+        d_map.addContinent("South", 2);
+        d_map.addCountry("A", "North");
+        d_map.addCountry("B", "North");
+        d_map.addCountry("C", "South");
+        d_red = new HumanPlayer("Red", "human");
+        d_blue = new HumanPlayer("Blue", "human");
+        for (Territory territory : d_map.getTerritoryList()) {
+            territory.setOwner(d_red);
+            d_red.addTerritory(territory);
+        }
+    }
+
+    /**
+     * Test that the index starts from the current owners and follows captures and blockades.
+     */
+    @Test
+    public void testCountsFollowOwnerChanges() {
+        ContinentOwnershipIndex index = d_map.getOwnershipIndex();
+        assertTrue(index.ownsContinent(d_red, "North"));
+        assertEquals(5, index.getContinentBonus(d_red));
+        assertEquals(3 + 5, index.calculateReinforcements(d_red));
+
+        Territory b = d_map.getTerritoryByName("B");
+        b.setOwner(d_blue);
+        d_red.removeTerritory(b);
+        d_blue.addTerritory(b);
+        assertFalse(index.ownsContinent(d_red, "North"));
+        assertEquals(1, index.getOwnedCount(d_blue, "North"));
+        assertEquals(2, index.getContinentBonus(d_red));
+        assertEquals(0, index.getContinentBonus(d_blue));
+
+        d_map.getTerritoryByName("A").setOwner(d_blue);
+        assertTrue(index.ownsContinent(d_blue, "North"));
+        assertEquals(3, index.getContinentBonus(d_blue));
+
+        b.setOwner(null);
+        assertEquals(1, index.getOwnedCount(d_blue, "North"));
+        assertEquals(0, index.getContinentBonus(d_blue));
+        assertSame(index, d_map.getOwnershipIndex());
+    }
+
+    /**
+     * Test that adding territories or continents rebuilds the index and that bonus changes are used.
+     */
+    @Test
+    public void testIndexIsRebuiltWhenMapChanges() {
+        ContinentOwnershipIndex index = d_map.getOwnershipIndex();
+        d_map.addCountry("D", "South");
+        ContinentOwnershipIndex rebuilt = d_map.getOwnershipIndex();
+        assertNotSame(index, rebuilt);
+        assertEquals(3, rebuilt.getContinentBonus(d_red));
+
+        d_map.getTerritoryByName("D").setOwner(d_red);
+        assertEquals(5, rebuilt.getContinentBonus(d_red));
+        d_map.addContinent("South", 7);
+        assertEquals(10, d_map.getOwnershipIndex().getContinentBonus(d_red));
+    }
+}
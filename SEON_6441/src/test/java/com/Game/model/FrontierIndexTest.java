@@ -0,0 +1,99 @@
+package com.Game.model;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for the frontier index and how it follows changes of owner.
+ */
+public class FrontierIndexTest {
+
+    private Map d_map;
+
+    private Player d_red;
+
+    private Player d_blue;
+
+    /**
+     * Creates a line of four territories, A-B-C-D, with A and B owned by red and C and D by blue.
+     */
+    @Before
+    public void setUp() {
+        d_map = new Map();
+        d_map.addContinent("North", 3);
+        for (String name : new String[] { "A", "B", "C", "D" }) {
+            d_map.addCountry(name, "North");
+        }
+        d_map.addNeighbor("A", "B");
+        d_map.addNeighbor("B", "C");
+        d_map.addNeighbor("C", "D");
+        d_red = new HumanPlayer("Red", "human");
+        d_blue = new HumanPlayer("Blue", "human");
+        d_map.getTerritoryByName("A").setOwner(d_red);
+        d_map.getTerritoryByName("B").setOwner(d_red);
+        d_map.getTerritoryByName("C").setOwner(d_blue);
+        d_map.getTerritoryByName("D").setOwner(d_blue);
+    }
+
+    /**
+     * Test that the frontier of both players moves when a border territory is captured.
+     */
+    @Test
+    public void testFrontierFollowsCapture() {
+        FrontierIndex frontier = d_map.getFrontierIndex();
+        Territory b = d_map.getTerritoryByName("B");
+        Territory c = d_map.getTerritoryByName("C");
+        assertEquals(1, frontier.getFrontierSize(d_red));
+        assertSame(b, frontier.getFrontierTerritory(d_red, 0));
+        assertSame(c, frontier.getEnemyNeighbor(b, 0));
+        assertFalse(frontier.isFrontier(d_map.getTerritoryByName("A")));
+        assertArrayEquals(new Territory[] { b }, frontier.copyFrontier(d_red));
+
+        c.setOwner(d_red);
+        assertFalse(frontier.isFrontier(b));
+        assertTrue(frontier.isFrontier(c));
+        assertEquals(1, frontier.getFrontierSize(d_red));
+        assertSame(c, frontier.getFrontierTerritory(d_red, 0));
+        assertSame(d_map.getTerritoryByName("D"), frontier.getFrontierTerritory(d_blue, 0));
+
+        c.setOwner(null);
+        assertEquals(1, frontier.getEnemyNeighborCount(b));
+        assertEquals(1, frontier.getFrontierSize(d_red));
+        assertEquals(1, frontier.getFrontierSize(d_blue));
+        assertSame(frontier, d_map.getFrontierIndex());
+    }
+
+    /**
+     * Test that after many random captures the index agrees with a full scan of every territory.
+     */
+    @Test
+    public void testIndexMatchesFullScan() {
+        d_map.addNeighbor("A", "D");
+        d_map.addNeighbor("B", "D");
+        Player[] players = { d_red, d_blue, null };
+        List<Territory> territories = d_map.getTerritoryList();
+        FrontierIndex frontier = d_map.getFrontierIndex();
+        Random random = new Random(7);
+        for (int step = 0; step < 200; step++) {
+            territories.get(random.nextInt(territories.size())).setOwner(players[random.nextInt(players.length)]);
+            int[] frontierSizes = new int[2];
+            for (Territory territory : territories) {
+                List<Territory> enemies = territory.getEnemyNeighbors();
+                assertEquals(enemies.size(), frontier.getEnemyNeighborCount(territory));
+                for (int i = 0; i < enemies.size(); i++) {
+                    assertSame(enemies.get(i), frontier.getEnemyNeighbor(territory, i));
+                }
+                if (!enemies.isEmpty() && territory.getOwner() != null) {
+                    frontierSizes[territory.getOwner() == d_red ? 0 : 1]++;
+                }
+            }
+            assertEquals(frontierSizes[0], frontier.getFrontierSize(d_red));
+            assertEquals(frontierSizes[1], frontier.getFrontierSize(d_blue));
+        }
+    }
+}
@@ -44,4 +44,48 @@ public class HumanPlayerTest {
         assertEquals("Reinforcement armies should be reduced by 5", 5, human.getNbrOfReinforcementArmies());
         assertFalse("An order should be added to the orders list", human.getOrders().isEmpty());
     }
+
+    @Test
+    public void testTypedAdvanceCheckMatchesCommandValidation() {
+        Territory t2 = new Territory("T2", "Continent1", 5);
+        map.addTerritory(t2);
+        map.addNeighbor("T1", "T2");
+        t1.setNumOfArmies(4);
+        Player enemy = new HumanPlayer("Bob", "human2");
+        t2.setOwner(enemy);
+
+        assertEquals(ValidationResult.VALID, human.checkAdvance(t1, t2, 4));
+        assertEquals(ValidationResult.NOT_ENOUGH_ARMIES, human.checkAdvance(t1, t2, 5));
+        assertEquals(ValidationResult.NON_POSITIVE_ARMIES, human.checkAdvance(t1, t2, 0));
+        assertEquals(ValidationResult.SAME_TERRITORY, human.checkAdvance(t1, t1, 1));
+        assertEquals(ValidationResult.NOT_OWNER, human.checkAdvance(t2, t1, 1));
+        assertTrue(human.validateAdvance(new String[] { "advance", "T1", "T2", "4" }, map));
+        assertFalse(human.validateAdvance(new String[] { "advance", "T1", "T2", "x" }, map));
+        assertFalse(human.validateAdvance(new String[] { "advance", "T1", "T1", "x" }, map));
+        assertFalse(human.validateAdvance(new String[] { "advance", "T2", "T1", "1" }, map));
+    }
+
+    @Test
+    public void testTypedCardChecksDoNotUseCards() {
+        Territory t2 = new Territory("T2", "Continent1", 5);
+        map.addTerritory(t2);
+        map.addNeighbor("T1", "T2");
+        t2.setOwner(new HumanPlayer("Bob", "human2"));
+
+        assertEquals(ValidationResult.NO_CARD, human.checkBomb(t2));
+        human.addCard(CardType.BOMB);
+        assertEquals(ValidationResult.OWN_TERRITORY, human.checkBomb(t1));
+        assertEquals(ValidationResult.TARGET_NOT_FOUND, human.checkBomb(null));
+        assertEquals(ValidationResult.VALID, human.checkBomb(t2));
+        assertTrue("Checks should not use up the card", human.hasCard(CardType.BOMB));
+        assertTrue(human.issueOrder("bomb T2", map, new ArrayList<Player>()));
+        assertFalse("Creating the order uses the card", human.hasCard(CardType.BOMB));
+
+        human.addCard(CardType.AIRLIFT);
+        t1.setNumOfArmies(3);
+        assertEquals(ValidationResult.VALID, human.checkAirlift(t1, t2, 3));
+        assertFalse(human.validateAirlift(new String[] { "airlift", "T1", "T2", "4" }, map));
+        assertFalse(human.issueOrder("airlift T1 T2 4", map, new ArrayList<Player>()));
+        assertTrue("A rejected order keeps its card", human.hasCard(CardType.AIRLIFT));
+    }
 }
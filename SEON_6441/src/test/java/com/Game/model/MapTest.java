@@ -252,6 +252,33 @@ public class MapTest {
         assertTrue(lines.contains("[borders]"));
     }
 
+    /**
+     * Tests the exact output of {@link Map#saveToFile(String)} and {@link Map#saveToConquestFile(String)},
+     * including a territory on an undeclared continent and a neighbour that is not on the map,
+     * which are both written as 0 in the Domination format.
+     *
+     * @throws IOException if an I/O error occurs during file writing or reading.
+     */
+    @Test
+    public void testSaveFileContent() throws IOException {
+        d_map.addContinent("Asia", 5);
+        d_map.addCountry("India", "Asia");
+        d_map.addCountry("China", "Asia");
+        d_map.addTerritory(new Territory("Nepal", "Himalaya", 0));
+        d_map.addNeighbor("India", "China");
+        d_map.addNeighbor("China", "Nepal");
+        d_map.getTerritoryByName("Nepal").addNeighbor(new Territory("Tibet", "Himalaya", 0));
+
+        d_map.saveToFile(TESTFILEPATH);
+        assertEquals(List.of("[continents]", "Asia 5", "", "[countries]", "1 India 1", "2 China 1", "3 Nepal 0", "",
+                "[borders]", "1 2", "2 1 3", "3 2 0"), Files.readAllLines(Paths.get(TESTFILEPATH)));
+
+        d_map.saveToConquestFile(TESTFILEPATH);
+        assertEquals(List.of("[Map]", "[Continents]", "Asia=5", "", "[Territories]", "India,11,22,Asia,China",
+                "China,11,22,Asia,India,Nepal", "Nepal,11,22,Himalaya,China,Tibet", ""),
+                Files.readAllLines(Paths.get(TESTFILEPATH)));
+    }
+
     /**
      * Tests the {@link Map#mapValidation()} method to ensure the entire map is connected.
      */
@@ -15,7 +15,13 @@ import org.junit.runners.Suite;
     BenevolentPlayerTest.class,
     AggressivePlayerTest.class,
     BenevolentPlayerTest.class,
-    RandomPlayerTest.class
+    RandomPlayerTest.class,
+    TournamentModeTest.class,
+    TerritoryListTest.class,
+    AdjacencyGraphTest.class,
+    ContinentOwnershipIndexTest.class,
+    FrontierIndexTest.class,
+    StalemateDetectorTest.class
     // ... add other test classes in com.Game.command
 })
 public class ModelTestSuite {
@@ -3,6 +3,7 @@ package com.Game.model;
 import static org.junit.Assert.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 import org.junit.After;
 import org.junit.Before; 
 import org.junit.Test;
@@ -60,4 +61,41 @@ public class RandomPlayerTest {
         assertTrue("RandomPlayer should issue orders based on its random strategy", result);
         assertFalse("RandomPlayer should have orders in its list", random.getOrders().isEmpty());
     }
+
+    @Test
+    public void testSeededRandomPlayerIsReproducible() {
+        // ===== Execution =====
+        String firstRun = playSeededTurn(2024);
+        tearDown();
+        setUp();
+        String secondRun = playSeededTurn(2024);
+
+        // ===== After =====
+        assertEquals("The same seed should produce the same orders and battles", firstRun, secondRun);
+    }
+
+    /**
+     * Issues and executes one turn of orders with a seeded generator.
+     *
+     * @param seed The seed to use
+     * @return A summary of the resulting armies and owners
+     */
+    private String playSeededTurn(long seed) {
+        r_t1.setNumOfArmies(10);
+        r_t2.setNumOfArmies(10);
+        enemy.setNumOfArmies(5);
+        random.setRandom(new SplittableRandom(seed));
+        random.issueOrder("", map, new ArrayList<Player>());
+        StringBuilder summary = new StringBuilder();
+        summary.append(random.getOrders().size()).append(" orders;");
+        com.Game.model.order.Order order;
+        while ((order = random.nextOrder()) != null) {
+            order.execute();
+        }
+        for (Territory territory : map.getTerritoryList()) {
+            summary.append(territory.getName()).append('=').append(territory.getNumOfArmies())
+                    .append('@').append(territory.getOwner().getName()).append(';');
+        }
+        return summary.toString();
+    }
 }
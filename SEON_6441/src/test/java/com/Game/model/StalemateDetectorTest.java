@@ -0,0 +1,130 @@
+package com.Game.model;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for the game state hash and the stalemate detector.
+ */
+public class StalemateDetectorTest {
+
+    private Map d_map;
+
+    private Player d_red;
+
+    private Player d_blue;
+
+    private List<Player> d_players;
+
+    /**
+     * Creates a map of four territories, A and B owned by red and C and D by blue.
+     */
+    @Before
+    public void setUp() {
+        d_map = new Map();
+        d_map.addContinent("North", 3);
+        for (String name : new String[] { "A", "B", "C", "D" }) {
+            d_map.addCountry(name, "North");
+        }
+        d_red = new HumanPlayer("Red", "human");
+        d_blue = new HumanPlayer("Blue", "human");
+        d_players = Arrays.asList(d_red, d_blue);
+        give(d_red, "A");
+        give(d_red, "B");
+        give(d_blue, "C");
+        give(d_blue, "D");
+    }
+
+    /**
+     * Test that the incremental hash always equals the hash of a fresh hasher built on the same state.
+     */
+    @Test
+    public void testHashFollowsChanges() {
+        GameStateHasher hasher = new GameStateHasher(d_map, d_players);
+        long initial = hasher.getHash();
+        Player[] owners = { d_red, d_blue, null };
+        Random random = new Random(11);
+        for (int step = 0; step < 100; step++) {
+            Territory territory = d_map.getTerritoryList().get(random.nextInt(4));
+            if (random.nextBoolean()) {
+                territory.setOwner(owners[random.nextInt(owners.length)]);
+            } else {
+                territory.setNumOfArmies(random.nextInt(5));
+            }
+            GameStateHasher fresh = new GameStateHasher(d_map, d_players);
+            assertEquals(fresh.getHash(), hasher.getHash());
+            fresh.detach();
+        }
+
+        for (Territory territory : d_map.getTerritoryList()) {
+            territory.setNumOfArmies(0);
+        }
+        give(d_red, "A");
+        give(d_red, "B");
+        give(d_blue, "C");
+        give(d_blue, "D");
+        assertEquals(initial, hasher.getHash());
+
+        d_map.getTerritoryByName("A").setNumOfArmies(1);
+        assertNotEquals(initial, hasher.getHash());
+    }
+
+    /**
+     * Test that a game whose territory counts stop changing is a stalemate after the given number of turns.
+     */
+    @Test
+    public void testNoProgressEndsGame() {
+        StalemateDetector detector = new StalemateDetector(d_map, d_players, 3);
+        Territory a = d_map.getTerritoryByName("A");
+        for (int turn = 1; turn < 3; turn++) {
+            a.setNumOfArmies(a.getNumOfArmies() + 3);
+            assertFalse(detector.endTurn());
+        }
+        a.setNumOfArmies(a.getNumOfArmies() + 3);
+        assertTrue(detector.endTurn());
+        assertEquals(3, detector.getTurnsWithoutProgress());
+        detector.detach();
+    }
+
+    /**
+     * Test that a capture resets the count of turns without progress, and that returning
+     * to an earlier state is a stalemate.
+     */
+    @Test
+    public void testRepeatedStateEndsGame() {
+        StalemateDetector detector = new StalemateDetector(d_map, d_players);
+        Territory c = d_map.getTerritoryByName("C");
+        c.setNumOfArmies(2);
+        assertFalse(detector.endTurn());
+
+        d_blue.removeTerritory(c);
+        give(d_red, "C");
+        assertFalse(detector.endTurn());
+        assertEquals(0, detector.getTurnsWithoutProgress());
+
+        d_red.removeTerritory(c);
+        give(d_blue, "C");
+        assertTrue(detector.endTurn());
+        detector.detach();
+    }
+
+    /**
+     * Gives a territory to a player.
+     *
+     * @param player The new owner
+     * @param name The territory name
+     */
+    private void give(Player player, String name) {
+        Territory territory = d_map.getTerritoryByName(name);
+        territory.setOwner(player);
+        if (!player.getOwnedTerritories().contains(territory)) {
+            player.addTerritory(territory);
+        }
+    }
+}
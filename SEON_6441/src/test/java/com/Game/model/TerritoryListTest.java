@@ -0,0 +1,90 @@
+package com.Game.model;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for the name-indexed TerritoryList and the lookups built on it.
+ */
+public class TerritoryListTest {
+
+    private TerritoryList d_list;
+    private Territory d_alpha;
+    private Territory d_beta;
+
+    /**
+     * Creates a list with two territories.
+     */
+    @Before
+    public void setUp() {
+        d_list = new TerritoryList();
+        d_alpha = new Territory("Alpha", "North", 3);
+        d_beta = new Territory("Beta", "North", 3);
+        d_list.add(d_alpha);
+        d_list.add(d_beta);
+    }
+
+    /**
+     * Test lookups after adding, removing and replacing through the List methods.
+     */
+    @Test
+    public void testIndexFollowsListChanges() {
+        assertSame(d_alpha, d_list.findByName("Alpha"));
+
+        Territory gamma = new Territory("Gamma", "South", 2);
+        d_list.add(gamma);
+        assertSame(gamma, d_list.findByName("Gamma"));
+
+        d_list.remove(d_alpha);
+        assertNull(d_list.findByName("Alpha"));
+
+        Territory delta = new Territory("Delta", "South", 2);
+        d_list.set(0, delta);
+        assertNull("Replaced territory should no longer be found", d_list.findByName("Beta"));
+        assertSame(delta, d_list.findByName("Delta"));
+
+        d_list.removeIf(t -> t.getContinent().equals("South"));
+        assertNull(d_list.findByName("Gamma"));
+        assertTrue(d_list.isEmpty());
+    }
+
+    /**
+     * Test that duplicate names resolve to the first occurrence, like a linear scan.
+     */
+    @Test
+    public void testDuplicateNamesReturnFirstOccurrence() {
+        Territory otherAlpha = new Territory("Alpha", "South", 1);
+        d_list.add(otherAlpha);
+        assertSame(d_alpha, d_list.findByName("Alpha"));
+        assertTrue(d_list.contains(new Territory("Alpha", "South", 0)));
+
+        d_list.remove(d_alpha);
+        assertSame(otherAlpha, d_list.findByName("Alpha"));
+    }
+
+    /**
+     * Test that Map and Player lookups use the index and hashCode agrees with equals.
+     */
+    @Test
+    public void testMapAndPlayerLookups() {
+        Map map = new Map();
+        map.addContinent("North", 3);
+        for (int i = 0; i < 50000; i++) {
+            map.addTerritory(new Territory("T" + i, "North", 3));
+        }
+        assertEquals("T49999", map.getTerritoryByName("T49999").getName());
+        map.removeCountry("T49999");
+        assertNull(map.getTerritoryByName("T49999"));
+
+        Player player = new HumanPlayer("Owner", "human");
+        player.addTerritory(d_alpha);
+        player.getOwnedTerritories().add(d_beta);
+        assertSame(d_beta, player.findTerritoryByName("Beta"));
+        player.getOwnedTerritories().clear();
+        assertNull(player.findTerritoryByName("Beta"));
+
+        assertEquals(new Territory("Alpha", "North", 0).hashCode(), d_alpha.hashCode());
+    }
+}
@@ -1,15 +1,21 @@
 package com.Game.model;
 
 import static org.junit.Assert.*;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 import com.Game.controller.GameController;
+import com.Game.observer.GameLogger;
 import com.Game.model.AggressivePlayer;
 import com.Game.model.BenevolentPlayer;
 import com.Game.model.CheaterPlayer;
@@ -18,7 +24,10 @@ import com.Game.model.Player;
 import com.Game.model.RandomPlayer;
 import com.Game.model.TournamentMode;
 import com.Game.model.Territory;
+import com.Game.utils.GameResult;
 import com.Game.utils.MapLoader;
+import com.Game.utils.RandomService;
+import com.Game.utils.TournamentResultsFile;
 
 /**
  * Test class for TournamentMode functionality.
@@ -36,7 +45,10 @@ public class TournamentModeTest {
      * Initializes controller, map files, and player strategies.
      */
     @Before
-    public void setUp() {
+    public void setUp() throws Exception {
+        // Start from a fresh logger, whatever an earlier test left in the singleton
+        resetGameLogger();
+        
         // Initialize game controller
         d_gameController = new GameController();
         
@@ -52,6 +64,24 @@ public class TournamentModeTest {
         d_playerStrategies.add("aggressive");
         d_playerStrategies.add("benevolent");
     }
+    
+    /**
+     * Removes the logger the tests created from the singleton.
+     */
+    @After
+    public void tearDown() throws Exception {
+        resetGameLogger();
+    }
+    
+    /**
+     * Clears the GameLogger singleton.
+     */
+    private void resetGameLogger() throws Exception {
+        java.lang.reflect.Field instanceField = GameLogger.class.getDeclaredField("d_instance");
+        instanceField.setAccessible(true);
+        instanceField.set(null, null);
+    }
+    
     /**
      * Test map validation before tournament.
      */
@@ -85,25 +115,18 @@ public class TournamentModeTest {
      * Test enhanced tournament results display.
      */
     @Test
-    public void testEnhancedResultsDisplay() {
+    public void testEnhancedResultsDisplay() throws Exception {
         // Create a tournament with known results for display testing
         d_tournament = new TournamentMode(d_mapFiles, d_playerStrategies, 2, 20, d_gameController);
         
-        // Access the results map through reflection
+        // Write some test results to a results file
+        File resultsFile = File.createTempFile("results", ".csv");
+        resultsFile.delete();
+        TournamentResultsFile results = new TournamentResultsFile(resultsFile);
         try {
-            java.lang.reflect.Field resultsField = TournamentMode.class.getDeclaredField("d_results");
-            resultsField.setAccessible(true);
-            
-            @SuppressWarnings("unchecked")
-            java.util.Map<String, java.util.Map<Integer, String>> results = 
-                (java.util.Map<String, java.util.Map<Integer, String>>) resultsField.get(d_tournament);
-            
-            // Add some test results
-            java.util.Map<Integer, String> mapResults = new HashMap<>();
-            mapResults.put(1, "aggressive");
-            mapResults.put(2, "benevolent");
-            
-            results.put("canada.map", mapResults);
+            results.append(new GameResult("canada.map", 1, 1L, "aggressive", 5, 1, 10));
+            results.append(new GameResult("canada.map", 2, 2L, "benevolent", 5, 1, 10));
+            d_tournament.setResultsFile(results);
             
             // Test that statistics count is correct
             java.lang.reflect.Method countWinsMethod = 
@@ -117,9 +140,148 @@ public class TournamentModeTest {
             assertEquals("Aggressive should have 1 win", Integer.valueOf(1), winCounts.get("aggressive"));
             assertEquals("Benevolent should have 1 win", Integer.valueOf(1), winCounts.get("benevolent"));
             
-        } catch (Exception e) {
-            fail("Exception during reflection: " + e.getMessage());
+            // Records of an earlier run of the file are not counted
+            results.startRun();
+            results.append(new GameResult("canada.map", 1, 3L, "aggressive", 5, 1, 10));
+            @SuppressWarnings("unchecked")
+            java.util.Map<String, Integer> lastRunCounts = 
+                (java.util.Map<String, Integer>) countWinsMethod.invoke(d_tournament);
+            assertEquals("Only the last run should be counted", Integer.valueOf(0), lastRunCounts.get("benevolent"));
+            
+            d_tournament.closeResultsFile();
+            assertTrue("A results file given to the tournament should be kept", resultsFile.isFile());
+        } finally {
+            results.close();
+            resultsFile.delete();
+        }
+    }
+
+    /**
+     * Test that a tournament run on several worker threads records a result
+     * for every game of every map.
+     */
+    @Test
+    public void testParallelTournamentRecordsEveryGame() throws Exception {
+        d_tournament = new TournamentMode(d_mapFiles, d_playerStrategies, 3, 10, d_gameController);
+        d_tournament.setParallelism(3);
+        assertEquals("Parallelism should be stored", 3, d_tournament.getParallelism());
+        
+        d_tournament.runTournament();
+        
+        Map<String, String> results = readResults(d_tournament);
+        for (int gameNumber = 1; gameNumber <= 3; gameNumber++) {
+            String winner = results.get("canada.map#" + gameNumber);
+            assertNotNull("Every game should have a result", winner);
+            assertNotEquals("No game should fail", "Game Error", winner);
+        }
+        
+        File resultsFile = d_tournament.getResultsFile().getFile();
+        d_tournament.displayResults();
+        d_tournament.closeResultsFile();
+        assertFalse("The temporary results file should be removed", resultsFile.exists());
+    }
+    
+    /**
+     * Test that a seeded tournament produces the same results whether it runs
+     * sequentially or in parallel.
+     */
+    @Test
+    public void testSeededTournamentReplays() throws Exception {
+        List<String> strategies = new ArrayList<>();
+        strategies.add("random");
+        strategies.add("aggressive");
+        
+        TournamentMode sequential = new TournamentMode(d_mapFiles, strategies, 3, 10, d_gameController);
+        sequential.setSeed(99L);
+        sequential.runTournament();
+        
+        TournamentMode parallel = new TournamentMode(d_mapFiles, strategies, 3, 10, d_gameController);
+        parallel.setSeed(99L);
+        parallel.setParallelism(3);
+        parallel.runTournament();
+        
+        assertEquals("Same seed should give the same results", readResults(sequential), readResults(parallel));
+        sequential.closeResultsFile();
+        parallel.closeResultsFile();
+    }
+    
+    /**
+     * Test that a game failing on a worker thread is still recorded in the results file,
+     * with its seed, so that the summaries count every game played.
+     */
+    @Test
+    public void testFailedParallelGamesAreRecorded() throws Exception {
+        // A missing strategy makes every game fail while creating its players
+        List<String> strategies = new ArrayList<>();
+        strategies.add("aggressive");
+        strategies.add(null);
+        d_tournament = new TournamentMode(d_mapFiles, strategies, 2, 10, d_gameController);
+        d_tournament.setSeed(5L);
+        d_tournament.setParallelism(2);
+        
+        d_tournament.runTournament();
+        
+        TournamentResultsFile resultsFile = d_tournament.getResultsFile();
+        List<GameResult> records = new ArrayList<>();
+        TournamentResultsFile.forEach(resultsFile.getFile(), resultsFile.getRunId(), records::add);
+        assertEquals("Every failed game should be recorded", 2, records.size());
+        for (GameResult record : records) {
+            assertEquals("Game Error", record.getWinner());
+            assertEquals("The record should carry the game's seed",
+                    RandomService.deriveGameSeed(5L, 0, record.getGameNumber()), record.getSeed());
         }
+        d_tournament.closeResultsFile();
+    }
+
+    /**
+     * Test that a map given twice gets the seeds of its own position in the map list,
+     * so that its two copies do not replay the same games.
+     */
+    @Test
+    public void testRepeatedMapGetsItsOwnSeeds() throws Exception {
+        d_mapFiles.add("canada.map");
+        d_tournament = new TournamentMode(d_mapFiles, d_playerStrategies, 2, 10, d_gameController);
+        d_tournament.setSeed(5L);
+
+        d_tournament.runTournament();
+
+        TournamentResultsFile resultsFile = d_tournament.getResultsFile();
+        Set<Long> seeds = new HashSet<>();
+        TournamentResultsFile.forEach(resultsFile.getFile(), resultsFile.getRunId(),
+                record -> seeds.add(record.getSeed()));
+        Set<Long> expected = new HashSet<>();
+        for (int mapIndex = 0; mapIndex < 2; mapIndex++) {
+            for (int gameNumber = 1; gameNumber <= 2; gameNumber++) {
+                expected.add(RandomService.deriveGameSeed(5L, mapIndex, gameNumber));
+            }
+        }
+        assertEquals("Each copy of the map should use the seeds of its position", expected, seeds);
+        d_tournament.closeResultsFile();
+    }
+
+    /**
+     * Reads the winner of every game of the last run of a tournament from its results file.
+     *
+     * @param p_tournament The tournament
+     * @return The winners, keyed by map file and game number
+     * @throws IOException if the results file cannot be read
+     */
+    private Map<String, String> readResults(TournamentMode p_tournament) throws IOException {
+        TournamentResultsFile resultsFile = p_tournament.getResultsFile();
+        Map<String, String> results = new TreeMap<>();
+        TournamentResultsFile.forEach(resultsFile.getFile(), resultsFile.getRunId(),
+                result -> results.put(result.getMapFile() + "#" + result.getGameNumber(), result.getWinner()));
+        return results;
+    }
+    
+    /**
+     * Test that a non-positive parallelism falls back to sequential execution.
+     */
+    @Test
+    public void testParallelismLowerBound() {
+        d_tournament = new TournamentMode(d_mapFiles, d_playerStrategies, 2, 20, d_gameController);
+        d_tournament.setParallelism(0);
+        assertEquals("Parallelism should be clamped to 1", 1, d_tournament.getParallelism());
     }
 
     /**
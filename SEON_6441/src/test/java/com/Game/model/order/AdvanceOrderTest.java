@@ -4,6 +4,7 @@ import static org.junit.Assert.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -129,6 +130,29 @@ public class AdvanceOrderTest {
 		assertEquals("Territory should be owned by attacker", d_attacker, d_enemyTargetTerritory.getOwner());
 	}
 
+	/**
+	 * Tests that an attack samples its casualties in the battle mode of the player issuing it.
+	 */
+	@Test
+	public void testAdvanceAttackUsesIssuerBattleMode() {
+		d_sourceTerritory.setNumOfArmies(0);
+		d_enemyTargetTerritory.setNumOfArmies(100);
+		d_attacker.setBattleMode(BattleEngine.Mode.PER_ARMY);
+		d_attacker.setRandom(new SplittableRandom(3));
+
+		new AdvanceAttack(d_attacker, d_sourceTerritory, d_enemyTargetTerritory, 100).execute();
+
+		// The same rolls, made once per army
+		SplittableRandom random = new SplittableRandom(3);
+		int attackerKills = BattleEngine.rollEachArmy(100, BattleEngine.ATTACKER_KILL_PROBABILITY, random);
+		int defenderKills = BattleEngine.rollEachArmy(100, BattleEngine.DEFENDER_KILL_PROBABILITY, random);
+		assertEquals("Defenders should fall to the per-army rolls", 100 - attackerKills,
+				d_enemyTargetTerritory.getNumOfArmies());
+		assertEquals("Attackers should fall to the per-army rolls", 100 - defenderKills,
+				d_sourceTerritory.getNumOfArmies());
+		assertEquals("Other players keep the default mode", BattleEngine.Mode.BINOMIAL, d_defender.getBattleMode());
+	}
+
 	/**
 	 * Tests the validation of advance orders in the player's issueOrder method.
 	 * This covers different validation scenarios for advance orders.
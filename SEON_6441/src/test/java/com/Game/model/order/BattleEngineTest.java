@@ -0,0 +1,65 @@
+package com.Game.model.order;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for BattleEngine.
+ *
+ * These tests check that the binomial sampler matches the mean and variance of
+ * the per-army rolls, handles the edge cases, and stays fast for huge armies.
+ */
+public class BattleEngineTest {
+
+	/**
+	 * Test that both modes produce the mean n*p and variance n*p*(1-p).
+	 */
+	@Test
+	public void testModesHaveBinomialMoments() {
+		int trials = 200;
+		int samples = 20000;
+		double p = BattleEngine.ATTACKER_KILL_PROBABILITY;
+		for (BattleEngine.Mode mode : BattleEngine.Mode.values()) {
+			Random random = new Random(42);
+			double sum = 0;
+			double sumOfSquares = 0;
+			for (int i = 0; i < samples; i++) {
+				int kills = BattleEngine.countKills(trials, p, random, mode);
+				assertTrue("Kills should be within [0, n]", kills >= 0 && kills <= trials);
+				sum += kills;
+				sumOfSquares += (double) kills * kills;
+			}
+			double mean = sum / samples;
+			double variance = sumOfSquares / samples - mean * mean;
+			assertEquals(mode + " mean", trials * p, mean, 0.3);
+			assertEquals(mode + " variance", trials * p * (1 - p), variance, 3.0);
+		}
+	}
+
+	/**
+	 * Test the degenerate inputs.
+	 */
+	@Test
+	public void testEdgeCases() {
+		Random random = new Random(1);
+		assertEquals(0, BattleEngine.countKills(0, 0.6, random));
+		assertEquals(0, BattleEngine.countKills(1000, 0.0, random));
+		assertEquals(1000, BattleEngine.countKills(1000, 1.0, random));
+	}
+
+	/**
+	 * Test that a battle with hundreds of millions of armies is resolved quickly
+	 * and lands close to the expected number of kills.
+	 */
+	@Test(timeout = 2000)
+	public void testHugeArmies() {
+		int trials = 500_000_000;
+		double p = BattleEngine.DEFENDER_KILL_PROBABILITY;
+		int kills = BattleEngine.countKills(trials, p, new Random(7));
+		double sd = Math.sqrt(trials * p * (1 - p));
+		assertEquals(trials * p, kills, 6 * sd);
+	}
+}
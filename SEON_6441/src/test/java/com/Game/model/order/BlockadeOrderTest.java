@@ -43,7 +43,7 @@ public class BlockadeOrderTest {
 		// Attempt to issue a blockade order without adding a Blockade card
 		// Command format: "blockade TestLand"
 		boolean result = player.issueOrder("blockade TestLand", null, null);
-		// Since validateBlockade calls removeCard(CardType.BLOCKADE) and there is no
+		// Since validateBlockade checks hasCard(CardType.BLOCKADE) and there is no
 		// such card,
 		// we expect the order to be rejected.
 		assertFalse("Blockade order should fail when no Blockade card is available.", result);
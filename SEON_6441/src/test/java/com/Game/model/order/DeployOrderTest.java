@@ -11,6 +11,10 @@ import com.Game.model.Map;
 import com.Game.model.Player;
 import com.Game.model.HumanPlayer;
 import com.Game.model.Territory;
+import com.Game.view.BufferedOutputSink;
+import com.Game.view.ConsoleOutputSink;
+import com.Game.view.GameOutput;
+import com.Game.view.HeadlessOutputSink;
 
 /**
  * Test class for the DeployOrder class. Tests the Command pattern
@@ -110,4 +114,33 @@ public class DeployOrderTest {
         assertNotNull("Player should have an order", d_player.nextOrder());
         assertNull("Player should have no more orders", d_player.nextOrder());
     }
+
+    /**
+     * Tests that the result of an order goes to the sink bound to the executing thread,
+     * and that a buffered sink only writes it on flush.
+     */
+    @Test
+    public void testOutputGoesToBoundSink() {
+        BufferedOutputSink target = new BufferedOutputSink();
+        BufferedOutputSink sink = new BufferedOutputSink(target);
+        GameOutput.bindToCurrentThread(sink);
+        try {
+            d_deployOrder.execute();
+            assertTrue(sink.getContent().contains("TestTerritory"));
+            assertEquals("", target.getContent());
+        } finally {
+            GameOutput.unbindFromCurrentThread();
+        }
+        assertEquals("", sink.getContent());
+        assertTrue(target.getContent().contains("TestTerritory"));
+        assertSame(ConsoleOutputSink.INSTANCE, GameOutput.get());
+
+        GameOutput.bindToCurrentThread(HeadlessOutputSink.INSTANCE);
+        try {
+            new DeployOrder(d_player, d_territory, 1).execute();
+        } finally {
+            GameOutput.unbindFromCurrentThread();
+        }
+        assertEquals(ARMY_COUNT + 1, d_territory.getNumOfArmies());
+    }
 }
@@ -0,0 +1,89 @@
+package com.Game.model.order;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.Game.model.HumanPlayer;
+import com.Game.model.Player;
+
+/**
+ * Unit tests for OrderScheduler.
+ *
+ * Orders only record their label when executed, so the tests check the order in which
+ * each policy runs them.
+ */
+public class OrderSchedulerTest {
+
+	private List<String> executed;
+	private Player first;
+	private Player second;
+	private List<Player> players;
+
+	@Before
+	public void setUp() {
+		executed = new ArrayList<>();
+		first = new HumanPlayer("First", "human");
+		second = new HumanPlayer("Second", "human");
+		players = Arrays.asList(first, second);
+
+		first.getOrders().add(advance("f1"));
+		first.getOrders().add(deploy("f2"));
+		first.getOrders().add(advance("f3"));
+		first.getOrders().add(negotiate("f4"));
+		second.getOrders().add(deploy("s1"));
+	}
+
+	@Test
+	public void testRoundRobinKeepsIssueOrder() {
+		List<String> announced = new ArrayList<>();
+		int count = new OrderScheduler().executeAll(players, (player, order) -> announced.add(player.getName()));
+
+		assertEquals(5, count);
+		assertEquals(Arrays.asList("f1", "s1", "f2", "f3", "f4"), executed);
+		assertEquals(Arrays.asList("First", "Second", "First", "First", "First"), announced);
+		assertNull(first.nextOrder());
+		assertNull(second.nextOrder());
+	}
+
+	@Test
+	public void testPhaseOrderedRunsNegotiationsThenDeploysFirst() {
+		int count = new OrderScheduler(OrderScheduler.Policy.PHASE_ORDERED).executeAll(players);
+
+		assertEquals(5, count);
+		assertEquals(Arrays.asList("f4", "f2", "s1", "f1", "f3"), executed);
+		assertTrue(first.getOrders().isEmpty());
+	}
+
+	private Order deploy(String label) {
+		return new DeployOrder() {
+			@Override
+			public void execute() {
+				executed.add(label);
+			}
+		};
+	}
+
+	private Order advance(String label) {
+		return new AdvanceMove() {
+			@Override
+			public void execute() {
+				executed.add(label);
+			}
+		};
+	}
+
+	private Order negotiate(String label) {
+		return new NegotiateOrder() {
+			@Override
+			public void execute() {
+				executed.add(label);
+			}
+		};
+	}
+}
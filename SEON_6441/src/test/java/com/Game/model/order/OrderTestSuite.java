@@ -10,7 +10,9 @@ import org.junit.runners.Suite;
     AirliftOrderTest.class,
     BlockadeOrderTest.class,
     BombOrderTest.class,
-    NegotiateOrderTest.class
+    NegotiateOrderTest.class,
+    BattleEngineTest.class,
+    OrderSchedulerTest.class
     // ... add other order test classes here
 })
 public class OrderTestSuite {
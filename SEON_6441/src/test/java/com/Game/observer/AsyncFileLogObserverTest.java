@@ -0,0 +1,162 @@
+package com.Game.observer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * Unit tests for AsyncFileLogObserver.
+ */
+public class AsyncFileLogObserverTest {
+
+    private File logFile;
+
+    @Before
+    public void setUp() throws Exception {
+        logFile = File.createTempFile("async_log", ".txt");
+    }
+
+    @After
+    public void tearDown() {
+        logFile.delete();
+    }
+
+    /**
+     * Test that every entry queued before close() ends up in the file, in order.
+     */
+    @Test
+    public void testCloseDrainsQueuedEntries() throws Exception {
+        AsyncFileLogObserver observer = new AsyncFileLogObserver(logFile.getPath(), false, 10000, 64, 50);
+        for (int i = 0; i < 5000; i++) {
+            observer.update("entry " + i);
+        }
+        observer.close();
+
+        List<String> lines = Files.readAllLines(logFile.toPath(), StandardCharsets.UTF_8);
+        assertTrue(lines.get(0).contains("WARZONE GAME LOG"), "The header should be written first");
+        List<String> entries = lines.subList(3, lines.size());
+        assertEquals(5000, entries.size());
+        assertEquals("entry 0", entries.get(0));
+        assertEquals("entry 4999", entries.get(4999));
+        assertEquals(5000, observer.getWrittenEntries());
+        assertEquals(0, observer.getDroppedEntries());
+        assertEquals(0, observer.getQueueDepth());
+    }
+
+    /**
+     * Test that entries are dropped and counted once the queue is full or the observer is closed.
+     */
+    @Test
+    public void testDroppedEntriesAreCounted() {
+        AsyncFileLogObserver observer = new AsyncFileLogObserver(logFile.getPath(), true, 1, 1, 1000);
+        for (int i = 0; i < 1000; i++) {
+            observer.update("entry " + i);
+        }
+        observer.close();
+        observer.update("after close");
+
+        assertEquals(1001, observer.getWrittenEntries() + observer.getDroppedEntries());
+        assertTrue(observer.getDroppedEntries() > 0, "A queue of one entry should overflow");
+        assertTrue(observer.isClosed());
+    }
+
+    /**
+     * Test that a batch that cannot be written is counted as dropped and that the writer
+     * keeps writing the batches that follow.
+     */
+    @Test
+    public void testWriterRecoversFromAFailedBatch() throws Exception {
+        AsyncFileLogObserver observer = new AsyncFileLogObserver(logFile.getPath(), true, 100, 10, 10);
+        File directory = Files.createTempDirectory("async_log_dir").toFile();
+        try {
+            // A directory cannot be opened for writing
+            observer.setLogFilePath(directory.getPath());
+            observer.update("lost");
+            long deadline = System.currentTimeMillis() + 5000;
+            while (observer.getDroppedEntries() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, observer.getDroppedEntries(), "The failed batch should be counted as dropped");
+
+            observer.setLogFilePath(logFile.getPath());
+            observer.update("kept");
+            observer.close();
+        } finally {
+            directory.delete();
+        }
+
+        assertEquals(1, observer.getWrittenEntries());
+        assertEquals(List.of("kept"), Files.readAllLines(logFile.toPath(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Test that GameLogger can switch to asynchronous writing and back without losing entries.
+     */
+    @Test
+    public void testGameLoggerSwitchesToAsyncWriting() throws Exception {
+        java.lang.reflect.Field instanceField = GameLogger.class.getDeclaredField("d_instance");
+        instanceField.setAccessible(true);
+        instanceField.set(null, null);
+        try {
+            GameLogger logger = GameLogger.getInstance(logFile.getPath(), false);
+            logger.setAsyncFileWriting(true);
+            assertTrue(logger.isAsyncFileWriting());
+            assertTrue(logger.getFileObserver() instanceof AsyncFileLogObserver);
+            logger.logAction("queued entry");
+            logger.shutdown();
+            assertFalse(logger.isAsyncFileWriting());
+
+            String content = new String(Files.readAllBytes(logFile.toPath()), StandardCharsets.UTF_8);
+            assertTrue(content.contains("queued entry"), "Entries should be written on shutdown");
+        } finally {
+            instanceField.set(null, null);
+        }
+    }
+
+    /**
+     * Test that switching between synchronous and asynchronous writing while another thread
+     * logs writes every entry exactly once.
+     */
+    @Test
+    public void testSwitchingWhileLoggingNeitherLosesNorDuplicatesEntries() throws Exception {
+        java.lang.reflect.Field instanceField = GameLogger.class.getDeclaredField("d_instance");
+        instanceField.setAccessible(true);
+        instanceField.set(null, null);
+        try {
+            GameLogger logger = GameLogger.getInstance(logFile.getPath(), false);
+            int entries = 2000;
+            Thread writer = new Thread(() -> {
+                for (int i = 0; i < entries; i++) {
+                    logger.logAction("entry " + i);
+                }
+            });
+            writer.start();
+            boolean async = true;
+            while (writer.isAlive()) {
+                logger.setAsyncFileWriting(async);
+                async = !async;
+            }
+            writer.join();
+            logger.shutdown();
+
+            List<String> lines = Files.readAllLines(logFile.toPath(), StandardCharsets.UTF_8);
+            java.util.Set<String> seen = new java.util.HashSet<>();
+            for (String line : lines) {
+                int start = line.indexOf("entry ");
+                if (start >= 0) {
+                    assertTrue(seen.add(line.substring(start)), "Entry written twice: " + line);
+                }
+            }
+            assertEquals(entries, seen.size(), "Every entry should be written once");
+        } finally {
+            instanceField.set(null, null);
+        }
+    }
+}
@@ -125,4 +125,72 @@ public class GameLoggerTest {
 
         verify(mockFileLogObserver).setLogFilePath(newLogFilePath);
     }
+
+    @Test
+    public void testThreadBoundLoggerTakesPrecedence() {
+        GameLogger scopedLogger = GameLogger.createGameScopedLogger();
+        GameLogger.bindToCurrentThread(scopedLogger);
+        try {
+            assertSame(scopedLogger, GameLogger.getInstance(), "The bound logger should be returned on this thread.");
+            GameLogger.getInstance().logAction("Scoped entry");
+            assertTrue(scopedLogger.getLogBuffer().contains("Scoped entry"), "The entry should be kept by the scoped logger.");
+            assertNull(scopedLogger.getLogFilePath(), "A scoped logger should not write to a file.");
+        } finally {
+            GameLogger.unbindFromCurrentThread();
+        }
+
+        assertSame(gameLogger, GameLogger.getInstance(), "The singleton should be returned once the logger is unbound.");
+        verifyNoInteractions(mockLogEntryBuffer);
+    }
+
+    @Test
+    public void testEntriesBelowLevelAreNotBuilt() {
+        gameLogger.setLevel(LogLevel.WARNING);
+
+        gameLogger.logAction("Info entry");
+        gameLogger.log(LogLevel.DEBUG, () -> { throw new AssertionError("Supplier should not be called"); });
+        gameLogger.log(LogLevel.ERROR, "Map {} failed: {}", "canada.map", 3);
+        gameLogger.log(LogLevel.WARNING, () -> "Built entry");
+
+        verify(mockLogEntryBuffer).logAction("Map canada.map failed: 3");
+        verify(mockLogEntryBuffer).logAction("Built entry");
+        verifyNoMoreInteractions(mockLogEntryBuffer);
+    }
+
+    @Test
+    public void testOffDisablesLoggingAndIsInherited() {
+        gameLogger.setLevel(LogLevel.OFF);
+        GameLogger scopedLogger = GameLogger.createGameScopedLogger();
+
+        gameLogger.log(LogLevel.ERROR, "Entry {}", "ignored");
+        gameLogger.logPhaseChange("Combat");
+        scopedLogger.logAction("Scoped entry");
+
+        assertFalse(gameLogger.isEnabled(LogLevel.ERROR));
+        assertEquals(LogLevel.OFF, scopedLogger.getLevel());
+        assertEquals("", scopedLogger.getLogBuffer());
+        verifyNoInteractions(mockLogEntryBuffer);
+    }
+
+    @Test
+    public void testTemplateKeepsExtraPlaceholders() {
+        assertEquals("a 1 {}", GameLogger.format("a {} {}", 1, null, 1));
+        assertEquals("x=1, y=2.", GameLogger.format("x={}, y={}.", 1, 2, 2));
+        assertEquals("no placeholder", GameLogger.format("no placeholder", 1, 2, 2));
+    }
+
+    @Test
+    public void testLoggerWithoutLevelRecordsInfo() throws Exception {
+        // A mocked singleton, as other tests install, has no level
+        Field levelField = GameLogger.class.getDeclaredField("d_level");
+        levelField.setAccessible(true);
+        levelField.set(gameLogger, null);
+
+        assertTrue(gameLogger.isEnabled(LogLevel.INFO));
+        assertFalse(gameLogger.isEnabled(LogLevel.DEBUG));
+        GameLogger scopedLogger = GameLogger.createGameScopedLogger();
+        assertEquals(LogLevel.INFO, scopedLogger.getLevel());
+        scopedLogger.logAction("Scoped entry");
+        assertTrue(scopedLogger.getLogBuffer().contains("Scoped entry"));
+    }
 }
@@ -136,5 +136,83 @@ public class LogEntryBufferTest {
         assertTrue(formattedEntry.contains(logEntry), "The formatted log entry should contain the original log entry.");
         assertTrue(formattedEntry.contains("["), "The formatted log entry should contain a timestamp.");
     }
-}
 
+    @Test
+    public void testEntriesAreTimestamped() {
+        logEntryBuffer.logAction("First");
+        logEntryBuffer.logAction("Second");
+
+        String[] lines = logEntryBuffer.getLogBuffer().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].matches("\\[\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}\\] First"), lines[0]);
+        assertTrue(lines[1].matches("\\[\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}\\] Second"), lines[1]);
+    }
+
+    @Test
+    public void testOldEntriesSpillToDiskInOrder() throws Exception {
+        SegmentedLogFile spill = new SegmentedLogFile(40);
+        LogEntryBuffer smallBuffer = new LogEntryBuffer(2, spill);
+
+        for (int i = 0; i < 10; i++) {
+            smallBuffer.logAction("Entry " + i);
+        }
+
+        assertEquals(8, spill.getEntryCount(), "All but the two most recent entries should be on disk.");
+        assertTrue(spill.getSegmentCount() > 1, "The spilled entries should span several segments.");
+        assertEquals(10, smallBuffer.getEntryCount());
+        String[] lines = smallBuffer.getLogBuffer().split("\n");
+        assertEquals(10, lines.length);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(lines[i].endsWith("] Entry " + i), lines[i]);
+        }
+
+        smallBuffer.clearLogBuffer();
+        assertEquals(0, spill.getSegmentCount());
+        assertEquals("", smallBuffer.getLogBuffer());
+        smallBuffer.logAction("After clear");
+        assertTrue(smallBuffer.getLogBuffer().endsWith("] After clear\n"));
+    }
+
+    @Test
+    public void testLongEntriesSpillOnceTheByteBudgetIsReached() {
+        SegmentedLogFile spill = new SegmentedLogFile();
+        LogEntryBuffer byteBoundBuffer = new LogEntryBuffer(100, 200, spill);
+        String longEntry = "x".repeat(60);
+
+        byteBoundBuffer.logAction(longEntry);
+        assertEquals(0, spill.getEntryCount(), "One entry should fit in the byte budget.");
+        byteBoundBuffer.logAction(longEntry);
+        assertEquals(1, spill.getEntryCount(), "The oldest entry should spill once the budget is exceeded.");
+        byteBoundBuffer.logAction("y".repeat(500));
+        assertEquals(3, spill.getEntryCount(), "An entry larger than the budget should not stay in memory.");
+
+        byteBoundBuffer.logAction("Last");
+        String[] lines = byteBoundBuffer.getLogBuffer().split("\n");
+        assertEquals(4, lines.length);
+        assertTrue(lines[2].endsWith("y".repeat(500)), lines[2]);
+        assertTrue(lines[3].endsWith("] Last"), lines[3]);
+        byteBoundBuffer.clearLogBuffer();
+    }
+
+    @Test
+    public void testAppendedEntriesAreStreamedInOrderAndKeepTheirTimestamps() throws Exception {
+        LogEntryBuffer gameBuffer = new LogEntryBuffer(2, new SegmentedLogFile(40));
+        for (int i = 0; i < 5; i++) {
+            gameBuffer.logAction("Game entry " + i);
+        }
+        gameBuffer.spillRecentEntries();
+        String gameLog = gameBuffer.getLogBuffer();
+        logEntryBuffer.addObserver(mockLogObserver);
+        logEntryBuffer.logAction("Before");
+
+        logEntryBuffer.appendEntries(gameBuffer);
+
+        assertEquals(6, logEntryBuffer.getEntryCount());
+        assertTrue(logEntryBuffer.getLogBuffer().endsWith(gameLog));
+        verify(mockLogObserver, times(6)).update(any(String.class));
+        for (String line : gameLog.split("\n")) {
+            verify(mockLogObserver).update(line);
+        }
+        gameBuffer.clearLogBuffer();
+    }
+}
@@ -8,6 +8,7 @@ import org.junit.runners.Suite;
     FileLogObserverTest.class,
     GameLoggerTest.class,
     LogEntryBufferTest.class,
+    AsyncFileLogObserverTest.class,
     // ... add other order test classes here
 })
 public class ObserverTestSuite {
@@ -0,0 +1,59 @@
+package com.Game.utils;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link MapBatchValidator} class.
+ */
+public class MapBatchValidatorTest {
+
+    /**
+     * Test that concurrent validation gives the same verdicts as loading each map on its own,
+     * in input order.
+     */
+    @Test
+    public void testResultsMatchSequentialLoadsInOrder() {
+        List<String> l_mapFiles = Arrays.asList("canada.map", "does_not_exist.map", "Not_Map.map",
+                "InvalidContinent.map", "swiss.map", "Africa.map", "canada.map");
+        List<MapLoadResult> l_results = new MapBatchValidator(4).validate(l_mapFiles);
+
+        assertEquals(l_mapFiles.size(), l_results.size());
+        for (int i = 0; i < l_mapFiles.size(); i++) {
+            MapLoadResult l_expected = new MapLoader().loadMap(l_mapFiles.get(i));
+            MapLoadResult l_actual = l_results.get(i);
+            assertEquals(l_mapFiles.get(i), l_actual.getFileName());
+            assertEquals(l_expected.isFound(), l_actual.isFound(), l_mapFiles.get(i));
+            assertEquals(l_expected.hasRequiredSections(), l_actual.hasRequiredSections(), l_mapFiles.get(i));
+            assertEquals(l_expected.isValid(), l_actual.isValid(), l_mapFiles.get(i));
+            assertEquals(l_expected.getDiagnostics(), l_actual.getDiagnostics(), l_mapFiles.get(i));
+        }
+    }
+
+    /**
+     * Test that a failing task only affects its own map.
+     */
+    @Test
+    public void testFailingTaskIsReported() {
+        List<String> l_mapFiles = Arrays.asList("canada.map", "boom", "swiss.map");
+        List<MapLoadResult> l_results = new MapBatchValidator(3).forEachMap(l_mapFiles, l_mapFile -> {
+            if (l_mapFile.equals("boom")) {
+                throw new IllegalStateException("boom");
+            }
+            return new MapLoader().loadMap(l_mapFile);
+        });
+
+        assertTrue(l_results.get(0).isValid());
+        assertFalse(l_results.get(1).isValid());
+        assertEquals(1, l_results.get(1).getDiagnostics().size());
+        assertTrue(l_results.get(1).isLoadError(), "A failed task is a load error, not a format verdict");
+        assertTrue(l_results.get(1).getDiagnostics().get(0).contains("boom"));
+        assertTrue(l_results.get(1).getLoadError() instanceof IllegalStateException);
+        assertFalse(l_results.get(0).isLoadError());
+        assertEquals(l_mapFiles.get(2), l_results.get(2).getFileName());
+    }
+}
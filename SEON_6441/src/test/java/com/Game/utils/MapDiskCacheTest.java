@@ -0,0 +1,182 @@
+package com.Game.utils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.Game.model.Territory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link MapDiskCache} class.
+ */
+public class MapDiskCacheTest {
+
+    /**
+     * Loader that counts how many times map content is actually parsed.
+     */
+    private static class CountingLoader extends MapLoader {
+
+        /**
+         * Number of parsed streams.
+         */
+        private int d_parseCount;
+
+        /**
+         * Counts the parse and delegates to the real loader.
+         */
+        @Override
+        public MapLoadResult loadMap(String p_fileName, InputStream p_inputStream, MapLoadResult.Format p_format)
+                throws IOException {
+            d_parseCount++;
+            return super.loadMap(p_fileName, p_inputStream, p_format);
+        }
+    }
+
+    /**
+     * Directory holding the cache entries.
+     */
+    private File d_cacheDir;
+
+    /**
+     * Temporary map file.
+     */
+    private File d_tempMap;
+
+    /**
+     * The cache under test.
+     */
+    private MapDiskCache d_cache;
+
+    /**
+     * Creates an empty cache directory and a temporary map file.
+     *
+     * @throws IOException if the temporary files cannot be created
+     */
+    @Before
+    public void setUp() throws IOException {
+        d_cacheDir = Files.createTempDirectory("mapcache").toFile();
+        d_tempMap = File.createTempFile("cached", ".map");
+        d_cache = new MapDiskCache(d_cacheDir);
+    }
+
+    /**
+     * Removes the cache directory and the temporary map file.
+     */
+    @After
+    public void tearDown() {
+        File[] l_entries = d_cacheDir.listFiles();
+        if (l_entries != null) {
+            for (File l_entry : l_entries) {
+                l_entry.delete();
+            }
+        }
+        d_cacheDir.delete();
+        d_tempMap.delete();
+    }
+
+    /**
+     * Test that an unchanged map is read back from the cache without being parsed,
+     * with the same verdict and topology.
+     */
+    @Test
+    public void testUnchangedMapSkipsParsing() {
+        CountingLoader l_loader = new CountingLoader();
+        MapLoadResult l_first = d_cache.load(l_loader, "canada.map");
+        assertEquals(1, l_loader.d_parseCount);
+        assertEquals(1, d_cacheDir.listFiles().length, "An entry should be written");
+
+        MapLoadResult l_second = d_cache.load(l_loader, "canada.map");
+        assertEquals(1, l_loader.d_parseCount, "Unchanged map should not be parsed again");
+        assertTrue(l_second.isValid());
+        assertEquals(l_first.getFormat(), l_second.getFormat());
+        assertEquals(l_first.getMap().getContinents(), l_second.getMap().getContinents());
+        assertEquals(l_first.getMap().getTerritoryList().size(), l_second.getMap().getTerritoryList().size());
+        for (int i = 0; i < l_first.getMap().getTerritoryList().size(); i++) {
+            Territory l_expected = l_first.getMap().getTerritoryList().get(i);
+            Territory l_actual = l_second.getMap().getTerritoryList().get(i);
+            assertEquals(l_expected, l_actual);
+            assertEquals(l_expected.getNeighborList(), l_actual.getNeighborList());
+        }
+    }
+
+    /**
+     * Test that the verdict of an invalid map is cached with its details, and that editing
+     * the file or damaging the entry makes the map be parsed again.
+     *
+     * @throws IOException if the temporary files cannot be written
+     */
+    @Test
+    public void testVerdictFollowsContent() throws IOException {
+        String l_content = "[continents]\nA 1\n\n[countries]\n1 x 1\n2 y 1\n\n[borders]\n1\n2\n";
+        Files.write(d_tempMap.toPath(), l_content.getBytes(StandardCharsets.UTF_8));
+        CountingLoader l_loader = new CountingLoader();
+        d_cache.load(l_loader, d_tempMap.getPath());
+        MapLoadResult l_cached = d_cache.load(l_loader, d_tempMap.getPath());
+        assertEquals(1, l_loader.d_parseCount);
+        assertFalse(l_cached.isValid());
+        assertEquals(2, l_cached.getValidationReport().getComponents().size());
+        assertEquals(d_tempMap.getPath(), l_cached.getFileName());
+
+        Files.write(d_tempMap.toPath(), l_content.replace("[borders]\n1\n2\n", "[borders]\n1 2\n2 1\n")
+                .getBytes(StandardCharsets.UTF_8));
+        assertTrue(d_cache.load(l_loader, d_tempMap.getPath()).isValid(), "Edited map should be validated again");
+        assertEquals(2, l_loader.d_parseCount);
+
+        for (File l_entry : d_cacheDir.listFiles()) {
+            Files.write(l_entry.toPath(), new byte[] {1, 2, 3});
+        }
+        assertTrue(d_cache.load(l_loader, d_tempMap.getPath()).isValid(), "Damaged entry should be ignored");
+        assertEquals(3, l_loader.d_parseCount);
+        assertTrue(d_cache.load(l_loader, d_tempMap.getPath()).isValid());
+        assertEquals(3, l_loader.d_parseCount, "Damaged entry should be rewritten");
+    }
+
+    /**
+     * Test that files without the required sections are not cached.
+     *
+     * @throws IOException if the temporary file cannot be written
+     */
+    @Test
+    public void testMalformedMapsAreNotCached() throws IOException {
+        Files.write(d_tempMap.toPath(), "not a map\n".getBytes(StandardCharsets.UTF_8));
+        assertFalse(d_cache.load(new MapLoader(), d_tempMap.getPath()).hasRequiredSections());
+        assertFalse(d_cache.load(new MapLoader(), "does_not_exist.map").isFound());
+        assertEquals(0, d_cacheDir.listFiles().length);
+    }
+
+    /**
+     * Test that the default directory comes from the system property and that entries are
+     * written there rather than next to the map file.
+     */
+    @Test
+    public void testDefaultDirectoryIsConfigurable() {
+        String l_previous = System.getProperty(MapDiskCache.DIRECTORY_PROPERTY);
+        System.setProperty(MapDiskCache.DIRECTORY_PROPERTY, d_cacheDir.getPath());
+        try {
+            MapDiskCache l_cache = new MapDiskCache();
+            assertEquals(d_cacheDir, l_cache.getDirectory());
+            l_cache.load(new MapLoader(), "canada.map");
+            assertEquals(1, d_cacheDir.listFiles().length);
+        } finally {
+            if (l_previous == null) {
+                System.clearProperty(MapDiskCache.DIRECTORY_PROPERTY);
+            } else {
+                System.setProperty(MapDiskCache.DIRECTORY_PROPERTY, l_previous);
+            }
+        }
+        System.clearProperty(MapDiskCache.DIRECTORY_PROPERTY);
+        assertEquals(new File(System.getProperty("user.home"), MapDiskCache.DIRECTORY_NAME),
+                MapDiskCache.getDefaultDirectory());
+        if (l_previous != null) {
+            System.setProperty(MapDiskCache.DIRECTORY_PROPERTY, l_previous);
+        }
+    }
+}
@@ -9,9 +9,14 @@ import org.mockito.junit.MockitoJUnitRunner;
 import com.Game.model.Territory;
 
 import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.List;
+import java.util.TreeMap;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -177,4 +182,152 @@ public class MapLoaderTest {
 
         assertNull(result, "BufferedReader should be null for non-existing file.");
     }
+
+    /**
+     * Tests that {@link MapLoader#loadMap(String)} detects the format, checks the sections,
+     * builds and validates the map in one read, without changing the loaded map.
+     */
+    @Test
+    public void testLoadMapSinglePass() {
+        MapLoadResult domination = d_mapLoader.loadMap("LoadingMaps/canada.map");
+        assertTrue(domination.isFound());
+        assertEquals(MapLoadResult.Format.DOMINATION, domination.getFormat());
+        assertTrue(domination.hasRequiredSections());
+        assertTrue(domination.isValid(), "canada.map should be a valid map");
+        assertNull(d_mapLoader.getLoadedMap(), "loadMap should not change the loaded map");
+
+        d_mapLoader.read("LoadingMaps/canada.map");
+        assertEquals(d_mapLoader.getLoadedMap().getTerritoryList().size(), domination.getMap().getTerritoryList().size());
+
+        MapLoadResult conquest = d_mapLoader.loadMap("Africa.map");
+        assertEquals(MapLoadResult.Format.CONQUEST, conquest.getFormat());
+        assertFalse(conquest.getMap().getTerritoryList().isEmpty());
+
+        MapLoadResult missing = d_mapLoader.loadMap("non_existent_file.map");
+        assertFalse(missing.isFound());
+        assertFalse(missing.isValid());
+        assertNull(missing.getMap());
+    }
+
+    /**
+     * Tests that local Domination maps read through the local file parser give the same
+     * map, section check and diagnostics as the stream parser, including on irregular lines.
+     *
+     * @throws IOException if the temporary files cannot be written
+     */
+    @Test
+    public void testLocalFileParserMatchesStreamParser() throws IOException {
+        String irregular = "; comment\r\n[continents]\r\nNorth 3\r\nSouth 2 extra\r\nWest 4   \r\n\r\n"
+                + "[countries]\n1 A 1\n2 B 3 7 9\n3 C 1\n4 D\n5 E 2\n6 F 8\n\n"
+                + "[borders]\n1 2 5\n2 1 +3 -4 99\n3 1 \n; skip\n\n[borders]\n4 1 x\n4 2";
+        File irregularFile = File.createTempFile("irregular", ".map");
+        File canadaFile = File.createTempFile("canada", ".map");
+        try {
+            Files.write(irregularFile.toPath(), irregular.getBytes(StandardCharsets.UTF_8));
+            Files.write(canadaFile.toPath(), d_mapLoader.readMapBytes("LoadingMaps/canada.map"));
+
+            for (File file : new File[] { irregularFile, canadaFile }) {
+                MapLoadResult local = d_mapLoader.loadMap(file.getPath());
+                MapLoadResult streamed;
+                try (InputStream in = new FileInputStream(file)) {
+                    streamed = d_mapLoader.loadMap(file.getPath(), in, null);
+                }
+                assertEquals(describe(streamed), describe(local), "Parsers should agree on " + file.getName());
+            }
+            MapLoadResult irregularResult = d_mapLoader.loadMap(irregularFile.getPath());
+            assertEquals(1, irregularResult.getDiagnostics().size(), "The bad border number should be reported");
+        } finally {
+            irregularFile.delete();
+            canadaFile.delete();
+        }
+    }
+
+    /**
+     * Test that a map converted to the binary format loads back with the same content,
+     * through both the file and the stream entry points, and that corrupt files are reported.
+     * @throws IOException if the temporary files cannot be written
+     */
+    @Test
+    public void testBinaryMapRoundTrip() throws IOException {
+        File binaryFile = File.createTempFile("canada", ".mapb");
+        File corruptFile = File.createTempFile("corrupt", ".mapb");
+        try {
+            MapLoadResult source = d_mapLoader.convertToBinary("LoadingMaps/canada.map", binaryFile.getPath());
+            assertTrue(source.isValid(), "canada.map should be valid");
+
+            MapLoadResult binary = d_mapLoader.loadMap(binaryFile.getPath());
+            assertEquals(MapLoadResult.Format.BINARY, binary.getFormat());
+            assertTrue(binary.isValid(), "The binary map should be valid");
+            String expected = describe(source);
+            String actual = describe(binary);
+            assertEquals(expected.substring(expected.indexOf('\n')), actual.substring(actual.indexOf('\n')));
+
+            try (InputStream in = new FileInputStream(binaryFile)) {
+                MapLoadResult streamed = d_mapLoader.loadMap(binaryFile.getName(), in, null);
+                assertEquals(actual, describe(streamed), "Binary content should be detected on a stream");
+            }
+
+            byte[] content = Files.readAllBytes(binaryFile.toPath());
+            Files.write(corruptFile.toPath(), java.util.Arrays.copyOf(content, content.length / 2));
+            MapLoadResult corrupt = d_mapLoader.loadMap(corruptFile.getPath());
+            assertNull(corrupt.getMap(), "A truncated file should not produce a map");
+            assertEquals(1, corrupt.getDiagnostics().size());
+        } finally {
+            binaryFile.delete();
+            corruptFile.delete();
+        }
+    }
+
+    /**
+     * Test that gzip-compressed maps are read transparently, also when they are asked for
+     * by their uncompressed name.
+     * @throws IOException if the temporary files cannot be written
+     */
+    @Test
+    public void testGzipMapIsReadTransparently() throws IOException {
+        File plainFile = File.createTempFile("canada", ".map");
+        File gzipFile = new File(plainFile.getPath() + ".gz");
+        try {
+            MapLoadResult source = d_mapLoader.loadMap("LoadingMaps/canada.map");
+            source.getMap().saveToFile(gzipFile.getPath());
+            byte[] header = Files.readAllBytes(gzipFile.toPath());
+            assertEquals((byte) 0x1f, header[0], "File should be gzip-compressed");
+
+            assertEquals(describe(source), describe(d_mapLoader.loadMap(gzipFile.getPath())));
+            plainFile.delete();
+            assertEquals(describe(source), describe(d_mapLoader.loadMap(plainFile.getPath())),
+                    "The compressed file should be found by its uncompressed name");
+            try (BufferedReader reader = d_mapLoader.isMapExist(plainFile.getPath())) {
+                assertNotNull(reader);
+                assertEquals("[continents]", reader.readLine());
+            }
+        } finally {
+            plainFile.delete();
+            gzipFile.delete();
+        }
+    }
+
+    /**
+     * Describes everything a load result holds, for comparing two results.
+     *
+     * @param p_result The load result
+     * @return A description of the result
+     */
+    private static String describe(MapLoadResult p_result) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(p_result.getFormat()).append(' ').append(p_result.hasRequiredSections())
+                .append(' ').append(p_result.getDiagnostics()).append('\n');
+        if (p_result.getMap() != null) {
+            sb.append(new TreeMap<>(p_result.getMap().getContinents())).append('\n');
+            for (Territory territory : p_result.getMap().getTerritoryList()) {
+                sb.append(territory.getName()).append('/').append(territory.getContinent())
+                        .append('/').append(territory.getBonus()).append(':');
+                for (Territory neighbor : territory.getNeighborList()) {
+                    sb.append(' ').append(neighbor.getName());
+                }
+                sb.append('\n');
+            }
+        }
+        return sb.toString();
+    }
 }
@@ -0,0 +1,84 @@
+package com.Game.utils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link MapPreloader} class.
+ */
+public class MapPreloaderTest {
+
+    /**
+     * The preloader under test.
+     */
+    private MapPreloader d_preloader;
+
+    /**
+     * Temporary map file.
+     */
+    private File d_tempMap;
+
+    /**
+     * Creates the preloader and a temporary map file.
+     *
+     * @throws IOException if the temporary file cannot be created
+     */
+    @Before
+    public void setUp() throws IOException {
+        d_preloader = new MapPreloader(2);
+        d_tempMap = File.createTempFile("preloaded", ".map");
+        Files.write(d_tempMap.toPath(), "[continents]\nA 1\n\n[countries]\n1 x 1\n2 y 1\n\n[borders]\n1 2\n2 1\n"
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Stops the preloader and removes the temporary map file.
+     */
+    @After
+    public void tearDown() {
+        d_preloader.shutdown();
+        d_tempMap.delete();
+    }
+
+    /**
+     * Test that a preloaded map is handed out once, with the same content as a direct load.
+     */
+    @Test
+    public void testPreloadedMapIsTakenOnce() {
+        d_preloader.preload("canada.map");
+        assertTrue(d_preloader.isPreloaded("canada.map"));
+
+        MapLoadResult l_result = d_preloader.take("canada.map");
+        assertNotNull(l_result);
+        assertTrue(l_result.isValid());
+        assertEquals(new MapLoader().loadMap("canada.map").getMap().getTerritoryList().size(),
+                l_result.getMap().getTerritoryList().size());
+        assertNull(d_preloader.take("canada.map"), "A preloaded map should only be handed out once");
+        assertNull(d_preloader.take("swiss.map"), "Maps that were not preloaded are loaded by the caller");
+    }
+
+    /**
+     * Test that a result is dropped when the file changes after it was preloaded.
+     *
+     * @throws IOException if the temporary file cannot be written
+     */
+    @Test
+    public void testChangedFileIsNotHandedOut() throws IOException {
+        d_preloader.preload(d_tempMap.getPath());
+        Files.write(d_tempMap.toPath(), "[continents]\nA 1\n\n[countries]\n1 x 1\n\n[borders]\n1\n"
+                .getBytes(StandardCharsets.UTF_8));
+        d_tempMap.setLastModified(d_tempMap.lastModified() + 5000);
+        assertNull(d_preloader.take(d_tempMap.getPath()));
+
+        d_preloader.preload(d_tempMap.getPath());
+        assertEquals(1, d_preloader.take(d_tempMap.getPath()).getMap().getTerritoryList().size());
+    }
+}
@@ -0,0 +1,112 @@
+package com.Game.utils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.Game.model.Map;
+import com.Game.model.MapTemplate;
+import com.Game.model.Territory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link MapTemplateCache} and {@link MapTemplate} classes.
+ */
+public class MapTemplateCacheTest {
+
+    /**
+     * The cache under test.
+     */
+    private MapTemplateCache d_cache;
+
+    /**
+     * Temporary map file used by the content-change test.
+     */
+    private File d_tempMap;
+
+    /**
+     * Creates a fresh cache before each test.
+     */
+    @Before
+    public void setUp() {
+        d_cache = new MapTemplateCache();
+    }
+
+    /**
+     * Removes the temporary map file, if one was created.
+     */
+    @After
+    public void tearDown() {
+        if (d_tempMap != null) {
+            d_tempMap.delete();
+        }
+    }
+
+    /**
+     * Test that an instantiated map has the same topology as the loaded one
+     * and shares no territory objects with the template or other instances.
+     */
+    @Test
+    public void testInstantiateCopiesTopology() {
+        MapLoader l_loader = new MapLoader();
+        l_loader.read("canada.map");
+        Map l_original = l_loader.getLoadedMap();
+
+        MapTemplate l_template = MapTemplate.fromMap(l_original);
+        Map l_first = l_template.instantiate();
+        Map l_second = l_template.instantiate();
+
+        assertEquals(l_original.getTerritoryList().size(), l_first.getTerritoryList().size());
+        assertEquals(l_original.getContinents(), l_first.getContinents());
+        for (int i = 0; i < l_original.getTerritoryList().size(); i++) {
+            Territory l_source = l_original.getTerritoryList().get(i);
+            Territory l_copy = l_first.getTerritoryList().get(i);
+            assertEquals(l_source.getName(), l_copy.getName());
+            assertEquals(l_source.getNeighborList().size(), l_copy.getNeighborList().size());
+            for (Territory l_neighbor : l_copy.getNeighborList()) {
+                assertSame(l_neighbor, l_first.getTerritoryByName(l_neighbor.getName()),
+                        "Neighbours should point into the instantiated map");
+            }
+        }
+        assertNotSame(l_first.getTerritoryList().get(0), l_second.getTerritoryList().get(0));
+        assertTrue(l_first.mapValidation() && l_first.continentValidation(), "Instantiated map should stay valid");
+    }
+
+    /**
+     * Test that a template is reused while the content is unchanged and rebuilt after an edit.
+     */
+    @Test
+    public void testCacheKeyedByContent() throws IOException {
+        MapTemplate l_first = d_cache.getOrLoad("canada.map");
+        assertNotNull(l_first, "Valid map should produce a template");
+        assertSame(l_first, d_cache.getOrLoad("canada.map"), "Unchanged map should hit the cache");
+
+        d_tempMap = File.createTempFile("template", ".map");
+        String l_content = "[continents]\nA 1\n\n[countries]\n1 x 1\n2 y 1\n\n[borders]\n1 2\n2 1\n";
+        Files.write(d_tempMap.toPath(), l_content.getBytes(StandardCharsets.UTF_8));
+        MapTemplate l_before = d_cache.getOrLoad(d_tempMap.getPath());
+        assertEquals(2, l_before.getTerritoryCount());
+
+        Files.write(d_tempMap.toPath(), (l_content.replace("2 y 1\n", "2 y 1\n3 z 1\n")
+                .replace("2 1\n", "2 1 3\n3 2\n")).getBytes(StandardCharsets.UTF_8));
+        MapTemplate l_after = d_cache.getOrLoad(d_tempMap.getPath());
+        assertNotSame(l_before, l_after, "Edited map should be loaded again");
+        assertEquals(3, l_after.getTerritoryCount());
+    }
+
+    /**
+     * Test that missing and invalid maps are not cached.
+     */
+    @Test
+    public void testInvalidMapsAreNotCached() {
+        assertNull(d_cache.getOrLoad("does_not_exist.map"));
+        assertNull(d_cache.getOrLoad("Not_Map.map"));
+        assertEquals(0, d_cache.size());
+    }
+}
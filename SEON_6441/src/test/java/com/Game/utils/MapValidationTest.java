@@ -11,10 +11,13 @@ import org.mockito.junit.MockitoJUnitRunner;
 import static org.mockito.Mockito.*;
 
 import com.Game.model.Map;
+import com.Game.model.MapValidationReport;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.HashSet;
 
 /**
  * Test class for the MapLoader and map validation functionality.
@@ -132,6 +135,33 @@ public class MapValidationTest {
         assertTrue("Programmatically created map should have valid continents", map.continentValidation());
     }
     
+    /**
+     * Tests that the validation report names the separate parts and the failed continents.
+     */
+    @Test
+    public void testValidationReportDetails() {
+        Map map = new Map();
+        map.addContinent("Continent1", 5);
+        map.addContinent("Continent2", 3);
+        map.addContinent("Continent3", 1);
+        map.addCountry("Territory1", "Continent1");
+        map.addCountry("Territory2", "Continent2");
+        map.addCountry("Territory3", "Continent1");
+        map.addCountry("Territory4", "Continent2");
+        map.addNeighbor("Territory1", "Territory2");
+        map.addNeighbor("Territory2", "Territory3");
+
+        MapValidationReport report = map.validate();
+        assertFalse(report.isValid());
+        assertEquals(2, report.getComponents().size());
+        assertEquals(Arrays.asList("Territory1", "Territory2", "Territory3"), report.getComponents().get(0));
+        assertEquals(Arrays.asList("Territory4"), report.getComponents().get(1));
+        assertEquals(Arrays.asList("Continent3"), report.getEmptyContinents());
+        assertEquals(new HashSet<>(Arrays.asList("Continent1", "Continent2")),
+                new HashSet<>(report.getDisconnectedContinents()));
+        assertTrue(report.toString().contains("Continent3"));
+    }
+
     // Helper methods to create test map files
     
     private void createValidMapFile() throws IOException {
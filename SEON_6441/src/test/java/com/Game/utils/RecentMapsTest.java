@@ -0,0 +1,56 @@
+package com.Game.utils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link RecentMaps} class.
+ */
+public class RecentMapsTest {
+
+    /**
+     * File holding the list.
+     */
+    private File d_file;
+
+    /**
+     * Picks a file name for the list.
+     *
+     * @throws IOException if the temporary file cannot be created
+     */
+    @Before
+    public void setUp() throws IOException {
+        d_file = File.createTempFile("recent", ".txt");
+        d_file.delete();
+    }
+
+    /**
+     * Removes the list file.
+     */
+    @After
+    public void tearDown() {
+        d_file.delete();
+    }
+
+    /**
+     * Test that maps are kept most recent first, without duplicates, up to the limit, and across runs.
+     */
+    @Test
+    public void testOrderLimitAndPersistence() {
+        RecentMaps l_recent = new RecentMaps(d_file);
+        assertTrue(l_recent.getMaps().isEmpty());
+
+        for (String l_map : Arrays.asList("a.map", "b.map", "c.map", "d.map", "e.map", "f.map", "c.map")) {
+            l_recent.add(l_map);
+        }
+        assertEquals(Arrays.asList("c.map", "f.map", "e.map", "d.map", "b.map"), l_recent.getMaps());
+        assertEquals(l_recent.getMaps(), new RecentMaps(d_file).getMaps());
+    }
+}
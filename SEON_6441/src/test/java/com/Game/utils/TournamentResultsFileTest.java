@@ -0,0 +1,168 @@
+package com.Game.utils;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link TournamentResultsFile} class and the summaries computed from it.
+ */
+public class TournamentResultsFileTest {
+
+    /**
+     * Results files created by the tests.
+     */
+    private final List<File> d_files = new ArrayList<>();
+
+    /**
+     * Removes the results files.
+     */
+    @After
+    public void tearDown() {
+        for (File l_file : d_files) {
+            l_file.delete();
+        }
+    }
+
+    /**
+     * Test that records survive a round trip in both formats, including fields that need quoting,
+     * and that reopening a file appends to it.
+     *
+     * @throws IOException if a results file cannot be written or read
+     */
+    @Test
+    public void testRoundTripAndAppend() throws IOException {
+        for (String l_suffix : new String[] { ".csv", ".jsonl" }) {
+            File l_file = newFile(l_suffix);
+            GameResult l_tricky = new GameResult("maps/a, \"b\".map", 2, -42L, "Draw", 17, 250, 1234);
+            try (TournamentResultsFile l_results = new TournamentResultsFile(l_file)) {
+                l_results.append(new GameResult("canada.map", 1, 7L, "aggressive_1", 12, 30, 400));
+            }
+            try (TournamentResultsFile l_results = new TournamentResultsFile(l_file)) {
+                l_results.append(l_tricky);
+            }
+
+            List<GameResult> l_read = new ArrayList<>();
+            TournamentResultsFile.forEach(l_file, l_read::add);
+            assertEquals(2, l_read.size(), l_suffix);
+            assertEquals("aggressive_1", l_read.get(0).getWinner());
+            GameResult l_back = l_read.get(1);
+            assertEquals(l_tricky.getMapFile(), l_back.getMapFile(), l_suffix);
+            assertEquals(2, l_back.getGameNumber());
+            assertEquals(-42L, l_back.getSeed());
+            assertEquals(17, l_back.getTurns());
+            assertEquals(250, l_back.getWallTimeMillis());
+            assertEquals(1234, l_back.getOrdersExecuted());
+        }
+    }
+
+    /**
+     * Test that the records of each run of a file can be read apart from the other runs.
+     *
+     * @throws IOException if a results file cannot be written or read
+     */
+    @Test
+    public void testRunsAreToldApart() throws IOException {
+        for (String l_suffix : new String[] { ".csv", ".jsonl" }) {
+            File l_file = newFile(l_suffix);
+            String l_firstRun;
+            String l_secondRun;
+            try (TournamentResultsFile l_results = new TournamentResultsFile(l_file)) {
+                l_firstRun = l_results.getRunId();
+                l_results.append(new GameResult("canada.map", 1, 7L, "aggressive_1", 12, 30, 400));
+            }
+            try (TournamentResultsFile l_results = new TournamentResultsFile(l_file)) {
+                assertNotEquals(l_firstRun, l_results.getRunId(), l_suffix);
+                l_results.append(new GameResult("canada.map", 1, 8L, "Draw", 20, 40, 500));
+                l_secondRun = l_results.startRun();
+                l_results.append(new GameResult("canada.map", 1, 9L, "benevolent_2", 5, 10, 60));
+                l_results.append(new GameResult("canada.map", 2, 10L, "Draw", 20, 40, 500));
+            }
+
+            List<GameResult> l_read = new ArrayList<>();
+            TournamentResultsFile.forEach(l_file, l_firstRun, l_read::add);
+            assertEquals(1, l_read.size(), l_suffix);
+            assertEquals(l_firstRun, l_read.get(0).getRunId());
+            l_read.clear();
+            TournamentResultsFile.forEach(l_file, l_secondRun, l_read::add);
+            assertEquals(2, l_read.size(), l_suffix);
+            assertEquals("benevolent_2", l_read.get(0).getWinner());
+            l_read.clear();
+            TournamentResultsFile.forEach(l_file, l_read::add);
+            assertEquals(4, l_read.size(), l_suffix);
+        }
+    }
+
+    /**
+     * Test that the summaries streamed from a results file match the ones computed from the results in memory.
+     *
+     * @throws IOException if the results file cannot be written or read
+     */
+    @Test
+    public void testSummariesFromFileMatchInMemory() throws IOException {
+        File l_file = newFile(".csv");
+        Map<String, Map<Integer, String>> l_inMemory = new LinkedHashMap<>();
+        String[][] l_games = { { "canada.map", "aggressive_1" }, { "canada.map", "Draw" },
+                { "swiss.map", "benevolent_2" }, { "swiss.map", "Map Error" } };
+        try (TournamentResultsFile l_results = new TournamentResultsFile(l_file)) {
+            for (int i = 0; i < l_games.length; i++) {
+                int l_gameNumber = i % 2 + 1;
+                l_results.append(new GameResult(l_games[i][0], l_gameNumber, i, l_games[i][1], 10, 5, 50));
+                l_inMemory.computeIfAbsent(l_games[i][0], l_map -> new HashMap<>()).put(l_gameNumber, l_games[i][1]);
+            }
+        }
+
+        List<String> l_strategies = Arrays.asList("aggressive", "benevolent");
+        assertEquals(TournamentUtil.countWins(l_inMemory, l_strategies), TournamentUtil.countWins(l_file, l_strategies));
+        assertEquals(TournamentUtil.formatResultsTable(l_inMemory, 2), TournamentUtil.formatResultsTable(l_file, 2));
+    }
+
+    /**
+     * Test that the table streamed from a file whose records arrive out of order, as when games
+     * run in parallel, matches the one computed in memory, games without a record included.
+     *
+     * @throws IOException if the results file cannot be written or read
+     */
+    @Test
+    public void testTableFromInterleavedRecords() throws IOException {
+        File l_file = newFile(".jsonl");
+        Map<String, Map<Integer, String>> l_inMemory = new LinkedHashMap<>();
+        Object[][] l_games = { { "canada.map", 2, "aggressive_1" }, { "swiss.map", 1, "Draw" },
+                { "world.map", 3, "benevolent_2" }, { "canada.map", 1, "Draw" },
+                { "canada.map", 3, "benevolent_2" }, { "swiss.map", 3, "aggressive_1" } };
+        try (TournamentResultsFile l_results = new TournamentResultsFile(l_file)) {
+            for (Object[] l_game : l_games) {
+                l_results.append(new GameResult((String) l_game[0], (Integer) l_game[1], 0L, (String) l_game[2], 10, 5, 50));
+                l_inMemory.computeIfAbsent((String) l_game[0], l_map -> new HashMap<>()).put((Integer) l_game[1], (String) l_game[2]);
+            }
+        }
+
+        String l_table = TournamentUtil.formatResultsTable(l_file, 3);
+        assertEquals(TournamentUtil.formatResultsTable(l_inMemory, 3), l_table);
+        assertTrue(l_table.contains("N/A"));
+    }
+
+    /**
+     * Creates a name for a results file that does not exist yet.
+     *
+     * @param p_suffix The file extension
+     * @return The file
+     * @throws IOException if the temporary file cannot be created
+     */
+    private File newFile(String p_suffix) throws IOException {
+        File l_file = File.createTempFile("results", p_suffix);
+        l_file.delete();
+        d_files.add(l_file);
+        return l_file;
+    }
+}
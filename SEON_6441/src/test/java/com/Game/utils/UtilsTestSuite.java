@@ -7,6 +7,12 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
     MapLoaderTest.class,
     MapValidationTest.class,
+    MapTemplateCacheTest.class,
+    MapDiskCacheTest.class,
+    MapBatchValidatorTest.class,
+    MapPreloaderTest.class,
+    RecentMapsTest.class,
+    TournamentResultsFileTest.class,
 
     // ... add other order test classes here
 })